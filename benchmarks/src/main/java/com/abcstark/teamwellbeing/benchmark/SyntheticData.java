@@ -0,0 +1,177 @@
+package com.abcstark.teamwellbeing.benchmark;
+
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic generator of Slack messages and Jira and GitHub payloads for the benchmarks.
+ *
+ * Text is drawn from {@code sample-slack-messages.json}: about a third of the messages
+ * repeat a sample verbatim and the rest recombine its words, so the mix of stress, mood
+ * and neutral vocabulary follows the sample data. The same seed always yields the same data.
+ */
+public final class SyntheticData {
+
+    private static final String SAMPLE_RESOURCE = "/sample-slack-messages.json";
+    private static final DateTimeFormatter JIRA_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+    private static final String[] STATUSES = {"To Do", "In Progress", "In Review", "Done"};
+    private static final String[] PRIORITIES = {"Lowest", "Low", "Medium", "High", "Highest"};
+    private static final String[] LABELS = {"bug", "urgent", "tech-debt", "frontend", "backend", "on-call"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random;
+    private final List<String> texts = new ArrayList<>();
+    private final List<String> words = new ArrayList<>();
+    private final List<String> usernames = new ArrayList<>();
+    private long sequence;
+
+    public SyntheticData(long seed) {
+        this.random = new Random(seed);
+        objectMapper.registerModule(new JavaTimeModule());
+
+        try (InputStream inputStream = SyntheticData.class.getResourceAsStream(SAMPLE_RESOURCE)) {
+            if (inputStream == null) {
+                throw new IllegalStateException(SAMPLE_RESOURCE + " not found on the classpath");
+            }
+            List<SlackMessage> samples = objectMapper.readValue(inputStream, new TypeReference<List<SlackMessage>>() {});
+            for (SlackMessage sample : samples) {
+                texts.add(sample.getText());
+                words.addAll(List.of(sample.getText().split("\\s+")));
+                if (!usernames.contains(sample.getUsername())) {
+                    usernames.add(sample.getUsername());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generates Slack messages posted {@code spacing} apart, starting at {@code start}.
+     *
+     * Messages are spread over 20 channels, the first named "general", and 200 members;
+     * every call continues the message id sequence, so batches never collide.
+     */
+    public List<SlackMessage> slackMessages(int count, LocalDateTime start, Duration spacing) {
+        List<SlackMessage> messages = new ArrayList<>(count);
+        LocalDateTime timestamp = start;
+        for (int i = 0; i < count; i++) {
+            long id = sequence++;
+            int channel = random.nextInt(20);
+            int member = random.nextInt(200);
+            SlackMessage message = new SlackMessage(
+                    timestamp.toEpochSecond(ZoneOffset.UTC) + "." + String.format("%06d", id % 1_000_000),
+                    "C" + (1000 + channel), channel == 0 ? "general" : "channel-" + channel, "U" + (10000 + member),
+                    usernames.get(member % usernames.size()) + "-" + member, text(), timestamp);
+            message.setReactionCount(random.nextInt(4));
+            messages.add(message);
+            timestamp = timestamp.plus(spacing);
+        }
+        return messages;
+    }
+
+    /**
+     * Generates issues in the shape returned by the Jira REST search API.
+     */
+    public List<ObjectNode> jiraIssues(int count, String projectKey) {
+        List<ObjectNode> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = sequence++;
+            LocalDateTime created = LocalDateTime.of(2023, 11, 1, 9, 0).plusMinutes(random.nextInt(60 * 24 * 30));
+
+            ObjectNode issue = objectMapper.createObjectNode();
+            issue.put("id", String.valueOf(10000 + id));
+            issue.put("key", projectKey + "-" + id);
+            ObjectNode fields = issue.putObject("fields");
+            fields.put("summary", text());
+            fields.put("description", text() + " " + text());
+            fields.putObject("status").put("name", pick(STATUSES));
+            fields.putObject("priority").put("name", pick(PRIORITIES));
+            fields.putObject("issuetype").put("name", random.nextBoolean() ? "Story" : "Bug");
+            fields.putObject("reporter").put("displayName", pick(usernames));
+            fields.putObject("assignee").put("displayName", pick(usernames));
+            ArrayNode labels = fields.putArray("labels");
+            for (int l = random.nextInt(3); l > 0; l--) {
+                labels.add(pick(LABELS));
+            }
+            fields.putArray("components").addObject().put("name", random.nextBoolean() ? "api" : "web");
+            fields.put("customfield_10016", 1 + random.nextInt(8));
+            fields.put("timespent", random.nextInt(36000));
+            fields.put("created", created.atOffset(ZoneOffset.UTC).format(JIRA_DATE_FORMAT));
+            fields.put("updated", created.plusHours(random.nextInt(72)).atOffset(ZoneOffset.UTC).format(JIRA_DATE_FORMAT));
+            issues.add(issue);
+        }
+        return issues;
+    }
+
+    /**
+     * Generates issues in the shape returned by the GitHub REST issues API.
+     */
+    public List<String> gitHubIssues(int count) {
+        List<String> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = sequence++;
+            LocalDateTime created = LocalDateTime.of(2023, 11, 1, 9, 0).plusMinutes(random.nextInt(60 * 24 * 30));
+
+            ObjectNode issue = objectMapper.createObjectNode();
+            issue.put("id", 900000 + id);
+            issue.put("number", (int) id + 1);
+            issue.put("title", text());
+            issue.put("body", text() + "\n\n" + text());
+            issue.put("state", random.nextInt(4) == 0 ? "closed" : "open");
+            issue.put("comments", random.nextInt(12));
+            issue.putObject("user").put("login", pick(usernames));
+            ArrayNode assignees = issue.putArray("assignees");
+            for (int a = random.nextInt(3); a > 0; a--) {
+                assignees.addObject().put("login", pick(usernames));
+            }
+            ArrayNode labels = issue.putArray("labels");
+            for (int l = random.nextInt(3); l > 0; l--) {
+                labels.addObject().put("name", pick(LABELS));
+            }
+            issue.put("created_at", created.toInstant(ZoneOffset.UTC).toString());
+            issue.put("updated_at", created.plusHours(random.nextInt(72)).toInstant(ZoneOffset.UTC).toString());
+            issues.add(issue.toString());
+        }
+        return issues;
+    }
+
+    private String text() {
+        if (random.nextInt(3) == 0) {
+            return pick(texts);
+        }
+        int length = 5 + random.nextInt(20);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(pick(words));
+        }
+        return text.toString();
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,249 @@
+package com.abcstark.teamwellbeing.loadtest;
+
+import com.abcstark.teamwellbeing.TeamWellbeingAgentApplication;
+import com.abcstark.teamwellbeing.stub.StubConfig;
+import com.abcstark.teamwellbeing.stub.StubServerMain;
+import com.abcstark.teamwellbeing.stub.StubServers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end load test of the agent against the stub servers.
+ *
+ * Starts the stubs and boots the agent in-process with its integrations pointed at
+ * them, then runs collection cycles one after another and reports their durations,
+ * and finally drives the REST endpoints from concurrent clients and reports p50/p99
+ * per endpoint.
+ *
+ * Options, as {@code --name=value}:
+ * <ul>
+ *   <li>{@code cycles} collection cycles to time (default 10)</li>
+ *   <li>{@code clients} concurrent REST clients (default 4)</li>
+ *   <li>{@code warmup} and {@code duration} of the REST phase in seconds (default 5 and 30)</li>
+ *   <li>{@code endpoints} comma-separated paths to request, query strings allowed</li>
+ *   <li>{@code agent.<property>} passed to the agent, e.g. {@code --agent.persistence.slack-store=columnar},
+ *       or {@code --agent.spring.threads.virtual.enabled=true} to compare virtual threads on Java 21</li>
+ *   <li>anything else configures the stubs, see {@link StubConfig}</li>
+ * </ul>
+ */
+public final class LoadDriver {
+
+    // Served from the store only; endpoints that call upstreams live are shed by the rate-limit governor under load
+    private static final List<String> DEFAULT_ENDPOINTS = List.of(
+            "/api/wellbeing/health",
+            "/api/wellbeing/data/all",
+            "/api/wellbeing/search?q=deadline",
+            "/api/wellbeing/analytics",
+            "/api/wellbeing/members/off-hours",
+            "/api/wellbeing/rollups/hourly");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+
+    LoadDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int cycles = 10;
+        int clients = 4;
+        int warmup = 5;
+        int duration = 30;
+        List<String> endpoints = DEFAULT_ENDPOINTS;
+        Map<String, String> agentProperties = new LinkedHashMap<>();
+        StubConfig stubConfig = new StubConfig();
+
+        for (String arg : args) {
+            String[] setting = StubServerMain.parseArgument(arg);
+            String name = setting[0];
+            String value = setting[1];
+            switch (name) {
+                case "cycles" -> cycles = Integer.parseInt(value);
+                case "clients" -> clients = Integer.parseInt(value);
+                case "warmup" -> warmup = Integer.parseInt(value);
+                case "duration" -> duration = Integer.parseInt(value);
+                case "endpoints" -> endpoints = Arrays.asList(value.split(","));
+                default -> {
+                    if (name.startsWith("agent.")) {
+                        agentProperties.put(name.substring("agent.".length()), value);
+                    } else {
+                        stubConfig.set(name, value);
+                    }
+                }
+            }
+        }
+
+        try (StubServers stubs = new StubServers(stubConfig).start()) {
+            Map<String, String> properties = new LinkedHashMap<>(stubs.properties());
+            properties.put("server.port", "0");
+            // Cycles are triggered by the driver only
+            properties.put("scheduling.initial-delay", String.valueOf(TimeUnit.DAYS.toMillis(1)));
+            properties.put("logging.level.root", "WARN");
+            properties.put("logging.level.com.abcstark.teamwellbeing", "WARN");
+            properties.putAll(agentProperties);
+
+            // As arguments, since default properties would lose to application.yml
+            String[] agentArgs = properties.entrySet().stream()
+                    .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                    .toArray(String[]::new);
+            try (ConfigurableApplicationContext agent = new SpringApplicationBuilder(TeamWellbeingAgentApplication.class)
+                    .run(agentArgs)) {
+                LoadDriver driver = new LoadDriver("http://localhost:" + agent.getEnvironment().getProperty("local.server.port"));
+                System.out.printf("%nAgent threads: %s (Java %d)%n",
+                        Threading.VIRTUAL.isActive(agent.getEnvironment()) ? "virtual" : "platform",
+                        Runtime.version().feature());
+
+                System.out.printf("%nCollection cycles (%d)%n", cycles);
+                long started = System.nanoTime();
+                LatencyRecorder cycleTimes = driver.runCycles(cycles);
+                double elapsed = (System.nanoTime() - started) / 1e9;
+                System.out.println(LatencyRecorder.HEADER);
+                System.out.println(cycleTimes.summary("collection cycle", elapsed));
+
+                System.out.printf("%nREST endpoints (%d clients, %ds)%n", clients, duration);
+                Map<String, LatencyRecorder> latencies = driver.runRest(endpoints, clients, warmup, duration);
+                System.out.println(LatencyRecorder.HEADER);
+                for (Map.Entry<String, LatencyRecorder> endpoint : latencies.entrySet()) {
+                    System.out.println(endpoint.getValue().summary(endpoint.getKey(), duration));
+                }
+
+                System.out.printf("%nStub requests (rate limited)%n");
+                for (String integration : List.of("slack", "github", "jira")) {
+                    System.out.printf("  %-8s %8d (%d)%n", integration, stubs.getRequestCount(integration),
+                            stubs.getRateLimitedCount(integration));
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs collection cycles back to back and records how long each took in the agent.
+     */
+    LatencyRecorder runCycles(int cycles) throws IOException, InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 0; i < cycles; i++) {
+            long started = System.nanoTime();
+            JsonNode accepted = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/wellbeing/collect-data"))
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+            String jobId = accepted.path("job_id").asText();
+
+            JsonNode job = accepted;
+            while (job.path("completed_at").isMissingNode() || job.path("completed_at").isNull()) {
+                Thread.sleep(10);
+                job = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/wellbeing/collect-data/" + jobId)).GET());
+            }
+
+            // The job's own timestamps exclude the polling interval
+            long nanos = Duration.between(LocalDateTime.parse(job.path("started_at").asText()),
+                    LocalDateTime.parse(job.path("completed_at").asText())).toNanos();
+            recorder.record(nanos > 0 ? nanos : System.nanoTime() - started, !job.path("status").asText().equals("FAILED"));
+        }
+        return recorder;
+    }
+
+    /**
+     * Requests the endpoints round-robin from concurrent clients and records each latency.
+     */
+    Map<String, LatencyRecorder> runRest(List<String> endpoints, int clients, int warmupSeconds, int durationSeconds)
+            throws InterruptedException {
+        Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> latencies.put(endpoint, new LatencyRecorder()));
+
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+        AtomicLong next = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        for (int c = 0; c < clients; c++) {
+            executor.execute(() -> {
+                long now;
+                while ((now = System.nanoTime()) < end) {
+                    String endpoint = endpoints.get((int) (next.getAndIncrement() % endpoints.size()));
+                    boolean ok;
+                    try {
+                        HttpResponse<Void> response = httpClient.send(
+                                HttpRequest.newBuilder(URI.create(baseUrl + endpoint)).GET().build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        ok = response.statusCode() < 400;
+                    } catch (IOException e) {
+                        ok = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (now >= warmupEnd) {
+                        latencies.get(endpoint).record(System.nanoTime() - now, ok);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(warmupSeconds + durationSeconds + 60L, TimeUnit.SECONDS);
+        return latencies;
+    }
+
+    private JsonNode send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IOException("HTTP " + response.statusCode() + " from " + response.uri() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    /**
+     * Latency samples of one operation.
+     */
+    static final class LatencyRecorder {
+
+        static final String HEADER = String.format("  %-40s %8s %7s %10s %10s %10s %10s",
+                "operation", "count", "errors", "per sec", "p50 ms", "p99 ms", "max ms");
+
+        private final List<Long> samples = new ArrayList<>();
+        private long errors;
+
+        synchronized void record(long nanos, boolean ok) {
+            samples.add(nanos);
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized String summary(String operation, double seconds) {
+            long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            return String.format("  %-40s %8d %7d %10.1f %10.2f %10.2f %10.2f", operation, sorted.length, errors,
+                    sorted.length / seconds, millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                    millis(sorted.length > 0 ? sorted[sorted.length - 1] : 0));
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import com.abcstark.teamwellbeing.benchmark.SyntheticData;
+import com.abcstark.teamwellbeing.config.PersistenceProperties;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Save and range-query latency of {@link InMemoryPersistenceService} holding
+ * {@code records} Slack messages, one every five seconds, in either store.
+ *
+ * Saving appends a batch after the newest message and the oldest batch is evicted
+ * outside the measurement, so the store stays at its nominal size. Queries cover a
+ * window at a random position within the stored history.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2023, 1, 1, 0, 0);
+    private static final Duration SPACING = Duration.ofSeconds(5);
+    private static final int LOAD_BATCH = 10000;
+    private static final int SAVE_BATCH = 100;
+
+    @Param({"10000", "1000000", "10000000"})
+    private int records;
+
+    @Param({"HEAP", "COLUMNAR"})
+    private PersistenceProperties.SlackStore store;
+
+    private InMemoryPersistenceService persistenceService;
+    private SyntheticData syntheticData;
+    private Random random;
+    private LocalDateTime oldest;
+    private LocalDateTime next;
+
+    /**
+     * A batch of new messages, generated before each save.
+     */
+    @State(Scope.Thread)
+    public static class Batch {
+
+        private List<SlackMessage> messages;
+
+        @Setup(Level.Invocation)
+        public void setUp(PersistenceBenchmark benchmark) {
+            messages = benchmark.syntheticData.slackMessages(SAVE_BATCH, benchmark.next, SPACING);
+            benchmark.next = benchmark.next.plus(SPACING.multipliedBy(SAVE_BATCH));
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown(PersistenceBenchmark benchmark) {
+            benchmark.oldest = benchmark.oldest.plus(SPACING.multipliedBy(SAVE_BATCH));
+            benchmark.persistenceService.evictSlackMessages(benchmark.oldest, SAVE_BATCH);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        PersistenceProperties properties = new PersistenceProperties();
+        properties.setSlackStore(store);
+        persistenceService = new InMemoryPersistenceService(new StringDictionary(), properties, List.of());
+        syntheticData = new SyntheticData(42);
+        random = new Random(7);
+
+        oldest = START;
+        next = START;
+        for (int loaded = 0; loaded < records; loaded += LOAD_BATCH) {
+            int count = Math.min(LOAD_BATCH, records - loaded);
+            persistenceService.saveSlackMessages(syntheticData.slackMessages(count, next, SPACING));
+            next = next.plus(SPACING.multipliedBy(count));
+        }
+    }
+
+    @Benchmark
+    public int saveBatch(Batch batch) {
+        return persistenceService.saveSlackMessages(batch.messages);
+    }
+
+    @Benchmark
+    public List<SlackMessage> queryHour() {
+        LocalDateTime from = randomStart(Duration.ofHours(1));
+        return persistenceService.getSlackMessages(from, from.plusHours(1));
+    }
+
+    @Benchmark
+    public long countDay() {
+        LocalDateTime from = randomStart(Duration.ofDays(1));
+        return persistenceService.countSlackMessages(from, from.plusDays(1));
+    }
+
+    private LocalDateTime randomStart(Duration window) {
+        long seconds = Duration.between(oldest, next).minus(window).getSeconds();
+        return oldest.plusSeconds(seconds > 0 ? (long) (random.nextDouble() * seconds) : 0);
+    }
+}
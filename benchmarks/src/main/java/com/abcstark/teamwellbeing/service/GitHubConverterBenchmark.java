@@ -0,0 +1,71 @@
+package com.abcstark.teamwellbeing.service;
+
+import com.abcstark.teamwellbeing.benchmark.SyntheticData;
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.kohsuke.github.GHIssue;
+import org.kohsuke.github.GitHub;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion throughput of {@link GitHubService#convertToGitHubIssue}, in issues per second.
+ *
+ * {@code convertIssue} starts from bound {@link GHIssue} objects; {@code readAndConvertIssue}
+ * includes binding the REST payload the way the GitHub client does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GitHubConverterBenchmark {
+
+    private static final int ISSUES = 1000;
+
+    private GitHubService gitHubService;
+    private ObjectReader issueReader;
+    private List<String> payloads;
+    private List<GHIssue> issues;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        gitHubService = new GitHubService(new IntegrationProperties(), null, null);
+        issueReader = GitHub.getMappingObjectReader().forType(GHIssue.class);
+        payloads = new SyntheticData(42).gitHubIssues(ISSUES);
+        issues = new ArrayList<>(ISSUES);
+        for (String payload : payloads) {
+            issues.add(issueReader.readValue(payload));
+        }
+    }
+
+    @Benchmark
+    public GitHubIssue convertIssue() {
+        GitHubIssue issue = gitHubService.convertToGitHubIssue(issues.get(next), "team-wellbeing-agent");
+        next = next + 1 == ISSUES ? 0 : next + 1;
+        return issue;
+    }
+
+    @Benchmark
+    public GitHubIssue readAndConvertIssue() throws IOException {
+        GHIssue ghIssue = issueReader.readValue(payloads.get(next));
+        next = next + 1 == ISSUES ? 0 : next + 1;
+        return gitHubService.convertToGitHubIssue(ghIssue, "team-wellbeing-agent");
+    }
+}
@@ -0,0 +1,77 @@
+package com.abcstark.teamwellbeing.service;
+
+import com.abcstark.teamwellbeing.benchmark.SyntheticData;
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing throughput of {@link JiraService#parseJiraIssue}, in issues per second.
+ *
+ * {@code parseIssue} starts from an already read JSON tree; {@code readAndParsePage}
+ * includes reading a 50-issue search response from its text, as a fetch does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JiraParserBenchmark {
+
+    private static final int ISSUES = 1000;
+    private static final int PAGE_SIZE = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JiraService jiraService;
+    private List<ObjectNode> issues;
+    private String page;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jiraService = new JiraService(new IntegrationProperties(), WebClient.builder(), null, null);
+        issues = new SyntheticData(42).jiraIssues(ISSUES, "OPS");
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("total", PAGE_SIZE);
+        response.putArray("issues").addAll(issues.subList(0, PAGE_SIZE));
+        page = response.toString();
+    }
+
+    @Benchmark
+    public JiraIssue parseIssue() {
+        JiraIssue issue = jiraService.parseJiraIssue(issues.get(next), "OPS");
+        next = next + 1 == ISSUES ? 0 : next + 1;
+        return issue;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<JiraIssue> readAndParsePage() throws IOException {
+        List<JiraIssue> parsed = new ArrayList<>(PAGE_SIZE);
+        for (JsonNode issueNode : objectMapper.readTree(page).path("issues")) {
+            parsed.add(jiraService.parseJiraIssue(issueNode, "OPS"));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,86 @@
+package com.abcstark.teamwellbeing.service;
+
+import com.abcstark.teamwellbeing.benchmark.SyntheticData;
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.model.TeamWellbeingStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring throughput of {@link SlackService#analyzeTeamWellbeing(List)} and the lexicon behind it.
+ *
+ * {@code scoreMessages} reports messages per second; {@code analyzeTeamWellbeing} reports
+ * whole analyses of {@code batchSize} messages per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WellbeingAnalyzerBenchmark {
+
+    private static final int MESSAGES = 10000;
+    private static final int MESSAGES_PER_INVOCATION = 1000;
+
+    /**
+     * The messages handed to one analysis.
+     */
+    @State(Scope.Benchmark)
+    public static class Batch {
+
+        @Param({"1000", "10000"})
+        private int batchSize;
+
+        private List<SlackMessage> messages;
+
+        @Setup
+        public void setUp(WellbeingAnalyzerBenchmark benchmark) {
+            messages = benchmark.messages.subList(0, batchSize);
+        }
+    }
+
+    private SlackService slackService;
+    private List<SlackMessage> messages;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        slackService = new SlackService(new IntegrationProperties(), null, null);
+        messages = new SyntheticData(42).slackMessages(MESSAGES, LocalDateTime.of(2023, 11, 28, 9, 0),
+                Duration.ofSeconds(30));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES_PER_INVOCATION)
+    public int scoreMessages() {
+        int total = 0;
+        for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+            WellbeingLexicon.Score score = WellbeingLexicon.score(messages.get(next));
+            next = next + 1 == MESSAGES ? 0 : next + 1;
+            total += score.positive() - score.negative() + score.stress() + score.overload();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public TeamWellbeingStatus analyzeTeamWellbeing(Batch batch) {
+        return slackService.analyzeTeamWellbeing(batch.messages);
+    }
+}
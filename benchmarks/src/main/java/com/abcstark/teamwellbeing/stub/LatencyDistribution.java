@@ -0,0 +1,94 @@
+package com.abcstark.teamwellbeing.stub;
+
+import java.util.Random;
+
+/**
+ * Response delay added by a stub endpoint before it answers.
+ *
+ * Written as {@code none}, {@code fixed:<ms>}, {@code uniform:<min>:<max>} or
+ * {@code lognormal:<median>:<p99>}; the log-normal form gives the long tail real
+ * upstream APIs show.
+ */
+public final class LatencyDistribution {
+
+    // z-score of the 99th percentile of the standard normal distribution
+    private static final double Z_99 = 2.3263;
+
+    private final String spec;
+    private final Kind kind;
+    private final double a;
+    private final double b;
+
+    private enum Kind {
+        NONE,
+        FIXED,
+        UNIFORM,
+        LOGNORMAL
+    }
+
+    private LatencyDistribution(String spec, Kind kind, double a, double b) {
+        this.spec = spec;
+        this.kind = kind;
+        this.a = a;
+        this.b = b;
+    }
+
+    public static LatencyDistribution none() {
+        return new LatencyDistribution("none", Kind.NONE, 0, 0);
+    }
+
+    public static LatencyDistribution fixed(long millis) {
+        return new LatencyDistribution("fixed:" + millis, Kind.FIXED, millis, 0);
+    }
+
+    public static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("uniform latency needs min <= max");
+        }
+        return new LatencyDistribution("uniform:" + minMillis + ":" + maxMillis, Kind.UNIFORM, minMillis, maxMillis);
+    }
+
+    /**
+     * Log-normal latency with the given median and 99th percentile.
+     */
+    public static LatencyDistribution logNormal(long medianMillis, long p99Millis) {
+        if (medianMillis <= 0 || p99Millis < medianMillis) {
+            throw new IllegalArgumentException("lognormal latency needs 0 < median <= p99");
+        }
+        double mu = Math.log(medianMillis);
+        double sigma = (Math.log(p99Millis) - mu) / Z_99;
+        return new LatencyDistribution("lognormal:" + medianMillis + ":" + p99Millis, Kind.LOGNORMAL, mu, sigma);
+    }
+
+    public static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().toLowerCase().split(":");
+        try {
+            return switch (parts[0]) {
+                case "none" -> none();
+                case "fixed" -> fixed(Long.parseLong(parts[1]));
+                case "uniform" -> uniform(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                case "lognormal" -> logNormal(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+            };
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + spec, e);
+        }
+    }
+
+    /**
+     * Draws one delay in milliseconds.
+     */
+    public long sample(Random random) {
+        return switch (kind) {
+            case NONE -> 0;
+            case FIXED -> (long) a;
+            case UNIFORM -> (long) (a + random.nextDouble() * (b - a + 1));
+            case LOGNORMAL -> Math.round(Math.exp(a + b * random.nextGaussian()));
+        };
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
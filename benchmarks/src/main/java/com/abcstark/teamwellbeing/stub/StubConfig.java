@@ -0,0 +1,205 @@
+package com.abcstark.teamwellbeing.stub;
+
+/**
+ * Settings of the stub servers: dataset size and how each upstream behaves.
+ *
+ * Every setting can be given to {@link StubServerMain} and the load driver as
+ * {@code --name=value}, e.g. {@code --slack.latency=lognormal:40:400}.
+ */
+public class StubConfig {
+
+    private int port; // 0 picks a free port
+    private long seed = 42;
+    private int slackMessages = 5000; // spread over 20 channels, the first named "general"
+    private int githubIssues = 500;
+    private int jiraIssues = 500;
+    private String githubOwner = "stub-org";
+    private String githubRepository = "stub-repo";
+    private String jiraProjectKey = "STUB";
+    private Behavior slack = new Behavior(200);
+    private Behavior github = new Behavior(30);
+    private Behavior jira = new Behavior(50);
+
+    /**
+     * How one upstream answers.
+     */
+    public static class Behavior {
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private int rateLimitEvery; // every Nth request is answered with 429; 0 never
+        private int retryAfter = 1; // seconds, sent with 429 responses
+        private int pageSize; // upper bound on items per page, whatever the client asks for
+
+        public Behavior() {
+        }
+
+        public Behavior(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public LatencyDistribution getLatency() {
+            return latency;
+        }
+
+        public void setLatency(LatencyDistribution latency) {
+            this.latency = latency;
+        }
+
+        public int getRateLimitEvery() {
+            return rateLimitEvery;
+        }
+
+        public void setRateLimitEvery(int rateLimitEvery) {
+            this.rateLimitEvery = rateLimitEvery;
+        }
+
+        public int getRetryAfter() {
+            return retryAfter;
+        }
+
+        public void setRetryAfter(int retryAfter) {
+            this.retryAfter = retryAfter;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        void set(String name, String value) {
+            switch (name) {
+                case "latency" -> setLatency(LatencyDistribution.parse(value));
+                case "rate-limit-every" -> setRateLimitEvery(Integer.parseInt(value));
+                case "retry-after" -> setRetryAfter(Integer.parseInt(value));
+                case "page-size" -> setPageSize(Integer.parseInt(value));
+                default -> throw new IllegalArgumentException("Unknown stub setting: " + name);
+            }
+        }
+    }
+
+    /**
+     * Applies one {@code name=value} setting, with names as in the class documentation.
+     */
+    public void set(String name, String value) {
+        int dot = name.indexOf('.');
+        if (dot > 0) {
+            behavior(name.substring(0, dot)).set(name.substring(dot + 1), value);
+            return;
+        }
+        switch (name) {
+            case "port" -> setPort(Integer.parseInt(value));
+            case "seed" -> setSeed(Long.parseLong(value));
+            case "slack-messages" -> setSlackMessages(Integer.parseInt(value));
+            case "github-issues" -> setGithubIssues(Integer.parseInt(value));
+            case "jira-issues" -> setJiraIssues(Integer.parseInt(value));
+            case "github-owner" -> setGithubOwner(value);
+            case "github-repository" -> setGithubRepository(value);
+            case "jira-project-key" -> setJiraProjectKey(value);
+            case "latency" -> {
+                for (Behavior behavior : new Behavior[]{slack, github, jira}) {
+                    behavior.setLatency(LatencyDistribution.parse(value));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown stub setting: " + name);
+        }
+    }
+
+    private Behavior behavior(String integration) {
+        return switch (integration) {
+            case "slack" -> slack;
+            case "github" -> github;
+            case "jira" -> jira;
+            default -> throw new IllegalArgumentException("Unknown integration: " + integration);
+        };
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getSlackMessages() {
+        return slackMessages;
+    }
+
+    public void setSlackMessages(int slackMessages) {
+        this.slackMessages = slackMessages;
+    }
+
+    public int getGithubIssues() {
+        return githubIssues;
+    }
+
+    public void setGithubIssues(int githubIssues) {
+        this.githubIssues = githubIssues;
+    }
+
+    public int getJiraIssues() {
+        return jiraIssues;
+    }
+
+    public void setJiraIssues(int jiraIssues) {
+        this.jiraIssues = jiraIssues;
+    }
+
+    public String getGithubOwner() {
+        return githubOwner;
+    }
+
+    public void setGithubOwner(String githubOwner) {
+        this.githubOwner = githubOwner;
+    }
+
+    public String getGithubRepository() {
+        return githubRepository;
+    }
+
+    public void setGithubRepository(String githubRepository) {
+        this.githubRepository = githubRepository;
+    }
+
+    public String getJiraProjectKey() {
+        return jiraProjectKey;
+    }
+
+    public void setJiraProjectKey(String jiraProjectKey) {
+        this.jiraProjectKey = jiraProjectKey;
+    }
+
+    public Behavior getSlack() {
+        return slack;
+    }
+
+    public void setSlack(Behavior slack) {
+        this.slack = slack;
+    }
+
+    public Behavior getGithub() {
+        return github;
+    }
+
+    public void setGithub(Behavior github) {
+        this.github = github;
+    }
+
+    public Behavior getJira() {
+        return jira;
+    }
+
+    public void setJira(Behavior jira) {
+        this.jira = jira;
+    }
+}
@@ -0,0 +1,41 @@
+package com.abcstark.teamwellbeing.stub;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Runs the stub servers on their own, for pointing a separately started agent at them.
+ *
+ * Usage: {@code java -cp benchmarks.jar com.abcstark.teamwellbeing.stub.StubServerMain --port=9090 [--name=value...]}
+ */
+public final class StubServerMain {
+
+    private StubServerMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        StubConfig config = new StubConfig();
+        for (String arg : args) {
+            String[] setting = parseArgument(arg);
+            config.set(setting[0], setting[1]);
+        }
+
+        StubServers stubs = new StubServers(config).start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stubs::close));
+
+        System.out.println("Stub servers listening on port " + stubs.getPort());
+        System.out.println("Start the agent with:");
+        stubs.properties().forEach((name, value) -> System.out.println("  --" + name + "=" + value));
+        new CountDownLatch(1).await();
+    }
+
+    /**
+     * Splits a {@code --name=value} argument.
+     */
+    public static String[] parseArgument(String arg) {
+        int eq = arg.indexOf('=');
+        if (!arg.startsWith("--") || eq < 0) {
+            throw new IllegalArgumentException("Expected --name=value but got " + arg);
+        }
+        return new String[]{arg.substring(2, eq), arg.substring(eq + 1)};
+    }
+}
@@ -0,0 +1,491 @@
+package com.abcstark.teamwellbeing.stub;
+
+import com.abcstark.teamwellbeing.benchmark.SyntheticData;
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-process HTTP stubs of the Slack, GitHub and Jira endpoints the services call.
+ *
+ * One server answers under {@code /slack/api/}, {@code /github} and {@code /jira} with
+ * data from {@link SyntheticData}, paginated the way each API paginates, after a delay
+ * drawn from the configured latency distribution. Every Nth request can be refused
+ * with a 429 and a Retry-After header.
+ */
+public class StubServers implements AutoCloseable {
+
+    private static final Duration SLACK_SPACING = Duration.ofMinutes(1);
+
+    private final StubConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Upstream> upstreams = new LinkedHashMap<>();
+    private final List<ObjectNode> slackChannels = new ArrayList<>();
+    private final Map<String, List<ObjectNode>> slackHistory = new HashMap<>();
+    private final List<ObjectNode> githubIssues = new ArrayList<>();
+    private final List<ObjectNode> jiraIssues;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Request and refusal counts of one upstream.
+     */
+    private static final class Upstream {
+        private final StubConfig.Behavior behavior;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong rateLimited = new AtomicLong();
+
+        private Upstream(StubConfig.Behavior behavior) {
+            this.behavior = behavior;
+        }
+    }
+
+    public StubServers(StubConfig config) {
+        this.config = config;
+        upstreams.put("slack", new Upstream(config.getSlack()));
+        upstreams.put("github", new Upstream(config.getGithub()));
+        upstreams.put("jira", new Upstream(config.getJira()));
+
+        SyntheticData syntheticData = new SyntheticData(config.getSeed());
+
+        // Messages end now, so retention and recent-activity views see them
+        LocalDateTime start = LocalDateTime.now(ZoneOffset.UTC).minus(SLACK_SPACING.multipliedBy(config.getSlackMessages()));
+        Map<String, String> channelNames = new LinkedHashMap<>();
+        for (SlackMessage message : syntheticData.slackMessages(config.getSlackMessages(), start, SLACK_SPACING)) {
+            channelNames.put(message.getChannelId(), message.getChannelName());
+            // Newest first, as conversations.history returns them
+            slackHistory.computeIfAbsent(message.getChannelId(), id -> new ArrayList<>()).add(0, slackMessage(message));
+        }
+        channelNames.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(channel -> {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("id", channel.getKey());
+            node.put("name", channel.getValue());
+            node.put("is_channel", true);
+            node.put("is_private", false);
+            node.put("num_members", 200);
+            slackChannels.add(node);
+        });
+
+        for (String issue : syntheticData.gitHubIssues(config.getGithubIssues())) {
+            try {
+                githubIssues.add(0, (ObjectNode) objectMapper.readTree(issue));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        jiraIssues = syntheticData.jiraIssues(config.getJiraIssues(), config.getJiraProjectKey());
+    }
+
+    /**
+     * Starts serving; returns once the port is bound.
+     */
+    public StubServers start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", config.getPort()), 128);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/slack/api/", exchange -> handle(exchange, "slack", this::slack));
+        server.createContext("/github/", exchange -> handle(exchange, "github", this::github));
+        server.createContext("/jira/", exchange -> handle(exchange, "jira", this::jira));
+        server.start();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getSlackUrl() {
+        return "http://localhost:" + getPort() + "/slack/api/";
+    }
+
+    public String getGitHubUrl() {
+        return "http://localhost:" + getPort() + "/github";
+    }
+
+    public String getJiraUrl() {
+        return "http://localhost:" + getPort() + "/jira";
+    }
+
+    /**
+     * Gets the number of requests an upstream received, including refused ones.
+     */
+    public long getRequestCount(String integration) {
+        return upstreams.get(integration).requests.get();
+    }
+
+    /**
+     * Gets the number of requests an upstream refused with a 429.
+     */
+    public long getRateLimitedCount(String integration) {
+        return upstreams.get(integration).rateLimited.get();
+    }
+
+    /**
+     * Points integration properties at the stubs, with credentials the services accept.
+     */
+    public void apply(IntegrationProperties properties) {
+        properties().forEach((name, value) -> {
+            switch (name) {
+                case "integrations.slack.api-url" -> properties.getSlack().setApiUrl(value);
+                case "integrations.slack.bot-token" -> properties.getSlack().setBotToken(value);
+                case "integrations.slack.default-channel" -> properties.getSlack().setDefaultChannel(value);
+                case "integrations.github.api-url" -> properties.getGithub().setApiUrl(value);
+                case "integrations.github.token" -> properties.getGithub().setToken(value);
+                case "integrations.github.owner" -> properties.getGithub().setOwner(value);
+                case "integrations.github.repository" -> properties.getGithub().setRepository(value);
+                case "integrations.jira.url" -> properties.getJira().setUrl(value);
+                case "integrations.jira.username" -> properties.getJira().setUsername(value);
+                case "integrations.jira.token" -> properties.getJira().setToken(value);
+                case "integrations.jira.project-key" -> properties.getJira().setProjectKey(value);
+                default -> throw new IllegalStateException(name);
+            }
+        });
+    }
+
+    /**
+     * Gets the application properties that point the agent at the stubs.
+     */
+    public Map<String, String> properties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("integrations.slack.api-url", getSlackUrl());
+        properties.put("integrations.slack.bot-token", "xoxb-stub");
+        properties.put("integrations.slack.default-channel", "general");
+        properties.put("integrations.github.api-url", getGitHubUrl());
+        properties.put("integrations.github.token", "stub-token");
+        properties.put("integrations.github.owner", config.getGithubOwner());
+        properties.put("integrations.github.repository", config.getGithubRepository());
+        properties.put("integrations.jira.url", getJiraUrl());
+        properties.put("integrations.jira.username", "stub@example.com");
+        properties.put("integrations.jira.token", "stub-token");
+        properties.put("integrations.jira.project-key", config.getJiraProjectKey());
+        return properties;
+    }
+
+    /**
+     * A stub response.
+     */
+    private record Response(int status, Map<String, String> headers, JsonNode body) {
+
+        static Response ok(JsonNode body) {
+            return new Response(200, Map.of(), body);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Route {
+        Response answer(String path, Map<String, String> params);
+    }
+
+    private void handle(HttpExchange exchange, String integration, Route route) throws IOException {
+        try (exchange) {
+            Upstream upstream = upstreams.get(integration);
+            long request = upstream.requests.incrementAndGet();
+            sleep(upstream.behavior.getLatency().sample(ThreadLocalRandom.current()));
+
+            Map<String, String> params = params(exchange);
+            String path = exchange.getRequestURI().getPath().substring(exchange.getHttpContext().getPath().length());
+            int every = upstream.behavior.getRateLimitEvery();
+            Response response = every > 0 && request % every == 0
+                    ? rateLimited(integration, upstream)
+                    : route.answer(path.startsWith("/") ? path : "/" + path, params);
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            if (integration.equals("github")) {
+                exchange.getResponseHeaders().set("X-RateLimit-Limit", "5000");
+                exchange.getResponseHeaders().set("X-RateLimit-Used", String.valueOf(request % 5000));
+                exchange.getResponseHeaders().set("X-RateLimit-Reset",
+                        String.valueOf(System.currentTimeMillis() / 1000 + 3600));
+                if (response.status() != 429) {
+                    exchange.getResponseHeaders().set("X-RateLimit-Remaining", String.valueOf(5000 - request % 5000));
+                }
+            }
+            response.headers().forEach(exchange.getResponseHeaders()::set);
+            byte[] body = objectMapper.writeValueAsBytes(response.body());
+            exchange.sendResponseHeaders(response.status(), body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private Response rateLimited(String integration, Upstream upstream) {
+        upstream.rateLimited.incrementAndGet();
+        ObjectNode body = objectMapper.createObjectNode();
+        if (integration.equals("slack")) {
+            body.put("ok", false);
+            body.put("error", "ratelimited");
+        } else {
+            body.put("message", "API rate limit exceeded");
+        }
+        String retryAfter = String.valueOf(upstream.behavior.getRetryAfter());
+        return new Response(429, integration.equals("github")
+                ? Map.of("Retry-After", retryAfter, "X-RateLimit-Remaining", "0")
+                : Map.of("Retry-After", retryAfter), body);
+    }
+
+    // Slack Web API: cursor pagination through response_metadata.next_cursor
+
+    private Response slack(String path, Map<String, String> params) {
+        return switch (path) {
+            case "/conversations.list" -> Response.ok(slackPage("channels", slackChannels, params));
+            case "/conversations.history" -> {
+                List<ObjectNode> history = slackHistory.get(params.get("channel"));
+                yield history != null
+                        ? Response.ok(slackPage("messages", history, params))
+                        : Response.ok(slackError("channel_not_found"));
+            }
+            case "/auth.test" -> {
+                ObjectNode body = objectMapper.createObjectNode();
+                body.put("ok", true);
+                body.put("team", "Stub Team");
+                // The Slack client caches the team id and asks again while it is missing
+                body.put("team_id", "T00000000");
+                body.put("user", "stub-bot");
+                body.put("user_id", "U00000000");
+                yield Response.ok(body);
+            }
+            default -> Response.ok(slackError("unknown_method"));
+        };
+    }
+
+    private ObjectNode slackPage(String field, List<ObjectNode> items, Map<String, String> params) {
+        int offset = params.containsKey("cursor") && !params.get("cursor").isEmpty()
+                ? Integer.parseInt(params.get("cursor").substring("offset:".length())) : 0;
+        int limit = pageSize(params.get("limit"), 100, config.getSlack().getPageSize());
+        int end = Math.min(items.size(), offset + limit);
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("ok", true);
+        body.putArray(field).addAll(items.subList(Math.min(offset, end), end));
+        if (field.equals("messages")) {
+            body.put("has_more", end < items.size());
+        }
+        body.putObject("response_metadata").put("next_cursor", end < items.size() ? "offset:" + end : "");
+        return body;
+    }
+
+    private ObjectNode slackError(String error) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("ok", false);
+        body.put("error", error);
+        return body;
+    }
+
+    private ObjectNode slackMessage(SlackMessage message) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("type", "message");
+        node.put("user", message.getUserId());
+        node.put("username", message.getUsername());
+        node.put("text", message.getText());
+        node.put("ts", message.getMessageId());
+        if (message.getReactionCount() > 0) {
+            ObjectNode reaction = node.putArray("reactions").addObject();
+            reaction.put("name", "+1");
+            reaction.put("count", message.getReactionCount());
+            reaction.putArray("users");
+        }
+        return node;
+    }
+
+    // GitHub REST API: page/per_page pagination with a Link header
+
+    private Response github(String path, Map<String, String> params) {
+        String repositoryPath = "/repos/" + config.getGithubOwner() + "/" + config.getGithubRepository();
+        if (path.equals(repositoryPath)) {
+            ObjectNode repository = objectMapper.createObjectNode();
+            repository.put("id", 1);
+            repository.put("name", config.getGithubRepository());
+            repository.put("full_name", config.getGithubOwner() + "/" + config.getGithubRepository());
+            repository.putObject("owner").put("login", config.getGithubOwner());
+            repository.put("url", getGitHubUrl() + repositoryPath);
+            repository.put("html_url", "https://github.com/" + config.getGithubOwner() + "/" + config.getGithubRepository());
+            repository.put("open_issues_count", githubIssues.stream().filter(StubServers::isOpen).count());
+            repository.put("stargazers_count", 42);
+            repository.put("forks_count", 7);
+            return Response.ok(repository);
+        }
+        if (path.equals(repositoryPath + "/issues")) {
+            return githubIssues(repositoryPath, params);
+        }
+        if (path.equals("/user")) {
+            ObjectNode user = objectMapper.createObjectNode();
+            user.put("login", "stub-bot");
+            user.put("id", 1);
+            return Response.ok(user);
+        }
+        ObjectNode notFound = objectMapper.createObjectNode();
+        notFound.put("message", "Not Found");
+        return new Response(404, Map.of(), notFound);
+    }
+
+    private Response githubIssues(String repositoryPath, Map<String, String> params) {
+        String state = params.getOrDefault("state", "open");
+        List<ObjectNode> issues = state.equals("all") ? githubIssues : githubIssues.stream()
+                .filter(issue -> isOpen(issue) == state.equals("open"))
+                .collect(Collectors.toList());
+        int perPage = pageSize(params.get("per_page"), 30, config.getGithub().getPageSize());
+        int page = Math.max(1, Integer.parseInt(params.getOrDefault("page", "1")));
+        int lastPage = Math.max(1, (issues.size() + perPage - 1) / perPage);
+        int from = Math.min(issues.size(), (page - 1) * perPage);
+
+        ArrayNode body = objectMapper.createArrayNode();
+        body.addAll(issues.subList(from, Math.min(issues.size(), from + perPage)));
+
+        String base = getGitHubUrl() + repositoryPath + "/issues?state=" + state + "&per_page=" + perPage + "&page=";
+        List<String> links = new ArrayList<>();
+        if (page < lastPage) {
+            links.add("<" + base + (page + 1) + ">; rel=\"next\"");
+            links.add("<" + base + lastPage + ">; rel=\"last\"");
+        }
+        if (page > 1) {
+            links.add("<" + base + "1>; rel=\"first\"");
+            links.add("<" + base + (page - 1) + ">; rel=\"prev\"");
+        }
+        return new Response(200, links.isEmpty() ? Map.of() : Map.of("Link", String.join(", ", links)), body);
+    }
+
+    private static boolean isOpen(JsonNode issue) {
+        return issue.path("state").asText().equals("open");
+    }
+
+    // Jira REST API: startAt/maxResults pagination with a total
+
+    private Response jira(String path, Map<String, String> params) {
+        if (path.equals("/rest/api/3/search")) {
+            return Response.ok(jiraSearch(params));
+        }
+        if (path.equals("/rest/api/3/project/" + config.getJiraProjectKey())) {
+            ObjectNode project = objectMapper.createObjectNode();
+            project.put("id", "10000");
+            project.put("key", config.getJiraProjectKey());
+            project.put("name", "Stub Project");
+            return Response.ok(project);
+        }
+        if (path.equals("/rest/api/3/myself")) {
+            ObjectNode user = objectMapper.createObjectNode();
+            user.put("accountId", "stub");
+            user.put("displayName", "Stub User");
+            return Response.ok(user);
+        }
+        ObjectNode notFound = objectMapper.createObjectNode();
+        notFound.putArray("errorMessages").add("Not Found");
+        return new Response(404, Map.of(), notFound);
+    }
+
+    private ObjectNode jiraSearch(Map<String, String> params) {
+        String jql = params.getOrDefault("jql", "");
+        Set<String> statuses = jqlList(jql, "status in (");
+        String assignee = jqlValue(jql, "assignee = ");
+        List<ObjectNode> matches = jiraIssues.stream()
+                .filter(issue -> statuses == null
+                        || statuses.contains(issue.path("fields").path("status").path("name").asText()))
+                .filter(issue -> assignee == null
+                        || assignee.equals(issue.path("fields").path("assignee").path("displayName").asText()))
+                .collect(Collectors.toList());
+        int startAt = Math.max(0, Integer.parseInt(params.getOrDefault("startAt", "0")));
+        int maxResults = params.get("maxResults") != null && Integer.parseInt(params.get("maxResults")) == 0
+                ? 0 : pageSize(params.get("maxResults"), 50, config.getJira().getPageSize());
+        int from = Math.min(startAt, matches.size());
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("startAt", startAt);
+        body.put("maxResults", maxResults);
+        body.put("total", matches.size());
+        body.putArray("issues").addAll(matches.subList(from, Math.min(matches.size(), from + maxResults)));
+        return body;
+    }
+
+    private static Set<String> jqlList(String jql, String prefix) {
+        int start = jql.indexOf(prefix);
+        if (start < 0) {
+            return null;
+        }
+        int end = jql.indexOf(')', start);
+        return Arrays.stream(jql.substring(start + prefix.length(), end).split(","))
+                .map(value -> value.trim().replaceAll("^['\"]|['\"]$", ""))
+                .collect(Collectors.toSet());
+    }
+
+    private static String jqlValue(String jql, String prefix) {
+        int start = jql.indexOf(prefix);
+        if (start < 0) {
+            return null;
+        }
+        String rest = jql.substring(start + prefix.length());
+        int end = rest.indexOf(" ORDER BY");
+        return (end >= 0 ? rest.substring(0, end) : rest).trim().replaceAll("^['\"]|['\"]$", "");
+    }
+
+    private static int pageSize(String requested, int defaultSize, int maxSize) {
+        int size = requested != null ? Integer.parseInt(requested) : defaultSize;
+        return Math.max(1, maxSize > 0 ? Math.min(size, maxSize) : size);
+    }
+
+    private static Map<String, String> params(HttpExchange exchange) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        parse(exchange.getRequestURI().getRawQuery(), params);
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType != null && contentType.startsWith("application/x-www-form-urlencoded")) {
+            parse(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8), params);
+        }
+        return params;
+    }
+
+    private static void parse(String encoded, Map<String, String> params) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String pair : encoded.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq >= 0 ? pair.substring(0, eq) : pair, StandardCharsets.UTF_8);
+            params.put(name, eq >= 0 ? URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8) : "");
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
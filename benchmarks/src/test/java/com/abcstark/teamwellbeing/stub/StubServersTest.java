@@ -0,0 +1,135 @@
+package com.abcstark.teamwellbeing.stub;
+
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.config.RateLimitProperties;
+import com.abcstark.teamwellbeing.metrics.IntegrationMetrics;
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.ratelimit.RateLimitGovernor;
+import com.abcstark.teamwellbeing.service.GitHubService;
+import com.abcstark.teamwellbeing.service.JiraService;
+import com.abcstark.teamwellbeing.service.SlackService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for the stub servers, driving the real integration services against them.
+ */
+class StubServersTest {
+
+    private StubServers stubs;
+    private IntegrationProperties properties;
+    private RateLimitGovernor rateLimitGovernor;
+    private SimpleMeterRegistry meterRegistry;
+    private IntegrationMetrics integrationMetrics;
+
+    @AfterEach
+    void tearDown() {
+        if (stubs != null) {
+            stubs.close();
+        }
+    }
+
+    @Test
+    void testServices_WhenPointedAtStubs_FetchStubData() throws IOException {
+        start(new StubConfig());
+
+        List<SlackMessage> messages = new SlackService(properties, rateLimitGovernor, integrationMetrics).getRecentMessages();
+        assertEquals(50, messages.size());
+        assertTrue(messages.stream().allMatch(message -> "general".equals(message.getChannelName())));
+        assertEquals(20, new SlackService(properties, rateLimitGovernor, integrationMetrics).getAvailableChannels().size());
+
+        GitHubService gitHubService = new GitHubService(properties, rateLimitGovernor, integrationMetrics);
+        List<GitHubIssue> issues = gitHubService.getRecentIssues();
+        assertEquals(50, issues.size());
+        assertTrue(gitHubService.getRepositoryStatistics().contains("Total Issues: 500"));
+
+        JiraService jiraService = new JiraService(properties, WebClient.builder(), rateLimitGovernor, integrationMetrics);
+        List<JiraIssue> jiraIssues = jiraService.getRecentIssues();
+        assertEquals(50, jiraIssues.size());
+        assertEquals("STUB", jiraIssues.get(0).getProjectKey());
+        assertTrue(jiraService.getProjectStatistics().startsWith("Project Name: Stub Project"));
+        assertTrue(jiraService.testConnection());
+
+        assertEquals(50, meterRegistry.get("wellbeing.collection.records")
+                .tags("integration", "slack", "channel", "general", "stage", "parsed").counter().count());
+        assertEquals(2, meterRegistry.get("wellbeing.upstream.requests")
+                .tags("integration", "github", "repository", "stub-org/stub-repo", "method", "issues.list",
+                        "outcome", "success")
+                .timer().count());
+        assertEquals(50, meterRegistry.get("wellbeing.collection.records")
+                .tags("integration", "jira", "project", "STUB", "stage", "fetched").counter().count());
+        assertEquals(3, meterRegistry.get("wellbeing.upstream.requests")
+                .tags("integration", "jira", "method", "search").timer().count());
+    }
+
+    @Test
+    void testGitHubIssues_WhenPagesAreSmall_FollowsLinkHeaders() throws IOException {
+        StubConfig config = new StubConfig();
+        config.set("github.page-size", "10");
+        config.set("github-issues", "35");
+        start(config);
+
+        List<GitHubIssue> issues = new GitHubService(properties, rateLimitGovernor, integrationMetrics).getRecentIssues();
+
+        assertEquals(35, issues.size());
+        // Login lookup by the client, repository lookup, then four pages
+        assertEquals(6, stubs.getRequestCount("github"));
+    }
+
+    @Test
+    void testSlackMessages_WhenRateLimited_ReturnsNothingAndCountsRefusal() throws IOException {
+        StubConfig config = new StubConfig();
+        config.set("slack.rate-limit-every", "3");
+        config.set("slack.retry-after", "30");
+        start(config);
+
+        // auth.test by the client and conversations.list succeed, conversations.history is refused
+        List<SlackMessage> messages = new SlackService(properties, rateLimitGovernor, integrationMetrics).getRecentMessages();
+
+        assertTrue(messages.isEmpty());
+        assertEquals(3, stubs.getRequestCount("slack"));
+        assertEquals(1, stubs.getRateLimitedCount("slack"));
+        assertEquals(1, meterRegistry.get("wellbeing.upstream.requests")
+                .tags("method", "conversations.history", "outcome", "rate_limited").timer().count());
+    }
+
+    @Test
+    void testLatencyDistribution_WhenParsed_SamplesWithinBounds() {
+        Random random = new Random(1);
+        LatencyDistribution uniform = LatencyDistribution.parse("uniform:10:20");
+        for (int i = 0; i < 1000; i++) {
+            long sample = uniform.sample(random);
+            assertTrue(sample >= 10 && sample <= 20);
+        }
+
+        LatencyDistribution logNormal = LatencyDistribution.parse("lognormal:20:200");
+        long[] samples = new long[10000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = logNormal.sample(random);
+        }
+        Arrays.sort(samples);
+        assertEquals(20, samples[5000], 3);
+        assertEquals(200, samples[9900], 40);
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("gaussian:1"));
+    }
+
+    private void start(StubConfig config) throws IOException {
+        stubs = new StubServers(config).start();
+        properties = new IntegrationProperties();
+        stubs.apply(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitGovernor = new RateLimitGovernor(new RateLimitProperties(), meterRegistry);
+        integrationMetrics = new IntegrationMetrics(meterRegistry, properties);
+    }
+}
@@ -3,11 +3,12 @@ const axios = require('axios');
 
 const app = express();
 const PORT = process.env.PORT || 3000;
-const SPRING_API_URL = 'http://localhost:8080/api/wellbeing/mcp/status';
+// The Spring app listens on 8090 (server.port); its native MCP endpoint at /mcp makes this proxy optional
+const SPRING_API_BASE_URL = process.env.SPRING_API_BASE_URL || 'http://localhost:8090/api/wellbeing';
 
 app.get('/mcp/status', async (req, res) => {
   try {
-    const response = await axios.get(SPRING_API_URL);
+    const response = await axios.get(`${SPRING_API_BASE_URL}/mcp/status`);
     res.json(response.data);
   } catch (error) {
     res.status(500).json({ error: 'Failed to fetch wellbeing status', details: error.message });
@@ -17,7 +18,7 @@ app.get('/mcp/status', async (req, res) => {
 app.get('/mcp/slack/messages', async (req, res) => {
   const channel = req.query.channel || 'general';
   try {
-    const response = await axios.get(`http://localhost:8080/api/wellbeing/slack/messages?channel=${encodeURIComponent(channel)}`);
+    const response = await axios.get(`${SPRING_API_BASE_URL}/slack/messages?channel=${encodeURIComponent(channel)}`);
     res.json(response.data);
   } catch (error) {
     res.status(500).json({ error: 'Failed to fetch Slack messages', details: error.message });
@@ -26,7 +27,7 @@ app.get('/mcp/slack/messages', async (req, res) => {
 
 app.get('/mcp/slack/channels', async (req, res) => {
   try {
-    const response = await axios.get('http://localhost:8080/api/wellbeing/slack/channels');
+    const response = await axios.get(`${SPRING_API_BASE_URL}/slack/channels`);
     res.json(response.data);
   } catch (error) {
     res.status(500).json({ error: 'Failed to fetch Slack channels', details: error.message });
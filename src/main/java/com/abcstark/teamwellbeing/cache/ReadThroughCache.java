@@ -0,0 +1,312 @@
+package com.abcstark.teamwellbeing.cache;
+
+import com.abcstark.teamwellbeing.config.CacheProperties;
+import com.abcstark.teamwellbeing.metrics.IntegrationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for live upstream calls with per-region TTLs.
+ *
+ * Concurrent requests for the same key are coalesced into a single upstream call
+ * (single-flight). In stale-while-revalidate mode an expired value keeps being
+ * served for up to cache.max-stale while one background refresh runs, so request
+ * latency does not follow upstream latency.
+ *
+ * The services answer upstream failures with fallback values such as an empty
+ * list. A blocking load that recorded a failed upstream call is handed to the
+ * requests waiting for it but not stored, so one transient error does not stick
+ * for the TTL; an expired value keeps being served instead where allowed.
+ */
+@Component
+public class ReadThroughCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadThroughCache.class);
+
+    private final CacheProperties cacheProperties;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final IntegrationMetrics integrationMetrics;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    @Autowired
+    public ReadThroughCache(CacheProperties cacheProperties,
+                            @Qualifier("applicationTaskExecutor") Executor refreshExecutor,
+                            MeterRegistry meterRegistry,
+                            IntegrationMetrics integrationMetrics) {
+        this.cacheProperties = cacheProperties;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        this.integrationMetrics = integrationMetrics;
+    }
+
+    /**
+     * Gets a value from the cache, loading it on the calling thread on a miss.
+     *
+     * @param region The cache region, which selects the TTL (e.g. "github-stats")
+     * @param key The key within the region (e.g. a channel name)
+     * @param loader Performs the upstream call
+     * @return The cached or freshly loaded value
+     */
+    public <T> T get(String region, String key, Supplier<T> loader) {
+        return getVersioned(region, key, loader).value();
+    }
+
+    /**
+     * Gets a value from the cache like {@link #get}, together with the version of its load.
+     */
+    public <T> Versioned<T> getVersioned(String region, String key, Supplier<T> loader) {
+        try {
+            return this.<T>lookup(region, key, supplyAsync(loader), Runnable::run).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets a value from the cache without blocking, loading it on the refresh executor on a miss.
+     */
+    public <T> CompletableFuture<T> getAsync(String region, String key, Supplier<T> loader) {
+        return getVersionedAsync(region, key, loader).thenApply(Versioned::value);
+    }
+
+    /**
+     * Gets a value from the cache like {@link #getAsync}, together with the version of its load.
+     */
+    public <T> CompletableFuture<Versioned<T>> getVersionedAsync(String region, String key, Supplier<T> loader) {
+        return lookup(region, key, supplyAsync(loader), refreshExecutor);
+    }
+
+    /**
+     * Gets a value from the cache with a loader that does not block, such as a WebClient call.
+     * The loader is started on the calling thread and no executor thread waits for it; it must
+     * fail on upstream errors rather than complete with a fallback, which would be cached.
+     *
+     * @param loader Starts the upstream call and returns its eventual result
+     */
+    public <T> CompletableFuture<T> getNonBlocking(String region, String key,
+                                                   Supplier<? extends CompletionStage<T>> loader) {
+        return getVersionedNonBlocking(region, key, loader).thenApply(Versioned::value);
+    }
+
+    /**
+     * Gets a value from the cache like {@link #getNonBlocking}, together with the version of its load.
+     */
+    public <T> CompletableFuture<Versioned<T>> getVersionedNonBlocking(String region, String key,
+                                                                      Supplier<? extends CompletionStage<T>> loader) {
+        return lookup(region, key, executor -> loader.get(), Runnable::run);
+    }
+
+    /**
+     * Runs a blocking loader on the executor, marking its result as a fallback when the
+     * loader recorded a failed upstream call on its thread.
+     */
+    private Function<Executor, CompletionStage<Object>> supplyAsync(Supplier<?> loader) {
+        return executor -> CompletableFuture.supplyAsync(() -> {
+            int failedCalls = integrationMetrics.getFailedCalls();
+            Object value = loader.get();
+            return integrationMetrics.getFailedCalls() > failedCalls ? new Fallback(value) : value;
+        }, executor);
+    }
+
+    /**
+     * Looks up a value, starting a load on a miss or, in stale-while-revalidate mode, a refresh.
+     *
+     * @param loader Starts a load on the given executor, which is the refresh executor for refreshes
+     * @param loadExecutor The executor for loads on a miss
+     */
+    private <T> CompletableFuture<Versioned<T>> lookup(String region, String key,
+                                                       Function<Executor, ? extends CompletionStage<?>> loader,
+                                                       Executor loadExecutor) {
+        String cacheKey = region + ":" + key;
+        Entry entry = entries.get(cacheKey);
+        if (entry == null) {
+            evictIfFull();
+            entry = entries.computeIfAbsent(cacheKey, k -> new Entry());
+        }
+
+        long now = System.nanoTime();
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(cacheProperties.getTtl(region));
+        Loaded loaded = entry.loaded;
+
+        if (loaded != null && now - loaded.loadedAt < ttlNanos) {
+            count(region, "hit");
+            return CompletableFuture.completedFuture(loaded.versioned());
+        }
+
+        if (loaded != null && cacheProperties.isStaleWhileRevalidate()
+                && now - loaded.loadedAt < ttlNanos + TimeUnit.MILLISECONDS.toNanos(cacheProperties.getMaxStale())) {
+            count(region, "stale");
+            load(region, entry, loader, refreshExecutor);
+            return CompletableFuture.completedFuture(loaded.versioned());
+        }
+
+        return load(region, entry, loader, loadExecutor).thenApply(Loaded::versioned);
+    }
+
+    /**
+     * Drops every cached value of a region, e.g. after data was changed locally.
+     */
+    public void invalidate(String region) {
+        entries.keySet().removeIf(cacheKey -> cacheKey.startsWith(region + ":"));
+    }
+
+    /**
+     * Drops all cached values.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Joins the in-flight load of an entry or starts a new one.
+     */
+    private CompletableFuture<Loaded> load(String region, Entry entry,
+                                           Function<Executor, ? extends CompletionStage<?>> loader,
+                                           Executor loadExecutor) {
+        CompletableFuture<Loaded> inFlight = entry.inFlight.get();
+        if (inFlight != null) {
+            count(region, "coalesced");
+            return inFlight;
+        }
+
+        CompletableFuture<Loaded> mine = new CompletableFuture<>();
+        if (!entry.inFlight.compareAndSet(null, mine)) {
+            count(region, "coalesced");
+            CompletableFuture<Loaded> winner = entry.inFlight.get();
+            return winner != null ? winner : load(region, entry, loader, loadExecutor);
+        }
+
+        count(region, "miss");
+        CompletionStage<?> loading;
+        try {
+            loading = loader.apply(loadExecutor);
+        } catch (Throwable t) {
+            loading = CompletableFuture.failedFuture(t);
+        }
+        loading.whenComplete((value, error) -> {
+            try {
+                if (value instanceof Fallback fallback) {
+                    count(region, "fallback");
+                    mine.complete(new Loaded(fallback.value(), System.nanoTime(), versions.incrementAndGet()));
+                } else if (error == null) {
+                    Loaded loaded = new Loaded(value, System.nanoTime(), versions.incrementAndGet());
+                    entry.loaded = loaded;
+                    mine.complete(loaded);
+                } else {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    logger.warn("Loading cache region '{}' failed: {}", region, cause.getMessage());
+                    mine.completeExceptionally(cause);
+                }
+            } finally {
+                entry.inFlight.set(null);
+            }
+        });
+        return mine;
+    }
+
+    /**
+     * Gets the number of cached keys.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Keeps the number of keys bounded: drops entries that can no longer be served and,
+     * if that is not enough, the least recently loaded idle entries, down to nine tenths
+     * of max-entries so the next inserts do not have to scan again.
+     */
+    private void evictIfFull() {
+        int maxEntries = cacheProperties.getMaxEntries();
+        if (entries.size() < maxEntries) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(e -> {
+            Loaded loaded = e.getValue().loaded;
+            String region = e.getKey().substring(0, e.getKey().indexOf(':'));
+            long servableNanos = TimeUnit.MILLISECONDS.toNanos(cacheProperties.getTtl(region) + cacheProperties.getMaxStale());
+            return e.getValue().inFlight.get() == null && (loaded == null || now - loaded.loadedAt >= servableNanos);
+        });
+
+        int excess = entries.size() - maxEntries * 9 / 10;
+        if (excess <= 0) {
+            return;
+        }
+        List<Map.Entry<String, Entry>> idle = new ArrayList<>();
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            if (e.getValue().inFlight.get() == null && e.getValue().loaded != null) {
+                idle.add(e);
+            }
+        }
+        idle.sort(Comparator.comparingLong(e -> e.getValue().loaded.loadedAt()));
+        for (Map.Entry<String, Entry> e : idle.subList(0, Math.min(excess, idle.size()))) {
+            if (entries.remove(e.getKey(), e.getValue())) {
+                count(e.getKey().substring(0, e.getKey().indexOf(':')), "evicted");
+            }
+        }
+    }
+
+    private void count(String region, String result) {
+        Counter.builder("wellbeing.cache.requests")
+                .description("Read-through cache lookups by outcome")
+                .tag("region", region)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * A cached value with the version of the load that produced it. Versions increase with
+     * every load across all regions, so equal versions mean the very same value.
+     */
+    public record Versioned<T>(T value, long version) {}
+
+    /**
+     * The result of a load that hit an upstream failure; served once, never stored.
+     */
+    private record Fallback(Object value) {}
+
+    /**
+     * A cached value with the time it was loaded.
+     */
+    private record Loaded(Object value, long loadedAt, long version) {
+
+        @SuppressWarnings("unchecked")
+        <T> Versioned<T> versioned() {
+            return new Versioned<>((T) value, version);
+        }
+    }
+
+    private static final class Entry {
+        private volatile Loaded loaded;
+        private final AtomicReference<CompletableFuture<Loaded>> inFlight = new AtomicReference<>();
+    }
+}
@@ -0,0 +1,70 @@
+package com.abcstark.teamwellbeing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the read-through cache in front of live upstream calls.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+@Component
+public class CacheProperties {
+
+    private long defaultTtl = 30000; // milliseconds
+    private boolean staleWhileRevalidate = true;
+    private long maxStale = 600000; // how long past its TTL a value may still be served, in milliseconds
+    private int maxEntries = 1000;
+    private Map<String, Long> ttls = new HashMap<>(); // per-region TTL overrides in milliseconds
+
+    /**
+     * Gets the TTL for a cache region, falling back to the default.
+     */
+    public long getTtl(String region) {
+        return ttls.getOrDefault(region, defaultTtl);
+    }
+
+    public long getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    public void setDefaultTtl(long defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    public boolean isStaleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    public void setStaleWhileRevalidate(boolean staleWhileRevalidate) {
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    public long getMaxStale() {
+        return maxStale;
+    }
+
+    public void setMaxStale(long maxStale) {
+        this.maxStale = maxStale;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Map<String, Long> getTtls() {
+        return ttls;
+    }
+
+    public void setTtls(Map<String, Long> ttls) {
+        this.ttls = ttls;
+    }
+}
@@ -0,0 +1,72 @@
+package com.abcstark.teamwellbeing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for bot and near-duplicate suppression of Slack messages.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dedup")
+@Component
+public class DedupProperties {
+
+    /**
+     * What happens to bot messages and near-duplicates.
+     */
+    public enum Mode {
+        OFF, // keep everything untouched
+        TAG, // store them tagged; wellbeing scoring ignores tagged messages
+        COLLAPSE // drop them before they are stored or scored
+    }
+
+    private Mode mode = Mode.TAG;
+    private int maxDistance = 3; // SimHash bits two messages may differ in and still count as duplicates
+    private int minTokens = 4; // shorter messages are never treated as duplicates
+    private int windowSize = 10000; // recent messages new ones are compared against
+    private List<String> botUsers = new ArrayList<>(); // user ids or names of known bots
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public void setMaxDistance(int maxDistance) {
+        this.maxDistance = maxDistance;
+    }
+
+    public int getMinTokens() {
+        return minTokens;
+    }
+
+    public void setMinTokens(int minTokens) {
+        this.minTokens = minTokens;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public List<String> getBotUsers() {
+        return botUsers;
+    }
+
+    public void setBotUsers(List<String> botUsers) {
+        this.botUsers = botUsers;
+    }
+}
@@ -0,0 +1,100 @@
+package com.abcstark.teamwellbeing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration properties for the cross-source member identity index and workload view.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "identity")
+@Component
+public class IdentityProperties {
+
+    private Map<String, List<String>> members = new HashMap<>(); // member id -> Slack, GitHub and Jira aliases
+    private double suggestionThreshold = 0.88; // minimum similarity for suggested alias links
+    private int overloadOpenIssues = 10; // open Jira plus GitHub issues above which a member counts as overloaded
+    private double overloadStoryPoints = 20; // open story points above which a member counts as overloaded
+    private int workdayStartHour = 8; // activity before this hour counts as off-hours
+    private int workdayEndHour = 19; // activity from this hour on counts as off-hours
+    private int activityWeeks = 12; // weeks of hourly activity kept per alias
+    private double offHoursRatioThreshold = 0.25; // share of active hours off-hours above which a member is flagged
+    private int offHoursStreakDays = 3; // consecutive days with off-hours activity at which a member is flagged
+
+    public Map<String, List<String>> getMembers() {
+        return members;
+    }
+
+    public void setMembers(Map<String, List<String>> members) {
+        this.members = members;
+    }
+
+    public double getSuggestionThreshold() {
+        return suggestionThreshold;
+    }
+
+    public void setSuggestionThreshold(double suggestionThreshold) {
+        this.suggestionThreshold = suggestionThreshold;
+    }
+
+    public int getOverloadOpenIssues() {
+        return overloadOpenIssues;
+    }
+
+    public void setOverloadOpenIssues(int overloadOpenIssues) {
+        this.overloadOpenIssues = overloadOpenIssues;
+    }
+
+    public double getOverloadStoryPoints() {
+        return overloadStoryPoints;
+    }
+
+    public void setOverloadStoryPoints(double overloadStoryPoints) {
+        this.overloadStoryPoints = overloadStoryPoints;
+    }
+
+    public int getWorkdayStartHour() {
+        return workdayStartHour;
+    }
+
+    public void setWorkdayStartHour(int workdayStartHour) {
+        this.workdayStartHour = workdayStartHour;
+    }
+
+    public int getWorkdayEndHour() {
+        return workdayEndHour;
+    }
+
+    public void setWorkdayEndHour(int workdayEndHour) {
+        this.workdayEndHour = workdayEndHour;
+    }
+
+    public int getActivityWeeks() {
+        return activityWeeks;
+    }
+
+    public void setActivityWeeks(int activityWeeks) {
+        this.activityWeeks = activityWeeks;
+    }
+
+    public double getOffHoursRatioThreshold() {
+        return offHoursRatioThreshold;
+    }
+
+    public void setOffHoursRatioThreshold(double offHoursRatioThreshold) {
+        this.offHoursRatioThreshold = offHoursRatioThreshold;
+    }
+
+    public int getOffHoursStreakDays() {
+        return offHoursStreakDays;
+    }
+
+    public void setOffHoursStreakDays(int offHoursStreakDays) {
+        this.offHoursStreakDays = offHoursStreakDays;
+    }
+}
@@ -20,6 +20,7 @@ public class IntegrationProperties {
         private String botToken;
         private String appToken;
         private String defaultChannel;
+        private String apiUrl = "https://slack.com/api/"; // Web API method prefix, overridden to point at stubs
 
         public String getBotToken() {
             return botToken;
@@ -44,12 +45,22 @@ public class IntegrationProperties {
         public void setDefaultChannel(String defaultChannel) {
             this.defaultChannel = defaultChannel;
         }
+
+        public String getApiUrl() {
+            return apiUrl;
+        }
+
+        public void setApiUrl(String apiUrl) {
+            this.apiUrl = apiUrl;
+        }
     }
 
     public static class Github {
         private String token;
         private String owner;
         private String repository;
+        private String webhookSecret;
+        private String apiUrl = "https://api.github.com"; // REST API root, overridden for GitHub Enterprise or stubs
 
         public String getToken() {
             return token;
@@ -74,6 +85,22 @@ public class IntegrationProperties {
         public void setRepository(String repository) {
             this.repository = repository;
         }
+
+        public String getWebhookSecret() {
+            return webhookSecret;
+        }
+
+        public void setWebhookSecret(String webhookSecret) {
+            this.webhookSecret = webhookSecret;
+        }
+
+        public String getApiUrl() {
+            return apiUrl;
+        }
+
+        public void setApiUrl(String apiUrl) {
+            this.apiUrl = apiUrl;
+        }
     }
 
     public static class Jira {
@@ -81,6 +108,7 @@ public class IntegrationProperties {
         private String username;
         private String token;
         private String projectKey;
+        private String webhookSecret;
 
         public String getUrl() {
             return url;
@@ -113,6 +141,14 @@ public class IntegrationProperties {
         public void setProjectKey(String projectKey) {
             this.projectKey = projectKey;
         }
+
+        public String getWebhookSecret() {
+            return webhookSecret;
+        }
+
+        public void setWebhookSecret(String webhookSecret) {
+            this.webhookSecret = webhookSecret;
+        }
     }
 
     public Slack getSlack() {
@@ -0,0 +1,54 @@
+package com.abcstark.teamwellbeing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the native MCP (Model Context Protocol) endpoint.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "mcp")
+@Component
+public class McpProperties {
+
+    private long sessionTimeout = 1800000; // idle time after which a session must be initialized again, in milliseconds
+    private int maxSessions = 1000; // the least recently used session is dropped beyond this
+    private int maxBatchSize = 32; // JSON-RPC messages accepted in one batch
+    private List<String> allowedOrigins = new ArrayList<>(); // browser origins allowed to call the endpoint, "*" for any
+
+    public long getSessionTimeout() {
+        return sessionTimeout;
+    }
+
+    public void setSessionTimeout(long sessionTimeout) {
+        this.sessionTimeout = sessionTimeout;
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    public void setMaxSessions(int maxSessions) {
+        this.maxSessions = maxSessions;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public List<String> getAllowedOrigins() {
+        return allowedOrigins;
+    }
+
+    public void setAllowedOrigins(List<String> allowedOrigins) {
+        this.allowedOrigins = allowedOrigins;
+    }
+}
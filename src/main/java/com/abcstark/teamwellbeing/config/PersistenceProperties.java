@@ -0,0 +1,110 @@
+package com.abcstark.teamwellbeing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the in-memory persistence layer.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "persistence")
+@Component
+public class PersistenceProperties {
+
+    /**
+     * Storage engines available for Slack message history.
+     */
+    public enum SlackStore {
+        HEAP,
+        COLUMNAR
+    }
+
+    private SlackStore slackStore = SlackStore.HEAP;
+    private int segmentRows = 16384; // rows per off-heap segment of the columnar store
+    private Retention retention = new Retention();
+
+    /**
+     * How long raw records are kept and how the sweeper evicts them.
+     */
+    public static class Retention {
+        private int slackDays; // 0 keeps records forever
+        private int githubDays;
+        private int jiraDays;
+        private long sweepInterval = 60000; // milliseconds
+        private int sweepBatchSize = 1000; // records evicted per step before yielding to writers
+        private int hourlyRollupDays = 30; // daily rollups are kept forever
+
+        public int getSlackDays() {
+            return slackDays;
+        }
+
+        public void setSlackDays(int slackDays) {
+            this.slackDays = slackDays;
+        }
+
+        public int getGithubDays() {
+            return githubDays;
+        }
+
+        public void setGithubDays(int githubDays) {
+            this.githubDays = githubDays;
+        }
+
+        public int getJiraDays() {
+            return jiraDays;
+        }
+
+        public void setJiraDays(int jiraDays) {
+            this.jiraDays = jiraDays;
+        }
+
+        public long getSweepInterval() {
+            return sweepInterval;
+        }
+
+        public void setSweepInterval(long sweepInterval) {
+            this.sweepInterval = sweepInterval;
+        }
+
+        public int getSweepBatchSize() {
+            return sweepBatchSize;
+        }
+
+        public void setSweepBatchSize(int sweepBatchSize) {
+            this.sweepBatchSize = sweepBatchSize;
+        }
+
+        public int getHourlyRollupDays() {
+            return hourlyRollupDays;
+        }
+
+        public void setHourlyRollupDays(int hourlyRollupDays) {
+            this.hourlyRollupDays = hourlyRollupDays;
+        }
+    }
+
+    public SlackStore getSlackStore() {
+        return slackStore;
+    }
+
+    public void setSlackStore(SlackStore slackStore) {
+        this.slackStore = slackStore;
+    }
+
+    public int getSegmentRows() {
+        return segmentRows;
+    }
+
+    public void setSegmentRows(int segmentRows) {
+        this.segmentRows = segmentRows;
+    }
+
+    public Retention getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Retention retention) {
+        this.retention = retention;
+    }
+}
@@ -0,0 +1,51 @@
+package com.abcstark.teamwellbeing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the ingestion write pipeline.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "pipeline")
+@Component
+public class PipelineProperties {
+
+    private int queueCapacity = 10000;
+    private int batchSize = 500;
+    private long flushInterval = 500; // milliseconds
+    private long submitTimeout = 30000; // milliseconds a collector may block on a full queue
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public long getSubmitTimeout() {
+        return submitTimeout;
+    }
+
+    public void setSubmitTimeout(long submitTimeout) {
+        this.submitTimeout = submitTimeout;
+    }
+}
@@ -0,0 +1,97 @@
+package com.abcstark.teamwellbeing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the upstream rate-limit governor.
+ * Each bucket maps to one integration (or one Slack method tier).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Component
+public class RateLimitProperties {
+
+    private long maxWait = 2000; // milliseconds an ad-hoc request may queue for a token
+    private long maxSchedulerWait = 60000; // milliseconds a scheduled collection may queue for a token
+    private double schedulerReserve = 0.25; // fraction of each bucket only scheduled collection may use
+    private Map<String, Bucket> buckets = defaultBuckets();
+
+    public static class Bucket {
+        private int capacity;
+        private double refillPerMinute;
+
+        public Bucket() {}
+
+        public Bucket(int capacity, double refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerMinute() {
+            return refillPerMinute;
+        }
+
+        public void setRefillPerMinute(double refillPerMinute) {
+            this.refillPerMinute = refillPerMinute;
+        }
+    }
+
+    /**
+     * Defaults follow the published quotas: Slack tiers 2/3/4 allow roughly 20/50/100
+     * calls per minute, GitHub allows 5000 calls per hour for a token.
+     */
+    private static Map<String, Bucket> defaultBuckets() {
+        Map<String, Bucket> buckets = new LinkedHashMap<>();
+        buckets.put("slack-tier2", new Bucket(20, 20));
+        buckets.put("slack-tier3", new Bucket(50, 50));
+        buckets.put("slack-tier4", new Bucket(100, 100));
+        buckets.put("github", new Bucket(5000, 5000.0 / 60));
+        buckets.put("jira", new Bucket(100, 100));
+        return buckets;
+    }
+
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(long maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public long getMaxSchedulerWait() {
+        return maxSchedulerWait;
+    }
+
+    public void setMaxSchedulerWait(long maxSchedulerWait) {
+        this.maxSchedulerWait = maxSchedulerWait;
+    }
+
+    public double getSchedulerReserve() {
+        return schedulerReserve;
+    }
+
+    public void setSchedulerReserve(double schedulerReserve) {
+        this.schedulerReserve = schedulerReserve;
+    }
+
+    public Map<String, Bucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(Map<String, Bucket> buckets) {
+        this.buckets = buckets;
+    }
+}
@@ -14,6 +14,35 @@ public class SchedulingProperties {
 
     private long dataCollectionInterval = 300000; // 5 minutes in milliseconds
     private long initialDelay = 30000; // 30 seconds in milliseconds
+    private long reconciliationInterval = 3600000; // 1 hour in milliseconds
+    private int statusWindow = 20; // recent cycles per source behind the pipeline status rates
+    private Source slack = new Source();
+    private Source github = new Source();
+    private Source jira = new Source();
+
+    /**
+     * Schedule of a single collection source.
+     */
+    public static class Source {
+        private Long interval; // milliseconds, falls back to dataCollectionInterval when unset
+        private long jitter; // maximum random delay added to each run, in milliseconds
+
+        public Long getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Long interval) {
+            this.interval = interval;
+        }
+
+        public long getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(long jitter) {
+            this.jitter = jitter;
+        }
+    }
 
     public long getDataCollectionInterval() {
         return dataCollectionInterval;
@@ -23,6 +52,14 @@ public class SchedulingProperties {
         this.dataCollectionInterval = dataCollectionInterval;
     }
 
+    public int getStatusWindow() {
+        return statusWindow;
+    }
+
+    public void setStatusWindow(int statusWindow) {
+        this.statusWindow = statusWindow;
+    }
+
     public long getInitialDelay() {
         return initialDelay;
     }
@@ -30,4 +67,36 @@ public class SchedulingProperties {
     public void setInitialDelay(long initialDelay) {
         this.initialDelay = initialDelay;
     }
+
+    public long getReconciliationInterval() {
+        return reconciliationInterval;
+    }
+
+    public void setReconciliationInterval(long reconciliationInterval) {
+        this.reconciliationInterval = reconciliationInterval;
+    }
+
+    public Source getSlack() {
+        return slack;
+    }
+
+    public void setSlack(Source slack) {
+        this.slack = slack;
+    }
+
+    public Source getGithub() {
+        return github;
+    }
+
+    public void setGithub(Source github) {
+        this.github = github;
+    }
+
+    public Source getJira() {
+        return jira;
+    }
+
+    public void setJira(Source jira) {
+        this.jira = jira;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.abcstark.teamwellbeing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the probabilistic analytics sketches.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "sketch")
+@Component
+public class SketchProperties {
+
+    private int retentionDays = 90; // daily sketches kept
+    private int hllPrecision = 11; // 2^precision registers per distinct count, about 2.3% standard error
+    private int countMinWidth = 1024; // counters per row of a count-min sketch
+    private int countMinDepth = 4; // rows of a count-min sketch
+    private int topK = 50; // heavy hitters tracked per day
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    public int getHllPrecision() {
+        return hllPrecision;
+    }
+
+    public void setHllPrecision(int hllPrecision) {
+        this.hllPrecision = hllPrecision;
+    }
+
+    public int getCountMinWidth() {
+        return countMinWidth;
+    }
+
+    public void setCountMinWidth(int countMinWidth) {
+        this.countMinWidth = countMinWidth;
+    }
+
+    public int getCountMinDepth() {
+        return countMinDepth;
+    }
+
+    public void setCountMinDepth(int countMinDepth) {
+        this.countMinDepth = countMinDepth;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public void setTopK(int topK) {
+        this.topK = topK;
+    }
+}
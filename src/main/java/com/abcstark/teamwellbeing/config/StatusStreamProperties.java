@@ -0,0 +1,33 @@
+package com.abcstark.teamwellbeing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the server-sent stream of team wellbeing status changes.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "status-stream")
+@Component
+public class StatusStreamProperties {
+
+    private long checkInterval = 5000; // how often the status is recomputed while anyone is subscribed, in milliseconds
+    private long heartbeatInterval = 15000; // comment sent to keep idle connections open, in milliseconds
+
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+
+    public void setCheckInterval(long checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+
+    public long getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(long heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+}
@@ -0,0 +1,106 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.sketch.HyperLogLog;
+import com.abcstark.teamwellbeing.sketch.SketchAnalytics;
+import com.abcstark.teamwellbeing.sketch.SketchService;
+import com.abcstark.teamwellbeing.sketch.TopKSketch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST controller for approximate team-wide analytics answered from sketches
+ * maintained on ingest.
+ */
+@RestController
+@RequestMapping("/api/wellbeing/analytics")
+public class AnalyticsController {
+
+    private final SketchService sketchService;
+
+    @Autowired
+    public AnalyticsController(SketchService sketchService) {
+        this.sketchService = sketchService;
+    }
+
+    /**
+     * Gets distinct active members per day and channel, the most frequent terms in
+     * stressed messages and the channels with the most negative sentiment.
+     * Defaults to the last 7 days.
+     */
+    @GetMapping
+    public ResponseEntity<SketchAnalytics> getAnalytics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int top) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(6);
+        return ResponseEntity.ok(sketchService.getAnalytics(start, end, Math.max(1, top)));
+    }
+
+    /**
+     * Exports the merged distinct-member sketch of a range, Base64 encoded, so it can
+     * be merged with sketches from other instances.
+     */
+    @GetMapping("/sketches/members")
+    public ResponseEntity<Map<String, Object>> getMemberSketch(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String channel) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(6);
+        HyperLogLog sketch = sketchService.getMemberSketch(start, end, channel);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("from", start);
+        response.put("to", end);
+        response.put("channel", channel);
+        response.put("precision", sketch.getPrecision());
+        response.put("estimate", sketch.estimate());
+        response.put("sketch", Base64.getEncoder().encodeToString(sketch.toBytes()));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Exports the merged top-k sketch of terms in stressed messages over a range,
+     * Base64 encoded, so it can be merged with sketches from other instances.
+     */
+    @GetMapping("/sketches/stress-terms")
+    public ResponseEntity<Map<String, Object>> getStressTermSketch(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int top) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(6);
+        return ResponseEntity.ok(topKResponse(start, end, top, sketchService.getStressTermSketch(start, end)));
+    }
+
+    /**
+     * Exports the merged top-k sketch of channels weighted by negative word hits over a range.
+     */
+    @GetMapping("/sketches/negative-channels")
+    public ResponseEntity<Map<String, Object>> getNegativeChannelSketch(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int top) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(6);
+        return ResponseEntity.ok(topKResponse(start, end, top, sketchService.getNegativeChannelSketch(start, end)));
+    }
+
+    private static Map<String, Object> topKResponse(LocalDate from, LocalDate to, int top, TopKSketch sketch) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("from", from);
+        response.put("to", to);
+        response.put("total", sketch.getTotal());
+        response.put("top", sketch.top(Math.max(1, top)));
+        response.put("sketch", Base64.getEncoder().encodeToString(sketch.toBytes()));
+        return response;
+    }
+}
@@ -0,0 +1,113 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.config.CacheProperties;
+import com.abcstark.teamwellbeing.scheduled.CollectionSource;
+import com.abcstark.teamwellbeing.scheduled.DataCollectionScheduler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Strong ETags and Cache-Control hints for the read endpoints.
+ *
+ * ETags are built from the version counters of the data behind a response (store,
+ * cache entry, identity links), never by hashing the body, so a matching If-None-Match
+ * is answered with 304 before the body is built or serialized. Every ETag carries the
+ * start time of the process, as the counters start over after a restart. max-age
+ * follows how often collection refreshes the data, capped by the cache TTL of
+ * proxied upstream data.
+ */
+@Component
+public class ConditionalResponses {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final DataCollectionScheduler dataCollectionScheduler;
+    private final CacheProperties cacheProperties;
+
+    @Autowired
+    public ConditionalResponses(DataCollectionScheduler dataCollectionScheduler, CacheProperties cacheProperties) {
+        this.dataCollectionScheduler = dataCollectionScheduler;
+        this.cacheProperties = cacheProperties;
+    }
+
+    /**
+     * Builds a strong ETag from the versions a response was derived from.
+     */
+    public String eTag(Object... versions) {
+        return Arrays.stream(versions)
+                .map(String::valueOf)
+                .collect(Collectors.joining("-", "\"" + epoch + "-", "\""));
+    }
+
+    /**
+     * Gets the Cache-Control hint for data collected into the store from the given sources.
+     */
+    public CacheControl cacheControl(CollectionSource... sources) {
+        return maxAge(refreshInterval(sources));
+    }
+
+    /**
+     * Gets the Cache-Control hint for a cached upstream value that is also refreshed by collecting
+     * from the given sources; whichever refreshes first bounds max-age.
+     */
+    public CacheControl cacheControl(String region, CollectionSource... sources) {
+        Duration ttl = Duration.ofMillis(cacheProperties.getTtl(region));
+        Duration refresh = refreshInterval(sources);
+        return maxAge(ttl.compareTo(refresh) < 0 ? ttl : refresh);
+    }
+
+    /**
+     * Answers 304 when If-None-Match matches the ETag, and only otherwise builds the body.
+     *
+     * @param ifNoneMatch The If-None-Match header of the request, if any
+     * @param body Builds the body of a 200 response
+     */
+    public <T> ResponseEntity<T> respond(String ifNoneMatch, String eTag, CacheControl cacheControl,
+                                         Supplier<T> body) {
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(body.get());
+    }
+
+    /**
+     * Checks an If-None-Match header against an ETag, with the weak comparison RFC 9110 asks for.
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Duration refreshInterval(CollectionSource... sources) {
+        return Arrays.stream(sources)
+                .map(dataCollectionScheduler::getRefreshInterval)
+                .min(Duration::compareTo)
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * Lets clients reuse a response for the interval, or makes them revalidate every time when
+     * the data can change at any moment; revalidation is cheap either way.
+     */
+    private static CacheControl maxAge(Duration maxAge) {
+        return maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge);
+    }
+}
@@ -0,0 +1,69 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.mcp.McpServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Native MCP endpoint (streamable HTTP transport), so MCP clients call the agent's
+ * tools without the Python or Node server in between. Responses are plain JSON;
+ * the server never initiates messages, so GET is not offered and answers 405.
+ * Browser requests are only accepted from origins listed in {@code mcp.allowed-origins}.
+ */
+@RestController
+@RequestMapping("/mcp")
+public class McpController {
+
+    static final String SESSION_HEADER = "Mcp-Session-Id";
+
+    private final McpServer mcpServer;
+
+    @Autowired
+    public McpController(McpServer mcpServer) {
+        this.mcpServer = mcpServer;
+    }
+
+    /**
+     * Handles a JSON-RPC request, notification or batch.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<JsonNode>> handle(
+            @RequestHeader(value = HttpHeaders.ORIGIN, required = false) String origin,
+            @RequestHeader(value = SESSION_HEADER, required = false) String sessionId,
+            @RequestBody String body) {
+        Optional<McpServer.McpReply> rejected = mcpServer.checkOrigin(origin);
+        if (rejected.isPresent()) {
+            return CompletableFuture.completedFuture(response(rejected.get()));
+        }
+        return mcpServer.handle(sessionId, body).thenApply(McpController::response);
+    }
+
+    /**
+     * Ends a session.
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> closeSession(
+            @RequestHeader(value = HttpHeaders.ORIGIN, required = false) String origin,
+            @RequestHeader(value = SESSION_HEADER, required = false) String sessionId) {
+        if (mcpServer.checkOrigin(origin).isPresent()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return mcpServer.closeSession(sessionId) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    private static ResponseEntity<JsonNode> response(McpServer.McpReply reply) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(reply.status());
+        if (reply.sessionId() != null) {
+            response.header(SESSION_HEADER, reply.sessionId());
+        }
+        return reply.body() != null ? response.body(reply.body()) : response.build();
+    }
+}
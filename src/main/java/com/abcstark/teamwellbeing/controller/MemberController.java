@@ -0,0 +1,103 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.identity.IdentityIndex;
+import com.abcstark.teamwellbeing.identity.IdentitySuggestion;
+import com.abcstark.teamwellbeing.identity.MemberWorkload;
+import com.abcstark.teamwellbeing.identity.MemberWorkloadService;
+import com.abcstark.teamwellbeing.identity.OffHoursActivity;
+import com.abcstark.teamwellbeing.identity.OffHoursActivityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for member identities and per-member workload.
+ * Workloads are maintained on ingest and served from memory.
+ */
+@RestController
+@RequestMapping("/api/wellbeing/members")
+public class MemberController {
+
+    private final MemberWorkloadService memberWorkloadService;
+    private final IdentityIndex identityIndex;
+    private final OffHoursActivityService offHoursActivityService;
+
+    @Autowired
+    public MemberController(MemberWorkloadService memberWorkloadService, IdentityIndex identityIndex,
+                            OffHoursActivityService offHoursActivityService) {
+        this.memberWorkloadService = memberWorkloadService;
+        this.identityIndex = identityIndex;
+        this.offHoursActivityService = offHoursActivityService;
+    }
+
+    /**
+     * Gets the workloads of all members seen so far.
+     */
+    @GetMapping
+    public ResponseEntity<List<MemberWorkload>> getWorkloads() {
+        return ResponseEntity.ok(memberWorkloadService.getWorkloads());
+    }
+
+    /**
+     * Gets the workload of a member, by member id or any Slack, GitHub or Jira alias.
+     */
+    @GetMapping("/{id}/workload")
+    public ResponseEntity<MemberWorkload> getWorkload(@PathVariable String id) {
+        return memberWorkloadService.getWorkload(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Gets the off-hours activity of all members over the last few weeks.
+     */
+    @GetMapping("/off-hours")
+    public ResponseEntity<List<OffHoursActivity>> getOffHoursActivity(@RequestParam(defaultValue = "4") int weeks) {
+        return ResponseEntity.ok(offHoursActivityService.getOffHoursActivity(weeks, LocalDateTime.now()));
+    }
+
+    /**
+     * Gets the off-hours activity of a member: weeknight and weekend hours and streaks of days with them.
+     */
+    @GetMapping("/{id}/off-hours")
+    public ResponseEntity<OffHoursActivity> getOffHoursActivity(@PathVariable String id,
+                                                                @RequestParam(defaultValue = "4") int weeks) {
+        return offHoursActivityService.getOffHoursActivity(id, weeks, LocalDateTime.now())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Links an alias, e.g. a GitHub login, to a member.
+     */
+    @PostMapping("/{id}/aliases")
+    public ResponseEntity<Map<String, Object>> linkAlias(@PathVariable String id,
+                                                         @RequestBody Map<String, String> request) {
+        String alias = request.get("alias");
+        Map<String, Object> response = new HashMap<>();
+        if (alias == null || alias.isBlank()) {
+            response.put("status", "error");
+            response.put("message", "Request body must contain an 'alias'");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        identityIndex.link(id, alias);
+        response.put("status", "success");
+        response.put("member", identityIndex.resolve(id));
+        response.put("aliases", identityIndex.getAliases(id));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Suggests alias links found by fuzzy matching names seen across sources.
+     */
+    @GetMapping("/identity/suggestions")
+    public ResponseEntity<List<IdentitySuggestion>> getSuggestions() {
+        return ResponseEntity.ok(identityIndex.suggest());
+    }
+}
@@ -0,0 +1,42 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.persistence.BatchingWriter;
+import com.abcstark.teamwellbeing.scheduled.DataCollectionScheduler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST controller reporting how far behind the upstreams collection is, from the
+ * scheduler's counters rather than the store.
+ */
+@RestController
+@RequestMapping("/api/wellbeing/pipeline")
+public class PipelineController {
+
+    private final DataCollectionScheduler dataCollectionScheduler;
+    private final BatchingWriter batchingWriter;
+
+    @Autowired
+    public PipelineController(DataCollectionScheduler dataCollectionScheduler, BatchingWriter batchingWriter) {
+        this.dataCollectionScheduler = dataCollectionScheduler;
+        this.batchingWriter = batchingWriter;
+    }
+
+    /**
+     * Gets, per source and its channel, repository or project, the last successful sync,
+     * watermark, lag, recent throughput and error rate, and the next scheduled run.
+     */
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("generated_at", LocalDateTime.now());
+        response.put("queue_depth", batchingWriter.getQueueDepth());
+        response.put("sources", dataCollectionScheduler.getPipelineStatus());
+        return ResponseEntity.ok(response);
+    }
+}
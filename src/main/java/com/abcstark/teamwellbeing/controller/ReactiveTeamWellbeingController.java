@@ -0,0 +1,354 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.cache.ReadThroughCache;
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.identity.IdentityIndex;
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.model.TeamWellbeingStatus;
+import com.abcstark.teamwellbeing.persistence.InMemoryPersistenceService;
+import com.abcstark.teamwellbeing.ratelimit.RateLimitExceededException;
+import com.abcstark.teamwellbeing.scheduled.CollectionJob;
+import com.abcstark.teamwellbeing.scheduled.CollectionSource;
+import com.abcstark.teamwellbeing.scheduled.DataCollectionScheduler;
+import com.abcstark.teamwellbeing.service.GitHubService;
+import com.abcstark.teamwellbeing.service.JiraService;
+import com.abcstark.teamwellbeing.service.SlackService;
+import com.abcstark.teamwellbeing.service.WellbeingStatusService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reactive variant of TeamWellbeingController, serving the same endpoints when the
+ * application runs on WebFlux (spring.main.web-application-type=reactive).
+ *
+ * No request holds a thread while waiting for an upstream. Jira is called through
+ * non-blocking WebClient methods; the Slack and GitHub clients only block, so their
+ * calls run on the application task executor. Lists are streamed as Flux, as a JSON
+ * array or as NDJSON when that is requested. Read endpoints answer conditional GETs
+ * like the servlet controller.
+ */
+@RestController
+@RequestMapping("/api/wellbeing")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTeamWellbeingController {
+
+    private final SlackService slackService;
+    private final GitHubService gitHubService;
+    private final JiraService jiraService;
+    private final DataCollectionScheduler dataCollectionScheduler;
+    private final InMemoryPersistenceService persistenceService;
+    private final ReadThroughCache readThroughCache;
+    private final WellbeingStatusService wellbeingStatusService;
+    private final IntegrationProperties integrationProperties;
+    private final IdentityIndex identityIndex;
+    private final ConditionalResponses conditionalResponses;
+    private final Scheduler blockingScheduler;
+
+    @Autowired
+    public ReactiveTeamWellbeingController(SlackService slackService,
+                                           GitHubService gitHubService,
+                                           JiraService jiraService,
+                                           DataCollectionScheduler dataCollectionScheduler,
+                                           InMemoryPersistenceService persistenceService,
+                                           ReadThroughCache readThroughCache,
+                                           WellbeingStatusService wellbeingStatusService,
+                                           IntegrationProperties integrationProperties,
+                                           IdentityIndex identityIndex,
+                                           ConditionalResponses conditionalResponses,
+                                           @Qualifier("applicationTaskExecutor") Executor blockingExecutor) {
+        this.slackService = slackService;
+        this.gitHubService = gitHubService;
+        this.jiraService = jiraService;
+        this.dataCollectionScheduler = dataCollectionScheduler;
+        this.persistenceService = persistenceService;
+        this.readThroughCache = readThroughCache;
+        this.wellbeingStatusService = wellbeingStatusService;
+        this.integrationProperties = integrationProperties;
+        this.identityIndex = identityIndex;
+        this.conditionalResponses = conditionalResponses;
+        this.blockingScheduler = Schedulers.fromExecutor(blockingExecutor);
+    }
+
+    /**
+     * Health check endpoint.
+     */
+    @GetMapping("/health")
+    public Mono<Map<String, Object>> health() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "UP");
+        response.put("timestamp", java.time.LocalDateTime.now());
+        response.put("service", "Team Wellbeing Agent");
+
+        return Mono.just(response);
+    }
+
+    /**
+     * Tests all integration connections concurrently.
+     */
+    @GetMapping("/test-connections")
+    public Mono<Map<String, Object>> testConnections() {
+        return Mono.zip(blocking(slackService::testConnection),
+                        blocking(gitHubService::testConnection),
+                        jiraService.testConnectionAsync())
+                .map(results -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("slack", results.getT1());
+                    response.put("github", results.getT2());
+                    response.put("jira", results.getT3());
+                    response.put("overall", results.getT1() && results.getT2() && results.getT3());
+                    return response;
+                });
+    }
+
+    /**
+     * Manually triggers data collection from all integrations.
+     * Returns 202 with a job id to poll; an identical run that is already in progress is returned instead of a new one.
+     */
+    @PostMapping("/collect-data")
+    public Mono<ResponseEntity<Map<String, Object>>> collectData() {
+        return Mono.fromSupplier(() -> {
+            CollectionJob job = dataCollectionScheduler.triggerDataCollection();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "accepted");
+            response.put("message", "Data collection triggered successfully");
+            response.put("job_id", job.getId());
+            response.put("job_status", job.getStatus());
+            response.put("sources", job.getSources());
+
+            return ResponseEntity.accepted().body(response);
+        }).onErrorResume(e -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "error");
+            response.put("message", "Data collection failed: " + e.getMessage());
+
+            return Mono.just(ResponseEntity.internalServerError().body(response));
+        });
+    }
+
+    /**
+     * Gets the progress or outcome of a data collection job.
+     */
+    @GetMapping("/collect-data/{jobId}")
+    public Mono<ResponseEntity<CollectionJob>> getCollectionJob(@PathVariable String jobId) {
+        return Mono.justOrEmpty(dataCollectionScheduler.getCollectionJob(jobId))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Streams recent Slack messages.
+     */
+    @GetMapping(value = "/slack/messages", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<SlackMessage>>> getSlackMessages(
+            @RequestParam(defaultValue = "general") String channel,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "slack-messages", CollectionSource.SLACK,
+                () -> readThroughCache.getVersionedAsync("slack-messages", channel,
+                        () -> slackService.getRecentMessages(channel)),
+                Flux::fromIterable);
+    }
+
+    /**
+     * Streams available Slack channels.
+     */
+    @GetMapping(value = "/slack/channels", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<String>>> getSlackChannels(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "slack-channels", CollectionSource.SLACK,
+                () -> readThroughCache.getVersionedAsync("slack-channels", "all", slackService::getAvailableChannels),
+                Flux::fromIterable);
+    }
+
+    /**
+     * Streams recent GitHub issues.
+     */
+    @GetMapping(value = "/github/issues", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<GitHubIssue>>> getGitHubIssues(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "github-issues", CollectionSource.GITHUB,
+                () -> readThroughCache.getVersionedAsync("github-issues", "default", gitHubService::getRecentIssues),
+                Flux::fromIterable);
+    }
+
+    /**
+     * Gets GitHub repository statistics.
+     */
+    @GetMapping("/github/stats")
+    public Mono<ResponseEntity<Map<String, String>>> getGitHubStats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "github-stats", CollectionSource.GITHUB,
+                () -> readThroughCache.getVersionedAsync("github-stats", "default",
+                        gitHubService::getRepositoryStatistics),
+                ReactiveTeamWellbeingController::statistics);
+    }
+
+    /**
+     * Streams GitHub issues for a specific user.
+     */
+    @GetMapping(value = "/github/issues/user/{username}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<GitHubIssue> getGitHubIssuesForUser(@PathVariable String username) {
+        return blocking(() -> gitHubService.getOpenIssuesForUser(username))
+                .flatMapIterable(issues -> issues);
+    }
+
+    /**
+     * Streams recent Jira issues.
+     */
+    @GetMapping(value = "/jira/issues", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<JiraIssue>>> getJiraIssues(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "jira-issues", CollectionSource.JIRA,
+                () -> readThroughCache.getVersionedNonBlocking("jira-issues", "default",
+                        () -> jiraService.getRecentIssuesAsync().toFuture()),
+                Flux::fromIterable, e -> new ArrayList<>());
+    }
+
+    /**
+     * Gets Jira project statistics.
+     */
+    @GetMapping("/jira/stats")
+    public Mono<ResponseEntity<Map<String, String>>> getJiraStats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "jira-stats", CollectionSource.JIRA,
+                () -> readThroughCache.getVersionedNonBlocking("jira-stats", "default",
+                        () -> jiraService.getProjectStatisticsAsync().toFuture()),
+                ReactiveTeamWellbeingController::statistics,
+                e -> "Error fetching project statistics: " + e.getMessage());
+    }
+
+    /**
+     * Streams Jira issues for a specific user.
+     */
+    @GetMapping(value = "/jira/issues/user/{username}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<JiraIssue> getJiraIssuesForUser(@PathVariable String username) {
+        return jiraService.getIssuesForUserAsync(username)
+                .flatMapIterable(issues -> issues);
+    }
+
+    /**
+     * Gets all stored data from in-memory persistence. Materializing every record can
+     * take a while on a large store, so it runs off the event loop.
+     */
+    @GetMapping("/data/all")
+    public Mono<ResponseEntity<Map<String, Object>>> getAllData(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return blocking(() -> conditionalResponses.respond(ifNoneMatch,
+                conditionalResponses.eTag(persistenceService.getVersion()),
+                conditionalResponses.cacheControl(CollectionSource.values()), () -> {
+                    Map<String, Object> response = new HashMap<>();
+
+                    response.put("slackMessages", persistenceService.getAllSlackMessages());
+                    response.put("githubIssues", persistenceService.getAllGitHubIssues());
+                    response.put("jiraIssues", persistenceService.getAllJiraIssues());
+                    response.put("statistics", persistenceService.getStorageStatistics());
+
+                    return response;
+                }));
+    }
+
+    /**
+     * Clears all stored data.
+     */
+    @DeleteMapping("/data/clear")
+    public Mono<Map<String, String>> clearData() {
+        return blocking(() -> {
+            persistenceService.clearAllData();
+
+            Map<String, String> response = new HashMap<>();
+            response.put("status", "success");
+            response.put("message", "All data cleared successfully");
+
+            return response;
+        });
+    }
+
+    /**
+     * MCP endpoint to fetch team wellbeing status for orchestrator.
+     * Recent messages come through the slack-messages cache region, so concurrent polls
+     * share one upstream call instead of each spending a rate-limit token.
+     */
+    @GetMapping("/mcp/status")
+    public Mono<ResponseEntity<TeamWellbeingStatus>> getTeamWellbeingStatus(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String channel = integrationProperties.getSlack().getDefaultChannel();
+        return Mono.defer(() -> {
+            long storeVersion = persistenceService.getVersion();
+            long identityVersion = identityIndex.getVersion();
+            return Mono.fromFuture(() -> readThroughCache.<List<SlackMessage>>getVersionedAsync("slack-messages",
+                            channel, () -> slackService.getRecentMessages(channel)), true)
+                    .map(messages -> conditionalResponses.respond(ifNoneMatch,
+                            conditionalResponses.eTag(messages.version(), storeVersion, identityVersion, LocalDate.now()),
+                            conditionalResponses.cacheControl("slack-messages", CollectionSource.values()),
+                            () -> wellbeingStatusService.getTeamWellbeingStatus(messages.value())));
+        });
+    }
+
+    /**
+     * Reads through the cache and answers with an ETag from the version of the cached value.
+     * A cancelled request must not cancel the load other requests share.
+     *
+     * @param lookup Reads the versioned value from the cache
+     * @param body Builds the response body from the cached value
+     */
+    private <T, B> Mono<ResponseEntity<B>> cached(String ifNoneMatch, String region, CollectionSource source,
+                                                  Supplier<CompletableFuture<ReadThroughCache.Versioned<T>>> lookup,
+                                                  Function<T, B> body) {
+        return Mono.fromFuture(lookup, true)
+                .map(cached -> conditionalResponses.respond(ifNoneMatch, conditionalResponses.eTag(cached.version()),
+                        conditionalResponses.cacheControl(region, source), () -> body.apply(cached.value())));
+    }
+
+    /**
+     * Reads through the cache like {@link #cached(String, String, CollectionSource, Supplier, Function)},
+     * answering a failed load with an uncached fallback instead of an error. Running out of
+     * rate-limit tokens still answers 429.
+     *
+     * @param fallback Builds the value served when the load failed
+     */
+    private <T, B> Mono<ResponseEntity<B>> cached(String ifNoneMatch, String region, CollectionSource source,
+                                                  Supplier<CompletableFuture<ReadThroughCache.Versioned<T>>> lookup,
+                                                  Function<T, B> body, Function<Throwable, T> fallback) {
+        return cached(ifNoneMatch, region, source, lookup, body)
+                .onErrorResume(e -> !(e instanceof RateLimitExceededException),
+                        e -> Mono.just(ResponseEntity.ok()
+                                .cacheControl(CacheControl.noStore())
+                                .body(body.apply(fallback.apply(e)))));
+    }
+
+    /**
+     * Runs a blocking upstream call or store scan on the application task executor,
+     * off the event loop.
+     */
+    private <T> Mono<T> blocking(Supplier<T> call) {
+        return Mono.fromSupplier(call).subscribeOn(blockingScheduler);
+    }
+
+    private static Map<String, String> statistics(String stats) {
+        Map<String, String> response = new HashMap<>();
+        response.put("statistics", stats);
+        return response;
+    }
+}
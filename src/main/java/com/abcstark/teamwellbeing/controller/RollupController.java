@@ -0,0 +1,80 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.rollup.RollupDimension;
+import com.abcstark.teamwellbeing.rollup.RollupGranularity;
+import com.abcstark.teamwellbeing.rollup.RollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * REST controller answering trend queries from the pre-aggregated rollups,
+ * without scanning raw records.
+ */
+@RestController
+@RequestMapping("/api/wellbeing/rollups")
+public class RollupController {
+
+    private final RollupService rollupService;
+
+    @Autowired
+    public RollupController(RollupService rollupService) {
+        this.rollupService = rollupService;
+    }
+
+    /**
+     * Gets hourly or daily buckets and their totals for one series.
+     * Defaults to the team over the last 30 days.
+     */
+    @GetMapping("/{granularity}")
+    public ResponseEntity<Map<String, Object>> getRollups(
+            @PathVariable String granularity,
+            @RequestParam(defaultValue = "team") String dimension,
+            @RequestParam(required = false) String key,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        RollupGranularity rollupGranularity;
+        RollupDimension rollupDimension;
+        try {
+            rollupGranularity = RollupGranularity.valueOf(granularity.toUpperCase());
+            rollupDimension = RollupDimension.valueOf(dimension.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "error");
+            response.put("message", "Unknown granularity or dimension: " + granularity + ", " + dimension);
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(30);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("granularity", rollupGranularity);
+        response.put("dimension", rollupDimension);
+        response.put("key", rollupDimension == RollupDimension.TEAM ? RollupDimension.TEAM_KEY : key);
+        response.put("from", start);
+        response.put("to", end);
+        response.put("buckets", rollupService.getBuckets(rollupGranularity, rollupDimension, key, start, end));
+        response.put("totals", rollupService.getTotals(rollupGranularity, rollupDimension, key, start, end));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Lists the keys with rollups for a dimension, e.g. all members or channels.
+     */
+    @GetMapping("/keys/{dimension}")
+    public ResponseEntity<Set<String>> getKeys(@PathVariable String dimension) {
+        try {
+            return ResponseEntity.ok(rollupService.getKeys(RollupDimension.valueOf(dimension.toUpperCase())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
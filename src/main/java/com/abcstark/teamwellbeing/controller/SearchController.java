@@ -0,0 +1,61 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.search.SearchResults;
+import com.abcstark.teamwellbeing.search.SearchService;
+import com.abcstark.teamwellbeing.search.SearchSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * REST controller for full-text search over stored Slack messages, GitHub issues and Jira issues.
+ */
+@RestController
+@RequestMapping("/api/wellbeing/search")
+public class SearchController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final SearchService searchService;
+
+    @Autowired
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * Searches stored records, newest first.
+     * Supports words, "quoted phrases", OR, -excluded words, and a time range.
+     */
+    @GetMapping
+    public ResponseEntity<?> search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> source,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        Set<SearchSource> sources = EnumSet.noneOf(SearchSource.class);
+        try {
+            if (source != null) {
+                source.forEach(name -> sources.add(SearchSource.valueOf(name.trim().toUpperCase())));
+            }
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "error");
+            response.put("message", "Unknown source: " + source);
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        SearchResults results = searchService.search(q, sources, from, to, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return ResponseEntity.ok(results);
+    }
+}
@@ -1,28 +1,43 @@
 package com.abcstark.teamwellbeing.controller;
 
+import com.abcstark.teamwellbeing.cache.ReadThroughCache;
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.identity.IdentityIndex;
 import com.abcstark.teamwellbeing.model.GitHubIssue;
 import com.abcstark.teamwellbeing.model.JiraIssue;
 import com.abcstark.teamwellbeing.model.SlackMessage;
 import com.abcstark.teamwellbeing.model.TeamWellbeingStatus;
 import com.abcstark.teamwellbeing.persistence.InMemoryPersistenceService;
+import com.abcstark.teamwellbeing.scheduled.CollectionJob;
+import com.abcstark.teamwellbeing.scheduled.CollectionSource;
 import com.abcstark.teamwellbeing.scheduled.DataCollectionScheduler;
 import com.abcstark.teamwellbeing.service.GitHubService;
 import com.abcstark.teamwellbeing.service.JiraService;
 import com.abcstark.teamwellbeing.service.SlackService;
+import com.abcstark.teamwellbeing.service.WellbeingStatusService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * REST controller for team wellbeing data collection and monitoring.
  * Provides endpoints for testing integrations and accessing collected data.
+ * Endpoints proxying live upstream data are served through the ReadThroughCache.
+ * Read endpoints answer conditional GETs with 304 from version counters, see ConditionalResponses.
+ * Replaced by ReactiveTeamWellbeingController when the application runs on WebFlux.
  */
 @RestController
 @RequestMapping("/api/wellbeing")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TeamWellbeingController {
 
     private final SlackService slackService;
@@ -30,18 +45,33 @@ public class TeamWellbeingController {
     private final JiraService jiraService;
     private final DataCollectionScheduler dataCollectionScheduler;
     private final InMemoryPersistenceService persistenceService;
+    private final ReadThroughCache readThroughCache;
+    private final WellbeingStatusService wellbeingStatusService;
+    private final IdentityIndex identityIndex;
+    private final IntegrationProperties integrationProperties;
+    private final ConditionalResponses conditionalResponses;
 
     @Autowired
     public TeamWellbeingController(SlackService slackService,
                                  GitHubService gitHubService,
                                  JiraService jiraService,
                                  DataCollectionScheduler dataCollectionScheduler,
-                                 InMemoryPersistenceService persistenceService) {
+                                 InMemoryPersistenceService persistenceService,
+                                 ReadThroughCache readThroughCache,
+                                 WellbeingStatusService wellbeingStatusService,
+                                 IdentityIndex identityIndex,
+                                 IntegrationProperties integrationProperties,
+                                 ConditionalResponses conditionalResponses) {
         this.slackService = slackService;
         this.gitHubService = gitHubService;
         this.jiraService = jiraService;
         this.dataCollectionScheduler = dataCollectionScheduler;
         this.persistenceService = persistenceService;
+        this.readThroughCache = readThroughCache;
+        this.wellbeingStatusService = wellbeingStatusService;
+        this.identityIndex = identityIndex;
+        this.integrationProperties = integrationProperties;
+        this.conditionalResponses = conditionalResponses;
     }
 
     /**
@@ -78,19 +108,23 @@ public class TeamWellbeingController {
 
     /**
      * Manually triggers data collection from all integrations.
+     * Returns 202 with a job id to poll; an identical run that is already in progress is returned instead of a new one.
      */
     @PostMapping("/collect-data")
-    public ResponseEntity<Map<String, String>> collectData() {
+    public ResponseEntity<Map<String, Object>> collectData() {
         try {
-            dataCollectionScheduler.triggerDataCollection();
+            CollectionJob job = dataCollectionScheduler.triggerDataCollection();
             
-            Map<String, String> response = new HashMap<>();
-            response.put("status", "success");
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "accepted");
             response.put("message", "Data collection triggered successfully");
+            response.put("job_id", job.getId());
+            response.put("job_status", job.getStatus());
+            response.put("sources", job.getSources());
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.accepted().body(response);
         } catch (Exception e) {
-            Map<String, String> response = new HashMap<>();
+            Map<String, Object> response = new HashMap<>();
             response.put("status", "error");
             response.put("message", "Data collection failed: " + e.getMessage());
             
@@ -98,46 +132,56 @@ public class TeamWellbeingController {
         }
     }
 
+    /**
+     * Gets the progress or outcome of a data collection job.
+     */
+    @GetMapping("/collect-data/{jobId}")
+    public ResponseEntity<CollectionJob> getCollectionJob(@PathVariable String jobId) {
+        return dataCollectionScheduler.getCollectionJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Gets recent Slack messages.
      */
     @GetMapping("/slack/messages")
     public ResponseEntity<List<SlackMessage>> getSlackMessages(
-            @RequestParam(defaultValue = "general") String channel) {
+            @RequestParam(defaultValue = "general") String channel,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
-        List<SlackMessage> messages = slackService.getRecentMessages(channel);
-        return ResponseEntity.ok(messages);
+        return cached(ifNoneMatch, "slack-messages", channel, CollectionSource.SLACK,
+                () -> slackService.getRecentMessages(channel), Function.identity());
     }
 
     /**
      * Gets available Slack channels.
      */
     @GetMapping("/slack/channels")
-    public ResponseEntity<List<String>> getSlackChannels() {
-        List<String> channels = slackService.getAvailableChannels();
-        return ResponseEntity.ok(channels);
+    public ResponseEntity<List<String>> getSlackChannels(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "slack-channels", "all", CollectionSource.SLACK,
+                slackService::getAvailableChannels, Function.identity());
     }
 
     /**
      * Gets recent GitHub issues.
      */
     @GetMapping("/github/issues")
-    public ResponseEntity<List<GitHubIssue>> getGitHubIssues() {
-        List<GitHubIssue> issues = gitHubService.getRecentIssues();
-        return ResponseEntity.ok(issues);
+    public ResponseEntity<List<GitHubIssue>> getGitHubIssues(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "github-issues", "default", CollectionSource.GITHUB,
+                gitHubService::getRecentIssues, Function.identity());
     }
 
     /**
      * Gets GitHub repository statistics.
      */
     @GetMapping("/github/stats")
-    public ResponseEntity<Map<String, String>> getGitHubStats() {
-        String stats = gitHubService.getRepositoryStatistics();
-        
-        Map<String, String> response = new HashMap<>();
-        response.put("statistics", stats);
-        
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Map<String, String>> getGitHubStats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "github-stats", "default", CollectionSource.GITHUB,
+                gitHubService::getRepositoryStatistics, TeamWellbeingController::statistics);
     }
 
     /**
@@ -153,22 +197,20 @@ public class TeamWellbeingController {
      * Gets recent Jira issues.
      */
     @GetMapping("/jira/issues")
-    public ResponseEntity<List<JiraIssue>> getJiraIssues() {
-        List<JiraIssue> issues = jiraService.getRecentIssues();
-        return ResponseEntity.ok(issues);
+    public ResponseEntity<List<JiraIssue>> getJiraIssues(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "jira-issues", "default", CollectionSource.JIRA,
+                jiraService::getRecentIssues, Function.identity());
     }
 
     /**
      * Gets Jira project statistics.
      */
     @GetMapping("/jira/stats")
-    public ResponseEntity<Map<String, String>> getJiraStats() {
-        String stats = jiraService.getProjectStatistics();
-        
-        Map<String, String> response = new HashMap<>();
-        response.put("statistics", stats);
-        
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Map<String, String>> getJiraStats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cached(ifNoneMatch, "jira-stats", "default", CollectionSource.JIRA,
+                jiraService::getProjectStatistics, TeamWellbeingController::statistics);
     }
 
     /**
@@ -182,17 +224,23 @@ public class TeamWellbeingController {
 
     /**
      * Gets all stored data from in-memory persistence.
+     * The ETag is the store version, read before the data so a concurrent write can only make it older.
      */
     @GetMapping("/data/all")
-    public ResponseEntity<Map<String, Object>> getAllData() {
-        Map<String, Object> response = new HashMap<>();
-        
-        response.put("slackMessages", persistenceService.getAllSlackMessages());
-        response.put("githubIssues", persistenceService.getAllGitHubIssues());
-        response.put("jiraIssues", persistenceService.getAllJiraIssues());
-        response.put("statistics", persistenceService.getStorageStatistics());
-        
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Map<String, Object>> getAllData(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = conditionalResponses.eTag(persistenceService.getVersion());
+        return conditionalResponses.respond(ifNoneMatch, eTag,
+                conditionalResponses.cacheControl(CollectionSource.values()), () -> {
+                    Map<String, Object> response = new HashMap<>();
+                    
+                    response.put("slackMessages", persistenceService.getAllSlackMessages());
+                    response.put("githubIssues", persistenceService.getAllGitHubIssues());
+                    response.put("jiraIssues", persistenceService.getAllJiraIssues());
+                    response.put("statistics", persistenceService.getStorageStatistics());
+                    
+                    return response;
+                });
     }
 
     /**
@@ -211,10 +259,39 @@ public class TeamWellbeingController {
 
     /**
      * MCP endpoint to fetch team wellbeing status for orchestrator.
+     * Recent messages come through the slack-messages cache region; the status is only
+     * recomputed when those messages, the store, the identity links or the day changed.
      */
     @GetMapping("/mcp/status")
-    public ResponseEntity<TeamWellbeingStatus> getTeamWellbeingStatus() {
-        TeamWellbeingStatus status = slackService.analyzeTeamWellbeing();
-        return ResponseEntity.ok(status);
+    public ResponseEntity<TeamWellbeingStatus> getTeamWellbeingStatus(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String channel = integrationProperties.getSlack().getDefaultChannel();
+        long storeVersion = persistenceService.getVersion();
+        long identityVersion = identityIndex.getVersion();
+        ReadThroughCache.Versioned<List<SlackMessage>> messages = readThroughCache.getVersioned("slack-messages",
+                channel, () -> slackService.getRecentMessages(channel));
+        String eTag = conditionalResponses.eTag(messages.version(), storeVersion, identityVersion, LocalDate.now());
+        
+        return conditionalResponses.respond(ifNoneMatch, eTag,
+                conditionalResponses.cacheControl("slack-messages", CollectionSource.values()),
+                () -> wellbeingStatusService.getTeamWellbeingStatus(messages.value()));
+    }
+
+    /**
+     * Reads through the cache and answers with an ETag from the version of the cached value.
+     *
+     * @param body Builds the response body from the cached value
+     */
+    private <T, B> ResponseEntity<B> cached(String ifNoneMatch, String region, String key, CollectionSource source,
+                                            Supplier<T> loader, Function<T, B> body) {
+        ReadThroughCache.Versioned<T> cached = readThroughCache.getVersioned(region, key, loader);
+        return conditionalResponses.respond(ifNoneMatch, conditionalResponses.eTag(cached.version()),
+                conditionalResponses.cacheControl(region, source), () -> body.apply(cached.value()));
+    }
+
+    private static Map<String, String> statistics(String stats) {
+        Map<String, String> response = new HashMap<>();
+        response.put("statistics", stats);
+        return response;
     }
-}
\ No newline at end of file
+}
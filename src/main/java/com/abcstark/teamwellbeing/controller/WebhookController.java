@@ -0,0 +1,102 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.persistence.BatchingWriter;
+import com.abcstark.teamwellbeing.service.WebhookService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * REST controller receiving GitHub and Jira webhook deliveries.
+ * Decoded issues are handed to the BatchingWriter so they reach the store
+ * within seconds, without waiting for the next polling cycle.
+ */
+@RestController
+@RequestMapping("/api/wellbeing/webhooks")
+public class WebhookController {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookController.class);
+
+    private final WebhookService webhookService;
+    private final BatchingWriter batchingWriter;
+
+    @Autowired
+    public WebhookController(WebhookService webhookService, BatchingWriter batchingWriter) {
+        this.webhookService = webhookService;
+        this.batchingWriter = batchingWriter;
+    }
+
+    /**
+     * Receives GitHub "issues" and "issue_comment" events.
+     */
+    @PostMapping("/github")
+    public ResponseEntity<Map<String, String>> receiveGitHubEvent(
+            @RequestHeader(value = "X-GitHub-Event", required = false) String eventType,
+            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+            @RequestBody byte[] payload) {
+
+        if (!webhookService.isGitHubWebhookEnabled()) {
+            return response(HttpStatus.NOT_FOUND, "disabled", "GitHub webhooks are not configured");
+        }
+        if (!webhookService.verifyGitHubSignature(payload, signature)) {
+            logger.warn("Rejected GitHub webhook delivery with invalid signature");
+            return response(HttpStatus.UNAUTHORIZED, "error", "Invalid signature");
+        }
+
+        Optional<GitHubIssue> issue = webhookService.decodeGitHubEvent(eventType, payload);
+        if (issue.isEmpty()) {
+            return response(HttpStatus.OK, "ignored", "Event '" + eventType + "' carries no issue update");
+        }
+        if (!batchingWriter.offer(issue.get())) {
+            logger.warn("Ingestion queue full, rejecting GitHub issue #{}", issue.get().getNumber());
+            return response(HttpStatus.SERVICE_UNAVAILABLE, "error", "Ingestion queue is full");
+        }
+
+        return response(HttpStatus.ACCEPTED, "accepted", "Queued GitHub issue #" + issue.get().getNumber());
+    }
+
+    /**
+     * Receives Jira issue and comment events.
+     */
+    @PostMapping("/jira")
+    public ResponseEntity<Map<String, String>> receiveJiraEvent(
+            @RequestHeader(value = "X-Hub-Signature", required = false) String signature,
+            @RequestBody byte[] payload) {
+
+        if (!webhookService.isJiraWebhookEnabled()) {
+            return response(HttpStatus.NOT_FOUND, "disabled", "Jira webhooks are not configured");
+        }
+        if (!webhookService.verifyJiraSignature(payload, signature)) {
+            logger.warn("Rejected Jira webhook delivery with invalid signature");
+            return response(HttpStatus.UNAUTHORIZED, "error", "Invalid signature");
+        }
+
+        Optional<JiraIssue> issue = webhookService.decodeJiraEvent(payload);
+        if (issue.isEmpty()) {
+            return response(HttpStatus.OK, "ignored", "Event carries no issue update");
+        }
+        if (!batchingWriter.offer(issue.get())) {
+            logger.warn("Ingestion queue full, rejecting Jira issue {}", issue.get().getKey());
+            return response(HttpStatus.SERVICE_UNAVAILABLE, "error", "Ingestion queue is full");
+        }
+
+        return response(HttpStatus.ACCEPTED, "accepted", "Queued Jira issue " + issue.get().getKey());
+    }
+
+    private ResponseEntity<Map<String, String>> response(HttpStatus status, String result, String message) {
+        Map<String, String> response = new HashMap<>();
+        response.put("status", result);
+        response.put("message", message);
+
+        return ResponseEntity.status(status).body(response);
+    }
+}
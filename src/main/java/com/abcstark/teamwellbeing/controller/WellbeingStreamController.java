@@ -0,0 +1,49 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.config.StatusStreamProperties;
+import com.abcstark.teamwellbeing.model.TeamWellbeingStatus;
+import com.abcstark.teamwellbeing.service.WellbeingStatusBroadcaster;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+/**
+ * REST controller streaming team wellbeing status changes to MCP clients and dashboards
+ * as server-sent events, instead of having them poll /mcp/status. Served on both the
+ * servlet and the reactive stack.
+ */
+@RestController
+@RequestMapping("/api/wellbeing/mcp")
+public class WellbeingStreamController {
+
+    private final WellbeingStatusBroadcaster wellbeingStatusBroadcaster;
+    private final Flux<ServerSentEvent<TeamWellbeingStatus>> heartbeats;
+
+    @Autowired
+    public WellbeingStreamController(WellbeingStatusBroadcaster wellbeingStatusBroadcaster,
+                                     StatusStreamProperties statusStreamProperties) {
+        this.wellbeingStatusBroadcaster = wellbeingStatusBroadcaster;
+        // One timer for all connections
+        this.heartbeats = Flux.interval(Duration.ofMillis(statusStreamProperties.getHeartbeatInterval()))
+                .map(tick -> ServerSentEvent.<TeamWellbeingStatus>builder().comment("heartbeat").build())
+                .share();
+    }
+
+    /**
+     * Streams the current team wellbeing status, then a "status" event for each change,
+     * with heartbeat comments in between.
+     */
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<TeamWellbeingStatus>> streamTeamWellbeingStatus() {
+        return Flux.merge(
+                wellbeingStatusBroadcaster.getChanges()
+                        .map(status -> ServerSentEvent.builder(status).event("status").build()),
+                heartbeats);
+    }
+}
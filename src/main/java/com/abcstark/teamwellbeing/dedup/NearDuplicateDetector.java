@@ -0,0 +1,191 @@
+package com.abcstark.teamwellbeing.dedup;
+
+import com.abcstark.teamwellbeing.config.DedupProperties;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.search.SearchQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tags or drops Slack messages from bots and near-duplicates of recent messages
+ * before they are stored or scored.
+ *
+ * Each message is fingerprinted with SimHash over its word pairs, with numbers
+ * normalized so alerts differing only in build or ticket numbers match. The
+ * fingerprint is split into {@code maxDistance + 1} bands, and messages sharing any
+ * band are compared by Hamming distance; two fingerprints within the distance must
+ * agree on at least one band, so no duplicate is missed. Only the last
+ * {@code windowSize} distinct messages are kept as candidates. Verdicts are
+ * remembered per message id, so a message collected again keeps its verdict; one
+ * whose verdict has been forgotten is still never reported as a duplicate of itself.
+ */
+@Component
+public class NearDuplicateDetector {
+
+    static final String BOT = "bot";
+    static final String DUPLICATE = "duplicate";
+
+    private record Entry(long fingerprint, String channelId, String messageId) {
+    }
+
+    private record Verdict(String reason, String duplicateOf) {
+    }
+
+    private static final Verdict ORIGINAL = new Verdict(null, null);
+
+    private final DedupProperties dedupProperties;
+    private final Set<String> botUsers;
+    private final Counter suppressedBots;
+    private final Counter suppressedDuplicates;
+    private final int bands;
+    private final int bandBits;
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    private final ArrayDeque<Entry> window = new ArrayDeque<>();
+    private final Map<String, Verdict> verdicts;
+
+    @Autowired
+    public NearDuplicateDetector(DedupProperties dedupProperties, MeterRegistry meterRegistry) {
+        this.dedupProperties = dedupProperties;
+        this.botUsers = dedupProperties.getBotUsers().stream()
+                .map(user -> user.trim().toLowerCase())
+                .collect(Collectors.toSet());
+        this.suppressedBots = meterRegistry.counter("wellbeing.dedup.suppressed", "reason", BOT);
+        this.suppressedDuplicates = meterRegistry.counter("wellbeing.dedup.suppressed", "reason", DUPLICATE);
+        this.bands = Math.max(0, Math.min(dedupProperties.getMaxDistance(), 31)) + 1;
+        this.bandBits = 64 / bands;
+        int remembered = Math.max(1, dedupProperties.getWindowSize()) * 2;
+        this.verdicts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Verdict> eldest) {
+                return size() > remembered;
+            }
+        };
+    }
+
+    /**
+     * Applies the configured mode to a batch of collected messages.
+     *
+     * @return The messages to store and score: all of them, tagged, for TAG mode,
+     *         and only the originals for COLLAPSE mode
+     */
+    public synchronized List<SlackMessage> apply(List<SlackMessage> messages) {
+        if (dedupProperties.getMode() == DedupProperties.Mode.OFF || messages.isEmpty()) {
+            return messages;
+        }
+
+        // Oldest first, so the first occurrence is the one that is kept
+        Map<SlackMessage, Verdict> batch = new IdentityHashMap<>();
+        messages.stream()
+                .sorted(Comparator.comparing(SlackMessage::getTimestamp,
+                        Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder())))
+                .forEach(message -> batch.put(message, classify(message)));
+
+        List<SlackMessage> result = new ArrayList<>(messages.size());
+        for (SlackMessage message : messages) {
+            Verdict verdict = batch.get(message);
+            if (verdict.reason() == null) {
+                result.add(message);
+            } else if (dedupProperties.getMode() == DedupProperties.Mode.TAG) {
+                message.setSuppressed(verdict.reason());
+                message.setDuplicateOf(verdict.duplicateOf());
+                result.add(message);
+            }
+        }
+        return result;
+    }
+
+    private Verdict classify(SlackMessage message) {
+        String key = message.getChannelId() + "/" + message.getMessageId();
+        Verdict verdict = verdicts.get(key);
+        if (verdict != null) {
+            return verdict;
+        }
+
+        if (isBot(message)) {
+            verdict = new Verdict(BOT, null);
+            suppressedBots.increment();
+        } else {
+            verdict = checkDuplicate(message);
+            if (verdict.reason() != null) {
+                suppressedDuplicates.increment();
+            }
+        }
+        verdicts.put(key, verdict);
+        return verdict;
+    }
+
+    private boolean isBot(SlackMessage message) {
+        return message.getBotId() != null
+                || message.getUserId() != null && botUsers.contains(message.getUserId().toLowerCase())
+                || message.getUsername() != null && botUsers.contains(message.getUsername().toLowerCase());
+    }
+
+    private Verdict checkDuplicate(SlackMessage message) {
+        List<String> terms = SearchQuery.tokenize(message.getText()).stream()
+                .map(term -> Character.isDigit(term.charAt(0)) ? "#" : term)
+                .collect(Collectors.toList());
+        if (terms.size() < dedupProperties.getMinTokens()) {
+            return ORIGINAL;
+        }
+
+        long fingerprint = SimHash.fingerprint(terms);
+        for (int band = 0; band < bands; band++) {
+            for (Entry candidate : buckets.getOrDefault(bandKey(fingerprint, band), List.of())) {
+                if (SimHash.distance(fingerprint, candidate.fingerprint()) > dedupProperties.getMaxDistance()) {
+                    continue;
+                }
+                // Still in the window from when it was first seen, and nothing before it matched then
+                if (Objects.equals(candidate.messageId(), message.getMessageId())
+                        && Objects.equals(candidate.channelId(), message.getChannelId())) {
+                    return ORIGINAL;
+                }
+                return new Verdict(DUPLICATE, candidate.messageId());
+            }
+        }
+
+        remember(new Entry(fingerprint, message.getChannelId(), message.getMessageId()));
+        return ORIGINAL;
+    }
+
+    private void remember(Entry entry) {
+        window.addLast(entry);
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bandKey(entry.fingerprint(), band), k -> new ArrayList<>(1)).add(entry);
+        }
+
+        if (window.size() > dedupProperties.getWindowSize()) {
+            Entry oldest = window.removeFirst();
+            for (int band = 0; band < bands; band++) {
+                long bandKey = bandKey(oldest.fingerprint(), band);
+                List<Entry> bucket = buckets.get(bandKey);
+                bucket.remove(oldest);
+                if (bucket.isEmpty()) {
+                    buckets.remove(bandKey);
+                }
+            }
+        }
+    }
+
+    private long bandKey(long fingerprint, int band) {
+        if (bands == 1) {
+            return fingerprint;
+        }
+        long bits = (fingerprint >>> (band * bandBits)) & ((1L << bandBits) - 1);
+        return ((long) band << 32) | bits;
+    }
+}
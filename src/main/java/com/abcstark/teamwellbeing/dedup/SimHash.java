@@ -0,0 +1,46 @@
+package com.abcstark.teamwellbeing.dedup;
+
+import com.abcstark.teamwellbeing.sketch.Hashing;
+
+import java.util.List;
+
+/**
+ * 64-bit SimHash fingerprints: texts sharing most of their word pairs get
+ * fingerprints that differ in only a few bits.
+ */
+final class SimHash {
+
+    private SimHash() {
+    }
+
+    /**
+     * Fingerprints a list of terms from their overlapping word pairs, or the single term.
+     */
+    static long fingerprint(List<String> terms) {
+        int[] weights = new int[64];
+        if (terms.size() == 1) {
+            add(weights, Hashing.hash64(terms.get(0)));
+        }
+        for (int i = 0; i + 1 < terms.size(); i++) {
+            add(weights, Hashing.hash64(terms.get(i) + ' ' + terms.get(i + 1)));
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static void add(int[] weights, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1) == 1 ? 1 : -1;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.abcstark.teamwellbeing.identity;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Hour-by-hour activity of one alias over the last few weeks.
+ *
+ * Each week is a bitmap of 168 hour slots, Monday 00:00 first, packed into three
+ * longs. Weeks live in a ring indexed by week number, so a new week silently
+ * replaces the oldest one and the structure never grows.
+ */
+final class ActivityBitmap {
+
+    static final int HOURS_PER_WEEK = 7 * 24;
+    static final int WORDS_PER_WEEK = 3;
+
+    private final long[] bits;
+    private final long[] weeks;
+
+    ActivityBitmap(int capacity) {
+        this.bits = new long[capacity * WORDS_PER_WEEK];
+        this.weeks = new long[capacity];
+        Arrays.fill(weeks, Long.MIN_VALUE);
+    }
+
+    /**
+     * Marks the hour containing the given time as active.
+     */
+    synchronized void mark(LocalDateTime time) {
+        long week = week(time);
+        int ring = (int) Math.floorMod(week, (long) weeks.length);
+        if (weeks[ring] != week) {
+            if (weeks[ring] > week) {
+                // Older than anything kept
+                return;
+            }
+            weeks[ring] = week;
+            for (int i = 0; i < WORDS_PER_WEEK; i++) {
+                bits[ring * WORDS_PER_WEEK + i] = 0;
+            }
+        }
+        int slot = slot(time);
+        bits[ring * WORDS_PER_WEEK + (slot >>> 6)] |= 1L << slot;
+    }
+
+    /**
+     * ORs the weeks {@code firstWeek} to {@code firstWeek + count - 1} into {@code target},
+     * which holds {@link #WORDS_PER_WEEK} longs per week.
+     */
+    synchronized void orInto(long firstWeek, int count, long[] target) {
+        for (int i = 0; i < count; i++) {
+            long week = firstWeek + i;
+            int ring = (int) Math.floorMod(week, (long) weeks.length);
+            if (weeks[ring] == week) {
+                for (int w = 0; w < WORDS_PER_WEEK; w++) {
+                    target[i * WORDS_PER_WEEK + w] |= bits[ring * WORDS_PER_WEEK + w];
+                }
+            }
+        }
+    }
+
+    int capacity() {
+        return weeks.length;
+    }
+
+    /**
+     * Gets the number of the Monday-based week containing the given time.
+     */
+    static long week(LocalDateTime time) {
+        // 1970-01-01 was a Thursday, so shift by three days to start weeks on Monday
+        return Math.floorDiv(time.toLocalDate().toEpochDay() + 3, 7);
+    }
+
+    /**
+     * Gets the hour slot within the week, 0 for Monday 00:00 to 167 for Sunday 23:00.
+     */
+    static int slot(LocalDateTime time) {
+        return (time.getDayOfWeek().getValue() - 1) * 24 + time.getHour();
+    }
+}
@@ -0,0 +1,239 @@
+package com.abcstark.teamwellbeing.identity;
+
+import com.abcstark.teamwellbeing.config.IdentityProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Maps the user names seen in Slack, GitHub and Jira to member ids.
+ *
+ * Links come from the {@code identity.members} configuration or are added at
+ * runtime; an alias without a link is its own member. Aliases are matched case
+ * insensitively. Every alias seen on ingest is remembered with its sources so that
+ * likely links can be suggested by fuzzy matching. Each member's aliases are also
+ * kept in a reverse index so that looking them up does not scan every alias.
+ */
+@Component
+public class IdentityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdentityIndex.class);
+
+    private final IdentityProperties identityProperties;
+    private final Map<String, String> aliasToMember = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> observedSources = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> memberAliases = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    @Autowired
+    public IdentityIndex(IdentityProperties identityProperties) {
+        this.identityProperties = identityProperties;
+        identityProperties.getMembers().forEach((member, aliases) -> aliases.forEach(alias -> link(member, alias)));
+    }
+
+    /**
+     * Gets the member id of an alias.
+     */
+    public String resolve(String alias) {
+        String normalized = normalize(alias);
+        return aliasToMember.getOrDefault(normalized, normalized);
+    }
+
+    /**
+     * Records that an alias was seen in a source.
+     */
+    public void observe(String source, String alias) {
+        if (alias == null || alias.isBlank()) {
+            return;
+        }
+        String normalized = normalize(alias);
+        Set<String> sources = observedSources.get(normalized);
+        if (sources == null) {
+            // Registered under the lock so that a concurrent link cannot leave the alias with its old member
+            synchronized (this) {
+                sources = observedSources.computeIfAbsent(normalized, a -> ConcurrentHashMap.newKeySet());
+                addAlias(resolve(normalized), normalized);
+            }
+        }
+        sources.add(source);
+    }
+
+    /**
+     * Links an alias to a member. The member may itself be given by any alias. If the
+     * alias is the id of another member, all of that member's aliases move with it.
+     */
+    public synchronized void link(String member, String alias) {
+        String memberId = resolve(member);
+        String normalizedAlias = normalize(alias);
+        String previous = resolve(normalizedAlias);
+        aliasToMember.put(memberId, memberId);
+        addAlias(memberId, memberId);
+
+        if (previous.equals(normalizedAlias) && !previous.equals(memberId)) {
+            Set<String> merged = memberAliases.remove(previous);
+            if (merged != null) {
+                merged.forEach(merging -> {
+                    aliasToMember.put(merging, memberId);
+                    addAlias(memberId, merging);
+                });
+            }
+        } else if (!previous.equals(memberId)) {
+            Set<String> previousAliases = memberAliases.get(previous);
+            if (previousAliases != null) {
+                previousAliases.remove(normalizedAlias);
+            }
+        }
+        aliasToMember.put(normalizedAlias, memberId);
+        addAlias(memberId, normalizedAlias);
+        version.incrementAndGet();
+        logger.info("Linked alias '{}' to member '{}'", alias, memberId);
+    }
+
+    /**
+     * Gets the version of the links, which changes whenever an alias is linked.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Gets every known alias of a member, including the member id itself.
+     */
+    public Set<String> getAliases(String member) {
+        String memberId = resolve(member);
+        Set<String> aliases = new TreeSet<>(memberAliases.getOrDefault(memberId, Set.of()));
+        aliases.add(memberId);
+        return aliases;
+    }
+
+    /**
+     * Gets the ids of all members seen so far.
+     */
+    public Set<String> getMembers() {
+        Set<String> members = new TreeSet<>();
+        observedSources.keySet().forEach(alias -> members.add(resolve(alias)));
+        return members;
+    }
+
+    /**
+     * Suggests links between observed aliases of different members that look alike,
+     * best matches first.
+     */
+    public List<IdentitySuggestion> suggest() {
+        List<String> aliases = new ArrayList<>(observedSources.keySet());
+        aliases.sort(Comparator.naturalOrder());
+        List<IdentitySuggestion> suggestions = new ArrayList<>();
+
+        for (int i = 0; i < aliases.size(); i++) {
+            for (int j = i + 1; j < aliases.size(); j++) {
+                String alias = aliases.get(i);
+                String candidate = aliases.get(j);
+                if (resolve(alias).equals(resolve(candidate))) {
+                    continue;
+                }
+                double score = similarity(alias, candidate);
+                if (score >= identityProperties.getSuggestionThreshold()) {
+                    suggestions.add(new IdentitySuggestion(alias, new TreeSet<>(observedSources.get(alias)),
+                            candidate, new TreeSet<>(observedSources.get(candidate)), score));
+                }
+            }
+        }
+
+        suggestions.sort(Comparator.comparingDouble(IdentitySuggestion::score).reversed());
+        return suggestions;
+    }
+
+    /**
+     * Scores how likely two aliases name the same person, from 0 to 1. Separators and
+     * case are ignored, "first initial + last name" forms such as "ajones" match
+     * "alice.jones", and anything else is compared by Jaro-Winkler similarity.
+     */
+    static double similarity(String a, String b) {
+        String compactA = compact(a);
+        String compactB = compact(b);
+        if (compactA.isEmpty() || compactB.isEmpty()) {
+            return 0;
+        }
+        if (compactA.equals(compactB)) {
+            return 1.0;
+        }
+        if (isInitialForm(a, compactB) || isInitialForm(b, compactA)) {
+            return 0.9;
+        }
+        return jaroWinkler(compactA, compactB);
+    }
+
+    private static boolean isInitialForm(String name, String compact) {
+        String[] tokens = normalize(name).split("[^a-z0-9]+");
+        if (tokens.length < 2 || tokens[0].isEmpty() || tokens[tokens.length - 1].isEmpty()) {
+            return false;
+        }
+        String first = tokens[0];
+        String last = tokens[tokens.length - 1];
+        return compact.equals(first.charAt(0) + last) || compact.equals(first + last.charAt(0));
+    }
+
+    private static double jaroWinkler(String a, String b) {
+        int window = Math.max(0, Math.max(a.length(), b.length()) / 2 - 1);
+        boolean[] matchedA = new boolean[a.length()];
+        boolean[] matchedB = new boolean[b.length()];
+        int matches = 0;
+
+        for (int i = 0; i < a.length(); i++) {
+            for (int j = Math.max(0, i - window); j < Math.min(b.length(), i + window + 1); j++) {
+                if (!matchedB[j] && a.charAt(i) == b.charAt(j)) {
+                    matchedA[i] = true;
+                    matchedB[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0;
+        }
+
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < a.length(); i++) {
+            if (matchedA[i]) {
+                while (!matchedB[j]) {
+                    j++;
+                }
+                if (a.charAt(i) != b.charAt(j)) {
+                    transpositions++;
+                }
+                j++;
+            }
+        }
+
+        double m = matches;
+        double jaro = (m / a.length() + m / b.length() + (m - transpositions / 2.0) / m) / 3;
+        int prefix = 0;
+        while (prefix < Math.min(4, Math.min(a.length(), b.length())) && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+
+    private void addAlias(String memberId, String alias) {
+        memberAliases.computeIfAbsent(memberId, m -> ConcurrentHashMap.newKeySet()).add(alias);
+    }
+
+        private static String compact(String alias) {
+        return normalize(alias).replaceAll("[^a-z0-9]", "");
+    }
+
+    private static String normalize(String alias) {
+        return alias == null ? "" : alias.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,16 @@
+package com.abcstark.teamwellbeing.identity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Set;
+
+/**
+ * A suggested link between two aliases that look like the same person.
+ */
+public record IdentitySuggestion(
+        @JsonProperty("alias") String alias,
+        @JsonProperty("alias_sources") Set<String> aliasSources,
+        @JsonProperty("candidate") String candidate,
+        @JsonProperty("candidate_sources") Set<String> candidateSources,
+        @JsonProperty("score") double score) {
+}
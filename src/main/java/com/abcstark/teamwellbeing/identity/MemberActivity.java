@@ -0,0 +1,27 @@
+package com.abcstark.teamwellbeing.identity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Running counters for one alias, updated under its own monitor. Workloads are
+ * assembled from the counters of all aliases of a member when they are read, so
+ * identity links added later apply to data that was already ingested.
+ */
+class MemberActivity {
+
+    long openJiraIssues;
+    double openStoryPoints;
+    long openGitHubIssues;
+    long messages;
+    long positiveHits;
+    long negativeHits;
+    long stressHits;
+    long overloadMentions;
+    LocalDateTime lastActivity;
+
+    synchronized void touch(LocalDateTime time) {
+        if (time != null && (lastActivity == null || time.isAfter(lastActivity))) {
+            lastActivity = time;
+        }
+    }
+}
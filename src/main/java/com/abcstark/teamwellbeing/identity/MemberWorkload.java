@@ -0,0 +1,121 @@
+package com.abcstark.teamwellbeing.identity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Current workload and message activity of one member across Slack, GitHub and Jira.
+ */
+public class MemberWorkload {
+
+    @JsonProperty("member")
+    private final String member;
+
+    @JsonProperty("aliases")
+    private final Set<String> aliases;
+
+    @JsonProperty("open_jira_issues")
+    private long openJiraIssues;
+
+    @JsonProperty("open_story_points")
+    private double openStoryPoints;
+
+    @JsonProperty("open_github_issues")
+    private long openGitHubIssues;
+
+    @JsonProperty("messages")
+    private long messages;
+
+    @JsonProperty("positive_hits")
+    private long positiveHits;
+
+    @JsonProperty("negative_hits")
+    private long negativeHits;
+
+    @JsonProperty("stress_hits")
+    private long stressHits;
+
+    @JsonProperty("overload_mentions")
+    private long overloadMentions;
+
+    @JsonProperty("last_activity")
+    private LocalDateTime lastActivity;
+
+    @JsonProperty("overloaded")
+    private boolean overloaded;
+
+    public MemberWorkload(String member, Set<String> aliases) {
+        this.member = member;
+        this.aliases = aliases;
+    }
+
+    void add(MemberActivity activity) {
+        synchronized (activity) {
+            openJiraIssues += activity.openJiraIssues;
+            openStoryPoints += activity.openStoryPoints;
+            openGitHubIssues += activity.openGitHubIssues;
+            messages += activity.messages;
+            positiveHits += activity.positiveHits;
+            negativeHits += activity.negativeHits;
+            stressHits += activity.stressHits;
+            overloadMentions += activity.overloadMentions;
+            if (activity.lastActivity != null && (lastActivity == null || activity.lastActivity.isAfter(lastActivity))) {
+                lastActivity = activity.lastActivity;
+            }
+        }
+    }
+
+    void setOverloaded(boolean overloaded) {
+        this.overloaded = overloaded;
+    }
+
+    public String getMember() {
+        return member;
+    }
+
+    public Set<String> getAliases() {
+        return aliases;
+    }
+
+    public long getOpenJiraIssues() {
+        return openJiraIssues;
+    }
+
+    public double getOpenStoryPoints() {
+        return openStoryPoints;
+    }
+
+    public long getOpenGitHubIssues() {
+        return openGitHubIssues;
+    }
+
+    public long getMessages() {
+        return messages;
+    }
+
+    public long getPositiveHits() {
+        return positiveHits;
+    }
+
+    public long getNegativeHits() {
+        return negativeHits;
+    }
+
+    public long getStressHits() {
+        return stressHits;
+    }
+
+    public long getOverloadMentions() {
+        return overloadMentions;
+    }
+
+    public LocalDateTime getLastActivity() {
+        return lastActivity;
+    }
+
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+}
@@ -0,0 +1,168 @@
+package com.abcstark.teamwellbeing.identity;
+
+import com.abcstark.teamwellbeing.config.IdentityProperties;
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.persistence.IngestListener;
+import com.abcstark.teamwellbeing.service.WellbeingLexicon;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains per-member workload incrementally as records are stored, so workloads
+ * are served from memory without calling Slack, GitHub or Jira.
+ *
+ * Counters are kept per alias: Slack messages count for their author, open Jira
+ * issues and story points for the assignee, and open GitHub issues for each
+ * assignee. A replaced record takes back the contribution of its previous version,
+ * and an issue evicted by retention takes back its open work, so an issue collected
+ * again after eviction is not counted twice.
+ */
+@Service
+public class MemberWorkloadService implements IngestListener {
+
+    private static final Set<String> DONE_STATUSES = Set.of("done", "closed", "resolved");
+
+    private final IdentityIndex identityIndex;
+    private final IdentityProperties identityProperties;
+    private final Map<String, MemberActivity> activity = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MemberWorkloadService(IdentityIndex identityIndex, IdentityProperties identityProperties) {
+        this.identityIndex = identityIndex;
+        this.identityProperties = identityProperties;
+    }
+
+    @Override
+    public void onSlackMessage(SlackMessage previous, SlackMessage current) {
+        if (previous != null) {
+            applySlackMessage(previous, -1);
+        }
+        applySlackMessage(current, 1);
+    }
+
+    @Override
+    public void onGitHubIssue(GitHubIssue previous, GitHubIssue current) {
+        if (previous != null) {
+            applyGitHubIssue(previous, -1);
+        }
+        applyGitHubIssue(current, 1);
+        identityIndex.observe("github", current.getAuthor());
+    }
+
+    @Override
+    public void onJiraIssue(JiraIssue previous, JiraIssue current) {
+        if (previous != null) {
+            applyJiraIssue(previous, -1);
+        }
+        applyJiraIssue(current, 1);
+        identityIndex.observe("jira", current.getReporter());
+    }
+
+    @Override
+    public void onGitHubIssueEvicted(GitHubIssue issue) {
+        applyGitHubIssue(issue, -1);
+    }
+
+    @Override
+    public void onJiraIssueEvicted(JiraIssue issue) {
+        applyJiraIssue(issue, -1);
+    }
+
+    @Override
+    public void onClear() {
+        activity.clear();
+    }
+
+    /**
+     * Gets the workload of a member, looked up by member id or any of its aliases.
+     */
+    public Optional<MemberWorkload> getWorkload(String member) {
+        String memberId = identityIndex.resolve(member);
+        Set<String> aliases = identityIndex.getAliases(memberId);
+        List<MemberActivity> activities = aliases.stream()
+                .map(activity::get)
+                .filter(a -> a != null)
+                .collect(Collectors.toList());
+        if (activities.isEmpty()) {
+            return Optional.empty();
+        }
+
+        MemberWorkload workload = new MemberWorkload(memberId, aliases);
+        activities.forEach(workload::add);
+        workload.setOverloaded(workload.getOpenJiraIssues() + workload.getOpenGitHubIssues()
+                > identityProperties.getOverloadOpenIssues()
+                || workload.getOpenStoryPoints() > identityProperties.getOverloadStoryPoints()
+                || workload.getOverloadMentions() > 0);
+        return Optional.of(workload);
+    }
+
+    /**
+     * Gets the workloads of all members seen so far.
+     */
+    public List<MemberWorkload> getWorkloads() {
+        return identityIndex.getMembers().stream()
+                .map(this::getWorkload)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    private void applySlackMessage(SlackMessage message, int sign) {
+        String author = message.getUsername() != null ? message.getUsername() : message.getUserId();
+        if (author == null) {
+            return;
+        }
+        identityIndex.observe("slack", author);
+        WellbeingLexicon.Score score = WellbeingLexicon.score(message);
+        MemberActivity member = activity(author);
+        synchronized (member) {
+            member.messages += sign;
+            member.positiveHits += sign * score.positive();
+            member.negativeHits += sign * score.negative();
+            member.stressHits += sign * score.stress();
+            member.overloadMentions += sign * score.overload();
+        }
+        member.touch(message.getTimestamp());
+    }
+
+    private void applyGitHubIssue(GitHubIssue issue, int sign) {
+        boolean open = issue.getClosedAt() == null && !"CLOSED".equalsIgnoreCase(issue.getState());
+        if (issue.getAssignees() == null) {
+            return;
+        }
+        for (String assignee : issue.getAssignees()) {
+            identityIndex.observe("github", assignee);
+            MemberActivity member = activity(assignee);
+            synchronized (member) {
+                member.openGitHubIssues += open ? sign : 0;
+            }
+            member.touch(issue.getUpdatedAt());
+        }
+    }
+
+    private void applyJiraIssue(JiraIssue issue, int sign) {
+        if (issue.getAssignee() == null) {
+            return;
+        }
+        boolean open = issue.getResolved() == null && !DONE_STATUSES.contains(String.valueOf(issue.getStatus()).toLowerCase());
+        identityIndex.observe("jira", issue.getAssignee());
+        MemberActivity member = activity(issue.getAssignee());
+        synchronized (member) {
+            member.openJiraIssues += open ? sign : 0;
+            member.openStoryPoints += open && issue.getStoryPoints() != null ? sign * issue.getStoryPoints() : 0;
+        }
+        member.touch(issue.getUpdated() != null ? issue.getUpdated() : issue.getCreated());
+    }
+
+    private MemberActivity activity(String alias) {
+        return activity.computeIfAbsent(alias.trim().toLowerCase(), a -> new MemberActivity());
+    }
+}
@@ -0,0 +1,91 @@
+package com.abcstark.teamwellbeing.identity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * How much of a member's recent activity fell outside working hours.
+ * Hours count once however many records were written in them.
+ */
+public class OffHoursActivity {
+
+    @JsonProperty("member")
+    private final String member;
+
+    @JsonProperty("weeks")
+    private final int weeks;
+
+    @JsonProperty("active_hours")
+    private final int activeHours;
+
+    @JsonProperty("weeknight_hours")
+    private final int weeknightHours;
+
+    @JsonProperty("weekend_hours")
+    private final int weekendHours;
+
+    @JsonProperty("current_streak_days")
+    private final int currentStreakDays;
+
+    @JsonProperty("longest_streak_days")
+    private final int longestStreakDays;
+
+    @JsonProperty("flagged")
+    private boolean flagged;
+
+    public OffHoursActivity(String member, int weeks, int activeHours, int weeknightHours, int weekendHours,
+                            int currentStreakDays, int longestStreakDays) {
+        this.member = member;
+        this.weeks = weeks;
+        this.activeHours = activeHours;
+        this.weeknightHours = weeknightHours;
+        this.weekendHours = weekendHours;
+        this.currentStreakDays = currentStreakDays;
+        this.longestStreakDays = longestStreakDays;
+    }
+
+    public String getMember() {
+        return member;
+    }
+
+    public int getWeeks() {
+        return weeks;
+    }
+
+    public int getActiveHours() {
+        return activeHours;
+    }
+
+    public int getWeeknightHours() {
+        return weeknightHours;
+    }
+
+    public int getWeekendHours() {
+        return weekendHours;
+    }
+
+    @JsonProperty("off_hours")
+    public int getOffHours() {
+        return weeknightHours + weekendHours;
+    }
+
+    @JsonProperty("off_hours_ratio")
+    public double getOffHoursRatio() {
+        return activeHours > 0 ? (double) getOffHours() / activeHours : 0;
+    }
+
+    public int getCurrentStreakDays() {
+        return currentStreakDays;
+    }
+
+    public int getLongestStreakDays() {
+        return longestStreakDays;
+    }
+
+    public boolean isFlagged() {
+        return flagged;
+    }
+
+    public void setFlagged(boolean flagged) {
+        this.flagged = flagged;
+    }
+}
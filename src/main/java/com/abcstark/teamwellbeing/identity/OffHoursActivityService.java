@@ -0,0 +1,176 @@
+package com.abcstark.teamwellbeing.identity;
+
+import com.abcstark.teamwellbeing.config.IdentityProperties;
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.persistence.IngestListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks which hours each alias was active in, as records are stored, and derives
+ * off-hours signals from it: the share of active hours spent on weeknights or
+ * weekends, and runs of consecutive days with off-hours activity.
+ *
+ * Slack messages count at their post time, Jira issues for the assignee (or else
+ * the reporter) at their last update, and GitHub issues for each assignee (or else
+ * the author) at their last update. A member's aliases are combined by OR-ing their
+ * bitmaps, so a query touches a few longs per week and member.
+ */
+@Service
+public class OffHoursActivityService implements IngestListener {
+
+    private static final long DAY_MASK = (1L << 24) - 1;
+
+    private final IdentityIndex identityIndex;
+    private final IdentityProperties identityProperties;
+    private final Map<String, ActivityBitmap> bitmaps = new ConcurrentHashMap<>();
+    private final long[] weeknightMask;
+    private final long[] weekendMask;
+    private final long[] offHoursMask;
+
+    @Autowired
+    public OffHoursActivityService(IdentityIndex identityIndex, IdentityProperties identityProperties) {
+        this.identityIndex = identityIndex;
+        this.identityProperties = identityProperties;
+        this.weeknightMask = new long[ActivityBitmap.WORDS_PER_WEEK];
+        this.weekendMask = new long[ActivityBitmap.WORDS_PER_WEEK];
+        this.offHoursMask = new long[ActivityBitmap.WORDS_PER_WEEK];
+        for (int slot = 0; slot < ActivityBitmap.HOURS_PER_WEEK; slot++) {
+            int day = slot / 24;
+            int hour = slot % 24;
+            if (day >= 5) {
+                weekendMask[slot >>> 6] |= 1L << slot;
+            } else if (hour < identityProperties.getWorkdayStartHour() || hour >= identityProperties.getWorkdayEndHour()) {
+                weeknightMask[slot >>> 6] |= 1L << slot;
+            }
+        }
+        for (int i = 0; i < offHoursMask.length; i++) {
+            offHoursMask[i] = weeknightMask[i] | weekendMask[i];
+        }
+    }
+
+    @Override
+    public void onSlackMessage(SlackMessage previous, SlackMessage current) {
+        mark(current.getUsername() != null ? current.getUsername() : current.getUserId(), current.getTimestamp());
+    }
+
+    @Override
+    public void onGitHubIssue(GitHubIssue previous, GitHubIssue current) {
+        LocalDateTime time = current.getUpdatedAt() != null ? current.getUpdatedAt() : current.getCreatedAt();
+        if (current.getAssignees() != null && !current.getAssignees().isEmpty()) {
+            current.getAssignees().forEach(assignee -> mark(assignee, time));
+        } else {
+            mark(current.getAuthor(), time);
+        }
+    }
+
+    @Override
+    public void onJiraIssue(JiraIssue previous, JiraIssue current) {
+        mark(current.getAssignee() != null ? current.getAssignee() : current.getReporter(),
+                current.getUpdated() != null ? current.getUpdated() : current.getCreated());
+    }
+
+    @Override
+    public void onClear() {
+        bitmaps.clear();
+    }
+
+    /**
+     * Gets the off-hours activity of a member over the weeks up to and including the current one.
+     *
+     * @param member Member id or any alias
+     * @param weeks Number of weeks to look back, capped at {@code identity.activity-weeks}
+     * @param now The current time; days after it are ignored
+     */
+    public Optional<OffHoursActivity> getOffHoursActivity(String member, int weeks, LocalDateTime now) {
+        int span = Math.max(1, Math.min(weeks, identityProperties.getActivityWeeks()));
+        String memberId = identityIndex.resolve(member);
+        long firstWeek = ActivityBitmap.week(now) - span + 1;
+        long[] combined = new long[span * ActivityBitmap.WORDS_PER_WEEK];
+        boolean seen = false;
+        for (String alias : identityIndex.getAliases(memberId)) {
+            ActivityBitmap bitmap = bitmaps.get(alias);
+            if (bitmap != null) {
+                bitmap.orInto(firstWeek, span, combined);
+                seen = true;
+            }
+        }
+        if (!seen) {
+            return Optional.empty();
+        }
+
+        int active = 0;
+        int weeknights = 0;
+        int weekends = 0;
+        for (int i = 0; i < combined.length; i++) {
+            int word = i % ActivityBitmap.WORDS_PER_WEEK;
+            active += Long.bitCount(combined[i]);
+            weeknights += Long.bitCount(combined[i] & weeknightMask[word]);
+            weekends += Long.bitCount(combined[i] & weekendMask[word]);
+        }
+
+        // Runs of days with any off-hours activity; a run that lasted until yesterday
+        // is still current until today is over
+        int today = (span - 1) * 7 + ActivityBitmap.slot(now) / 24;
+        int run = 0;
+        int longest = 0;
+        int current = 0;
+        for (int day = 0; day <= today; day++) {
+            boolean off = (dayBits(combined, day) & dayBits(offHoursMask, day % 7)) != 0;
+            if (day == today && !off) {
+                current = run;
+                break;
+            }
+            run = off ? run + 1 : 0;
+            longest = Math.max(longest, run);
+            current = run;
+        }
+
+        OffHoursActivity activity = new OffHoursActivity(memberId, span, active, weeknights, weekends, current, longest);
+        activity.setFlagged(activity.getOffHoursRatio() > identityProperties.getOffHoursRatioThreshold()
+                || current >= identityProperties.getOffHoursStreakDays());
+        return Optional.of(activity);
+    }
+
+    /**
+     * Gets the off-hours activity of all members seen so far.
+     */
+    public List<OffHoursActivity> getOffHoursActivity(int weeks, LocalDateTime now) {
+        return identityIndex.getMembers().stream()
+                .map(member -> getOffHoursActivity(member, weeks, now))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    private void mark(String alias, LocalDateTime time) {
+        if (alias == null || time == null) {
+            return;
+        }
+        bitmaps.computeIfAbsent(alias.trim().toLowerCase(), a -> new ActivityBitmap(identityProperties.getActivityWeeks()))
+                .mark(time);
+    }
+
+    /**
+     * Extracts the 24 hour bits of one day from bitmaps laid out week after week.
+     */
+    private static long dayBits(long[] bits, int day) {
+        int week = day / 7;
+        int offset = (day % 7) * 24;
+        int index = week * ActivityBitmap.WORDS_PER_WEEK + (offset >>> 6);
+        int shift = offset & 63;
+        long value = bits[index] >>> shift;
+        if (shift > 40) {
+            value |= bits[index + 1] << (64 - shift);
+        }
+        return value & DAY_MASK;
+    }
+}
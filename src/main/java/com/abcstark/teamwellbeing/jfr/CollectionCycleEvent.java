@@ -0,0 +1,28 @@
+package com.abcstark.teamwellbeing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One collection run of a source, from start to hand-off to the writer.
+ */
+@Name("com.abcstark.teamwellbeing.CollectionCycle")
+@Label("Collection Cycle")
+@Category({"Team Wellbeing", "Collection"})
+@StackTrace(false)
+public class CollectionCycleEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    @Description("Integration collected")
+    public String source;
+
+    @Label("Records")
+    @Description("Records handed to the writer")
+    public int records;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,21 @@
+package com.abcstark.teamwellbeing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Marks the start of a source's collection, so a run that never ends still shows up.
+ */
+@Name("com.abcstark.teamwellbeing.CollectionCycleStarted")
+@Label("Collection Cycle Started")
+@Category({"Team Wellbeing", "Collection"})
+@StackTrace(false)
+public class CollectionCycleStartedEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    @Description("Integration being collected")
+    public String source;
+}
@@ -0,0 +1,159 @@
+package com.abcstark.teamwellbeing.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint that starts, stops and downloads a Java Flight Recorder recording.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/flightrecording}: state of the current recording</li>
+ *   <li>{@code POST /actuator/flightrecording}: starts one with the given {@code settings}
+ *       ("default" or "profile") and {@code duration} (ISO-8601, e.g. "PT10M", or "PT0S"
+ *       to record until stopped); both are required</li>
+ *   <li>{@code DELETE /actuator/flightrecording}: stops it</li>
+ *   <li>{@code GET /actuator/flightrecording/{id}}: downloads it as a .jfr file, running or stopped</li>
+ * </ul>
+ *
+ * One recording is kept at a time. Events that carry environment variables, system
+ * properties or command lines are disabled, since they may hold integration tokens.
+ */
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+
+    private static final String[] SENSITIVE_EVENTS = {
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation",
+            "jdk.SystemProcess"
+    };
+
+    private Recording recording;
+    private Path dump;
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        return describe(recording);
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(String settings, String duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "A recording is already running, stop it first");
+        }
+
+        Recording newRecording;
+        try {
+            newRecording = new Recording(Configuration.getConfiguration(settings));
+            Duration limit = Duration.parse(duration);
+            if (!limit.isZero()) {
+                newRecording.setDuration(limit);
+            }
+        } catch (IOException | ParseException | RuntimeException e) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "Invalid recording settings: " + e.getMessage());
+        }
+        for (String event : SENSITIVE_EVENTS) {
+            newRecording.disable(event);
+        }
+        newRecording.setName("team-wellbeing-agent");
+        newRecording.setToDisk(true);
+
+        discard();
+        recording = newRecording;
+        recording.start();
+        logger.info("Started flight recording {} with '{}' settings", recording.getId(), settings);
+        return new WebEndpointResponse<>(describe(recording));
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return error(WebEndpointResponse.STATUS_NOT_FOUND, "No recording is running");
+        }
+        recording.stop();
+        logger.info("Stopped flight recording {}", recording.getId());
+        return new WebEndpointResponse<>(describe(recording));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> download(@Selector long id) {
+        if (recording == null || recording.getId() != id || recording.getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            deleteDump();
+            dump = Files.createTempFile("team-wellbeing-agent-" + id + "-", ".jfr");
+            recording.dump(dump);
+            return new WebEndpointResponse<>(new FileSystemResource(dump));
+        } catch (IOException e) {
+            logger.error("Could not dump flight recording {}", id, e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        deleteDump();
+    }
+
+    private void deleteDump() {
+        if (dump != null) {
+            try {
+                Files.deleteIfExists(dump);
+            } catch (IOException e) {
+                logger.warn("Could not delete {}", dump, e);
+            }
+            dump = null;
+        }
+    }
+
+    private static Map<String, Object> describe(Recording recording) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        if (recording == null) {
+            response.put("state", "NONE");
+            return response;
+        }
+        response.put("id", recording.getId());
+        response.put("state", recording.getState().name());
+        response.put("started_at", recording.getStartTime());
+        response.put("stopped_at", recording.getStopTime());
+        response.put("duration", recording.getDuration());
+        response.put("size", recording.getSize());
+        return response;
+    }
+
+    private static WebEndpointResponse<Map<String, Object>> error(int status, String message) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", "error");
+        response.put("message", message);
+        return new WebEndpointResponse<>(response, status);
+    }
+}
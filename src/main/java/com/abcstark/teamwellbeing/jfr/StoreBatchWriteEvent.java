@@ -0,0 +1,34 @@
+package com.abcstark.teamwellbeing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One batch upserted into the store by the writer stage.
+ */
+@Name("com.abcstark.teamwellbeing.StoreBatchWrite")
+@Label("Store Batch Write")
+@Category({"Team Wellbeing", "Pipeline"})
+@StackTrace(false)
+public class StoreBatchWriteEvent extends jdk.jfr.Event {
+
+    @Label("Slack Messages")
+    public int slackMessages;
+
+    @Label("GitHub Issues")
+    public int gitHubIssues;
+
+    @Label("Jira Issues")
+    public int jiraIssues;
+
+    @Label("Changed")
+    @Description("Records inserted or changed; the rest were already stored")
+    public int changed;
+
+    @Label("Queued")
+    @Description("Records still waiting for the writer after this batch")
+    public int queued;
+}
@@ -0,0 +1,34 @@
+package com.abcstark.teamwellbeing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One HTTP request to Slack, GitHub or Jira, recorded by the client transports.
+ */
+@Name("com.abcstark.teamwellbeing.UpstreamRequest")
+@Label("Upstream Request")
+@Category({"Team Wellbeing", "Upstream"})
+@StackTrace(false)
+public class UpstreamRequestEvent extends jdk.jfr.Event {
+
+    @Label("Integration")
+    public String integration;
+
+    @Label("Method")
+    @Description("Slack Web API method, or HTTP method and path for GitHub and Jira")
+    public String method;
+
+    @Label("Status")
+    @Description("HTTP status, or 0 if no response was received")
+    public int status;
+
+    @Label("Bytes")
+    @Description("Declared response size, or -1 if not declared")
+    @DataAmount
+    public long bytes;
+}
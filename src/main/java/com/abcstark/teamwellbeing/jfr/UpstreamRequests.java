@@ -0,0 +1,92 @@
+package com.abcstark.teamwellbeing.jfr;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hooks that record an UpstreamRequestEvent around every HTTP request of the
+ * Slack, GitHub and Jira clients. They cost a begin/end pair per request while
+ * no recording has the event enabled.
+ */
+public final class UpstreamRequests {
+
+    private UpstreamRequests() {
+    }
+
+    /**
+     * OkHttp interceptor for the Slack client; the method is the last path segment, e.g. "conversations.history".
+     */
+    public static Interceptor slack() {
+        return chain -> {
+            String path = chain.request().url().encodedPath();
+            UpstreamRequestEvent event = begin("slack", path.substring(path.lastIndexOf('/') + 1));
+            Response response = null;
+            try {
+                response = chain.proceed(chain.request());
+                return response;
+            } finally {
+                commit(event, response != null ? response.code() : 0,
+                        response != null && response.body() != null ? response.body().contentLength() : -1);
+            }
+        };
+    }
+
+    /**
+     * Connector for the GitHub client that wraps the given one.
+     */
+    public static GitHubConnector gitHub(GitHubConnector delegate) {
+        return request -> {
+            UpstreamRequestEvent event = begin("github", request.method() + " " + request.url().getPath());
+            GitHubConnectorResponse response = null;
+            try {
+                response = delegate.send(request);
+                return response;
+            } finally {
+                commit(event, response != null ? response.statusCode() : 0,
+                        response != null ? contentLength(response.header("Content-Length")) : -1);
+            }
+        };
+    }
+
+    /**
+     * WebClient filter for the Jira client. The event ends when the response headers arrive.
+     */
+    public static ExchangeFilterFunction jira() {
+        return (request, next) -> Mono.defer(() -> {
+            UpstreamRequestEvent event = begin("jira", request.method().name() + " " + request.url().getPath());
+            return next.exchange(request)
+                    .doOnNext(response -> commit(event, response.statusCode().value(),
+                            response.headers().contentLength().orElse(-1)))
+                    .doOnError(error -> commit(event, 0, -1));
+        });
+    }
+
+    private static UpstreamRequestEvent begin(String integration, String method) {
+        UpstreamRequestEvent event = new UpstreamRequestEvent();
+        event.integration = integration;
+        event.method = method;
+        event.begin();
+        return event;
+    }
+
+    private static void commit(UpstreamRequestEvent event, int status, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.status = status;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    private static long contentLength(String header) {
+        try {
+            return header != null ? Long.parseLong(header.trim()) : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.abcstark.teamwellbeing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One wellbeing analysis over a set of Slack messages.
+ */
+@Name("com.abcstark.teamwellbeing.WellbeingAnalysis")
+@Label("Wellbeing Analysis")
+@Category({"Team Wellbeing", "Analysis"})
+public class WellbeingAnalysisEvent extends jdk.jfr.Event {
+
+    @Label("Messages")
+    public int messages;
+
+    @Label("Mood")
+    public String mood;
+
+    @Label("Stress Level")
+    public String stressLevel;
+}
@@ -0,0 +1,351 @@
+package com.abcstark.teamwellbeing.mcp;
+
+import com.abcstark.teamwellbeing.config.McpProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON-RPC side of the native MCP endpoint (streamable HTTP transport).
+ *
+ * initialize opens a session; every later request must carry its id and the session
+ * stays valid while it is used within mcp.session-timeout. A request may be a batch:
+ * its tool calls run concurrently on the application task executor and the responses
+ * come back in request order. Tool results are serialized once, straight from the
+ * objects the services return. Errors of a tool are reported in its result with
+ * isError, as MCP asks, so the model can see them.
+ */
+@Component
+public class McpServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(McpServer.class);
+
+    static final List<String> PROTOCOL_VERSIONS = List.of("2025-06-18", "2025-03-26");
+
+    static final int PARSE_ERROR = -32700;
+    static final int INVALID_REQUEST = -32600;
+    static final int METHOD_NOT_FOUND = -32601;
+    static final int INVALID_PARAMS = -32602;
+    static final int SESSION_NOT_FOUND = -32001;
+    static final int ORIGIN_NOT_ALLOWED = -32002;
+
+    private final McpProperties mcpProperties;
+    private final ObjectMapper objectMapper;
+    private final Executor toolExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, McpTool> tools = new LinkedHashMap<>();
+    private final ConcurrentHashMap<String, McpSession> sessions = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final ArrayNode toolList;
+
+    @Autowired
+    public McpServer(McpProperties mcpProperties,
+                     WellbeingMcpTools wellbeingMcpTools,
+                     ObjectMapper objectMapper,
+                     @Qualifier("applicationTaskExecutor") Executor toolExecutor,
+                     MeterRegistry meterRegistry) {
+        this(mcpProperties, wellbeingMcpTools.getTools(), objectMapper, toolExecutor, meterRegistry);
+    }
+
+    McpServer(McpProperties mcpProperties, List<McpTool> tools, ObjectMapper objectMapper, Executor toolExecutor,
+              MeterRegistry meterRegistry) {
+        this.mcpProperties = mcpProperties;
+        this.objectMapper = objectMapper;
+        this.toolExecutor = toolExecutor;
+        this.meterRegistry = meterRegistry;
+        this.toolList = objectMapper.createArrayNode();
+        for (McpTool tool : tools) {
+            this.tools.put(tool.name(), tool);
+            toolList.addObject()
+                    .put("name", tool.name())
+                    .put("description", tool.description())
+                    .set("inputSchema", objectMapper.valueToTree(tool.inputSchema()));
+        }
+    }
+
+    /**
+     * The outcome of one HTTP request.
+     *
+     * @param status The HTTP status: 200 with a body, 202 when only notifications were sent,
+     *               400 for malformed requests, 403 for origins that are not allowed and
+     *               404 for unknown or expired sessions
+     * @param sessionId The id of a session opened by this request, if any
+     * @param body The JSON-RPC response or batch of responses, if any
+     */
+    public record McpReply(int status, String sessionId, JsonNode body) {}
+
+    /**
+     * Checks the Origin header of a request against {@code mcp.allowed-origins}, so a web
+     * page cannot reach the endpoint through the user's browser, e.g. after DNS rebinding.
+     * Requests without an Origin header do not come from a browser page and are allowed.
+     *
+     * @return A 403 reply if the origin is not allowed
+     */
+    public Optional<McpReply> checkOrigin(String origin) {
+        if (origin == null) {
+            return Optional.empty();
+        }
+        String normalized = stripTrailingSlash(origin.trim());
+        for (String allowed : mcpProperties.getAllowedOrigins()) {
+            if ("*".equals(allowed.trim()) || stripTrailingSlash(allowed.trim()).equalsIgnoreCase(normalized)) {
+                return Optional.empty();
+            }
+        }
+        logger.debug("Rejected MCP request from origin '{}'", origin);
+        return Optional.of(new McpReply(403, null, error(null, ORIGIN_NOT_ALLOWED, "Origin not allowed")));
+    }
+
+    /**
+     * Handles the body of a POST to the MCP endpoint.
+     *
+     * @param sessionId The Mcp-Session-Id header of the request, if any
+     * @param body The raw request body
+     */
+    public CompletableFuture<McpReply> handle(String sessionId, String body) {
+        JsonNode message;
+        try {
+            message = objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            return reply(400, null, error(null, PARSE_ERROR, "Parse error: " + e.getOriginalMessage()));
+        }
+        if (message == null || !(message.isObject() || message.isArray())) {
+            return reply(400, null, error(null, INVALID_REQUEST, "Expected a JSON-RPC message or batch"));
+        }
+
+        if (message.isObject() && "initialize".equals(message.path("method").asText())) {
+            return initialize(message);
+        }
+
+        if (sessionId == null || sessionId.isBlank()) {
+            return reply(400, null, error(message.get("id"), INVALID_REQUEST,
+                    "Missing Mcp-Session-Id header; send initialize first"));
+        }
+        Optional<McpSession> session = findSession(sessionId);
+        if (session.isEmpty()) {
+            return reply(404, null, error(message.get("id"), SESSION_NOT_FOUND,
+                    "Unknown or expired session; send initialize again"));
+        }
+
+        if (message.isObject()) {
+            return dispatch(message, session.get())
+                    .thenApply(response -> new McpReply(response == null ? 202 : 200, null, response));
+        }
+        return batch((ArrayNode) message, session.get());
+    }
+
+    /**
+     * Looks up a session and marks it used; sessions idle for longer than the timeout are gone.
+     */
+    public Optional<McpSession> findSession(String sessionId) {
+        McpSession session = sessions.get(sessionId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (isExpired(session, System.nanoTime())) {
+            sessions.remove(sessionId, session);
+            return Optional.empty();
+        }
+        session.touch();
+        return Optional.of(session);
+    }
+
+    /**
+     * Ends a session at the client's request.
+     *
+     * @return Whether the session existed
+     */
+    public boolean closeSession(String sessionId) {
+        return sessionId != null && sessions.remove(sessionId) != null;
+    }
+
+    /**
+     * Gets the number of open sessions.
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private CompletableFuture<McpReply> initialize(JsonNode message) {
+        JsonNode params = message.path("params");
+        String requested = params.path("protocolVersion").asText();
+        String protocolVersion = PROTOCOL_VERSIONS.contains(requested) ? requested : PROTOCOL_VERSIONS.get(0);
+        McpSession session = openSession(protocolVersion, params.path("clientInfo").path("name").asText(null));
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("protocolVersion", protocolVersion);
+        result.putObject("capabilities").putObject("tools").put("listChanged", false);
+        result.putObject("serverInfo")
+                .put("name", "team-wellbeing-agent")
+                .put("version", "0.1.0");
+        result.put("instructions", "Tools read the team wellbeing status and recent Slack, GitHub and Jira data. "
+                + "Send several tools/call requests as one batch to run them concurrently.");
+
+        logger.info("Opened MCP session for client '{}' with protocol {}", session.getClientName(), protocolVersion);
+        return reply(200, session.getId(), result(message.get("id"), result));
+    }
+
+    private McpSession openSession(String protocolVersion, String clientName) {
+        if (sessions.size() >= mcpProperties.getMaxSessions()) {
+            long now = System.nanoTime();
+            sessions.values().removeIf(session -> isExpired(session, now));
+            if (sessions.size() >= mcpProperties.getMaxSessions()) {
+                sessions.values().stream()
+                        .min(Comparator.comparingLong(McpSession::getLastUsedNanos))
+                        .ifPresent(oldest -> sessions.remove(oldest.getId(), oldest));
+            }
+        }
+
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        McpSession session = new McpSession(HexFormat.of().formatHex(bytes), protocolVersion, clientName);
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    private boolean isExpired(McpSession session, long now) {
+        return now - session.getLastUsedNanos() > TimeUnit.MILLISECONDS.toNanos(mcpProperties.getSessionTimeout());
+    }
+
+    /**
+     * Dispatches every message of a batch at once and collects the responses in order.
+     */
+    private CompletableFuture<McpReply> batch(ArrayNode messages, McpSession session) {
+        if (messages.isEmpty() || messages.size() > mcpProperties.getMaxBatchSize()) {
+            return reply(400, null, error(null, INVALID_REQUEST,
+                    "A batch must hold 1 to " + mcpProperties.getMaxBatchSize() + " messages"));
+        }
+
+        List<CompletableFuture<JsonNode>> responses = new ArrayList<>();
+        for (JsonNode message : messages) {
+            responses.add(message.isObject() && "initialize".equals(message.path("method").asText())
+                    ? CompletableFuture.completedFuture(error(message.get("id"), INVALID_REQUEST,
+                            "initialize must not be part of a batch"))
+                    : dispatch(message, session));
+        }
+
+        return CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).thenApply(done -> {
+            ArrayNode body = objectMapper.createArrayNode();
+            responses.stream().map(CompletableFuture::join).filter(response -> response != null).forEach(body::add);
+            return new McpReply(body.isEmpty() ? 202 : 200, null, body.isEmpty() ? null : body);
+        });
+    }
+
+    /**
+     * Handles one JSON-RPC message.
+     *
+     * @return The response, or null for notifications and for responses sent by the client
+     */
+    private CompletableFuture<JsonNode> dispatch(JsonNode message, McpSession session) {
+        JsonNode id = message.get("id");
+        if (!message.isObject() || !"2.0".equals(message.path("jsonrpc").asText())) {
+            return CompletableFuture.completedFuture(error(id, INVALID_REQUEST, "Not a JSON-RPC 2.0 message"));
+        }
+        if (!message.hasNonNull("method")) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String method = message.get("method").asText();
+        if (id == null) {
+            if (method.equals("notifications/initialized")) {
+                session.markInitialized();
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return switch (method) {
+            case "ping" -> CompletableFuture.completedFuture(result(id, objectMapper.createObjectNode()));
+            case "tools/list" -> {
+                ObjectNode result = objectMapper.createObjectNode();
+                result.set("tools", toolList);
+                yield CompletableFuture.completedFuture(result(id, result));
+            }
+            case "tools/call" -> callTool(id, message.path("params"));
+            default -> CompletableFuture.completedFuture(error(id, METHOD_NOT_FOUND, "Method not found: " + method));
+        };
+    }
+
+    private CompletableFuture<JsonNode> callTool(JsonNode id, JsonNode params) {
+        McpTool tool = tools.get(params.path("name").asText());
+        if (tool == null) {
+            return CompletableFuture.completedFuture(error(id, INVALID_PARAMS,
+                    "Unknown tool: " + params.path("name").asText()));
+        }
+        JsonNode arguments = params.path("arguments").isObject()
+                ? params.get("arguments") : objectMapper.createObjectNode();
+
+        return CompletableFuture.supplyAsync(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            ObjectNode result = objectMapper.createObjectNode();
+            try {
+                result.putArray("content").addObject()
+                        .put("type", "text")
+                        .put("text", objectMapper.writeValueAsString(tool.handler().apply(arguments)));
+                result.put("isError", false);
+            } catch (Exception e) {
+                outcome = "error";
+                logger.warn("MCP tool '{}' failed: {}", tool.name(), e.getMessage());
+                result.removeAll();
+                result.putArray("content").addObject()
+                        .put("type", "text")
+                        .put("text", "Tool " + tool.name() + " failed: " + e.getMessage());
+                result.put("isError", true);
+            }
+            sample.stop(Timer.builder("wellbeing.mcp.tool.calls")
+                    .description("MCP tool calls by tool and outcome")
+                    .tag("tool", tool.name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            return result(id, result);
+        }, toolExecutor);
+    }
+
+    private static CompletableFuture<McpReply> reply(int status, String sessionId, JsonNode body) {
+        return CompletableFuture.completedFuture(new McpReply(status, sessionId, body));
+    }
+
+    private static String stripTrailingSlash(String origin) {
+        return origin.endsWith("/") ? origin.substring(0, origin.length() - 1) : origin;
+    }
+
+    private static JsonNode result(JsonNode id, JsonNode result) {
+        ObjectNode response = JsonNodeFactory.instance.objectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", id);
+        response.set("result", result);
+        return response;
+    }
+
+    private static JsonNode error(JsonNode id, int code, String message) {
+        ObjectNode response = JsonNodeFactory.instance.objectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", id != null ? id : JsonNodeFactory.instance.nullNode());
+        response.putObject("error")
+                .put("code", code)
+                .put("message", message);
+        return response;
+    }
+}
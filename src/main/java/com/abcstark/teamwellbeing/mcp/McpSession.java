@@ -0,0 +1,58 @@
+package com.abcstark.teamwellbeing.mcp;
+
+import java.time.LocalDateTime;
+
+/**
+ * An MCP session, opened by initialize and reused by every later request that
+ * carries its id in the Mcp-Session-Id header.
+ */
+public class McpSession {
+
+    private final String id;
+    private final String protocolVersion;
+    private final String clientName;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile long lastUsedNanos = System.nanoTime();
+    private volatile boolean initialized;
+
+    McpSession(String id, String protocolVersion, String clientName) {
+        this.id = id;
+        this.protocolVersion = protocolVersion;
+        this.clientName = clientName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getProtocolVersion() {
+        return protocolVersion;
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Checks whether the client has confirmed initialization with notifications/initialized.
+     */
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    void markInitialized() {
+        initialized = true;
+    }
+
+    long getLastUsedNanos() {
+        return lastUsedNanos;
+    }
+
+    void touch() {
+        lastUsedNanos = System.nanoTime();
+    }
+}
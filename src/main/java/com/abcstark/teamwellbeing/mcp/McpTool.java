@@ -0,0 +1,18 @@
+package com.abcstark.teamwellbeing.mcp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A tool offered over MCP.
+ *
+ * @param name The tool name clients call it by
+ * @param description What the tool returns, shown to the model
+ * @param inputSchema JSON schema of the arguments
+ * @param handler Computes the result from the arguments; it is serialized as JSON text
+ */
+public record McpTool(String name, String description, Map<String, Object> inputSchema,
+                      Function<JsonNode, Object> handler) {
+}
@@ -0,0 +1,138 @@
+package com.abcstark.teamwellbeing.mcp;
+
+import com.abcstark.teamwellbeing.cache.ReadThroughCache;
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.service.GitHubService;
+import com.abcstark.teamwellbeing.service.JiraService;
+import com.abcstark.teamwellbeing.service.SlackService;
+import com.abcstark.teamwellbeing.service.WellbeingStatusService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The MCP tools of the agent, the same set the Python FastMCP server offers for
+ * reading: team status, Slack messages and channels, GitHub and Jira issues and stats.
+ * Tools call the services directly and read live upstream data through the
+ * ReadThroughCache regions the REST endpoints use, so both share loads.
+ */
+@Component
+public class WellbeingMcpTools {
+
+    private final SlackService slackService;
+    private final GitHubService gitHubService;
+    private final JiraService jiraService;
+    private final ReadThroughCache readThroughCache;
+    private final WellbeingStatusService wellbeingStatusService;
+    private final IntegrationProperties integrationProperties;
+
+    @Autowired
+    public WellbeingMcpTools(SlackService slackService,
+                             GitHubService gitHubService,
+                             JiraService jiraService,
+                             ReadThroughCache readThroughCache,
+                             WellbeingStatusService wellbeingStatusService,
+                             IntegrationProperties integrationProperties) {
+        this.slackService = slackService;
+        this.gitHubService = gitHubService;
+        this.jiraService = jiraService;
+        this.readThroughCache = readThroughCache;
+        this.wellbeingStatusService = wellbeingStatusService;
+        this.integrationProperties = integrationProperties;
+    }
+
+    /**
+     * Gets the tools in the order they are listed to clients.
+     */
+    public List<McpTool> getTools() {
+        return List.of(
+                new McpTool("get_team_wellbeing_status",
+                        "Gets the team mood, stress level, overloaded members and off-hours signals.",
+                        schema(Map.of(), List.of()),
+                        arguments -> getTeamWellbeingStatus()),
+                new McpTool("get_slack_messages",
+                        "Gets recent messages of a Slack channel.",
+                        schema(Map.of("channel", property("Slack channel name; defaults to the configured channel")),
+                                List.of()),
+                        arguments -> {
+                            String channel = text(arguments, "channel",
+                                    integrationProperties.getSlack().getDefaultChannel());
+                            return readThroughCache.get("slack-messages", channel,
+                                    () -> slackService.getRecentMessages(channel));
+                        }),
+                new McpTool("get_slack_channels",
+                        "Gets the names of the Slack channels the agent can read.",
+                        schema(Map.of(), List.of()),
+                        arguments -> readThroughCache.get("slack-channels", "all", slackService::getAvailableChannels)),
+                new McpTool("get_github_issues",
+                        "Gets recent GitHub issues of the repository.",
+                        schema(Map.of(), List.of()),
+                        arguments -> readThroughCache.get("github-issues", "default", gitHubService::getRecentIssues)),
+                new McpTool("get_github_stats",
+                        "Gets GitHub repository statistics.",
+                        schema(Map.of(), List.of()),
+                        arguments -> statistics(readThroughCache.get("github-stats", "default",
+                                gitHubService::getRepositoryStatistics))),
+                new McpTool("get_github_issues_for_user",
+                        "Gets the open GitHub issues assigned to a user.",
+                        schema(Map.of("username", property("GitHub login")), List.of("username")),
+                        arguments -> gitHubService.getOpenIssuesForUser(text(arguments, "username", null))),
+                new McpTool("get_jira_issues",
+                        "Gets recent Jira issues of the project.",
+                        schema(Map.of(), List.of()),
+                        arguments -> readThroughCache.get("jira-issues", "default", jiraService::getRecentIssues)),
+                new McpTool("get_jira_stats",
+                        "Gets Jira project statistics.",
+                        schema(Map.of(), List.of()),
+                        arguments -> statistics(readThroughCache.get("jira-stats", "default",
+                                jiraService::getProjectStatistics))),
+                new McpTool("get_jira_issues_for_user",
+                        "Gets the Jira issues assigned to a user.",
+                        schema(Map.of("username", property("Jira username or email")), List.of("username")),
+                        arguments -> jiraService.getIssuesForUser(text(arguments, "username", null))));
+    }
+
+    private Object getTeamWellbeingStatus() {
+        String channel = integrationProperties.getSlack().getDefaultChannel();
+        List<SlackMessage> messages = readThroughCache.get("slack-messages", channel,
+                () -> slackService.getRecentMessages(channel));
+        return wellbeingStatusService.getTeamWellbeingStatus(messages);
+    }
+
+    /**
+     * Reads a string argument, failing when a required one is missing.
+     */
+    private static String text(JsonNode arguments, String name, String defaultValue) {
+        JsonNode value = arguments.get(name);
+        if (value != null && value.isTextual() && !value.asText().isBlank()) {
+            return value.asText();
+        }
+        if (defaultValue == null) {
+            throw new IllegalArgumentException("Missing argument '" + name + "'");
+        }
+        return defaultValue;
+    }
+
+    private static Map<String, Object> schema(Map<String, Object> properties, List<String> required) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "object");
+        schema.put("properties", properties);
+        if (!required.isEmpty()) {
+            schema.put("required", required);
+        }
+        return schema;
+    }
+
+    private static Map<String, Object> property(String description) {
+        return Map.of("type", "string", "description", description);
+    }
+
+    private static Map<String, String> statistics(String stats) {
+        return Map.of("statistics", stats);
+    }
+}
@@ -0,0 +1,147 @@
+package com.abcstark.teamwellbeing.metrics;
+
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters shared by the integration services and the collection scheduler.
+ *
+ * Every meter carries the integration plus channel, repository and project tags,
+ * so the same set of tag keys is used whatever the integration; the keys that do
+ * not apply to an integration are set to "none".
+ */
+@Component
+public class IntegrationMetrics {
+
+    public static final String SLACK = "slack";
+    public static final String GITHUB = "github";
+    public static final String JIRA = "jira";
+
+    // Outcomes of an upstream call or collection
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String RATE_LIMITED = "rate_limited";
+
+    // Stages of collected records
+    public static final String FETCHED = "fetched";
+    public static final String PARSED = "parsed";
+    public static final String FAILED = "failed";
+    public static final String DEDUPLICATED = "deduplicated";
+
+    // Tag of channels, repositories and projects that are not known to exist
+    public static final String OTHER = "other";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final IntegrationProperties integrationProperties;
+    // Failed upstream calls per thread, so a collection run can tell its own failures from others'
+    private final ThreadLocal<int[]> failedCalls = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Autowired
+    public IntegrationMetrics(MeterRegistry meterRegistry, IntegrationProperties integrationProperties) {
+        this.meterRegistry = meterRegistry;
+        this.integrationProperties = integrationProperties;
+    }
+
+    /**
+     * Starts timing an upstream call or a collection.
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Records one upstream API call.
+     *
+     * @param integration "slack", "github" or "jira"
+     * @param method The upstream method, e.g. "conversations.history" or "search"
+     * @param target The channel, repository or project called for, or null if none
+     * @param outcome SUCCESS, ERROR or RATE_LIMITED
+     */
+    public void recordCall(Timer.Sample sample, String integration, String method, String target, String outcome) {
+        if (!SUCCESS.equals(outcome)) {
+            failedCalls.get()[0]++;
+        }
+        sample.stop(Timer.builder("wellbeing.upstream.requests")
+                .description("Latency of upstream API calls")
+                .tags(scope(integration, target))
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records one collection run of an integration's configured channel, repository or project.
+     */
+    public void recordCollection(Timer.Sample sample, String integration, String outcome) {
+        sample.stop(Timer.builder("wellbeing.collection.duration")
+                .description("Duration of one collection run by source")
+                .tags(scope(integration, getTarget(integration)))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * Counts records at one stage of collection: fetched from the upstream, parsed into
+     * the model, failed to parse, or dropped as a bot message or duplicate.
+     */
+    public void countRecords(String integration, String target, String stage, long count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder("wellbeing.collection.records")
+                .description("Collected records by stage")
+                .tags(scope(integration, target))
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    /**
+     * Maps an upstream HTTP status to a call outcome.
+     */
+    public static String outcome(int status) {
+        if (status == 429) {
+            return RATE_LIMITED;
+        }
+        return status >= 400 ? ERROR : SUCCESS;
+    }
+
+    /**
+     * Gets the number of failed upstream calls recorded so far on the current thread.
+     */
+    public int getFailedCalls() {
+        return failedCalls.get()[0];
+    }
+
+    /**
+     * Gets the channel, repository or project that scheduled collection reads from.
+     */
+    public String getTarget(String integration) {
+        return switch (integration) {
+            case SLACK -> integrationProperties.getSlack().getDefaultChannel();
+            case GITHUB -> integrationProperties.getGithub().getOwner() + "/"
+                    + integrationProperties.getGithub().getRepository();
+            case JIRA -> integrationProperties.getJira().getProjectKey();
+            default -> null;
+        };
+    }
+
+    private static Tags scope(String integration, String target) {
+        String value = target != null && !target.isEmpty() ? target : NONE;
+        return Tags.of(
+                "integration", integration,
+                "channel", SLACK.equals(integration) ? value : NONE,
+                "repository", GITHUB.equals(integration) ? value : NONE,
+                "project", JIRA.equals(integration) ? value : NONE);
+    }
+}
@@ -1,5 +1,6 @@
 package com.abcstark.teamwellbeing.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
 
@@ -35,6 +36,15 @@ public class SlackMessage {
     @JsonProperty("reaction_count")
     private int reactionCount;
 
+    @JsonProperty("bot_id")
+    private String botId;
+
+    @JsonProperty("suppressed")
+    private String suppressed; // "bot" or "duplicate" when tagged at ingest
+
+    @JsonProperty("duplicate_of")
+    private String duplicateOf;
+
     // Constructors
     public SlackMessage() {}
 
@@ -122,6 +132,39 @@ public class SlackMessage {
         this.reactionCount = reactionCount;
     }
 
+    public String getBotId() {
+        return botId;
+    }
+
+    public void setBotId(String botId) {
+        this.botId = botId;
+    }
+
+    public String getSuppressed() {
+        return suppressed;
+    }
+
+    public void setSuppressed(String suppressed) {
+        this.suppressed = suppressed;
+    }
+
+    public String getDuplicateOf() {
+        return duplicateOf;
+    }
+
+    public void setDuplicateOf(String duplicateOf) {
+        this.duplicateOf = duplicateOf;
+    }
+
+    /**
+     * Checks whether the message was tagged as a bot message or near-duplicate, which
+     * wellbeing scoring ignores.
+     */
+    @JsonIgnore
+    public boolean isSuppressed() {
+        return suppressed != null;
+    }
+
     @Override
     public String toString() {
         return "SlackMessage{" +
@@ -8,6 +8,10 @@ public class TeamWellbeingStatus {
     private String overallStressLevel;
     private List<String> overloadedMembers;
     private Map<String, String> memberFeelings;
+    private Double offHoursRatio;
+    private List<String> offHoursMembers;
+    private Map<String, Double> memberOffHoursRatios;
+    private Map<String, Integer> memberOffHoursStreaks;
 
     public TeamWellbeingStatus() {}
 
@@ -49,5 +53,36 @@ public class TeamWellbeingStatus {
     public void setMemberFeelings(Map<String, String> memberFeelings) {
         this.memberFeelings = memberFeelings;
     }
-}
 
+    public Double getOffHoursRatio() {
+        return offHoursRatio;
+    }
+
+    public void setOffHoursRatio(Double offHoursRatio) {
+        this.offHoursRatio = offHoursRatio;
+    }
+
+    public List<String> getOffHoursMembers() {
+        return offHoursMembers;
+    }
+
+    public void setOffHoursMembers(List<String> offHoursMembers) {
+        this.offHoursMembers = offHoursMembers;
+    }
+
+    public Map<String, Double> getMemberOffHoursRatios() {
+        return memberOffHoursRatios;
+    }
+
+    public void setMemberOffHoursRatios(Map<String, Double> memberOffHoursRatios) {
+        this.memberOffHoursRatios = memberOffHoursRatios;
+    }
+
+    public Map<String, Integer> getMemberOffHoursStreaks() {
+        return memberOffHoursStreaks;
+    }
+
+    public void setMemberOffHoursStreaks(Map<String, Integer> memberOffHoursStreaks) {
+        this.memberOffHoursStreaks = memberOffHoursStreaks;
+    }
+}
@@ -0,0 +1,280 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import com.abcstark.teamwellbeing.config.PipelineProperties;
+import com.abcstark.teamwellbeing.jfr.StoreBatchWriteEvent;
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writer stage of the ingestion pipeline: a bounded in-process queue drained by a
+ * single writer thread that groups records into batches before upserting them
+ * through the PersistenceService.
+ *
+ * Webhooks enqueue single records without blocking and are told when the queue is
+ * full. Scheduled collectors submit whole batches and block while the queue is full,
+ * so a slow store applies backpressure to collection instead of growing the heap.
+ */
+@Component
+public class BatchingWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchingWriter.class);
+
+    private final PersistenceService persistenceService;
+    private final PipelineProperties pipelineProperties;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<Object> queue;
+    private final Timer batchWriteTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    @Autowired
+    public BatchingWriter(PersistenceService persistenceService, PipelineProperties pipelineProperties,
+                          MeterRegistry meterRegistry) {
+        this.persistenceService = persistenceService;
+        this.pipelineProperties = pipelineProperties;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(pipelineProperties.getQueueCapacity());
+
+        Gauge.builder("wellbeing.pipeline.queue.depth", queue, BlockingQueue::size)
+                .description("Records waiting for the writer stage")
+                .register(meterRegistry);
+        for (String source : List.of("slack", "github", "jira")) {
+            Gauge.builder("wellbeing.store.records", persistenceService, store -> store.count(source))
+                    .description("Records held in the store")
+                    .tag("integration", source)
+                    .register(meterRegistry);
+        }
+        this.batchWriteTimer = Timer.builder("wellbeing.pipeline.batch.write")
+                .description("Time spent upserting one batch into the store")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "batching-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Flush whatever is left so accepted records are not lost on shutdown
+        flush(drain(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Enqueues a Slack message without blocking.
+     *
+     * @return true if accepted, false if the queue is full
+     */
+    public boolean offer(SlackMessage message) {
+        return offer("slack", message);
+    }
+
+    /**
+     * Enqueues a GitHub issue upsert without blocking.
+     *
+     * @return true if accepted, false if the queue is full
+     */
+    public boolean offer(GitHubIssue issue) {
+        return offer("github", issue);
+    }
+
+    /**
+     * Enqueues a Jira issue upsert without blocking.
+     *
+     * @return true if accepted, false if the queue is full
+     */
+    public boolean offer(JiraIssue issue) {
+        return offer("jira", issue);
+    }
+
+    /**
+     * Hands a batch of collected Slack messages to the writer, blocking while the queue is full.
+     *
+     * @return Number of messages accepted
+     */
+    public int submitSlackMessages(List<SlackMessage> messages) {
+        return submit("slack", messages);
+    }
+
+    /**
+     * Hands a batch of collected GitHub issues to the writer, blocking while the queue is full.
+     *
+     * @return Number of issues accepted
+     */
+    public int submitGitHubIssues(List<GitHubIssue> issues) {
+        return submit("github", issues);
+    }
+
+    /**
+     * Hands a batch of collected Jira issues to the writer, blocking while the queue is full.
+     *
+     * @return Number of issues accepted
+     */
+    public int submitJiraIssues(List<JiraIssue> issues) {
+        return submit("jira", issues);
+    }
+
+    /**
+     * Gets the number of records waiting to be written.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private boolean offer(String source, Object record) {
+        if (queue.offer(record)) {
+            records(source, "submitted").increment();
+            return true;
+        }
+        records(source, "rejected").increment();
+        return false;
+    }
+
+    private int submit(String source, List<?> records) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pipelineProperties.getSubmitTimeout());
+        int accepted = 0;
+
+        try {
+            for (Object record : records) {
+                if (!queue.offer(record, deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                accepted++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        records(source, "submitted").increment(accepted);
+        if (accepted < records.size()) {
+            records(source, "rejected").increment(records.size() - accepted);
+            logger.warn("Writer queue stayed full, dropped {} of {} {} records",
+                    records.size() - accepted, records.size(), source);
+        }
+        return accepted;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                Object first = queue.poll(pipelineProperties.getFlushInterval(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Object> batch = new ArrayList<>();
+                batch.add(first);
+                queue.drainTo(batch, pipelineProperties.getBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Error writing batch to persistence", e);
+            }
+        }
+    }
+
+    private List<Object> drain(int maxElements) {
+        List<Object> batch = new ArrayList<>();
+        queue.drainTo(batch, maxElements);
+        return batch;
+    }
+
+    /**
+     * Splits a mixed batch by record type and upserts each group in one call.
+     */
+    private void flush(List<Object> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<SlackMessage> messages = new ArrayList<>();
+        List<GitHubIssue> gitHubIssues = new ArrayList<>();
+        List<JiraIssue> jiraIssues = new ArrayList<>();
+
+        for (Object record : batch) {
+            if (record instanceof SlackMessage message) {
+                messages.add(message);
+            } else if (record instanceof GitHubIssue issue) {
+                gitHubIssues.add(issue);
+            } else if (record instanceof JiraIssue issue) {
+                jiraIssues.add(issue);
+            }
+        }
+
+        StoreBatchWriteEvent event = new StoreBatchWriteEvent();
+        event.begin();
+        int changed = batchWriteTimer.record(() -> {
+            int written = 0;
+            if (!messages.isEmpty()) {
+                written += recordWritten("slack", messages.size(), persistenceService.saveSlackMessages(messages));
+            }
+            if (!gitHubIssues.isEmpty()) {
+                written += recordWritten("github", gitHubIssues.size(), persistenceService.saveGitHubIssues(gitHubIssues));
+            }
+            if (!jiraIssues.isEmpty()) {
+                written += recordWritten("jira", jiraIssues.size(), persistenceService.saveJiraIssues(jiraIssues));
+            }
+            return written;
+        });
+        event.end();
+        if (event.shouldCommit()) {
+            event.slackMessages = messages.size();
+            event.gitHubIssues = gitHubIssues.size();
+            event.jiraIssues = jiraIssues.size();
+            event.changed = changed;
+            event.queued = queue.size();
+            event.commit();
+        }
+
+        logger.debug("Flushed batch of {} records ({} Slack, {} GitHub, {} Jira), {} still queued",
+                batch.size(), messages.size(), gitHubIssues.size(), jiraIssues.size(), queue.size());
+    }
+
+    private int recordWritten(String source, int total, int changed) {
+        records(source, "written").increment(changed);
+        records(source, "unchanged").increment(total - changed);
+        return changed;
+    }
+
+    /**
+     * Per-stage record counter; its rate is the throughput of that stage.
+     */
+    private Counter records(String source, String stage) {
+        return Counter.builder("wellbeing.pipeline.records")
+                .description("Records passing through each ingestion pipeline stage")
+                .tag("source", source)
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
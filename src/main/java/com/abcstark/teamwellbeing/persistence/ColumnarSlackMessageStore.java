@@ -0,0 +1,495 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import com.abcstark.teamwellbeing.model.SlackMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Slack store keeping message history in columnar, off-heap segments.
+ *
+ * Each segment holds a fixed number of rows in direct buffers: timestamps as epoch
+ * microseconds, channel, user, bot and suppression fields as int codes into a shared
+ * string table, reaction counts as ints, and the message id, thread ts, text and
+ * duplicate-of id as offset/length references into a per-segment UTF-8 blob. The heap only holds the key index and
+ * the code table. Aggregations scan the primitive columns in tight counted loops,
+ * and SlackMessage objects are materialized only for rows that are returned.
+ *
+ * Removed rows are tombstoned and their timestamp cleared, so range scans skip them
+ * without a branch; a segment whose rows have all been removed is dropped and its
+ * buffers released. Edited strings reuse their blob slot when they fit; bytes left
+ * behind by edits and removals are reclaimed by compacting the blob before it grows.
+ *
+ * Writes take an exclusive lock; the write pipeline has a single writer thread, so
+ * this only serializes writers against readers.
+ */
+class ColumnarSlackMessageStore implements SlackMessageStore {
+
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+    private static final int NULL_CODE = -1;
+    private static final int NULL_LENGTH = -1;
+    private static final int INITIAL_BLOB_BYTES = 64 * 1024;
+
+    // Blob references: offset and length per string field
+    private static final int MESSAGE_ID = 0;
+    private static final int THREAD_TS = 2;
+    private static final int TEXT = 4;
+    private static final int DUPLICATE_OF = 6;
+    private static final int BLOB_REFS_PER_ROW = 8;
+
+    private final int segmentRows;
+    private final List<Segment> segments = new ArrayList<>();
+    private final Map<CompactKeys.SlackMessageKey, Long> rowAddresses = new HashMap<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> codeValues = new ArrayList<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    ColumnarSlackMessageStore(int segmentRows) {
+        this.segmentRows = segmentRows;
+    }
+
+    /**
+     * One block of rows; every column is a view over its own direct buffer.
+     */
+    private static final class Segment {
+        final LongBuffer timestamps;
+        final IntBuffer channelIds;
+        final IntBuffer channelNames;
+        final IntBuffer userIds;
+        final IntBuffer usernames;
+        final IntBuffer reactions;
+        final IntBuffer botIds;
+        final IntBuffer suppressions;
+        final IntBuffer blobRefs;
+        final BitSet removed = new BitSet();
+        ByteBuffer blob = ByteBuffer.allocateDirect(INITIAL_BLOB_BYTES);
+        int blobUsed;
+        int blobWasted;
+        int size;
+        int live;
+
+        Segment(int rows) {
+            timestamps = allocate(rows * Long.BYTES).asLongBuffer();
+            channelIds = allocate(rows * Integer.BYTES).asIntBuffer();
+            channelNames = allocate(rows * Integer.BYTES).asIntBuffer();
+            userIds = allocate(rows * Integer.BYTES).asIntBuffer();
+            usernames = allocate(rows * Integer.BYTES).asIntBuffer();
+            reactions = allocate(rows * Integer.BYTES).asIntBuffer();
+            botIds = allocate(rows * Integer.BYTES).asIntBuffer();
+            suppressions = allocate(rows * Integer.BYTES).asIntBuffer();
+            blobRefs = allocate(rows * BLOB_REFS_PER_ROW * Integer.BYTES).asIntBuffer();
+        }
+
+        long columnBytes() {
+            return timestamps.capacity() * (long) Long.BYTES
+                    + (channelIds.capacity() * 7L + blobRefs.capacity()) * Integer.BYTES
+                    + blob.capacity();
+        }
+
+        private static ByteBuffer allocate(int bytes) {
+            return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    @Override
+    public boolean upsert(CompactKeys.SlackMessageKey key, SlackMessage message,
+                          BiConsumer<SlackMessage, SlackMessage> onChange) {
+        lock.writeLock().lock();
+        try {
+            Long address = rowAddresses.get(key);
+            if (address == null) {
+                Segment segment = writableSegment();
+                int row = segment.size++;
+                segment.live++;
+                writeRow(segment, row, message, false);
+                rowAddresses.put(key, address(segments.size() - 1, row));
+                if (onChange != null) {
+                    onChange.accept(null, message);
+                }
+                return true;
+            }
+
+            Segment segment = segments.get(segmentIndex(address));
+            int row = row(address);
+            if (segment.reactions.get(row) == message.getReactionCount()
+                    && Objects.equals(readString(segment, row, TEXT), message.getText())
+                    && Objects.equals(value(segment.suppressions.get(row)), message.getSuppressed())) {
+                return false;
+            }
+            SlackMessage previous = onChange != null ? materialize(segment, row) : null;
+            writeRow(segment, row, message, true);
+            if (onChange != null) {
+                onChange.accept(previous, message);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public SlackMessage get(CompactKeys.SlackMessageKey key) {
+        lock.readLock().lock();
+        try {
+            Long address = rowAddresses.get(key);
+            return address != null ? materialize(segments.get(segmentIndex(address)), row(address)) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public SlackMessage remove(CompactKeys.SlackMessageKey key) {
+        lock.writeLock().lock();
+        try {
+            Long address = rowAddresses.remove(key);
+            if (address == null) {
+                return null;
+            }
+
+            int index = segmentIndex(address);
+            Segment segment = segments.get(index);
+            int row = row(address);
+            SlackMessage message = materialize(segment, row);
+            for (int field = 0; field < BLOB_REFS_PER_ROW; field += 2) {
+                segment.blobWasted += Math.max(segment.blobRefs.get(row * BLOB_REFS_PER_ROW + field + 1), 0);
+            }
+            segment.removed.set(row);
+            segment.timestamps.put(row, NULL_TIMESTAMP);
+            segment.reactions.put(row, 0);
+
+            if (--segment.live == 0 && segment.size == segmentRows) {
+                segments.set(index, null);
+            }
+            return message;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<SlackMessage> findBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        long from = toMicros(startDate);
+        long to = toMicros(endDate);
+        List<SlackMessage> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Segment segment : segments) {
+                if (segment == null) {
+                    continue;
+                }
+                LongBuffer timestamps = segment.timestamps;
+                for (int row = 0; row < segment.size; row++) {
+                    long timestamp = timestamps.get(row);
+                    if (timestamp >= from && timestamp <= to) {
+                        result.add(materialize(segment, row));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public List<SlackMessage> findAll() {
+        List<SlackMessage> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Segment segment : segments) {
+                if (segment == null) {
+                    continue;
+                }
+                for (int row = segment.removed.nextClearBit(0); row < segment.size;
+                     row = segment.removed.nextClearBit(row + 1)) {
+                    result.add(materialize(segment, row));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public long countBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        long from = toMicros(startDate);
+        long to = toMicros(endDate);
+        long count = 0;
+
+        lock.readLock().lock();
+        try {
+            for (Segment segment : segments) {
+                if (segment == null) {
+                    continue;
+                }
+                LongBuffer timestamps = segment.timestamps;
+                int size = segment.size;
+                for (int row = 0; row < size; row++) {
+                    long timestamp = timestamps.get(row);
+                    count += (timestamp >= from & timestamp <= to) ? 1 : 0;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return count;
+    }
+
+    @Override
+    public long sumReactionsBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        long from = toMicros(startDate);
+        long to = toMicros(endDate);
+        long sum = 0;
+
+        lock.readLock().lock();
+        try {
+            for (Segment segment : segments) {
+                if (segment == null) {
+                    continue;
+                }
+                LongBuffer timestamps = segment.timestamps;
+                IntBuffer reactions = segment.reactions;
+                int size = segment.size;
+                for (int row = 0; row < size; row++) {
+                    long timestamp = timestamps.get(row);
+                    sum += (timestamp >= from & timestamp <= to) ? reactions.get(row) : 0;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return sum;
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowAddresses.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            // Dropping the segments releases their direct buffers once they are collected
+            segments.clear();
+            rowAddresses.clear();
+            codes.clear();
+            codeValues.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long getOffHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return segments.stream().filter(Objects::nonNull).mapToLong(Segment::columnBytes).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Segment writableSegment() {
+        if (segments.isEmpty() || segments.get(segments.size() - 1) == null
+                || segments.get(segments.size() - 1).size == segmentRows) {
+            segments.add(new Segment(segmentRows));
+        }
+        return segments.get(segments.size() - 1);
+    }
+
+    private void writeRow(Segment segment, int row, SlackMessage message, boolean update) {
+        segment.timestamps.put(row, toMicros(message.getTimestamp()));
+        segment.channelIds.put(row, code(message.getChannelId()));
+        segment.channelNames.put(row, code(message.getChannelName()));
+        segment.userIds.put(row, code(message.getUserId()));
+        segment.usernames.put(row, code(message.getUsername()));
+        segment.reactions.put(row, message.getReactionCount());
+        segment.botIds.put(row, code(message.getBotId()));
+        segment.suppressions.put(row, code(message.getSuppressed()));
+        writeString(segment, row, MESSAGE_ID, message.getMessageId(), update);
+        writeString(segment, row, THREAD_TS, message.getThreadTs(), update);
+        writeString(segment, row, TEXT, message.getText(), update);
+        writeString(segment, row, DUPLICATE_OF, message.getDuplicateOf(), update);
+    }
+
+    private SlackMessage materialize(Segment segment, int row) {
+        SlackMessage message = new SlackMessage();
+        message.setMessageId(readString(segment, row, MESSAGE_ID));
+        message.setChannelId(value(segment.channelIds.get(row)));
+        message.setChannelName(value(segment.channelNames.get(row)));
+        message.setUserId(value(segment.userIds.get(row)));
+        message.setUsername(value(segment.usernames.get(row)));
+        message.setText(readString(segment, row, TEXT));
+        message.setThreadTs(readString(segment, row, THREAD_TS));
+        message.setReactionCount(segment.reactions.get(row));
+        message.setBotId(value(segment.botIds.get(row)));
+        message.setSuppressed(value(segment.suppressions.get(row)));
+        message.setDuplicateOf(readString(segment, row, DUPLICATE_OF));
+        message.setTimestamp(fromMicros(segment.timestamps.get(row)));
+        return message;
+    }
+
+    /**
+     * Writes a string to the segment blob and points the row at it. On updates an
+     * unchanged value keeps its bytes and a changed one that fits overwrites them;
+     * anything else is appended and the old bytes are counted as wasted.
+     */
+    private void writeString(Segment segment, int row, int field, String value, boolean update) {
+        if (update && Objects.equals(readString(segment, row, field), value)) {
+            return;
+        }
+        int ref = row * BLOB_REFS_PER_ROW + field;
+        int previousLength = update ? Math.max(segment.blobRefs.get(ref + 1), 0) : 0;
+        if (value == null) {
+            segment.blobRefs.put(ref + 1, NULL_LENGTH);
+            segment.blobWasted += previousLength;
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= previousLength) {
+            segment.blob.put(segment.blobRefs.get(ref), bytes);
+            segment.blobRefs.put(ref + 1, bytes.length);
+            segment.blobWasted += previousLength - bytes.length;
+            return;
+        }
+
+        // Detach the old value first so a compaction does not carry it over
+        segment.blobRefs.put(ref + 1, NULL_LENGTH);
+        segment.blobWasted += previousLength;
+        reserve(segment, bytes.length);
+        segment.blob.put(segment.blobUsed, bytes);
+        segment.blobRefs.put(ref, segment.blobUsed);
+        segment.blobRefs.put(ref + 1, bytes.length);
+        segment.blobUsed += bytes.length;
+    }
+
+    /**
+     * Makes room for appending to the segment blob, compacting it instead of growing
+     * when at least half of its used bytes are no longer referenced.
+     */
+    private void reserve(Segment segment, int bytes) {
+        if (segment.blobUsed + bytes <= segment.blob.capacity()) {
+            return;
+        }
+        if (segment.blobWasted * 2 >= segment.blobUsed) {
+            compact(segment);
+            if (segment.blobUsed + bytes <= segment.blob.capacity()) {
+                return;
+            }
+        }
+        int capacity = Math.max(segment.blob.capacity() * 2, segment.blobUsed + bytes);
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+        grown.put(0, segment.blob, 0, segment.blobUsed);
+        segment.blob = grown;
+    }
+
+    /**
+     * Copies the strings of live rows into a fresh blob of the same capacity.
+     */
+    private void compact(Segment segment) {
+        ByteBuffer compacted = ByteBuffer.allocateDirect(segment.blob.capacity());
+        int used = 0;
+        for (int row = segment.removed.nextClearBit(0); row < segment.size;
+             row = segment.removed.nextClearBit(row + 1)) {
+            for (int field = 0; field < BLOB_REFS_PER_ROW; field += 2) {
+                int ref = row * BLOB_REFS_PER_ROW + field;
+                int length = segment.blobRefs.get(ref + 1);
+                if (length == NULL_LENGTH) {
+                    continue;
+                }
+                compacted.put(used, segment.blob, segment.blobRefs.get(ref), length);
+                segment.blobRefs.put(ref, used);
+                used += length;
+            }
+        }
+        segment.blob = compacted;
+        segment.blobUsed = used;
+        segment.blobWasted = 0;
+    }
+
+    private String readString(Segment segment, int row, int field) {
+        int ref = row * BLOB_REFS_PER_ROW + field;
+        int length = segment.blobRefs.get(ref + 1);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        segment.blob.get(segment.blobRefs.get(ref), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int code(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        return codes.computeIfAbsent(value, v -> {
+            codeValues.add(v);
+            return codeValues.size() - 1;
+        });
+    }
+
+    private String value(int code) {
+        return code == NULL_CODE ? null : codeValues.get(code);
+    }
+
+    private static long address(int segment, int row) {
+        return ((long) segment << 32) | row;
+    }
+
+    private static int segmentIndex(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int row(long address) {
+        return (int) address;
+    }
+
+    /**
+     * Converts a timestamp to epoch microseconds, saturating for dates far outside the
+     * representable range so open-ended range bounds such as LocalDateTime.MIN work.
+     */
+    static long toMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL_TIMESTAMP;
+        }
+        long seconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+        if (seconds >= Long.MAX_VALUE / 1_000_000) {
+            return Long.MAX_VALUE;
+        }
+        if (seconds <= Long.MIN_VALUE / 1_000_000) {
+            return NULL_TIMESTAMP + 1;
+        }
+        return seconds * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        if (micros == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,98 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds compact map keys for stored records.
+ *
+ * Channels and repositories are numbered the first time they are seen, so a Slack
+ * message is keyed by its channel ordinal plus its {@code ts} packed into a long of
+ * microseconds, and a GitHub issue by its repository ordinal and number packed into
+ * a single long. Neither key allocates strings on the hot path. Ordinals are never
+ * reused, so they survive clearing the store.
+ */
+final class CompactKeys {
+
+    private final ConcurrentHashMap<String, Integer> channelOrdinals = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Integer> repositoryOrdinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextChannel = new AtomicInteger();
+    private final AtomicInteger nextRepository = new AtomicInteger();
+
+    /**
+     * Key of a Slack message. {@code messageId} is only set when the message id is
+     * not a Slack {@code ts} and could not be packed into {@code ts}.
+     */
+    record SlackMessageKey(int channel, long ts, String messageId) {
+    }
+
+    SlackMessageKey slackMessageKey(SlackMessage message) {
+        return slackMessageKey(message.getChannelId(), message.getMessageId(), message.getTimestamp());
+    }
+
+    SlackMessageKey slackMessageKey(String channelId, String messageId, LocalDateTime timestamp) {
+        int channel = ordinal(channelOrdinals, nextChannel, channelId);
+        long ts = parseSlackTs(messageId);
+        if (ts >= 0) {
+            return new SlackMessageKey(channel, ts, null);
+        }
+        return new SlackMessageKey(channel, -1, messageId + "@" + timestamp);
+    }
+
+    /**
+     * Packs the repository ordinal into the high and the issue number into the low 32 bits.
+     */
+    long gitHubIssueKey(GitHubIssue issue) {
+        return gitHubIssueKey(issue.getRepository(), issue.getNumber());
+    }
+
+    long gitHubIssueKey(String repositoryName, int number) {
+        int repository = ordinal(repositoryOrdinals, nextRepository, repositoryName);
+        return ((long) repository << 32) | (number & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Parses a Slack {@code ts} such as "1701168000.001234" into microseconds since the epoch.
+     *
+     * @return The packed timestamp, or -1 if the value is not a Slack ts
+     */
+    static long parseSlackTs(String ts) {
+        if (ts == null) {
+            return -1;
+        }
+        int dot = ts.indexOf('.');
+        int end = dot < 0 ? ts.length() : dot;
+        if (end == 0 || end > 12 || ts.length() - end > 7) {
+            return -1;
+        }
+
+        long seconds = 0;
+        for (int i = 0; i < end; i++) {
+            int digit = ts.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            seconds = seconds * 10 + digit;
+        }
+
+        long micros = 0;
+        for (int i = end + 1; i < end + 7; i++) {
+            int digit = i < ts.length() ? ts.charAt(i) - '0' : 0;
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            micros = micros * 10 + digit;
+        }
+        return seconds * 1_000_000 + micros;
+    }
+
+    private static int ordinal(ConcurrentHashMap<String, Integer> ordinals, AtomicInteger next, String value) {
+        String name = value != null ? value : "";
+        Integer ordinal = ordinals.get(name);
+        return ordinal != null ? ordinal : ordinals.computeIfAbsent(name, k -> next.getAndIncrement());
+    }
+}
@@ -0,0 +1,89 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import com.abcstark.teamwellbeing.model.SlackMessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Default Slack store keeping one SlackMessage object per message on the heap.
+ */
+class HeapSlackMessageStore implements SlackMessageStore {
+
+    private final ConcurrentHashMap<CompactKeys.SlackMessageKey, SlackMessage> messages = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean upsert(CompactKeys.SlackMessageKey key, SlackMessage message,
+                          BiConsumer<SlackMessage, SlackMessage> onChange) {
+        boolean[] changed = new boolean[1];
+        messages.compute(key, (k, stored) -> {
+            if (stored != null && Objects.equals(stored.getText(), message.getText())
+                    && stored.getReactionCount() == message.getReactionCount()
+                    && Objects.equals(stored.getSuppressed(), message.getSuppressed())) {
+                return stored;
+            }
+            changed[0] = true;
+            if (onChange != null) {
+                onChange.accept(stored, message);
+            }
+            return message;
+        });
+        return changed[0];
+    }
+
+    @Override
+    public SlackMessage get(CompactKeys.SlackMessageKey key) {
+        return messages.get(key);
+    }
+
+    @Override
+    public SlackMessage remove(CompactKeys.SlackMessageKey key) {
+        return messages.remove(key);
+    }
+
+    @Override
+    public List<SlackMessage> findBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return messages.values().stream()
+                .filter(message -> isWithinDateRange(message.getTimestamp(), startDate, endDate))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SlackMessage> findAll() {
+        return new ArrayList<>(messages.values());
+    }
+
+    @Override
+    public long countBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return messages.values().stream()
+                .filter(message -> isWithinDateRange(message.getTimestamp(), startDate, endDate))
+                .count();
+    }
+
+    @Override
+    public long sumReactionsBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return messages.values().stream()
+                .filter(message -> isWithinDateRange(message.getTimestamp(), startDate, endDate))
+                .mapToLong(SlackMessage::getReactionCount)
+                .sum();
+    }
+
+    @Override
+    public int size() {
+        return messages.size();
+    }
+
+    @Override
+    public void clear() {
+        messages.clear();
+    }
+
+    private boolean isWithinDateRange(LocalDateTime date, LocalDateTime startDate, LocalDateTime endDate) {
+        return date != null && !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+}
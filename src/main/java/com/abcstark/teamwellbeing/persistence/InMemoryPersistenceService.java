@@ -1,22 +1,36 @@
 package com.abcstark.teamwellbeing.persistence;
 
+import com.abcstark.teamwellbeing.config.PersistenceProperties;
 import com.abcstark.teamwellbeing.model.GitHubIssue;
 import com.abcstark.teamwellbeing.model.JiraIssue;
 import com.abcstark.teamwellbeing.model.SlackMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * In-memory implementation of PersistenceService for demonstration purposes.
  * In a production environment, this would be replaced with a proper database implementation
  * using JPA, MongoDB, or another persistence technology.
+ *
+ * Low-cardinality string fields of incoming records are replaced with pooled
+ * instances from the StringDictionary before they are stored. IngestListeners are
+ * told about every inserted or changed record.
+ *
+ * Every write that changes stored records bumps a version counter, so readers can tell
+ * whether anything they derived from the store may have changed without looking at the data.
  */
 @Service
 public class InMemoryPersistenceService implements PersistenceService {
@@ -24,53 +38,108 @@ public class InMemoryPersistenceService implements PersistenceService {
     private static final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceService.class);
 
     // In-memory storage (thread-safe collections)
-    private final ConcurrentHashMap<String, SlackMessage> slackMessages = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, GitHubIssue> gitHubIssues = new ConcurrentHashMap<>();
+    private final SlackMessageStore slackMessages;
+    private final ConcurrentHashMap<Long, GitHubIssue> gitHubIssues = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, JiraIssue> jiraIssues = new ConcurrentHashMap<>();
+    private final CompactKeys compactKeys = new CompactKeys();
+    private final TimeIndex<CompactKeys.SlackMessageKey> slackTimeIndex = new TimeIndex<>();
+    private final TimeIndex<Long> gitHubTimeIndex = new TimeIndex<>();
+    private final TimeIndex<String> jiraTimeIndex = new TimeIndex<>();
+    private final StringDictionary stringDictionary;
+    private final PersistenceProperties.Retention retention;
+    private final List<IngestListener> ingestListeners;
+    private final AtomicLong version = new AtomicLong();
+
+    public InMemoryPersistenceService() {
+        this(new StringDictionary(), new PersistenceProperties(), List.of());
+    }
+
+    @Autowired
+    public InMemoryPersistenceService(StringDictionary stringDictionary, PersistenceProperties persistenceProperties,
+                                      List<IngestListener> ingestListeners) {
+        this.stringDictionary = stringDictionary;
+        this.ingestListeners = List.copyOf(ingestListeners);
+        this.retention = persistenceProperties.getRetention();
+        this.slackMessages = persistenceProperties.getSlackStore() == PersistenceProperties.SlackStore.COLUMNAR
+                ? new ColumnarSlackMessageStore(persistenceProperties.getSegmentRows())
+                : new HeapSlackMessageStore();
+        logger.info("Using {} Slack message store", persistenceProperties.getSlackStore());
+    }
 
     @Override
-    public void saveSlackMessages(List<SlackMessage> messages) {
+    public int saveSlackMessages(List<SlackMessage> messages) {
         logger.info("Saving {} Slack messages to in-memory storage", messages.size());
         
+        int changed = 0;
+        LocalDateTime cutoff = retentionCutoff(retention.getSlackDays());
         for (SlackMessage message : messages) {
-            String key = generateSlackMessageKey(message);
-            slackMessages.put(key, message);
+            if (isExpired(message.getTimestamp(), cutoff)) {
+                continue;
+            }
+            internFields(message);
+            CompactKeys.SlackMessageKey key = compactKeys.slackMessageKey(message);
+            if (slackMessages.upsert(key, message, ingestListeners.isEmpty() ? null : this::notifySlackMessage)) {
+                slackTimeIndex.add(key, message.getTimestamp());
+                changed++;
+            }
         }
         
+        bumpVersion(changed);
         logger.debug("Total Slack messages in storage: {}", slackMessages.size());
+        return changed;
     }
 
     @Override
-    public void saveGitHubIssues(List<GitHubIssue> issues) {
+    public int saveGitHubIssues(List<GitHubIssue> issues) {
         logger.info("Saving {} GitHub issues to in-memory storage", issues.size());
         
+        int changed = 0;
+        LocalDateTime cutoff = retentionCutoff(retention.getGithubDays());
         for (GitHubIssue issue : issues) {
-            String key = generateGitHubIssueKey(issue);
-            gitHubIssues.put(key, issue);
+            if (isExpired(lastActivity(issue), cutoff)) {
+                continue;
+            }
+            internFields(issue);
+            long key = compactKeys.gitHubIssueKey(issue);
+            if (upsert(gitHubIssues, gitHubTimeIndex, key, issue, this::lastActivity, this::notifyGitHubIssue,
+                    (stored, incoming) -> isSameVersion(stored.getUpdatedAt(), incoming.getUpdatedAt()))) {
+                changed++;
+            }
         }
         
+        bumpVersion(changed);
         logger.debug("Total GitHub issues in storage: {}", gitHubIssues.size());
+        return changed;
     }
 
     @Override
-    public void saveJiraIssues(List<JiraIssue> issues) {
+    public int saveJiraIssues(List<JiraIssue> issues) {
         logger.info("Saving {} Jira issues to in-memory storage", issues.size());
         
+        int changed = 0;
+        LocalDateTime cutoff = retentionCutoff(retention.getJiraDays());
         for (JiraIssue issue : issues) {
+            if (isExpired(lastActivity(issue), cutoff)) {
+                continue;
+            }
+            internFields(issue);
             String key = generateJiraIssueKey(issue);
-            jiraIssues.put(key, issue);
+            if (upsert(jiraIssues, jiraTimeIndex, key, issue, this::lastActivity, this::notifyJiraIssue,
+                    (stored, incoming) -> isSameVersion(stored.getUpdated(), incoming.getUpdated()))) {
+                changed++;
+            }
         }
         
+        bumpVersion(changed);
         logger.debug("Total Jira issues in storage: {}", jiraIssues.size());
+        return changed;
     }
 
     @Override
     public List<SlackMessage> getSlackMessages(LocalDateTime startDate, LocalDateTime endDate) {
         logger.info("Retrieving Slack messages between {} and {}", startDate, endDate);
         
-        return slackMessages.values().stream()
-                .filter(message -> isWithinDateRange(message.getTimestamp(), startDate, endDate))
-                .collect(Collectors.toList());
+        return slackMessages.findBetween(startDate, endDate);
     }
 
     @Override
@@ -91,6 +160,16 @@ public class InMemoryPersistenceService implements PersistenceService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public int count(String source) {
+        return switch (source) {
+            case "slack" -> slackMessages.size();
+            case "github" -> gitHubIssues.size();
+            case "jira" -> jiraIssues.size();
+            default -> throw new IllegalArgumentException("Unknown source: " + source);
+        };
+    }
+
     @Override
     public void clearAllData() {
         logger.info("Clearing all in-memory data");
@@ -98,6 +177,11 @@ public class InMemoryPersistenceService implements PersistenceService {
         slackMessages.clear();
         gitHubIssues.clear();
         jiraIssues.clear();
+        slackTimeIndex.clear();
+        gitHubTimeIndex.clear();
+        jiraTimeIndex.clear();
+        ingestListeners.forEach(IngestListener::onClear);
+        version.incrementAndGet();
         
         logger.info("All data cleared from in-memory storage");
     }
@@ -108,7 +192,7 @@ public class InMemoryPersistenceService implements PersistenceService {
      * @return List of all Slack messages
      */
     public List<SlackMessage> getAllSlackMessages() {
-        return new ArrayList<>(slackMessages.values());
+        return slackMessages.findAll();
     }
 
     /**
@@ -129,6 +213,91 @@ public class InMemoryPersistenceService implements PersistenceService {
         return new ArrayList<>(jiraIssues.values());
     }
 
+    /**
+     * Looks up a stored Slack message by channel and message id.
+     */
+    public Optional<SlackMessage> findSlackMessage(String channelId, String messageId, LocalDateTime timestamp) {
+        return Optional.ofNullable(slackMessages.get(compactKeys.slackMessageKey(channelId, messageId, timestamp)));
+    }
+
+    /**
+     * Looks up a stored GitHub issue by repository and number.
+     */
+    public Optional<GitHubIssue> findGitHubIssue(String repository, int number) {
+        return Optional.ofNullable(gitHubIssues.get(compactKeys.gitHubIssueKey(repository, number)));
+    }
+
+    /**
+     * Looks up a stored Jira issue by key.
+     */
+    public Optional<JiraIssue> findJiraIssue(String key) {
+        return Optional.ofNullable(key != null ? jiraIssues.get(key) : null);
+    }
+
+    /**
+     * Evicts up to {@code max} Slack messages posted before the cutoff, found through the time index.
+     *
+     * @return The evicted messages; fewer than {@code max} means nothing older is left
+     */
+    public List<SlackMessage> evictSlackMessages(LocalDateTime cutoff, int max) {
+        List<SlackMessage> evicted = new ArrayList<>();
+        for (CompactKeys.SlackMessageKey key : slackTimeIndex.pollExpired(cutoff, max)) {
+            SlackMessage message = slackMessages.remove(key);
+            if (message != null) {
+                evicted.add(message);
+                ingestListeners.forEach(listener -> listener.onSlackMessageEvicted(message));
+            }
+        }
+        bumpVersion(evicted.size());
+        return evicted;
+    }
+
+    /**
+     * Evicts up to {@code max} GitHub issues without activity since the cutoff.
+     *
+     * @return The evicted issues; fewer than {@code max} means nothing older is left
+     */
+    public List<GitHubIssue> evictGitHubIssues(LocalDateTime cutoff, int max) {
+        List<GitHubIssue> evicted = evict(gitHubIssues, gitHubTimeIndex, cutoff, max, this::lastActivity);
+        evicted.forEach(issue -> ingestListeners.forEach(listener -> listener.onGitHubIssueEvicted(issue)));
+        bumpVersion(evicted.size());
+        return evicted;
+    }
+
+    /**
+     * Evicts up to {@code max} Jira issues without activity since the cutoff.
+     *
+     * @return The evicted issues; fewer than {@code max} means nothing older is left
+     */
+    public List<JiraIssue> evictJiraIssues(LocalDateTime cutoff, int max) {
+        List<JiraIssue> evicted = evict(jiraIssues, jiraTimeIndex, cutoff, max, this::lastActivity);
+        evicted.forEach(issue -> ingestListeners.forEach(listener -> listener.onJiraIssueEvicted(issue)));
+        bumpVersion(evicted.size());
+        return evicted;
+    }
+
+    /**
+     * Counts the Slack messages posted within a date range without materializing them.
+     */
+    public long countSlackMessages(LocalDateTime startDate, LocalDateTime endDate) {
+        return slackMessages.countBetween(startDate, endDate);
+    }
+
+    /**
+     * Sums the reactions on Slack messages posted within a date range without materializing them.
+     */
+    public long sumSlackReactions(LocalDateTime startDate, LocalDateTime endDate) {
+        return slackMessages.sumReactionsBetween(startDate, endDate);
+    }
+
+    /**
+     * Gets the version of the stored data, which changes after every write or eviction that
+     * changed records, and on clear.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
     /**
      * Gets storage statistics.
      * 
@@ -140,36 +309,159 @@ public class InMemoryPersistenceService implements PersistenceService {
                 "Slack Messages: %d\n" +
                 "GitHub Issues: %d\n" +
                 "Jira Issues: %d\n" +
-                "Total Records: %d",
+                "Total Records: %d\n" +
+                "Slack Off-Heap Bytes: %d\n" +
+                "Dictionary: %d distinct values, ~%d bytes",
                 slackMessages.size(),
                 gitHubIssues.size(),
                 jiraIssues.size(),
-                slackMessages.size() + gitHubIssues.size() + jiraIssues.size()
+                slackMessages.size() + gitHubIssues.size() + jiraIssues.size(),
+                slackMessages.getOffHeapBytes(),
+                stringDictionary.getDistinctValues(),
+                stringDictionary.getPooledBytes()
         );
     }
 
     /**
-     * Generates a unique key for a Slack message.
+     * Bumps the version after a write that inserted, replaced or evicted records.
+     */
+    private void bumpVersion(int records) {
+        if (records > 0) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Generates a unique key for a Jira issue.
      */
-    private String generateSlackMessageKey(SlackMessage message) {
-        return String.format("%s_%s_%s", 
-                message.getChannelId(), 
-                message.getMessageId(), 
-                message.getTimestamp().toString());
+    private String generateJiraIssueKey(JiraIssue issue) {
+        return issue.getKey();
     }
 
     /**
-     * Generates a unique key for a GitHub issue.
+     * Replaces repeated Slack fields with their pooled instances.
      */
-    private String generateGitHubIssueKey(GitHubIssue issue) {
-        return String.format("%s_%d", issue.getRepository(), issue.getNumber());
+    private void internFields(SlackMessage message) {
+        message.setChannelId(stringDictionary.intern(message.getChannelId()));
+        message.setChannelName(stringDictionary.intern(message.getChannelName()));
+        message.setUserId(stringDictionary.intern(message.getUserId()));
+        message.setUsername(stringDictionary.intern(message.getUsername()));
+        message.setBotId(stringDictionary.intern(message.getBotId()));
+        message.setSuppressed(stringDictionary.intern(message.getSuppressed()));
     }
 
     /**
-     * Generates a unique key for a Jira issue.
+     * Replaces repeated GitHub fields with their pooled instances.
      */
-    private String generateJiraIssueKey(JiraIssue issue) {
-        return issue.getKey();
+    private void internFields(GitHubIssue issue) {
+        issue.setState(stringDictionary.intern(issue.getState()));
+        issue.setAuthor(stringDictionary.intern(issue.getAuthor()));
+        issue.setRepository(stringDictionary.intern(issue.getRepository()));
+        issue.setAssignees(stringDictionary.internAll(issue.getAssignees()));
+        issue.setLabels(stringDictionary.internAll(issue.getLabels()));
+    }
+
+    /**
+     * Replaces repeated Jira fields with their pooled instances.
+     */
+    private void internFields(JiraIssue issue) {
+        issue.setStatus(stringDictionary.intern(issue.getStatus()));
+        issue.setPriority(stringDictionary.intern(issue.getPriority()));
+        issue.setIssueType(stringDictionary.intern(issue.getIssueType()));
+        issue.setAssignee(stringDictionary.intern(issue.getAssignee()));
+        issue.setReporter(stringDictionary.intern(issue.getReporter()));
+        issue.setProjectKey(stringDictionary.intern(issue.getProjectKey()));
+        issue.setLabels(stringDictionary.internAll(issue.getLabels()));
+        issue.setComponents(stringDictionary.internAll(issue.getComponents()));
+    }
+
+    private void notifySlackMessage(SlackMessage previous, SlackMessage current) {
+        ingestListeners.forEach(listener -> listener.onSlackMessage(previous, current));
+    }
+
+    private void notifyGitHubIssue(GitHubIssue previous, GitHubIssue current) {
+        ingestListeners.forEach(listener -> listener.onGitHubIssue(previous, current));
+    }
+
+    private void notifyJiraIssue(JiraIssue previous, JiraIssue current) {
+        ingestListeners.forEach(listener -> listener.onJiraIssue(previous, current));
+    }
+
+    /**
+     * Atomically stores a record unless an equivalent version is already stored,
+     * keeping the time index in step with the stored version and notifying listeners.
+     * 
+     * @return true if the record was inserted or replaced
+     */
+    private <K, T> boolean upsert(ConcurrentHashMap<K, T> store, TimeIndex<K> index, K key, T incoming,
+                                  Function<T, LocalDateTime> time, BiConsumer<T, T> onChange,
+                                  BiPredicate<T, T> unchanged) {
+        boolean[] changed = new boolean[1];
+        store.compute(key, (k, stored) -> {
+            if (stored != null && unchanged.test(stored, incoming)) {
+                return stored;
+            }
+            if (stored == null) {
+                index.add(key, time.apply(incoming));
+            } else {
+                index.move(key, time.apply(stored), time.apply(incoming));
+            }
+            onChange.accept(stored, incoming);
+            changed[0] = true;
+            return incoming;
+        });
+        return changed[0];
+    }
+
+    /**
+     * Removes records polled from the time index, skipping any that were updated
+     * since and are no longer expired.
+     */
+    private <K, T> List<T> evict(ConcurrentHashMap<K, T> store, TimeIndex<K> index, LocalDateTime cutoff, int max,
+                                 Function<T, LocalDateTime> time) {
+        List<T> evicted = new ArrayList<>();
+        for (K key : index.pollExpired(cutoff, max)) {
+            store.computeIfPresent(key, (k, stored) -> {
+                LocalDateTime storedTime = time.apply(stored);
+                if (storedTime != null && storedTime.isBefore(cutoff)) {
+                    evicted.add(stored);
+                    return null;
+                }
+                return stored;
+            });
+        }
+        return evicted;
+    }
+
+    /**
+     * Gets the oldest timestamp kept under a retention window, or null to keep everything.
+     * Records older than this are not stored, so evicted history is not re-ingested
+     * by the next collection and counted twice in the rollups.
+     */
+    private LocalDateTime retentionCutoff(int retentionDays) {
+        return retentionDays > 0 ? LocalDateTime.now().minusDays(retentionDays) : null;
+    }
+
+    private boolean isExpired(LocalDateTime time, LocalDateTime cutoff) {
+        return cutoff != null && time != null && time.isBefore(cutoff);
+    }
+
+    /**
+     * Gets the time an issue was last active, which decides when it expires.
+     */
+    private LocalDateTime lastActivity(GitHubIssue issue) {
+        return issue.getUpdatedAt() != null ? issue.getUpdatedAt() : issue.getCreatedAt();
+    }
+
+    private LocalDateTime lastActivity(JiraIssue issue) {
+        return issue.getUpdated() != null ? issue.getUpdated() : issue.getCreated();
+    }
+
+    /**
+     * Two versions of an issue are the same when both carry the same, known update timestamp.
+     */
+    private boolean isSameVersion(LocalDateTime stored, LocalDateTime incoming) {
+        return stored != null && stored.equals(incoming);
     }
 
     /**
@@ -0,0 +1,42 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+
+/**
+ * Callback for components that maintain derived data as records are stored.
+ *
+ * Callbacks run on the writing thread while the record's slot is being updated, so
+ * implementations must be quick and must not call back into the store. They fire
+ * only when a record is inserted or replaced; {@code previous} is null on insert so
+ * that listeners can undo the previous version's contribution on replace. Records
+ * removed by retention are reported separately, since aggregates usually outlive
+ * the raw records while indexes over them do not.
+ */
+public interface IngestListener {
+
+    default void onSlackMessage(SlackMessage previous, SlackMessage current) {
+    }
+
+    default void onGitHubIssue(GitHubIssue previous, GitHubIssue current) {
+    }
+
+    default void onJiraIssue(JiraIssue previous, JiraIssue current) {
+    }
+
+    default void onSlackMessageEvicted(SlackMessage message) {
+    }
+
+    default void onGitHubIssueEvicted(GitHubIssue issue) {
+    }
+
+    default void onJiraIssueEvicted(JiraIssue issue) {
+    }
+
+    /**
+     * Called after all stored data has been cleared.
+     */
+    default void onClear() {
+    }
+}
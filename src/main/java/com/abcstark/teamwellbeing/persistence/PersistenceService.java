@@ -13,25 +13,31 @@ import java.util.List;
 public interface PersistenceService {
 
     /**
-     * Saves Slack messages to persistent storage.
+     * Upserts Slack messages into persistent storage.
+     * Messages already stored with the same text and reactions are skipped.
      * 
      * @param messages List of Slack messages to save
+     * @return Number of messages inserted or changed
      */
-    void saveSlackMessages(List<SlackMessage> messages);
+    int saveSlackMessages(List<SlackMessage> messages);
 
     /**
-     * Saves GitHub issues to persistent storage.
+     * Upserts GitHub issues into persistent storage.
+     * Issues already stored with the same updatedAt are skipped.
      * 
      * @param issues List of GitHub issues to save
+     * @return Number of issues inserted or changed
      */
-    void saveGitHubIssues(List<GitHubIssue> issues);
+    int saveGitHubIssues(List<GitHubIssue> issues);
 
     /**
-     * Saves Jira issues to persistent storage.
+     * Upserts Jira issues into persistent storage.
+     * Issues already stored with the same updated timestamp are skipped.
      * 
      * @param issues List of Jira issues to save
+     * @return Number of issues inserted or changed
      */
-    void saveJiraIssues(List<JiraIssue> issues);
+    int saveJiraIssues(List<JiraIssue> issues);
 
     /**
      * Retrieves Slack messages within a date range.
@@ -60,6 +66,14 @@ public interface PersistenceService {
      */
     List<JiraIssue> getJiraIssues(java.time.LocalDateTime startDate, java.time.LocalDateTime endDate);
 
+    /**
+     * Counts the stored records of one source.
+     * 
+     * @param source "slack", "github" or "jira"
+     * @return Number of stored records
+     */
+    int count(String source);
+
     /**
      * Clears all persisted data (useful for testing).
      */
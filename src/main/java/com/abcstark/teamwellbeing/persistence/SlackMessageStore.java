@@ -0,0 +1,71 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import com.abcstark.teamwellbeing.model.SlackMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Storage engine for Slack message history used by InMemoryPersistenceService.
+ *
+ * A stored message is replaced only when its text or reaction count changed, since
+ * Slack messages carry no edit timestamp.
+ */
+interface SlackMessageStore {
+
+    /**
+     * Inserts a message or replaces the stored version if it changed.
+     *
+     * @param onChange Called with the previous version (null on insert) and the new one
+     *                 when the message changed; may be null
+     * @return true if the message was inserted or replaced
+     */
+    boolean upsert(CompactKeys.SlackMessageKey key, SlackMessage message,
+                   BiConsumer<SlackMessage, SlackMessage> onChange);
+
+    /**
+     * Gets a stored message.
+     *
+     * @return The message, or null if it is not stored
+     */
+    SlackMessage get(CompactKeys.SlackMessageKey key);
+
+    /**
+     * Removes a message.
+     *
+     * @return The removed message, or null if it was not stored
+     */
+    SlackMessage remove(CompactKeys.SlackMessageKey key);
+
+    /**
+     * Gets the messages posted within a date range, both ends inclusive.
+     */
+    List<SlackMessage> findBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Gets all stored messages.
+     */
+    List<SlackMessage> findAll();
+
+    /**
+     * Counts the messages posted within a date range, both ends inclusive.
+     */
+    long countBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Sums the reactions of the messages posted within a date range, both ends inclusive.
+     */
+    long sumReactionsBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    int size();
+
+    void clear();
+
+    /**
+     * Gets the bytes held outside the Java heap.
+     */
+    default long getOffHeapBytes() {
+        return 0;
+    }
+}
@@ -0,0 +1,88 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared pool of canonical instances for low-cardinality string fields such as
+ * channel names, user names, states, priorities and labels.
+ *
+ * Records are ingested with their own copy of every string. Replacing those copies
+ * with the pooled instance lets the duplicates be collected, so millions of stored
+ * records share a few hundred strings. The pool is capped so a high-cardinality
+ * field routed here by mistake cannot grow it without bound.
+ *
+ * Only the pool's own size is reported: a lookup does not tell whether its caller
+ * goes on to store the pooled instance, so counting hits would overstate the savings.
+ */
+@Component
+public class StringDictionary {
+
+    static final int MAX_ENTRIES = 100_000;
+
+    // Approximate retained size of a String beyond its characters: object header,
+    // fields and the backing array header
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    private final ConcurrentHashMap<String, String> values = new ConcurrentHashMap<>();
+    private final LongAdder pooledBytes = new LongAdder();
+
+    /**
+     * Gets the canonical instance of a value.
+     *
+     * @param value The value to look up, may be null
+     * @return The pooled instance, or the value itself if it is new and the pool is full
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = values.get(value);
+        if (canonical == null) {
+            if (values.size() >= MAX_ENTRIES) {
+                return value;
+            }
+            canonical = values.putIfAbsent(value, value);
+            if (canonical == null) {
+                pooledBytes.add(STRING_OVERHEAD_BYTES + value.length());
+                return value;
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * Interns every element of a list.
+     *
+     * @return A new list of pooled instances, or null if the list is null
+     */
+    public List<String> internAll(List<String> list) {
+        if (list == null) {
+            return null;
+        }
+        List<String> interned = new ArrayList<>(list.size());
+        for (String value : list) {
+            interned.add(intern(value));
+        }
+        return interned;
+    }
+
+    /**
+     * Gets the number of distinct pooled values.
+     */
+    public int getDistinctValues() {
+        return values.size();
+    }
+
+    /**
+     * Gets an estimate of the heap held by the pooled values, assuming one byte
+     * per character.
+     */
+    public long getPooledBytes() {
+        return pooledBytes.sum();
+    }
+}
@@ -0,0 +1,93 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of record keys by hour, used to find expired records without scanning the store.
+ *
+ * Records without a timestamp are not indexed and never expire. All methods are
+ * short and synchronized; eviction polls expired keys in bounded batches so the
+ * writer is never blocked for long.
+ */
+final class TimeIndex<K> {
+
+    private static final long BUCKET_SECONDS = 3600;
+
+    private final TreeMap<Long, Set<K>> buckets = new TreeMap<>();
+    private int size;
+
+    synchronized void add(K key, LocalDateTime time) {
+        if (time != null && buckets.computeIfAbsent(bucket(time), b -> new HashSet<>()).add(key)) {
+            size++;
+        }
+    }
+
+    synchronized void remove(K key, LocalDateTime time) {
+        if (time == null) {
+            return;
+        }
+        long bucket = bucket(time);
+        Set<K> keys = buckets.get(bucket);
+        if (keys != null && keys.remove(key)) {
+            size--;
+            if (keys.isEmpty()) {
+                buckets.remove(bucket);
+            }
+        }
+    }
+
+    /**
+     * Re-indexes a key whose timestamp changed.
+     */
+    synchronized void move(K key, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null || from != null && to != null && bucket(from) == bucket(to)) {
+            return;
+        }
+        remove(key, from);
+        add(key, to);
+    }
+
+    /**
+     * Removes and returns up to {@code max} keys from hours that ended at or before the cutoff.
+     */
+    synchronized List<K> pollExpired(LocalDateTime cutoff, int max) {
+        List<K> expired = new ArrayList<>();
+        Iterator<Map.Entry<Long, Set<K>>> entries = buckets.headMap(bucket(cutoff) - BUCKET_SECONDS, true)
+                .entrySet().iterator();
+
+        while (entries.hasNext() && expired.size() < max) {
+            Set<K> keys = entries.next().getValue();
+            Iterator<K> it = keys.iterator();
+            while (it.hasNext() && expired.size() < max) {
+                expired.add(it.next());
+                it.remove();
+                size--;
+            }
+            if (keys.isEmpty()) {
+                entries.remove();
+            }
+        }
+        return expired;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized void clear() {
+        buckets.clear();
+        size = 0;
+    }
+
+    private static long bucket(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), BUCKET_SECONDS) * BUCKET_SECONDS;
+    }
+}
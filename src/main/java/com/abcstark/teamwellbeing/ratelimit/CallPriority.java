@@ -0,0 +1,45 @@
+package com.abcstark.teamwellbeing.ratelimit;
+
+import java.util.function.Supplier;
+
+/**
+ * Priority of upstream calls made on the current thread.
+ * Scheduled collection runs as SCHEDULER and may dip into the reserved share of
+ * every bucket; everything else (REST requests) runs as INTERACTIVE.
+ */
+public enum CallPriority {
+    SCHEDULER,
+    INTERACTIVE;
+
+    private static final ThreadLocal<CallPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    /**
+     * Gets the priority of the current thread.
+     */
+    public static CallPriority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the given action with this priority, restoring the previous one afterwards.
+     */
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls the given supplier with this priority, restoring the previous one afterwards.
+     */
+    public <T> T call(Supplier<T> action) {
+        CallPriority previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
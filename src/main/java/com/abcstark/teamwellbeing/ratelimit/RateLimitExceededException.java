@@ -0,0 +1,25 @@
+package com.abcstark.teamwellbeing.ratelimit;
+
+/**
+ * Thrown when an upstream call is shed because its rate-limit bucket has no
+ * tokens available within the allowed wait.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String bucket;
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(String bucket, long retryAfterMillis) {
+        super(String.format("Rate limit for '%s' exhausted, retry in %d ms", bucket, retryAfterMillis));
+        this.bucket = bucket;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
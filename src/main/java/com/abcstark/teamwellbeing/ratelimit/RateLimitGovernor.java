@@ -0,0 +1,268 @@
+package com.abcstark.teamwellbeing.ratelimit;
+
+import com.abcstark.teamwellbeing.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shared token-bucket governor for all upstream integration calls.
+ * Services acquire tokens before calling an API and feed back the rate-limit
+ * headers they receive, so a burst of REST requests cannot exhaust the quota
+ * scheduled collection needs. Excess requests queue for up to the configured
+ * wait and are shed with a RateLimitExceededException beyond that.
+ */
+@Component
+public class RateLimitGovernor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitGovernor.class);
+
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RateLimitGovernor(RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.meterRegistry = meterRegistry;
+
+        long now = System.nanoTime();
+        rateLimitProperties.getBuckets().forEach((name, config) -> {
+            TokenBucket bucket = new TokenBucket(config.getCapacity(), config.getRefillPerMinute(),
+                    rateLimitProperties.getSchedulerReserve(), now);
+            buckets.put(name, bucket);
+            Gauge.builder("wellbeing.ratelimit.tokens.available", bucket, b -> b.available(System.nanoTime()))
+                    .description("Tokens currently available in the rate-limit bucket")
+                    .tag("bucket", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Acquires one token from the named bucket, waiting if allowed.
+     *
+     * @param bucket The bucket name, e.g. "github" or "slack-tier3"
+     * @throws RateLimitExceededException if no token becomes available in time
+     */
+    public void acquire(String bucket) {
+        acquire(bucket, 1);
+    }
+
+    /**
+     * Acquires several tokens at once for operations that issue multiple requests.
+     *
+     * @param bucket The bucket name
+     * @param permits The number of upstream requests about to be made
+     * @throws RateLimitExceededException if the tokens do not become available in time
+     */
+    public void acquire(String bucket, int permits) {
+        TokenBucket tokenBucket = buckets.get(bucket);
+        if (tokenBucket == null) {
+            return;
+        }
+
+        CallPriority priority = CallPriority.current();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWait(priority));
+        boolean queued = false;
+
+        while (true) {
+            long now = System.nanoTime();
+            long waitNanos = tokenBucket.tryAcquire(permits, priority, now);
+            if (waitNanos == 0) {
+                if (queued) {
+                    throttled(bucket, priority, "queued").increment();
+                }
+                return;
+            }
+
+            if (now + waitNanos - deadline > 0) {
+                throw shed(bucket, priority, waitNanos);
+            }
+
+            queued = true;
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RateLimitExceededException(bucket, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            }
+        }
+    }
+
+    /**
+     * Acquires tokens without blocking a thread: the returned Mono completes once they
+     * are available, after a timer rather than a sleep if they have to be waited for.
+     * The priority is that of the subscribing thread.
+     *
+     * @param bucket The bucket name
+     * @param permits The number of upstream requests about to be made
+     * @return A Mono that completes when the tokens are acquired, or fails with a RateLimitExceededException
+     */
+    public Mono<Void> acquireAsync(String bucket, int permits) {
+        TokenBucket tokenBucket = buckets.get(bucket);
+        if (tokenBucket == null) {
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+            CallPriority priority = CallPriority.current();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWait(priority));
+            return acquireAsync(bucket, tokenBucket, permits, priority, deadline, false);
+        });
+    }
+
+    private Mono<Void> acquireAsync(String bucket, TokenBucket tokenBucket, int permits, CallPriority priority,
+                                    long deadline, boolean queued) {
+        long now = System.nanoTime();
+        long waitNanos = tokenBucket.tryAcquire(permits, priority, now);
+        if (waitNanos == 0) {
+            if (queued) {
+                throttled(bucket, priority, "queued").increment();
+            }
+            return Mono.empty();
+        }
+
+        if (now + waitNanos - deadline > 0) {
+            return Mono.error(shed(bucket, priority, waitNanos));
+        }
+
+        return Mono.delay(Duration.ofNanos(waitNanos))
+                .then(Mono.defer(() -> acquireAsync(bucket, tokenBucket, permits, priority, deadline, true)));
+    }
+
+    private long maxWait(CallPriority priority) {
+        return priority == CallPriority.SCHEDULER
+                ? rateLimitProperties.getMaxSchedulerWait()
+                : rateLimitProperties.getMaxWait();
+    }
+
+    private RateLimitExceededException shed(String bucket, CallPriority priority, long waitNanos) {
+        throttled(bucket, priority, "shed").increment();
+        logger.warn("Shedding {} call to '{}', no tokens for {} ms", priority, bucket,
+                TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        return new RateLimitExceededException(bucket, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+
+    /**
+     * Updates a bucket from the remaining quota reported by the upstream.
+     *
+     * @param bucket The bucket name
+     * @param remaining Requests remaining in the current window
+     * @param resetEpochSeconds When the window resets, or 0 if unknown
+     */
+    public void observe(String bucket, int remaining, long resetEpochSeconds) {
+        TokenBucket tokenBucket = buckets.get(bucket);
+        if (tokenBucket == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        tokenBucket.observeRemaining(remaining, now);
+        if (remaining <= 0 && resetEpochSeconds > 0) {
+            long millisUntilReset = resetEpochSeconds * 1000 - System.currentTimeMillis();
+            if (millisUntilReset > 0) {
+                tokenBucket.blockUntil(now + TimeUnit.MILLISECONDS.toNanos(millisUntilReset));
+            }
+        }
+    }
+
+    /**
+     * Blocks a bucket after the upstream answered with Retry-After.
+     *
+     * @param bucket The bucket name
+     * @param retryAfterSeconds The delay requested by the upstream
+     */
+    public void onRetryAfter(String bucket, long retryAfterSeconds) {
+        TokenBucket tokenBucket = buckets.get(bucket);
+        if (tokenBucket == null || retryAfterSeconds <= 0) {
+            return;
+        }
+
+        logger.warn("Upstream '{}' asked to retry after {} s", bucket, retryAfterSeconds);
+        tokenBucket.blockUntil(System.nanoTime() + TimeUnit.SECONDS.toNanos(retryAfterSeconds));
+    }
+
+    /**
+     * Reads X-RateLimit-Remaining, X-RateLimit-Reset and Retry-After from a response.
+     *
+     * @param bucket The bucket name
+     * @param headers Looks up a response header by name, returning null if absent
+     */
+    public void observeHeaders(String bucket, UnaryOperator<String> headers) {
+        String retryAfter = headers.apply("Retry-After");
+        if (retryAfter != null) {
+            try {
+                onRetryAfter(bucket, Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring non-numeric Retry-After '{}'", retryAfter);
+            }
+        }
+
+        String remaining = headers.apply("X-RateLimit-Remaining");
+        if (remaining != null) {
+            try {
+                observe(bucket, Integer.parseInt(remaining.trim()), parseReset(headers.apply("X-RateLimit-Reset")));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring non-numeric X-RateLimit-Remaining '{}'", remaining);
+            }
+        }
+    }
+
+    /**
+     * Creates a WebClient filter that feeds response rate-limit headers into a bucket.
+     */
+    public ExchangeFilterFunction responseObserver(String bucket) {
+        return ExchangeFilterFunction.ofResponseProcessor(response -> {
+            observeHeaders(bucket, name -> response.headers().asHttpHeaders().getFirst(name));
+            return Mono.just(response);
+        });
+    }
+
+    /**
+     * Gets the tokens currently available in a bucket.
+     */
+    public double getAvailableTokens(String bucket) {
+        TokenBucket tokenBucket = buckets.get(bucket);
+        return tokenBucket == null ? Double.POSITIVE_INFINITY : tokenBucket.available(System.nanoTime());
+    }
+
+    /**
+     * Parses X-RateLimit-Reset, which GitHub sends as epoch seconds and Jira as an ISO-8601 timestamp.
+     */
+    private long parseReset(String reset) {
+        if (reset == null || reset.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(reset.trim());
+        } catch (NumberFormatException e) {
+            try {
+                return Instant.parse(reset.trim()).getEpochSecond();
+            } catch (Exception ignored) {
+                return 0;
+            }
+        }
+    }
+
+    private Counter throttled(String bucket, CallPriority priority, String outcome) {
+        return Counter.builder("wellbeing.ratelimit.throttled")
+                .description("Upstream calls that had to wait for or were denied a rate-limit token")
+                .tag("bucket", bucket)
+                .tag("priority", priority.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,78 @@
+package com.abcstark.teamwellbeing.ratelimit;
+
+/**
+ * Token bucket refilled continuously at a fixed rate.
+ * A share of the capacity is reserved for SCHEDULER calls so that ad-hoc traffic
+ * can never drain the quota that scheduled collection depends on.
+ * All times are System.nanoTime() values supplied by the caller.
+ */
+final class TokenBucket {
+
+    private final int capacity;
+    private final double refillPerNano;
+    private final double reserved;
+
+    private double tokens;
+    private long lastRefill;
+    private long blockedUntil;
+
+    TokenBucket(int capacity, double refillPerMinute, double reserveFraction, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / 60_000_000_000d;
+        this.reserved = capacity * reserveFraction;
+        this.tokens = capacity;
+        this.lastRefill = now;
+        this.blockedUntil = now;
+    }
+
+    /**
+     * Takes the given number of tokens if available for the priority.
+     *
+     * @return 0 if the tokens were taken, otherwise the nanoseconds until they could be
+     */
+    synchronized long tryAcquire(int permits, CallPriority priority, long now) {
+        if (now - blockedUntil < 0) {
+            return blockedUntil - now;
+        }
+        refill(now);
+
+        double floor = priority == CallPriority.SCHEDULER ? 0 : reserved;
+        double needed = Math.min(permits + floor, capacity);
+        if (tokens >= needed) {
+            tokens -= permits;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((needed - tokens) / refillPerNano));
+    }
+
+    /**
+     * Aligns the bucket with the quota the upstream reports as remaining.
+     */
+    synchronized void observeRemaining(int remaining, long now) {
+        refill(now);
+        tokens = Math.min(capacity, Math.max(0, remaining));
+    }
+
+    /**
+     * Blocks all acquisitions until the given time (e.g. from a Retry-After header).
+     */
+    synchronized void blockUntil(long until) {
+        if (until - blockedUntil > 0) {
+            blockedUntil = until;
+        }
+        tokens = 0;
+    }
+
+    synchronized double available(long now) {
+        refill(now);
+        return tokens;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefill;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.abcstark.teamwellbeing.rollup;
+
+/**
+ * What one record adds to a bucket. Applied with sign -1 to take back the
+ * contribution of a replaced version.
+ */
+record Contribution(long messages, long reactions, long positiveHits, long negativeHits, long stressHits,
+                    long overloadMentions, long issuesOpened, long issuesClosed, double storyPoints,
+                    long timeSpent) {
+
+    static Contribution message(long reactions, long positiveHits, long negativeHits, long stressHits,
+                                long overloadMentions) {
+        return new Contribution(1, reactions, positiveHits, negativeHits, stressHits, overloadMentions,
+                0, 0, 0, 0);
+    }
+
+    static Contribution opened() {
+        return new Contribution(0, 0, 0, 0, 0, 0, 1, 0, 0, 0);
+    }
+
+    static Contribution closed(double storyPoints) {
+        return new Contribution(0, 0, 0, 0, 0, 0, 0, 1, storyPoints, 0);
+    }
+
+    static Contribution timeSpent(long seconds) {
+        return new Contribution(0, 0, 0, 0, 0, 0, 0, 0, 0, seconds);
+    }
+}
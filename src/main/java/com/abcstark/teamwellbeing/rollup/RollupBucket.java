@@ -0,0 +1,115 @@
+package com.abcstark.teamwellbeing.rollup;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated activity of one series (team, member, channel, repository or
+ * project) over one hour or day.
+ */
+public class RollupBucket {
+
+    @JsonProperty("start")
+    private final LocalDateTime start;
+
+    @JsonProperty("messages")
+    private long messages;
+
+    @JsonProperty("reactions")
+    private long reactions;
+
+    @JsonProperty("positive_hits")
+    private long positiveHits;
+
+    @JsonProperty("negative_hits")
+    private long negativeHits;
+
+    @JsonProperty("stress_hits")
+    private long stressHits;
+
+    @JsonProperty("overload_mentions")
+    private long overloadMentions;
+
+    @JsonProperty("issues_opened")
+    private long issuesOpened;
+
+    @JsonProperty("issues_closed")
+    private long issuesClosed;
+
+    @JsonProperty("story_points")
+    private double storyPoints;
+
+    @JsonProperty("time_spent")
+    private long timeSpent; // in seconds
+
+    public RollupBucket(LocalDateTime start) {
+        this.start = start;
+    }
+
+    synchronized void add(Contribution contribution, int sign) {
+        messages += sign * contribution.messages();
+        reactions += sign * contribution.reactions();
+        positiveHits += sign * contribution.positiveHits();
+        negativeHits += sign * contribution.negativeHits();
+        stressHits += sign * contribution.stressHits();
+        overloadMentions += sign * contribution.overloadMentions();
+        issuesOpened += sign * contribution.issuesOpened();
+        issuesClosed += sign * contribution.issuesClosed();
+        storyPoints += sign * contribution.storyPoints();
+        timeSpent += sign * contribution.timeSpent();
+    }
+
+    synchronized void add(RollupBucket other) {
+        add(other.toContribution(), 1);
+    }
+
+    synchronized Contribution toContribution() {
+        return new Contribution(messages, reactions, positiveHits, negativeHits, stressHits, overloadMentions,
+                issuesOpened, issuesClosed, storyPoints, timeSpent);
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public synchronized long getMessages() {
+        return messages;
+    }
+
+    public synchronized long getReactions() {
+        return reactions;
+    }
+
+    public synchronized long getPositiveHits() {
+        return positiveHits;
+    }
+
+    public synchronized long getNegativeHits() {
+        return negativeHits;
+    }
+
+    public synchronized long getStressHits() {
+        return stressHits;
+    }
+
+    public synchronized long getOverloadMentions() {
+        return overloadMentions;
+    }
+
+    public synchronized long getIssuesOpened() {
+        return issuesOpened;
+    }
+
+    public synchronized long getIssuesClosed() {
+        return issuesClosed;
+    }
+
+    public synchronized double getStoryPoints() {
+        return storyPoints;
+    }
+
+    public synchronized long getTimeSpent() {
+        return timeSpent;
+    }
+}
@@ -0,0 +1,14 @@
+package com.abcstark.teamwellbeing.rollup;
+
+/**
+ * What a rollup series is keyed by. TEAM has the single key {@link #TEAM_KEY}.
+ */
+public enum RollupDimension {
+    TEAM,
+    MEMBER,
+    CHANNEL,
+    REPOSITORY,
+    PROJECT;
+
+    public static final String TEAM_KEY = "all";
+}
@@ -0,0 +1,216 @@
+package com.abcstark.teamwellbeing.rollup;
+
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.persistence.IngestListener;
+import com.abcstark.teamwellbeing.service.WellbeingLexicon;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Maintains hourly and daily rollups of stored records, updated on ingest.
+ *
+ * Every record contributes to the team series and to the series of its member and
+ * channel, repository or project. A replaced record first takes back the
+ * contribution of its previous version, so re-collecting data never double counts.
+ * Each series is a sorted map of buckets, so trend queries read only the buckets in
+ * range, independently of how much raw data is stored or has been evicted.
+ *
+ * Slack messages count at their post time. Issues count as opened at creation and
+ * as closed, with their story points, at closing; Jira time spent counts at the
+ * issue's last update.
+ *
+ * Evicted records keep their contribution. For issues, which retention evicts while
+ * they may still be updated, a small summary of what was counted is kept so an
+ * issue collected again after eviction replaces its old contribution instead of
+ * adding a second one.
+ */
+@Service
+public class RollupService implements IngestListener {
+
+    private record SeriesKey(RollupGranularity granularity, RollupDimension dimension, String key) {
+    }
+
+    private record GitHubIssueKey(String repository, int number) {
+    }
+
+    /**
+     * What an evicted issue contributed, with the member and source it was counted for.
+     */
+    private record IssueContribution(LocalDateTime opened, LocalDateTime closed, double storyPoints,
+                                     LocalDateTime timeSpentAt, long timeSpent, String member, String sourceKey) {
+    }
+
+    private final Map<SeriesKey, ConcurrentSkipListMap<LocalDateTime, RollupBucket>> series = new ConcurrentHashMap<>();
+    private final Map<GitHubIssueKey, IssueContribution> evictedGitHubIssues = new ConcurrentHashMap<>();
+    private final Map<String, IssueContribution> evictedJiraIssues = new ConcurrentHashMap<>();
+
+    @Override
+    public void onSlackMessage(SlackMessage previous, SlackMessage current) {
+        if (previous != null) {
+            applySlackMessage(previous, -1);
+        }
+        applySlackMessage(current, 1);
+    }
+
+    @Override
+    public void onGitHubIssue(GitHubIssue previous, GitHubIssue current) {
+        IssueContribution counted = previous != null ? contribution(previous)
+                : evictedGitHubIssues.remove(gitHubIssueKey(current));
+        if (counted != null) {
+            applyIssue(counted, RollupDimension.REPOSITORY, -1);
+        }
+        applyIssue(contribution(current), RollupDimension.REPOSITORY, 1);
+    }
+
+    @Override
+    public void onJiraIssue(JiraIssue previous, JiraIssue current) {
+        IssueContribution counted = previous != null ? contribution(previous)
+                : evictedJiraIssues.remove(current.getKey());
+        if (counted != null) {
+            applyIssue(counted, RollupDimension.PROJECT, -1);
+        }
+        applyIssue(contribution(current), RollupDimension.PROJECT, 1);
+    }
+
+    @Override
+    public void onGitHubIssueEvicted(GitHubIssue issue) {
+        evictedGitHubIssues.put(gitHubIssueKey(issue), contribution(issue));
+    }
+
+    @Override
+    public void onJiraIssueEvicted(JiraIssue issue) {
+        evictedJiraIssues.put(issue.getKey(), contribution(issue));
+    }
+
+    @Override
+    public void onClear() {
+        series.clear();
+        evictedGitHubIssues.clear();
+        evictedJiraIssues.clear();
+    }
+
+    /**
+     * Gets the buckets of one series within a time range, oldest first.
+     *
+     * @param key Member, channel, repository or project name; ignored for TEAM
+     */
+    public List<RollupBucket> getBuckets(RollupGranularity granularity, RollupDimension dimension, String key,
+                                         LocalDateTime from, LocalDateTime to) {
+        ConcurrentSkipListMap<LocalDateTime, RollupBucket> buckets = series.get(seriesKey(granularity, dimension, key));
+        if (buckets == null) {
+            return List.of();
+        }
+        return new ArrayList<>(buckets.subMap(granularity.bucketStart(from), true, to, true).values());
+    }
+
+    /**
+     * Sums the buckets of one series within a time range.
+     */
+    public RollupBucket getTotals(RollupGranularity granularity, RollupDimension dimension, String key,
+                                  LocalDateTime from, LocalDateTime to) {
+        RollupBucket totals = new RollupBucket(granularity.bucketStart(from));
+        getBuckets(granularity, dimension, key, from, to).forEach(totals::add);
+        return totals;
+    }
+
+    /**
+     * Gets the keys that have a series for a dimension, e.g. all members seen.
+     */
+    public Set<String> getKeys(RollupDimension dimension) {
+        Set<String> keys = new TreeSet<>();
+        for (SeriesKey seriesKey : series.keySet()) {
+            if (seriesKey.dimension() == dimension) {
+                keys.add(seriesKey.key());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Drops hourly buckets that started before the cutoff; daily buckets are kept.
+     */
+    public void pruneHourly(LocalDateTime cutoff) {
+        series.forEach((seriesKey, buckets) -> {
+            if (seriesKey.granularity() == RollupGranularity.HOURLY) {
+                buckets.headMap(cutoff).clear();
+            }
+        });
+    }
+
+    private void applySlackMessage(SlackMessage message, int sign) {
+        WellbeingLexicon.Score score = WellbeingLexicon.score(message);
+        Contribution contribution = Contribution.message(message.getReactionCount(), score.positive(),
+                score.negative(), score.stress(), score.overload());
+        apply(message.getTimestamp(), contribution, sign,
+                RollupDimension.MEMBER, message.getUsername(), RollupDimension.CHANNEL, message.getChannelName());
+    }
+
+    private static IssueContribution contribution(GitHubIssue issue) {
+        return new IssueContribution(issue.getCreatedAt(), issue.getClosedAt(), 0, null, 0,
+                issue.getAuthor(), issue.getRepository());
+    }
+
+    private static IssueContribution contribution(JiraIssue issue) {
+        double storyPoints = issue.getStoryPoints() != null ? issue.getStoryPoints() : 0;
+        long timeSpent = issue.getTimeSpent() != null ? issue.getTimeSpent() : 0;
+        LocalDateTime timeSpentAt = issue.getUpdated() != null ? issue.getUpdated() : issue.getCreated();
+        return new IssueContribution(issue.getCreated(), issue.getResolved(), storyPoints, timeSpentAt, timeSpent,
+                issue.getAssignee(), issue.getProjectKey());
+    }
+
+    private static GitHubIssueKey gitHubIssueKey(GitHubIssue issue) {
+        return new GitHubIssueKey(issue.getRepository(), issue.getNumber());
+    }
+
+    private void applyIssue(IssueContribution issue, RollupDimension sourceDimension, int sign) {
+        apply(issue.opened(), Contribution.opened(), sign,
+                RollupDimension.MEMBER, issue.member(), sourceDimension, issue.sourceKey());
+        apply(issue.closed(), Contribution.closed(issue.storyPoints()), sign,
+                RollupDimension.MEMBER, issue.member(), sourceDimension, issue.sourceKey());
+        if (issue.timeSpent() > 0) {
+            apply(issue.timeSpentAt(), Contribution.timeSpent(issue.timeSpent()), sign,
+                    RollupDimension.MEMBER, issue.member(), sourceDimension, issue.sourceKey());
+        }
+    }
+
+    /**
+     * Adds a contribution to the hourly and daily buckets of the team, member and source series.
+     */
+    private void apply(LocalDateTime time, Contribution contribution, int sign,
+                       RollupDimension memberDimension, String member,
+                       RollupDimension sourceDimension, String sourceKey) {
+        if (time == null) {
+            return;
+        }
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            bucket(granularity, RollupDimension.TEAM, RollupDimension.TEAM_KEY, time).add(contribution, sign);
+            if (member != null) {
+                bucket(granularity, memberDimension, member, time).add(contribution, sign);
+            }
+            if (sourceKey != null) {
+                bucket(granularity, sourceDimension, sourceKey, time).add(contribution, sign);
+            }
+        }
+    }
+
+    private RollupBucket bucket(RollupGranularity granularity, RollupDimension dimension, String key,
+                                LocalDateTime time) {
+        LocalDateTime start = granularity.bucketStart(time);
+        return series.computeIfAbsent(seriesKey(granularity, dimension, key), k -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(start, RollupBucket::new);
+    }
+
+    private SeriesKey seriesKey(RollupGranularity granularity, RollupDimension dimension, String key) {
+        return new SeriesKey(granularity, dimension, dimension == RollupDimension.TEAM ? RollupDimension.TEAM_KEY : key);
+    }
+}
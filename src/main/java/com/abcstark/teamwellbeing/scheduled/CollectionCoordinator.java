@@ -0,0 +1,126 @@
+package com.abcstark.teamwellbeing.scheduled;
+
+import com.abcstark.teamwellbeing.ratelimit.CallPriority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.ToIntFunction;
+
+/**
+ * Single-flight coordinator for collection runs.
+ *
+ * At most one collection per source is in flight at any time. A job that asks for
+ * a source which is already being collected joins the running collection instead
+ * of starting a second one, and a job requested while an identical job is still
+ * running is answered with that job. Jobs run on the application task executor and
+ * are kept for a while so clients can poll them by id.
+ */
+@Component
+public class CollectionCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollectionCoordinator.class);
+    private static final int MAX_RETAINED_JOBS = 50;
+
+    private final Executor executor;
+    private final Map<CollectionSource, CompletableFuture<Integer>> inFlight = new EnumMap<>(CollectionSource.class);
+    private final Map<String, CollectionJob> jobs = new LinkedHashMap<>();
+
+    @Autowired
+    public CollectionCoordinator(@Qualifier("applicationTaskExecutor") Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Starts (or joins) a collection job for the given sources and returns immediately.
+     *
+     * @param sources The sources to collect
+     * @param trigger What requested the job, e.g. "manual" or "scheduled"
+     * @param collector Collects one source and returns the number of records collected
+     * @return The new job, or the running job with the same sources
+     */
+    public synchronized CollectionJob submit(Set<CollectionSource> sources, String trigger,
+                                             ToIntFunction<CollectionSource> collector) {
+        Optional<CollectionJob> running = jobs.values().stream()
+                .filter(job -> job.getStatus() == CollectionJob.Status.RUNNING && job.getSources().equals(sources))
+                .findFirst();
+        if (running.isPresent()) {
+            logger.info("Joining in-progress collection job {} for {}", running.get().getId(), sources);
+            return running.get();
+        }
+
+        CollectionJob job = new CollectionJob(UUID.randomUUID().toString(), trigger, sources);
+        List<CompletableFuture<?>> parts = new ArrayList<>();
+
+        for (CollectionSource source : sources) {
+            CompletableFuture<Integer> collection = inFlight.get(source);
+            CollectionJob.SourceResult result = job.addSource(source, collection != null);
+            if (collection == null) {
+                collection = start(source, collector);
+            } else {
+                logger.info("{} collection already in progress, job {} joins it", source, job.getId());
+            }
+
+            parts.add(collection.whenComplete((records, error) -> {
+                if (error != null) {
+                    job.sourceFailed(result, error.getCause() != null ? error.getCause() : error);
+                } else {
+                    job.sourceCompleted(result, records);
+                }
+            }));
+        }
+
+        CompletableFuture.allOf(parts.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> job.complete());
+        retain(job);
+        return job;
+    }
+
+    /**
+     * Gets a recent job by id.
+     */
+    public synchronized Optional<CollectionJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Checks whether a source is currently being collected.
+     */
+    public synchronized boolean isInFlight(CollectionSource source) {
+        return inFlight.containsKey(source);
+    }
+
+    private CompletableFuture<Integer> start(CollectionSource source, ToIntFunction<CollectionSource> collector) {
+        CompletableFuture<Integer> collection = CompletableFuture.supplyAsync(
+                () -> CallPriority.SCHEDULER.call(() -> collector.applyAsInt(source)), executor);
+        inFlight.put(source, collection);
+        collection.whenComplete((records, error) -> {
+            synchronized (this) {
+                inFlight.remove(source, collection);
+            }
+            if (error != null) {
+                logger.error("Error collecting {} data", source, error.getCause() != null ? error.getCause() : error);
+            }
+        });
+        return collection;
+    }
+
+    private void retain(CollectionJob job) {
+        jobs.put(job.getId(), job);
+        if (jobs.size() > MAX_RETAINED_JOBS) {
+            jobs.values().removeIf(old -> old.getStatus() != CollectionJob.Status.RUNNING
+                    && jobs.size() > MAX_RETAINED_JOBS);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.abcstark.teamwellbeing.scheduled;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A collection run over one or more sources that clients can poll by id.
+ */
+public class CollectionJob {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * Outcome of one source within a job.
+     */
+    public static class SourceResult {
+        @JsonProperty("status")
+        private volatile Status status = Status.RUNNING;
+
+        @JsonProperty("records")
+        private volatile int records;
+
+        @JsonProperty("error")
+        private volatile String error;
+
+        @JsonProperty("joined_in_progress_run")
+        private final boolean joined;
+
+        SourceResult(boolean joined) {
+            this.joined = joined;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public int getRecords() {
+            return records;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isJoined() {
+            return joined;
+        }
+    }
+
+    @JsonProperty("job_id")
+    private final String id;
+
+    @JsonProperty("trigger")
+    private final String trigger;
+
+    @JsonProperty("sources")
+    private final Set<CollectionSource> sources;
+
+    @JsonProperty("started_at")
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    @JsonProperty("completed_at")
+    private volatile LocalDateTime completedAt;
+
+    @JsonProperty("status")
+    private volatile Status status = Status.RUNNING;
+
+    @JsonProperty("results")
+    private final Map<CollectionSource, SourceResult> results = new ConcurrentHashMap<>();
+
+    @JsonIgnore
+    private final CompletableFuture<CollectionJob> completion = new CompletableFuture<>();
+
+    CollectionJob(String id, String trigger, Set<CollectionSource> sources) {
+        this.id = id;
+        this.trigger = trigger;
+        this.sources = sources;
+    }
+
+    SourceResult addSource(CollectionSource source, boolean joined) {
+        SourceResult result = new SourceResult(joined);
+        results.put(source, result);
+        return result;
+    }
+
+    void sourceCompleted(SourceResult result, int records) {
+        result.records = records;
+        result.status = Status.COMPLETED;
+    }
+
+    void sourceFailed(SourceResult result, Throwable error) {
+        result.error = error.getMessage();
+        result.status = Status.FAILED;
+    }
+
+    void complete() {
+        boolean failed = results.values().stream().anyMatch(r -> r.status == Status.FAILED);
+        completedAt = LocalDateTime.now();
+        status = failed ? Status.FAILED : Status.COMPLETED;
+        completion.complete(this);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTrigger() {
+        return trigger;
+    }
+
+    public Set<CollectionSource> getSources() {
+        return sources;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Map<CollectionSource, SourceResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets a future completed once every source of the job has finished.
+     */
+    @JsonIgnore
+    public CompletableFuture<CollectionJob> getCompletion() {
+        return completion;
+    }
+}
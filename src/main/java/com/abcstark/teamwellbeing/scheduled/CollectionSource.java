@@ -0,0 +1,18 @@
+package com.abcstark.teamwellbeing.scheduled;
+
+/**
+ * Integrations that data is collected from. Each source is scheduled and
+ * single-flighted independently.
+ */
+public enum CollectionSource {
+    SLACK,
+    GITHUB,
+    JIRA;
+
+    /**
+     * Gets the lower-case name used in responses, metrics and configuration.
+     */
+    public String id() {
+        return name().toLowerCase();
+    }
+}
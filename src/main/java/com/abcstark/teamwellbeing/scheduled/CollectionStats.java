@@ -0,0 +1,69 @@
+package com.abcstark.teamwellbeing.scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Counters of the recent collection cycles of one source, kept in a fixed-size ring
+ * so the pipeline status never has to look at the store.
+ */
+class CollectionStats {
+
+    private final CollectionSource source;
+    private final String target;
+    private final int[] records;
+    private final long[] durationNanos;
+    private final boolean[] failed;
+    private int cycles;
+    private int next;
+    private LocalDateTime lastSuccessAt;
+    private LocalDateTime watermark;
+
+    CollectionStats(CollectionSource source, String target, int window) {
+        this.source = source;
+        this.target = target;
+        this.records = new int[Math.max(1, window)];
+        this.durationNanos = new long[records.length];
+        this.failed = new boolean[records.length];
+    }
+
+    /**
+     * Records one finished cycle.
+     *
+     * @param newest The newest record timestamp seen by the cycle, or null if it saw none
+     * @param failed Whether the cycle threw or any of its upstream calls failed
+     */
+    synchronized void record(int records, long durationNanos, LocalDateTime newest, boolean failed,
+                             LocalDateTime completedAt) {
+        this.records[next] = records;
+        this.durationNanos[next] = durationNanos;
+        this.failed[next] = failed;
+        next = (next + 1) % this.records.length;
+        cycles = Math.min(cycles + 1, this.records.length);
+
+        if (!failed) {
+            lastSuccessAt = completedAt;
+        }
+        if (newest != null && (watermark == null || newest.isAfter(watermark))) {
+            watermark = newest;
+        }
+    }
+
+    synchronized SourceStatus snapshot(LocalDateTime now, boolean running, LocalDateTime nextRunAt) {
+        long totalRecords = 0;
+        long totalNanos = 0;
+        int failures = 0;
+        for (int i = 0; i < cycles; i++) {
+            totalRecords += records[i];
+            totalNanos += durationNanos[i];
+            failures += failed[i] ? 1 : 0;
+        }
+
+        return new SourceStatus(source, target, running, lastSuccessAt, watermark,
+                watermark != null ? Duration.between(watermark, now).toSeconds() : null,
+                cycles,
+                totalNanos > 0 ? totalRecords * 1e9 / totalNanos : 0,
+                cycles > 0 ? (double) failures / cycles : 0,
+                nextRunAt);
+    }
+}
@@ -1,158 +1,337 @@
 package com.abcstark.teamwellbeing.scheduled;
 
 import com.abcstark.teamwellbeing.config.SchedulingProperties;
+import com.abcstark.teamwellbeing.dedup.NearDuplicateDetector;
+import com.abcstark.teamwellbeing.jfr.CollectionCycleEvent;
+import com.abcstark.teamwellbeing.jfr.CollectionCycleStartedEvent;
+import com.abcstark.teamwellbeing.metrics.IntegrationMetrics;
 import com.abcstark.teamwellbeing.model.GitHubIssue;
 import com.abcstark.teamwellbeing.model.JiraIssue;
 import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.persistence.BatchingWriter;
 import com.abcstark.teamwellbeing.service.GitHubService;
 import com.abcstark.teamwellbeing.service.JiraService;
 import com.abcstark.teamwellbeing.service.SlackService;
+import com.abcstark.teamwellbeing.service.WebhookService;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Scheduled task component that periodically collects data from all integrations
  * and processes it for team wellbeing analysis.
+ *
+ * Each source runs on its own interval plus random jitter. All runs, scheduled or
+ * manual, go through the CollectionCoordinator so a source is never collected twice
+ * at the same time.
  */
 @Component
-public class DataCollectionScheduler {
+public class DataCollectionScheduler implements SchedulingConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(DataCollectionScheduler.class);
 
     private final SlackService slackService;
     private final GitHubService gitHubService;
     private final JiraService jiraService;
+    private final WebhookService webhookService;
+    private final BatchingWriter batchingWriter;
+    private final CollectionCoordinator collectionCoordinator;
     private final SchedulingProperties schedulingProperties;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final IntegrationMetrics integrationMetrics;
+    private final Map<CollectionSource, CollectionStats> stats = new EnumMap<>(CollectionSource.class);
+    private final Map<CollectionSource, Instant> nextRuns = new ConcurrentHashMap<>();
 
     @Autowired
     public DataCollectionScheduler(SlackService slackService, 
                                  GitHubService gitHubService,
                                  JiraService jiraService,
-                                 SchedulingProperties schedulingProperties) {
+                                 WebhookService webhookService,
+                                 BatchingWriter batchingWriter,
+                                 CollectionCoordinator collectionCoordinator,
+                                 SchedulingProperties schedulingProperties,
+                                 NearDuplicateDetector nearDuplicateDetector,
+                                 IntegrationMetrics integrationMetrics) {
         this.slackService = slackService;
         this.gitHubService = gitHubService;
         this.jiraService = jiraService;
+        this.webhookService = webhookService;
+        this.batchingWriter = batchingWriter;
+        this.collectionCoordinator = collectionCoordinator;
         this.schedulingProperties = schedulingProperties;
+        this.nearDuplicateDetector = nearDuplicateDetector;
+        this.integrationMetrics = integrationMetrics;
+        for (CollectionSource source : CollectionSource.values()) {
+            stats.put(source, new CollectionStats(source, integrationMetrics.getTarget(source.id()),
+                    schedulingProperties.getStatusWindow()));
+        }
     }
 
     /**
-     * Scheduled task that collects data from all configured integrations.
-     * Runs at a configurable interval defined in application.yml.
+     * Registers one trigger per source. The next run is scheduled relative to the
+     * completion of the previous one, like a fixed delay, plus random jitter.
      */
-    @Scheduled(fixedDelayString = "#{@schedulingProperties.dataCollectionInterval}", 
-               initialDelayString = "#{@schedulingProperties.initialDelay}")
-    public void collectTeamWellbeingData() {
-        logger.info("Starting scheduled data collection at {}", LocalDateTime.now());
-        
-        try {
-            // Collect Slack data
-            collectSlackData();
-            
-            // Collect GitHub data
-            collectGitHubData();
-            
-            // Collect Jira data
-            collectJiraData();
-            
-            logger.info("Completed scheduled data collection at {}", LocalDateTime.now());
-            
-        } catch (Exception e) {
-            logger.error("Error during scheduled data collection", e);
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        for (CollectionSource source : CollectionSource.values()) {
+            taskRegistrar.addTriggerTask(() -> runScheduled(source), triggerContext -> {
+                Instant lastCompletion = triggerContext.lastCompletion();
+                long delay = lastCompletion == null ? schedulingProperties.getInitialDelay() : getInterval(source);
+                Instant base = lastCompletion == null ? Instant.now() : lastCompletion;
+                Instant next = base.plusMillis(delay + jitter(source));
+                nextRuns.put(source, next);
+                return next;
+            });
         }
     }
 
     /**
-     * Collects data from Slack.
+     * Runs one scheduled collection of a source, waiting so the next run is scheduled after it.
+     */
+    private void runScheduled(CollectionSource source) {
+        collectionCoordinator.submit(EnumSet.of(source), "scheduled", this::collect).getCompletion().join();
+    }
+
+    /**
+     * Gets the interval of a source. Sources fed by webhooks are only swept for reconciliation.
+     */
+    long getInterval(CollectionSource source) {
+        if ((source == CollectionSource.GITHUB && webhookService.isGitHubWebhookEnabled())
+                || (source == CollectionSource.JIRA && webhookService.isJiraWebhookEnabled())) {
+            return schedulingProperties.getReconciliationInterval();
+        }
+        Long interval = getSchedule(source).getInterval();
+        return interval != null ? interval : schedulingProperties.getDataCollectionInterval();
+    }
+
+    /**
+     * Gets how often collection refreshes the stored data of a source, used as a caching hint
+     * for responses built from it. Zero for sources fed by webhooks, which change at any time.
+     */
+    public Duration getRefreshInterval(CollectionSource source) {
+        if ((source == CollectionSource.GITHUB && webhookService.isGitHubWebhookEnabled())
+                || (source == CollectionSource.JIRA && webhookService.isJiraWebhookEnabled())) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(getInterval(source));
+    }
+
+    private long jitter(CollectionSource source) {
+        long jitter = getSchedule(source).getJitter();
+        return jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0;
+    }
+
+    private SchedulingProperties.Source getSchedule(CollectionSource source) {
+        return switch (source) {
+            case SLACK -> schedulingProperties.getSlack();
+            case GITHUB -> schedulingProperties.getGithub();
+            case JIRA -> schedulingProperties.getJira();
+        };
+    }
+
+    /**
+     * Gets the collection status of every source from the counters of its recent cycles.
      */
-    private void collectSlackData() {
+    public List<SourceStatus> getPipelineStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SourceStatus> statuses = new ArrayList<>();
+        for (CollectionSource source : CollectionSource.values()) {
+            Instant nextRun = nextRuns.get(source);
+            statuses.add(stats.get(source).snapshot(now, collectionCoordinator.isInFlight(source),
+                    nextRun != null ? LocalDateTime.ofInstant(nextRun, ZoneId.systemDefault()) : null));
+        }
+        return statuses;
+    }
+
+    /**
+     * Collects one source and hands the records to the writer, timing the whole run.
+     *
+     * @return Number of records collected
+     */
+    private int collect(CollectionSource source) {
+        CollectionCycleStartedEvent started = new CollectionCycleStartedEvent();
+        if (started.shouldCommit()) {
+            started.source = source.id();
+            started.commit();
+        }
+        CollectionCycleEvent cycle = new CollectionCycleEvent();
+        cycle.begin();
+
+        Timer.Sample sample = integrationMetrics.start();
+        long startNanos = System.nanoTime();
+        int failedCalls = integrationMetrics.getFailedCalls();
+        String outcome = IntegrationMetrics.ERROR;
+        int records = 0;
+        LocalDateTime newest = null;
         try {
-            logger.info("Collecting Slack data...");
-            
-            List<SlackMessage> messages = slackService.getRecentMessages();
-            logger.info("Collected {} Slack messages", messages.size());
-            
-            // TODO: Persist messages to database
-            // persistenceService.saveSlackMessages(messages);
-            
-            // Log sample data for demonstration
-            if (!messages.isEmpty()) {
-                SlackMessage sample = messages.get(0);
-                logger.info("Sample Slack message: {}", sample);
+            Collected collected = switch (source) {
+                case SLACK -> collectSlackData();
+                case GITHUB -> collectGitHubData();
+                case JIRA -> collectJiraData();
+            };
+            records = collected.records();
+            newest = collected.newest();
+            outcome = IntegrationMetrics.SUCCESS;
+            return records;
+        } finally {
+            // The services log and swallow upstream errors, so failed calls count as a failed cycle too
+            boolean failed = !IntegrationMetrics.SUCCESS.equals(outcome)
+                    || integrationMetrics.getFailedCalls() > failedCalls;
+            stats.get(source).record(records, System.nanoTime() - startNanos, newest, failed, LocalDateTime.now());
+            integrationMetrics.recordCollection(sample, source.id(), outcome);
+            cycle.end();
+            if (cycle.shouldCommit()) {
+                cycle.source = source.id();
+                cycle.records = records;
+                cycle.outcome = outcome;
+                cycle.commit();
             }
-            
-        } catch (Exception e) {
-            logger.error("Error collecting Slack data", e);
         }
     }
 
+    /**
+     * Collects data from Slack.
+     */
+    private Collected collectSlackData() {
+        logger.info("Collecting Slack data...");
+        
+        List<SlackMessage> collected = slackService.getRecentMessages();
+        List<SlackMessage> messages = nearDuplicateDetector.apply(collected);
+        logger.info("Collected {} Slack messages ({} dropped as bot messages or duplicates)",
+                collected.size(), collected.size() - messages.size());
+        countDeduplicated(collected, messages);
+        
+        // Hand off to the writer stage; blocks while the writer is behind
+        batchingWriter.submitSlackMessages(messages);
+        
+        // Log sample data for demonstration
+        if (!messages.isEmpty()) {
+            SlackMessage sample = messages.get(0);
+            logger.info("Sample Slack message: {}", sample);
+        }
+
+        return new Collected(messages.size(), newest(collected, SlackMessage::getTimestamp));
+    }
+
+    /**
+     * Counts messages the detector dropped, or kept but tagged as suppressed, per channel.
+     */
+    private void countDeduplicated(List<SlackMessage> collected, List<SlackMessage> kept) {
+        Set<SlackMessage> keptMessages = Collections.newSetFromMap(new IdentityHashMap<>());
+        keptMessages.addAll(kept);
+        Map<String, Long> deduplicated = collected.stream()
+                .filter(message -> !keptMessages.contains(message) || message.isSuppressed())
+                .collect(Collectors.groupingBy(message -> String.valueOf(message.getChannelName()), Collectors.counting()));
+        deduplicated.forEach((channel, count) -> integrationMetrics.countRecords(
+                IntegrationMetrics.SLACK, channel, IntegrationMetrics.DEDUPLICATED, count));
+    }
+
     /**
      * Collects data from GitHub.
      */
-    private void collectGitHubData() {
-        try {
-            logger.info("Collecting GitHub data...");
-            
-            List<GitHubIssue> issues = gitHubService.getRecentIssues();
-            logger.info("Collected {} GitHub issues", issues.size());
-            
-            // TODO: Persist issues to database
-            // persistenceService.saveGitHubIssues(issues);
-            
-            // Log sample data for demonstration
-            if (!issues.isEmpty()) {
-                GitHubIssue sample = issues.get(0);
-                logger.info("Sample GitHub issue: {}", sample);
-            }
-            
-            // Get and log repository statistics
-            String stats = gitHubService.getRepositoryStatistics();
-            logger.info("GitHub Repository Statistics:\n{}", stats);
-            
-        } catch (Exception e) {
-            logger.error("Error collecting GitHub data", e);
+    private Collected collectGitHubData() {
+        logger.info("Collecting GitHub data...");
+        
+        List<GitHubIssue> issues = gitHubService.getRecentIssues();
+        logger.info("Collected {} GitHub issues", issues.size());
+        
+        // Hand off to the writer stage; blocks while the writer is behind
+        batchingWriter.submitGitHubIssues(issues);
+        
+        // Log sample data for demonstration
+        if (!issues.isEmpty()) {
+            GitHubIssue sample = issues.get(0);
+            logger.info("Sample GitHub issue: {}", sample);
         }
+        
+        // Get and log repository statistics
+        String stats = gitHubService.getRepositoryStatistics();
+        logger.info("GitHub Repository Statistics:\n{}", stats);
+
+        return new Collected(issues.size(), newest(issues,
+                issue -> issue.getUpdatedAt() != null ? issue.getUpdatedAt() : issue.getCreatedAt()));
     }
 
     /**
      * Collects data from Jira.
      */
-    private void collectJiraData() {
-        try {
-            logger.info("Collecting Jira data...");
-            
-            List<JiraIssue> issues = jiraService.getRecentIssues();
-            logger.info("Collected {} Jira issues", issues.size());
-            
-            // TODO: Persist issues to database
-            // persistenceService.saveJiraIssues(issues);
-            
-            // Log sample data for demonstration
-            if (!issues.isEmpty()) {
-                JiraIssue sample = issues.get(0);
-                logger.info("Sample Jira issue: {}", sample);
-            }
-            
-            // Get and log project statistics
-            String stats = jiraService.getProjectStatistics();
-            logger.info("Jira Project Statistics:\n{}", stats);
-            
-        } catch (Exception e) {
-            logger.error("Error collecting Jira data", e);
+    private Collected collectJiraData() {
+        logger.info("Collecting Jira data...");
+        
+        List<JiraIssue> issues = jiraService.getRecentIssues();
+        logger.info("Collected {} Jira issues", issues.size());
+        
+        // Hand off to the writer stage; blocks while the writer is behind
+        batchingWriter.submitJiraIssues(issues);
+        
+        // Log sample data for demonstration
+        if (!issues.isEmpty()) {
+            JiraIssue sample = issues.get(0);
+            logger.info("Sample Jira issue: {}", sample);
         }
+        
+        // Get and log project statistics
+        String stats = jiraService.getProjectStatistics();
+        logger.info("Jira Project Statistics:\n{}", stats);
+
+        return new Collected(issues.size(), newest(issues,
+                issue -> issue.getUpdated() != null ? issue.getUpdated() : issue.getCreated()));
+    }
+
+    private static <T> LocalDateTime newest(List<T> records, Function<T, LocalDateTime> timestamp) {
+        return records.stream()
+                .map(timestamp)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    /**
+     * Records handed to the writer by one cycle and the newest upstream timestamp among them.
+     */
+    private record Collected(int records, LocalDateTime newest) {
     }
 
     /**
      * Manual trigger for data collection (useful for testing or immediate collection).
+     * Returns immediately; sources that are already being collected are joined rather than restarted.
+     *
+     * @return The job to poll for the outcome
      */
-    public void triggerDataCollection() {
+    public CollectionJob triggerDataCollection() {
         logger.info("Manually triggered data collection");
-        collectTeamWellbeingData();
+        return collectionCoordinator.submit(EnumSet.allOf(CollectionSource.class), "manual", this::collect);
+    }
+
+    /**
+     * Gets a recent collection job by id.
+     */
+    public Optional<CollectionJob> getCollectionJob(String jobId) {
+        return collectionCoordinator.getJob(jobId);
     }
 
     /**
@@ -0,0 +1,88 @@
+package com.abcstark.teamwellbeing.scheduled;
+
+import com.abcstark.teamwellbeing.config.PersistenceProperties;
+import com.abcstark.teamwellbeing.persistence.InMemoryPersistenceService;
+import com.abcstark.teamwellbeing.rollup.RollupService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Background task that evicts raw records older than their source's retention window.
+ *
+ * Expired records are found through the store's time index and removed in small
+ * batches, so the writer is never held up by a long sweep. Rollups are maintained
+ * on ingest and outlive the raw records; only hourly rollups are pruned here.
+ */
+@Component
+public class RetentionSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetentionSweeper.class);
+
+    private final InMemoryPersistenceService persistenceService;
+    private final RollupService rollupService;
+    private final PersistenceProperties persistenceProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public RetentionSweeper(InMemoryPersistenceService persistenceService,
+                            RollupService rollupService,
+                            PersistenceProperties persistenceProperties,
+                            MeterRegistry meterRegistry) {
+        this.persistenceService = persistenceService;
+        this.rollupService = rollupService;
+        this.persistenceProperties = persistenceProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "#{@persistenceProperties.retention.sweepInterval}",
+               initialDelayString = "#{@persistenceProperties.retention.sweepInterval}")
+    public void sweep() {
+        PersistenceProperties.Retention retention = persistenceProperties.getRetention();
+        LocalDateTime now = LocalDateTime.now();
+
+        sweep("slack", retention.getSlackDays(), now, persistenceService::evictSlackMessages);
+        sweep("github", retention.getGithubDays(), now, persistenceService::evictGitHubIssues);
+        sweep("jira", retention.getJiraDays(), now, persistenceService::evictJiraIssues);
+
+        if (retention.getHourlyRollupDays() > 0) {
+            rollupService.pruneHourly(now.minusDays(retention.getHourlyRollupDays()));
+        }
+    }
+
+    private <T> void sweep(String source, int retentionDays, LocalDateTime now,
+                           BiFunction<LocalDateTime, Integer, List<T>> evict) {
+        if (retentionDays <= 0) {
+            return;
+        }
+
+        LocalDateTime cutoff = now.minusDays(retentionDays);
+        int batchSize = persistenceProperties.getRetention().getSweepBatchSize();
+        long total = 0;
+        List<T> evicted;
+
+        do {
+            evicted = evict.apply(cutoff, batchSize);
+            total += evicted.size();
+            // Let the writer in between batches
+            Thread.yield();
+        } while (evicted.size() == batchSize);
+
+        if (total > 0) {
+            Counter.builder("wellbeing.retention.evicted")
+                    .description("Raw records evicted by the retention sweeper")
+                    .tag("source", source)
+                    .register(meterRegistry)
+                    .increment(total);
+            logger.info("Evicted {} {} records older than {}", total, source, cutoff);
+        }
+    }
+}
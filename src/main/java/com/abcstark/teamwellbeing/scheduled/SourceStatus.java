@@ -0,0 +1,103 @@
+package com.abcstark.teamwellbeing.scheduled;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * Collection status of one source and the channel, repository or project it reads.
+ * Rates cover the recent cycles kept by the scheduler, not the whole uptime.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SourceStatus {
+
+    @JsonProperty("source")
+    private final String source;
+
+    @JsonProperty("channel")
+    private final String channel;
+
+    @JsonProperty("repository")
+    private final String repository;
+
+    @JsonProperty("project")
+    private final String project;
+
+    @JsonProperty("running")
+    private final boolean running;
+
+    @JsonProperty("last_success_at")
+    private final LocalDateTime lastSuccessAt;
+
+    @JsonProperty("watermark")
+    private final LocalDateTime watermark;
+
+    @JsonProperty("lag_seconds")
+    private final Long lagSeconds;
+
+    @JsonProperty("cycles")
+    private final int cycles;
+
+    @JsonProperty("records_per_second")
+    private final double recordsPerSecond;
+
+    @JsonProperty("error_rate")
+    private final double errorRate;
+
+    @JsonProperty("next_run_at")
+    private final LocalDateTime nextRunAt;
+
+    SourceStatus(CollectionSource source, String target, boolean running, LocalDateTime lastSuccessAt,
+                 LocalDateTime watermark, Long lagSeconds, int cycles, double recordsPerSecond, double errorRate,
+                 LocalDateTime nextRunAt) {
+        this.source = source.id();
+        this.channel = source == CollectionSource.SLACK ? target : null;
+        this.repository = source == CollectionSource.GITHUB ? target : null;
+        this.project = source == CollectionSource.JIRA ? target : null;
+        this.running = running;
+        this.lastSuccessAt = lastSuccessAt;
+        this.watermark = watermark;
+        this.lagSeconds = lagSeconds;
+        this.cycles = cycles;
+        this.recordsPerSecond = recordsPerSecond;
+        this.errorRate = errorRate;
+        this.nextRunAt = nextRunAt;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public LocalDateTime getLastSuccessAt() {
+        return lastSuccessAt;
+    }
+
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    public Long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public int getCycles() {
+        return cycles;
+    }
+
+    public double getRecordsPerSecond() {
+        return recordsPerSecond;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public LocalDateTime getNextRunAt() {
+        return nextRunAt;
+    }
+}
@@ -0,0 +1,129 @@
+package com.abcstark.teamwellbeing.search;
+
+import java.util.Arrays;
+
+/**
+ * Posting list of one term: the ids of the documents containing it, kept as a
+ * sorted, growable int array. Document ids are assigned in increasing order, so
+ * appending keeps the array sorted.
+ */
+final class Postings {
+
+    static final int[] EMPTY = new int[0];
+
+    private int[] docs = new int[4];
+    private int size;
+
+    void add(int doc) {
+        if (size > 0 && docs[size - 1] == doc) {
+            return;
+        }
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+        }
+        docs[size++] = doc;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(docs, size);
+    }
+
+    /**
+     * Drops deleted documents, maps the others to their new ids and trims the array.
+     *
+     * @param renumbered New id per old id, or -1 for deleted documents; must preserve order
+     * @return The number of documents left
+     */
+    int compact(int[] renumbered) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int doc = renumbered[docs[i]];
+            if (doc >= 0) {
+                docs[kept++] = doc;
+            }
+        }
+        size = kept;
+        docs = Arrays.copyOf(docs, Math.max(kept, 1));
+        return kept;
+    }
+
+    /**
+     * Intersects two sorted arrays, galloping through the longer one.
+     */
+    static int[] intersect(int[] a, int[] b) {
+        if (a.length > b.length) {
+            int[] swap = a;
+            a = b;
+            b = swap;
+        }
+        int[] result = new int[a.length];
+        int count = 0;
+        int from = 0;
+        for (int doc : a) {
+            from = gallop(b, from, doc);
+            if (from == b.length) {
+                break;
+            }
+            if (b[from] == doc) {
+                result[count++] = doc;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[count++] = a[i++];
+            } else if (a[i] > b[j]) {
+                result[count++] = b[j++];
+            } else {
+                result[count++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[count++] = a[i++];
+        }
+        while (j < b.length) {
+            result[count++] = b[j++];
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    static int[] subtract(int[] a, int[] b) {
+        int[] result = new int[a.length];
+        int count = 0;
+        int from = 0;
+        for (int doc : a) {
+            from = gallop(b, from, doc);
+            if (from == b.length || b[from] != doc) {
+                result[count++] = doc;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Finds the first index at or after {@code from} whose value is not less than {@code target}.
+     */
+    static int gallop(int[] array, int from, int target) {
+        int step = 1;
+        int high = from;
+        while (high < array.length && array[high] < target) {
+            from = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        int index = Arrays.binarySearch(array, from, Math.min(high + 1, array.length), target);
+        return index >= 0 ? index : -index - 1;
+    }
+}
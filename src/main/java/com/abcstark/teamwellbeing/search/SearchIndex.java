@@ -0,0 +1,365 @@
+package com.abcstark.teamwellbeing.search;
+
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.persistence.IngestListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over stored Slack messages, GitHub issues and Jira issues,
+ * updated as records are stored.
+ *
+ * Every stored version of a record is a document with a sequential id, and each term
+ * maps to the sorted array of ids of the documents containing it. A replaced record
+ * gets a new id and its old document is marked deleted. Once deleted documents make
+ * up half of the index, they are dropped and the live ones renumbered in order, so
+ * ids and arrays follow the number of live documents rather than of all writes.
+ * Queries intersect and merge posting lists and never touch the stored records.
+ */
+@Service
+public class SearchIndex implements IngestListener {
+
+    /**
+     * Identifies the stored record behind a document.
+     */
+    public record DocRef(SearchSource source, String container, String id) {
+    }
+
+    /**
+     * A matching document and the time it is sorted and filtered by.
+     */
+    public record Hit(DocRef ref, LocalDateTime timestamp) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> terms = new HashMap<>();
+    private final Map<DocRef, Integer> liveDocs = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private DocRef[] refs = new DocRef[1024];
+    private LocalDateTime[] timestamps = new LocalDateTime[1024];
+    private int nextDoc;
+    private int deletedDocs;
+
+    @Override
+    public void onSlackMessage(SlackMessage previous, SlackMessage current) {
+        index(new DocRef(SearchSource.SLACK, current.getChannelId(), current.getMessageId()),
+                current.getTimestamp(), text(current));
+    }
+
+    @Override
+    public void onGitHubIssue(GitHubIssue previous, GitHubIssue current) {
+        index(new DocRef(SearchSource.GITHUB, current.getRepository(), String.valueOf(current.getNumber())),
+                current.getUpdatedAt() != null ? current.getUpdatedAt() : current.getCreatedAt(), text(current));
+    }
+
+    @Override
+    public void onJiraIssue(JiraIssue previous, JiraIssue current) {
+        index(new DocRef(SearchSource.JIRA, current.getProjectKey(), current.getKey()),
+                current.getUpdated() != null ? current.getUpdated() : current.getCreated(), text(current));
+    }
+
+    @Override
+    public void onSlackMessageEvicted(SlackMessage message) {
+        remove(new DocRef(SearchSource.SLACK, message.getChannelId(), message.getMessageId()));
+    }
+
+    @Override
+    public void onGitHubIssueEvicted(GitHubIssue issue) {
+        remove(new DocRef(SearchSource.GITHUB, issue.getRepository(), String.valueOf(issue.getNumber())));
+    }
+
+    @Override
+    public void onJiraIssueEvicted(JiraIssue issue) {
+        remove(new DocRef(SearchSource.JIRA, issue.getProjectKey(), issue.getKey()));
+    }
+
+    @Override
+    public void onClear() {
+        lock.writeLock().lock();
+        try {
+            terms.clear();
+            liveDocs.clear();
+            deleted.clear();
+            deletedDocs = 0;
+            refs = new DocRef[1024];
+            timestamps = new LocalDateTime[1024];
+            nextDoc = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the documents matching a query, newest first.
+     *
+     * Multi-word phrases are matched word by word here; callers holding the
+     * record text should check {@link SearchQuery#matches} when
+     * {@link SearchQuery#hasPhrases} is set.
+     *
+     * @param sources The sources to search, or empty for all
+     * @param from Earliest document time, or null
+     * @param to Latest document time, or null
+     */
+    public List<Hit> search(SearchQuery query, Set<SearchSource> sources, LocalDateTime from, LocalDateTime to) {
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] docs = null;
+            for (List<List<String>> clause : sortedBySize(query.getRequired())) {
+                int[] matches = Postings.EMPTY;
+                for (List<String> phrase : clause) {
+                    matches = Postings.union(matches, allTerms(phrase));
+                }
+                docs = docs == null ? matches : Postings.intersect(docs, matches);
+                if (docs.length == 0) {
+                    return List.of();
+                }
+            }
+            for (List<String> phrase : query.getExcluded()) {
+                if (phrase.size() == 1) {
+                    docs = Postings.subtract(docs, postings(phrase.get(0)));
+                }
+            }
+
+            // Sort by time through primitive keys: seconds since the oldest hit in the high
+            // and the document id in the low 32 bits, with undated documents oldest of all
+            int[] matched = new int[docs.length];
+            long[] seconds = new long[docs.length];
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            int count = 0;
+            for (int doc : docs) {
+                LocalDateTime timestamp = timestamps[doc];
+                if (deleted.get(doc)
+                        || !sources.isEmpty() && !sources.contains(refs[doc].source())
+                        || from != null && (timestamp == null || timestamp.isBefore(from))
+                        || to != null && (timestamp == null || timestamp.isAfter(to))) {
+                    continue;
+                }
+                if (timestamp != null) {
+                    seconds[count] = timestamp.toEpochSecond(ZoneOffset.UTC);
+                    min = Math.min(min, seconds[count]);
+                    max = Math.max(max, seconds[count]);
+                }
+                matched[count++] = doc;
+            }
+
+            long[] keys = new long[count];
+            if (min > max || max - min < 0x7FFFFFFFL) {
+                for (int i = 0; i < count; i++) {
+                    int doc = matched[i];
+                    long offset = timestamps[doc] != null ? seconds[i] - min + 1 : 0;
+                    keys[i] = (offset << 32) | doc;
+                }
+                Arrays.sort(keys);
+            } else {
+                // Hits more than 68 years apart do not fit the packed key
+                Comparator<Integer> byTime = Comparator.comparing((Integer i) -> timestamps[matched[i]],
+                        Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+                Integer[] order = new Integer[count];
+                Arrays.setAll(order, i -> i);
+                Arrays.sort(order, byTime.thenComparingInt(i -> matched[i]));
+                for (int i = 0; i < count; i++) {
+                    keys[i] = matched[order[i]];
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(count);
+            for (int i = count - 1; i >= 0; i--) {
+                int doc = (int) keys[i];
+                hits.add(new Hit(refs[doc], timestamps[doc]));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of live documents.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of document ids in use, live or deleted.
+     */
+    int getAssignedIds() {
+        lock.readLock().lock();
+        try {
+            return nextDoc;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of distinct indexed terms.
+     */
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String text(SlackMessage message) {
+        return message.getText();
+    }
+
+    static String text(GitHubIssue issue) {
+        return join(issue.getTitle(), issue.getBody(), issue.getLabels());
+    }
+
+    static String text(JiraIssue issue) {
+        return join(issue.getKey(), issue.getSummary(), issue.getDescription(), issue.getLabels(), issue.getComponents());
+    }
+
+    private void index(DocRef ref, LocalDateTime timestamp, String text) {
+        Set<String> documentTerms = new HashSet<>(SearchQuery.tokenize(text));
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = liveDocs.get(ref);
+            if (previous != null) {
+                delete(previous);
+            }
+
+            int doc = nextDoc++;
+            if (doc == refs.length) {
+                refs = Arrays.copyOf(refs, doc * 2);
+                timestamps = Arrays.copyOf(timestamps, doc * 2);
+            }
+            refs[doc] = ref;
+            timestamps[doc] = timestamp;
+            liveDocs.put(ref, doc);
+            for (String term : documentTerms) {
+                terms.computeIfAbsent(term, t -> new Postings()).add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(DocRef ref) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = liveDocs.remove(ref);
+            if (doc != null) {
+                delete(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(int doc) {
+        liveDocs.remove(refs[doc], doc);
+        deleted.set(doc);
+        deletedDocs++;
+        refs[doc] = null;
+        timestamps[doc] = null;
+
+        if (deletedDocs > Math.max(1024, liveDocs.size())) {
+            renumber();
+        }
+    }
+
+    /**
+     * Drops deleted documents and gives the live ones consecutive ids in their
+     * current order, which keeps every posting list sorted.
+     */
+    private void renumber() {
+        int[] renumbered = new int[nextDoc];
+        int live = 0;
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (deleted.get(doc)) {
+                renumbered[doc] = -1;
+                continue;
+            }
+            renumbered[doc] = live;
+            refs[live] = refs[doc];
+            timestamps[live] = timestamps[doc];
+            liveDocs.put(refs[live], live);
+            live++;
+        }
+        terms.values().removeIf(postings -> postings.compact(renumbered) == 0);
+
+        int capacity = Math.max(1024, Integer.highestOneBit(Math.max(live, 1)) * 2);
+        refs = Arrays.copyOf(refs, capacity);
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        Arrays.fill(refs, live, capacity, null);
+        Arrays.fill(timestamps, live, capacity, null);
+        nextDoc = live;
+        deleted.clear();
+        deletedDocs = 0;
+    }
+
+    private int[] allTerms(List<String> phrase) {
+        int[] docs = null;
+        for (String term : phrase) {
+            int[] postings = postings(term);
+            docs = docs == null ? postings : Postings.intersect(docs, postings);
+        }
+        return docs != null ? docs : Postings.EMPTY;
+    }
+
+    private int[] postings(String term) {
+        Postings postings = terms.get(term);
+        return postings != null ? postings.toArray() : Postings.EMPTY;
+    }
+
+    private List<List<List<String>>> sortedBySize(List<List<List<String>>> clauses) {
+        List<List<List<String>>> sorted = new ArrayList<>(clauses);
+        sorted.sort((a, b) -> Long.compare(estimate(a), estimate(b)));
+        return sorted;
+    }
+
+    private long estimate(List<List<String>> clause) {
+        long size = 0;
+        for (List<String> phrase : clause) {
+            size += phrase.stream().mapToInt(term -> {
+                Postings postings = terms.get(term);
+                return postings != null ? postings.size() : 0;
+            }).min().orElse(0);
+        }
+        return size;
+    }
+
+    private static String join(Object... parts) {
+        StringBuilder text = new StringBuilder();
+        for (Object part : parts) {
+            if (part instanceof List<?> list) {
+                list.forEach(value -> text.append(value).append(' '));
+            } else if (part != null) {
+                text.append(part).append(' ');
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,164 @@
+package com.abcstark.teamwellbeing.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * A parsed search query.
+ *
+ * Words are required, {@code OR} between two words makes either one enough,
+ * {@code -word} or {@code NOT word} excludes documents containing the word, and
+ * text in double quotes must appear as a phrase. For example
+ * {@code outage "on call" OR pager -test} matches documents containing "outage"
+ * and either the phrase "on call" or "pager", but not "test".
+ */
+public final class SearchQuery {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final List<List<List<String>>> required;
+    private final List<List<String>> excluded;
+
+    private SearchQuery(List<List<List<String>>> required, List<List<String>> excluded) {
+        this.required = required;
+        this.excluded = excluded;
+    }
+
+    /**
+     * Parses a query string.
+     */
+    public static SearchQuery parse(String query) {
+        List<List<List<String>>> required = new ArrayList<>();
+        List<List<String>> excluded = new ArrayList<>();
+        boolean or = false;
+        boolean not = false;
+
+        for (String token : split(query != null ? query : "")) {
+            if (token.equals("OR")) {
+                or = !required.isEmpty();
+                continue;
+            }
+            if (token.equals("AND")) {
+                continue;
+            }
+            if (token.equals("NOT")) {
+                not = true;
+                continue;
+            }
+
+            boolean negated = not;
+            if (token.startsWith("-") && token.length() > 1) {
+                negated = true;
+                token = token.substring(1);
+            }
+            List<String> terms = tokenize(token);
+            if (terms.isEmpty()) {
+                continue;
+            }
+
+            if (negated) {
+                excluded.add(terms);
+            } else if (or) {
+                required.get(required.size() - 1).add(terms);
+            } else {
+                List<List<String>> clause = new ArrayList<>();
+                clause.add(terms);
+                required.add(clause);
+            }
+            or = false;
+            not = false;
+        }
+        return new SearchQuery(required, excluded);
+    }
+
+    /**
+     * Splits text into lowercase words on anything that is not a letter or digit.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String term : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Gets the required clauses; each clause lists alternatives, each alternative a phrase of terms.
+     */
+    List<List<List<String>>> getRequired() {
+        return required;
+    }
+
+    /**
+     * Gets the excluded phrases.
+     */
+    List<List<String>> getExcluded() {
+        return excluded;
+    }
+
+    public boolean isEmpty() {
+        return required.isEmpty();
+    }
+
+    /**
+     * Checks whether the query has multi-word phrases, which the term index can only
+     * narrow down and which have to be checked against the document text.
+     */
+    public boolean hasPhrases() {
+        return required.stream().flatMap(List::stream).anyMatch(terms -> terms.size() > 1)
+                || excluded.stream().anyMatch(terms -> terms.size() > 1);
+    }
+
+    /**
+     * Evaluates the query against the terms of a document.
+     */
+    public boolean matches(List<String> documentTerms) {
+        for (List<List<String>> clause : required) {
+            if (clause.stream().noneMatch(phrase -> containsPhrase(documentTerms, phrase))) {
+                return false;
+            }
+        }
+        return excluded.stream().noneMatch(phrase -> containsPhrase(documentTerms, phrase));
+    }
+
+    private static boolean containsPhrase(List<String> terms, List<String> phrase) {
+        return Collections.indexOfSubList(terms, phrase) >= 0;
+    }
+
+    private static List<String> split(String query) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '"') {
+                if (quoted || current.length() > 0 && !current.toString().equals("-")) {
+                    flush(tokens, current);
+                }
+                quoted = !quoted;
+            } else if (Character.isWhitespace(c) && !quoted) {
+                flush(tokens, current);
+            } else {
+                current.append(c);
+            }
+        }
+        flush(tokens, current);
+        return tokens;
+    }
+
+    private static void flush(List<String> tokens, StringBuilder current) {
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.abcstark.teamwellbeing.search;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * One search hit with the stored record it points to.
+ */
+public class SearchResult {
+
+    @JsonProperty("source")
+    private final SearchSource source;
+
+    @JsonProperty("id")
+    private final String id;
+
+    @JsonProperty("timestamp")
+    private final LocalDateTime timestamp;
+
+    @JsonProperty("record")
+    private final Object record;
+
+    public SearchResult(SearchSource source, String id, LocalDateTime timestamp, Object record) {
+        this.source = source;
+        this.id = id;
+        this.timestamp = timestamp;
+        this.record = record;
+    }
+
+    public SearchSource getSource() {
+        return source;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public Object getRecord() {
+        return record;
+    }
+}
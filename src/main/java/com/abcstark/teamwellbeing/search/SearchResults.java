@@ -0,0 +1,46 @@
+package com.abcstark.teamwellbeing.search;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * A page of search hits, newest first, and the total number of matches.
+ */
+public class SearchResults {
+
+    @JsonProperty("query")
+    private final String query;
+
+    @JsonProperty("total")
+    private final int total;
+
+    @JsonProperty("took_ms")
+    private final long tookMs;
+
+    @JsonProperty("results")
+    private final List<SearchResult> results;
+
+    public SearchResults(String query, int total, long tookMs, List<SearchResult> results) {
+        this.query = query;
+        this.total = total;
+        this.tookMs = tookMs;
+        this.results = results;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public long getTookMs() {
+        return tookMs;
+    }
+
+    public List<SearchResult> getResults() {
+        return results;
+    }
+}
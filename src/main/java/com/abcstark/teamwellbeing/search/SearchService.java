@@ -0,0 +1,91 @@
+package com.abcstark.teamwellbeing.search;
+
+import com.abcstark.teamwellbeing.persistence.InMemoryPersistenceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Answers search queries from the {@link SearchIndex} and loads the stored records
+ * for the returned page. Queries with multi-word phrases are checked against the
+ * record text, since the index only knows which words a document contains.
+ */
+@Service
+public class SearchService {
+
+    private final SearchIndex searchIndex;
+    private final InMemoryPersistenceService persistenceService;
+
+    @Autowired
+    public SearchService(SearchIndex searchIndex, InMemoryPersistenceService persistenceService) {
+        this.searchIndex = searchIndex;
+        this.persistenceService = persistenceService;
+    }
+
+    /**
+     * Searches stored records.
+     *
+     * @param query The query, see {@link SearchQuery}
+     * @param sources The sources to search, or empty for all
+     * @param from Earliest record time, or null
+     * @param to Latest record time, or null
+     * @param limit Maximum number of results to return
+     * @return The newest matching records and the total number of matches
+     */
+    public SearchResults search(String query, Set<SearchSource> sources, LocalDateTime from, LocalDateTime to,
+                                int limit) {
+        long start = System.nanoTime();
+        SearchQuery parsed = SearchQuery.parse(query);
+        List<SearchIndex.Hit> hits = searchIndex.search(parsed, sources, from, to);
+
+        List<SearchResult> results = new ArrayList<>();
+        int total = 0;
+        for (SearchIndex.Hit hit : hits) {
+            if (!parsed.hasPhrases() && results.size() >= limit) {
+                total = hits.size();
+                break;
+            }
+            Optional<SearchResult> result = load(hit, parsed);
+            if (result.isPresent()) {
+                total++;
+                if (results.size() < limit) {
+                    results.add(result.get());
+                }
+            }
+        }
+        return new SearchResults(query, total, (System.nanoTime() - start) / 1_000_000, results);
+    }
+
+    private Optional<SearchResult> load(SearchIndex.Hit hit, SearchQuery query) {
+        SearchIndex.DocRef ref = hit.ref();
+        return switch (ref.source()) {
+            case SLACK -> persistenceService.findSlackMessage(ref.container(), ref.id(), hit.timestamp())
+                    .filter(message -> verify(query, SearchIndex.text(message)))
+                    .map(message -> result(hit, message));
+            case GITHUB -> persistenceService.findGitHubIssue(ref.container(), Integer.parseInt(ref.id()))
+                    .filter(issue -> verify(query, SearchIndex.text(issue)))
+                    .map(issue -> result(hit, issue));
+            case JIRA -> persistenceService.findJiraIssue(ref.id())
+                    .filter(issue -> verify(query, SearchIndex.text(issue)))
+                    .map(issue -> result(hit, issue));
+        };
+    }
+
+    private static boolean verify(SearchQuery query, String text) {
+        return !query.hasPhrases() || query.matches(SearchQuery.tokenize(text));
+    }
+
+    private static SearchResult result(SearchIndex.Hit hit, Object record) {
+        String id = switch (hit.ref().source()) {
+            case SLACK -> hit.ref().id();
+            case GITHUB -> hit.ref().container() + "#" + hit.ref().id();
+            case JIRA -> hit.ref().id();
+        };
+        return new SearchResult(hit.ref().source(), id, hit.timestamp(), record);
+    }
+}
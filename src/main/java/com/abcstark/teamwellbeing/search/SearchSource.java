@@ -0,0 +1,10 @@
+package com.abcstark.teamwellbeing.search;
+
+/**
+ * Source of an indexed document.
+ */
+public enum SearchSource {
+    SLACK,
+    GITHUB,
+    JIRA
+}
@@ -1,11 +1,20 @@
 package com.abcstark.teamwellbeing.service;
 
 import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.jfr.UpstreamRequests;
+import com.abcstark.teamwellbeing.metrics.IntegrationMetrics;
 import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.ratelimit.RateLimitGovernor;
+import io.micrometer.core.instrument.Timer;
 import org.kohsuke.github.GHIssue;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubAbuseLimitHandler;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.GitHubRateLimitHandler;
+import org.kohsuke.github.HttpException;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,30 +34,116 @@ import java.util.stream.Collectors;
 public class GitHubService {
 
     private static final Logger logger = LoggerFactory.getLogger(GitHubService.class);
+    private static final String RATE_LIMIT_BUCKET = "github";
 
     private final IntegrationProperties integrationProperties;
+    private final RateLimitGovernor rateLimitGovernor;
+    private final IntegrationMetrics integrationMetrics;
     private GitHub github;
 
     @Autowired
-    public GitHubService(IntegrationProperties integrationProperties) {
+    public GitHubService(IntegrationProperties integrationProperties, RateLimitGovernor rateLimitGovernor,
+                         IntegrationMetrics integrationMetrics) {
         this.integrationProperties = integrationProperties;
+        this.rateLimitGovernor = rateLimitGovernor;
+        this.integrationMetrics = integrationMetrics;
         initializeGitHubClient();
     }
 
     /**
      * Initializes the GitHub client with the configured token.
+     * Rate-limit responses fail fast and are reported to the governor instead of
+     * letting the client sleep until the quota resets.
      */
     private void initializeGitHubClient() {
         try {
             String token = integrationProperties.getGithub().getToken();
             if (token != null && !token.startsWith("your-github")) {
-                this.github = new GitHubBuilder().withOAuthToken(token).build();
+                this.github = new GitHubBuilder()
+                        .withEndpoint(integrationProperties.getGithub().getApiUrl())
+                        .withConnector(observingRateLimit(UpstreamRequests.gitHub(GitHubConnector.DEFAULT)))
+                        .withOAuthToken(token)
+                        .withRateLimitHandler(new GitHubRateLimitHandler() {
+                            @Override
+                            public void onError(GitHubConnectorResponse response) throws IOException {
+                                throw rateLimited(response);
+                            }
+                        })
+                        .withAbuseLimitHandler(new GitHubAbuseLimitHandler() {
+                            @Override
+                            public void onError(GitHubConnectorResponse response) throws IOException {
+                                throw rateLimited(response);
+                            }
+                        })
+                        .build();
             }
         } catch (IOException e) {
             logger.error("Failed to initialize GitHub client", e);
         }
     }
 
+    /**
+     * Feeds a rate-limited GitHub response into the governor.
+     */
+    private IOException rateLimited(GitHubConnectorResponse response) {
+        rateLimitGovernor.observeHeaders(RATE_LIMIT_BUCKET, response::header);
+        return new RateLimitedException("GitHub rate limit exceeded (HTTP " + response.statusCode() + ")");
+    }
+
+    /**
+     * Calls the GitHub API and records its latency and outcome. Paged lists are fetched
+     * inside the call, so a listing is timed including all of its pages.
+     */
+    private <T> T call(String method, String repository, GitHubCall<T> call) throws IOException {
+        Timer.Sample sample = integrationMetrics.start();
+        String outcome = IntegrationMetrics.ERROR;
+        try {
+            T result = call.call();
+            outcome = IntegrationMetrics.SUCCESS;
+            return result;
+        } catch (IOException | RuntimeException e) {
+            // Paged iteration wraps failures in unchecked exceptions
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof RateLimitedException) {
+                    outcome = IntegrationMetrics.RATE_LIMITED;
+                    break;
+                }
+                if (cause instanceof HttpException httpException && httpException.getResponseCode() > 0) {
+                    outcome = IntegrationMetrics.outcome(httpException.getResponseCode());
+                    break;
+                }
+            }
+            throw e;
+        } finally {
+            integrationMetrics.recordCall(sample, IntegrationMetrics.GITHUB, method, repository, outcome);
+        }
+    }
+
+    @FunctionalInterface
+    private interface GitHubCall<T> {
+        T call() throws IOException;
+    }
+
+    /**
+     * Thrown by the rate-limit handlers instead of waiting for the quota to reset.
+     */
+    private static class RateLimitedException extends IOException {
+        RateLimitedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Wraps a connector so the governor follows the quota headers of every GitHub response.
+     */
+    private GitHubConnector observingRateLimit(GitHubConnector delegate) {
+        return request -> {
+            GitHubConnectorResponse response = delegate.send(request);
+            rateLimitGovernor.observeHeaders(RATE_LIMIT_BUCKET, response::header);
+            return response;
+        };
+    }
+
     /**
      * Fetches recent issues from the default GitHub repository.
      * 
@@ -75,19 +170,28 @@ public class GitHubService {
             return issues;
         }
 
+        // Repository lookup plus two pages of issues
+        rateLimitGovernor.acquire(RATE_LIMIT_BUCKET, 3);
+
+        String fullName = owner + "/" + repositoryName;
         try {
-            GHRepository repository = github.getRepository(owner + "/" + repositoryName);
+            GHRepository repository = call("repos.get", fullName, () -> github.getRepository(fullName));
             
             // Fetch recent issues (last 50)
-            List<GHIssue> ghIssues = repository.getIssues(org.kohsuke.github.GHIssueState.ALL)
-                    .stream()
-                    .limit(50)
-                    .collect(Collectors.toList());
+            List<GHIssue> ghIssues = call("issues.list", fullName,
+                    () -> repository.getIssues(org.kohsuke.github.GHIssueState.ALL)
+                            .stream()
+                            .limit(50)
+                            .collect(Collectors.toList()));
 
             for (GHIssue ghIssue : ghIssues) {
                 GitHubIssue issue = convertToGitHubIssue(ghIssue, repositoryName);
                 issues.add(issue);
             }
+            integrationMetrics.countRecords(IntegrationMetrics.GITHUB, fullName, IntegrationMetrics.FETCHED,
+                    ghIssues.size());
+            integrationMetrics.countRecords(IntegrationMetrics.GITHUB, fullName, IntegrationMetrics.PARSED,
+                    issues.size());
 
             logger.info("Successfully fetched {} issues from repository '{}/{}'", 
                        issues.size(), owner, repositoryName);
@@ -113,12 +217,16 @@ public class GitHubService {
             return issues;
         }
 
+        rateLimitGovernor.acquire(RATE_LIMIT_BUCKET, 2);
+
         try {
             String owner = integrationProperties.getGithub().getOwner();
             String repositoryName = integrationProperties.getGithub().getRepository();
-            GHRepository repository = github.getRepository(owner + "/" + repositoryName);
+            String fullName = owner + "/" + repositoryName;
+            GHRepository repository = call("repos.get", fullName, () -> github.getRepository(fullName));
             
-            List<GHIssue> ghIssues = repository.getIssues(org.kohsuke.github.GHIssueState.OPEN)
+            List<GHIssue> ghIssues = call("issues.list", fullName,
+                    () -> repository.getIssues(org.kohsuke.github.GHIssueState.OPEN))
                     .stream()
                     .filter(issue -> {
                         try {
@@ -155,13 +263,17 @@ public class GitHubService {
             return "GitHub client not initialized. Check token configuration.";
         }
 
+        rateLimitGovernor.acquire(RATE_LIMIT_BUCKET, 2);
+
         try {
             String owner = integrationProperties.getGithub().getOwner();
             String repositoryName = integrationProperties.getGithub().getRepository();
-            GHRepository repository = github.getRepository(owner + "/" + repositoryName);
+            String fullName = owner + "/" + repositoryName;
+            GHRepository repository = call("repos.get", fullName, () -> github.getRepository(fullName));
 
             int openIssues = repository.getOpenIssueCount();
-            int totalIssues = repository.getIssues(org.kohsuke.github.GHIssueState.ALL).size();
+            int totalIssues = call("issues.list", fullName,
+                    () -> repository.getIssues(org.kohsuke.github.GHIssueState.ALL).size());
             int closedIssues = totalIssues - openIssues;
 
             String stats = String.format(
@@ -191,7 +303,7 @@ public class GitHubService {
      * @param repositoryName The repository name
      * @return GitHubIssue object
      */
-    private GitHubIssue convertToGitHubIssue(GHIssue ghIssue, String repositoryName) {
+    GitHubIssue convertToGitHubIssue(GHIssue ghIssue, String repositoryName) {
         GitHubIssue issue = new GitHubIssue();
         
         issue.setIssueId((long) ghIssue.getNumber());
@@ -286,7 +398,8 @@ public class GitHubService {
             }
 
             // Try to get the authenticated user
-            var user = github.getMyself();
+            rateLimitGovernor.acquire(RATE_LIMIT_BUCKET);
+            var user = call("users.get", null, github::getMyself);
             logger.info("GitHub connection test successful. Connected as: {}", user.getLogin());
             return true;
 
@@ -1,23 +1,32 @@
 package com.abcstark.teamwellbeing.service;
 
 import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.jfr.UpstreamRequests;
+import com.abcstark.teamwellbeing.metrics.IntegrationMetrics;
 import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.ratelimit.RateLimitGovernor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -30,14 +39,22 @@ public class JiraService {
     private static final Logger logger = LoggerFactory.getLogger(JiraService.class);
     private static final DateTimeFormatter JIRA_DATE_FORMAT = 
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+    private static final String RATE_LIMIT_BUCKET = "jira";
+    private static final String OPEN_JQL = "project = %s AND status in ('To Do', 'In Progress', 'Open')";
+    private static final String DONE_JQL = "project = %s AND status in ('Done', 'Closed', 'Resolved')";
 
     private final IntegrationProperties integrationProperties;
+    private final RateLimitGovernor rateLimitGovernor;
+    private final IntegrationMetrics integrationMetrics;
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
 
     @Autowired
-    public JiraService(IntegrationProperties integrationProperties, WebClient.Builder webClientBuilder) {
+    public JiraService(IntegrationProperties integrationProperties, WebClient.Builder webClientBuilder,
+                       RateLimitGovernor rateLimitGovernor, IntegrationMetrics integrationMetrics) {
         this.integrationProperties = integrationProperties;
+        this.rateLimitGovernor = rateLimitGovernor;
+        this.integrationMetrics = integrationMetrics;
         this.objectMapper = new ObjectMapper();
         
         // Initialize WebClient with base URL and authentication
@@ -46,6 +63,8 @@ public class JiraService {
             this.webClient = webClientBuilder
                     .baseUrl(jiraUrl)
                     .defaultHeaders(this::setAuthHeaders)
+                    .filter(rateLimitGovernor.responseObserver(RATE_LIMIT_BUCKET))
+                    .filter(UpstreamRequests.jira())
                     .build();
         } else {
             this.webClient = webClientBuilder.build();
@@ -95,22 +114,13 @@ public class JiraService {
             return issues;
         }
 
+        rateLimitGovernor.acquire(RATE_LIMIT_BUCKET);
+
         try {
             // Build JQL query to fetch recent issues
             String jql = String.format("project = %s ORDER BY updated DESC", projectKey);
-            String url = String.format("/rest/api/3/search?jql=%s&maxResults=50", 
-                                     java.net.URLEncoder.encode(jql, "UTF-8"));
-
-            Mono<String> response = webClient.get()
-                    .uri(url)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        logger.error("Error response from Jira API: {}", clientResponse.statusCode());
-                        return Mono.error(new RuntimeException("Jira API error: " + clientResponse.statusCode()));
-                    })
-                    .bodyToMono(String.class);
 
-            String responseBody = response.block();
+            String responseBody = get("search", projectKey, searchUri(jql, 50));
             if (responseBody != null) {
                 issues = parseJiraIssues(responseBody, projectKey);
                 logger.info("Successfully fetched {} issues from Jira project '{}'", issues.size(), projectKey);
@@ -123,6 +133,30 @@ public class JiraService {
         return issues;
     }
 
+    /**
+     * Fetches recent issues from the default Jira project without blocking.
+     * Unlike getRecentIssues, upstream errors are logged and passed on rather than turned into
+     * an empty list, so callers that cache the result can tell a failure from an empty project.
+     *
+     * @return Mono of the list of JiraIssue objects
+     */
+    public Mono<List<JiraIssue>> getRecentIssuesAsync() {
+        String projectKey = integrationProperties.getJira().getProjectKey();
+        if (webClient == null || !isConfigured()) {
+            logger.warn("Jira client not properly configured. Check URL, username, and token.");
+            return Mono.just(new ArrayList<>());
+        }
+
+        String jql = String.format("project = %s ORDER BY updated DESC", projectKey);
+        return rateLimitGovernor.acquireAsync(RATE_LIMIT_BUCKET, 1)
+                .then(Mono.defer(() -> getAsync("search", projectKey, searchUri(jql, 50))
+                        .map(responseBody -> parseJiraIssues(responseBody, projectKey))
+                        .doOnNext(issues -> logger.info("Successfully fetched {} issues from Jira project '{}'",
+                                issues.size(), projectKey))
+                        .defaultIfEmpty(new ArrayList<>())
+                        .doOnError(e -> logger.error("Error fetching issues from Jira project '{}'", projectKey, e))));
+    }
+
     /**
      * Fetches issues assigned to a specific user.
      * 
@@ -137,19 +171,14 @@ public class JiraService {
             return issues;
         }
 
+        rateLimitGovernor.acquire(RATE_LIMIT_BUCKET);
+
         try {
             String projectKey = integrationProperties.getJira().getProjectKey();
             String jql = String.format("project = %s AND assignee = %s ORDER BY updated DESC", 
                                      projectKey, username);
-            String url = String.format("/rest/api/3/search?jql=%s&maxResults=50", 
-                                     java.net.URLEncoder.encode(jql, "UTF-8"));
-
-            Mono<String> response = webClient.get()
-                    .uri(url)
-                    .retrieve()
-                    .bodyToMono(String.class);
 
-            String responseBody = response.block();
+            String responseBody = get("search", projectKey, searchUri(jql, 50));
             if (responseBody != null) {
                 issues = parseJiraIssues(responseBody, projectKey);
                 logger.info("Successfully fetched {} issues for user '{}'", issues.size(), username);
@@ -162,6 +191,32 @@ public class JiraService {
         return issues;
     }
 
+    /**
+     * Fetches issues assigned to a specific user without blocking.
+     *
+     * @param username The Jira username
+     * @return Mono of the list of JiraIssue objects
+     */
+    public Mono<List<JiraIssue>> getIssuesForUserAsync(String username) {
+        if (webClient == null || !isConfigured()) {
+            logger.warn("Jira client not properly configured.");
+            return Mono.just(new ArrayList<>());
+        }
+
+        String projectKey = integrationProperties.getJira().getProjectKey();
+        String jql = String.format("project = %s AND assignee = %s ORDER BY updated DESC", projectKey, username);
+        return rateLimitGovernor.acquireAsync(RATE_LIMIT_BUCKET, 1)
+                .then(Mono.defer(() -> getAsync("search", projectKey, searchUri(jql, 50))
+                        .map(responseBody -> parseJiraIssues(responseBody, projectKey))
+                        .doOnNext(issues -> logger.info("Successfully fetched {} issues for user '{}'",
+                                issues.size(), username))
+                        .defaultIfEmpty(new ArrayList<>())
+                        .onErrorResume(e -> {
+                            logger.error("Error fetching issues for user '{}'", username, e);
+                            return Mono.just(new ArrayList<>());
+                        })));
+    }
+
     /**
      * Gets project statistics including total issues, open issues, etc.
      * 
@@ -172,39 +227,20 @@ public class JiraService {
             return "Jira client not properly configured. Check URL, username, and token.";
         }
 
+        // Project lookup plus one count query per status group
+        rateLimitGovernor.acquire(RATE_LIMIT_BUCKET, 3);
+
         try {
             String projectKey = integrationProperties.getJira().getProjectKey();
             
             // Get project information
-            Mono<String> projectResponse = webClient.get()
-                    .uri("/rest/api/3/project/" + projectKey)
-                    .retrieve()
-                    .bodyToMono(String.class);
-
-            String projectBody = projectResponse.block();
+            String projectBody = get("project.get", projectKey, "/rest/api/3/project/" + projectKey);
             
             // Get issue counts for different statuses
-            String openJql = String.format("project = %s AND status in ('To Do', 'In Progress', 'Open')", projectKey);
-            String doneJql = String.format("project = %s AND status in ('Done', 'Closed', 'Resolved')", projectKey);
-            
-            int openCount = getIssueCount(openJql);
-            int doneCount = getIssueCount(doneJql);
-            int totalCount = openCount + doneCount;
-
-            String stats = String.format(
-                "Project: %s\n" +
-                "Total Issues: %d\n" +
-                "Open Issues: %d\n" +
-                "Completed Issues: %d",
-                projectKey, totalCount, openCount, doneCount
-            );
-
-            if (projectBody != null) {
-                JsonNode projectNode = objectMapper.readTree(projectBody);
-                String projectName = projectNode.path("name").asText();
-                stats = "Project Name: " + projectName + "\n" + stats;
-            }
+            int openCount = getIssueCount(String.format(OPEN_JQL, projectKey));
+            int doneCount = getIssueCount(String.format(DONE_JQL, projectKey));
 
+            String stats = formatStatistics(projectKey, projectBody, openCount, doneCount);
             logger.info("Project statistics: {}", stats);
             return stats;
 
@@ -214,6 +250,52 @@ public class JiraService {
         }
     }
 
+    /**
+     * Gets project statistics without blocking; the project lookup and both counts run concurrently.
+     * Upstream errors are logged and passed on rather than turned into an error string.
+     *
+     * @return Mono of the project statistics as a formatted string
+     */
+    public Mono<String> getProjectStatisticsAsync() {
+        if (webClient == null || !isConfigured()) {
+            return Mono.just("Jira client not properly configured. Check URL, username, and token.");
+        }
+
+        String projectKey = integrationProperties.getJira().getProjectKey();
+        return rateLimitGovernor.acquireAsync(RATE_LIMIT_BUCKET, 3)
+                .then(Mono.defer(() -> Mono.zip(
+                                getAsync("project.get", projectKey, "/rest/api/3/project/" + projectKey)
+                                        .map(Optional::of)
+                                        .defaultIfEmpty(Optional.empty()),
+                                getIssueCountAsync(String.format(OPEN_JQL, projectKey)),
+                                getIssueCountAsync(String.format(DONE_JQL, projectKey)))
+                        .flatMap(results -> Mono.fromCallable(() -> formatStatistics(projectKey,
+                                results.getT1().orElse(null), results.getT2(), results.getT3())))
+                        .doOnNext(stats -> logger.info("Project statistics: {}", stats))
+                        .doOnError(e -> logger.error("Error fetching project statistics", e))));
+    }
+
+    /**
+     * Formats project statistics, naming the project when its lookup returned a body.
+     */
+    private String formatStatistics(String projectKey, String projectBody, int openCount, int doneCount)
+            throws IOException {
+        String stats = String.format(
+            "Project: %s\n" +
+            "Total Issues: %d\n" +
+            "Open Issues: %d\n" +
+            "Completed Issues: %d",
+            projectKey, openCount + doneCount, openCount, doneCount
+        );
+
+        if (projectBody != null) {
+            JsonNode projectNode = objectMapper.readTree(projectBody);
+            String projectName = projectNode.path("name").asText();
+            stats = "Project Name: " + projectName + "\n" + stats;
+        }
+        return stats;
+    }
+
     /**
      * Gets the count of issues for a given JQL query.
      * 
@@ -222,15 +304,7 @@ public class JiraService {
      */
     private int getIssueCount(String jql) {
         try {
-            String url = String.format("/rest/api/3/search?jql=%s&maxResults=0", 
-                                     java.net.URLEncoder.encode(jql, "UTF-8"));
-            
-            Mono<String> response = webClient.get()
-                    .uri(url)
-                    .retrieve()
-                    .bodyToMono(String.class);
-
-            String responseBody = response.block();
+            String responseBody = get("search", integrationProperties.getJira().getProjectKey(), searchUri(jql, 0));
             if (responseBody != null) {
                 JsonNode rootNode = objectMapper.readTree(responseBody);
                 return rootNode.path("total").asInt();
@@ -241,6 +315,89 @@ public class JiraService {
         return 0;
     }
 
+    /**
+     * Gets the count of issues for a given JQL query without blocking, or 0 if the query fails.
+     */
+    private Mono<Integer> getIssueCountAsync(String jql) {
+        return getAsync("search", integrationProperties.getJira().getProjectKey(), searchUri(jql, 0))
+                .map(responseBody -> {
+                    try {
+                        return objectMapper.readTree(responseBody).path("total").asInt();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .defaultIfEmpty(0)
+                .onErrorResume(e -> {
+                    logger.warn("Error getting issue count for JQL: {}", jql, e);
+                    return Mono.just(0);
+                });
+    }
+
+    /**
+     * Builds the search URI for a JQL query.
+     */
+    private static String searchUri(String jql, int maxResults) {
+        return String.format("/rest/api/3/search?jql=%s&maxResults=%d",
+                URLEncoder.encode(jql, StandardCharsets.UTF_8), maxResults);
+    }
+
+    /**
+     * Sends a GET to the Jira REST API and records its latency and outcome.
+     *
+     * @param method The API method, for the metrics
+     * @param projectKey The project the call is for, or null
+     * @param uri The path and query, relative to the Jira URL
+     * @return The response body
+     */
+    private String get(String method, String projectKey, String uri) {
+        Timer.Sample sample = integrationMetrics.start();
+        String outcome = IntegrationMetrics.ERROR;
+        try {
+            String body = webClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+            outcome = IntegrationMetrics.SUCCESS;
+            return body;
+        } catch (WebClientResponseException e) {
+            logger.error("Error response from Jira API: {}", e.getStatusCode());
+            outcome = IntegrationMetrics.outcome(e.getStatusCode().value());
+            throw e;
+        } finally {
+            integrationMetrics.recordCall(sample, IntegrationMetrics.JIRA, method, projectKey, outcome);
+        }
+    }
+
+    /**
+     * Sends a GET to the Jira REST API without blocking and records its latency and outcome.
+     *
+     * @param method The API method, for the metrics
+     * @param projectKey The project the call is for, or null
+     * @param uri The path and query, relative to the Jira URL
+     * @return Mono of the response body, empty if there was none
+     */
+    private Mono<String> getAsync(String method, String projectKey, String uri) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = integrationMetrics.start();
+            return webClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .doOnSuccess(body -> integrationMetrics.recordCall(sample, IntegrationMetrics.JIRA, method,
+                            projectKey, IntegrationMetrics.SUCCESS))
+                    .doOnError(error -> {
+                        String outcome = IntegrationMetrics.ERROR;
+                        if (error instanceof WebClientResponseException e) {
+                            logger.error("Error response from Jira API: {}", e.getStatusCode());
+                            outcome = IntegrationMetrics.outcome(e.getStatusCode().value());
+                        }
+                        integrationMetrics.recordCall(sample, IntegrationMetrics.JIRA, method, projectKey, outcome);
+                    });
+        });
+    }
+
     /**
      * Parses Jira API response to extract issues.
      * 
@@ -261,6 +418,12 @@ public class JiraService {
                     issues.add(issue);
                 }
             }
+            integrationMetrics.countRecords(IntegrationMetrics.JIRA, projectKey, IntegrationMetrics.FETCHED,
+                    issuesNode.size());
+            integrationMetrics.countRecords(IntegrationMetrics.JIRA, projectKey, IntegrationMetrics.PARSED,
+                    issues.size());
+            integrationMetrics.countRecords(IntegrationMetrics.JIRA, projectKey, IntegrationMetrics.FAILED,
+                    issuesNode.size() - issues.size());
 
         } catch (Exception e) {
             logger.error("Error parsing Jira issues response", e);
@@ -271,12 +434,13 @@ public class JiraService {
 
     /**
      * Parses a single Jira issue from JSON.
+     * Shared with webhook decoding, whose payloads embed the same issue representation.
      * 
      * @param issueNode The JSON node representing the issue
      * @param projectKey The project key
      * @return JiraIssue object or null if parsing fails
      */
-    private JiraIssue parseJiraIssue(JsonNode issueNode, String projectKey) {
+    JiraIssue parseJiraIssue(JsonNode issueNode, String projectKey) {
         try {
             JiraIssue issue = new JiraIssue();
             
@@ -401,14 +565,11 @@ public class JiraService {
             return false;
         }
 
+        rateLimitGovernor.acquire(RATE_LIMIT_BUCKET);
+
         try {
             // Test connection by getting current user info
-            Mono<String> response = webClient.get()
-                    .uri("/rest/api/3/myself")
-                    .retrieve()
-                    .bodyToMono(String.class);
-
-            String responseBody = response.block();
+            String responseBody = get("myself", null, "/rest/api/3/myself");
             if (responseBody != null) {
                 JsonNode userNode = objectMapper.readTree(responseBody);
                 String displayName = userNode.path("displayName").asText();
@@ -422,4 +583,29 @@ public class JiraService {
 
         return false;
     }
+
+    /**
+     * Tests the Jira connection and configuration without blocking.
+     *
+     * @return Mono of true if connection is successful, false otherwise
+     */
+    public Mono<Boolean> testConnectionAsync() {
+        if (!isConfigured()) {
+            logger.info("Jira not properly configured. Check URL, username, and token.");
+            return Mono.just(false);
+        }
+
+        return rateLimitGovernor.acquireAsync(RATE_LIMIT_BUCKET, 1)
+                .then(Mono.defer(() -> getAsync("myself", null, "/rest/api/3/myself")
+                        .flatMap(responseBody -> Mono.fromCallable(() -> {
+                            String displayName = objectMapper.readTree(responseBody).path("displayName").asText();
+                            logger.info("Jira connection test successful. Connected as: {}", displayName);
+                            return true;
+                        }))
+                        .defaultIfEmpty(false)
+                        .onErrorResume(e -> {
+                            logger.error("Jira connection test failed", e);
+                            return Mono.just(false);
+                        })));
+    }
 }
\ No newline at end of file
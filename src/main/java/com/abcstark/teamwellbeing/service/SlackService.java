@@ -1,17 +1,25 @@
 package com.abcstark.teamwellbeing.service;
 
 import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.jfr.UpstreamRequests;
+import com.abcstark.teamwellbeing.jfr.WellbeingAnalysisEvent;
+import com.abcstark.teamwellbeing.metrics.IntegrationMetrics;
 import com.abcstark.teamwellbeing.model.SlackMessage;
 import com.abcstark.teamwellbeing.model.TeamWellbeingStatus;
+import com.abcstark.teamwellbeing.ratelimit.RateLimitGovernor;
 import com.slack.api.Slack;
+import com.slack.api.SlackConfig;
 import com.slack.api.methods.SlackApiException;
+import com.slack.api.methods.SlackApiTextResponse;
 import com.slack.api.methods.response.conversations.ConversationsHistoryResponse;
 import com.slack.api.methods.response.conversations.ConversationsListResponse;
 import com.slack.api.model.Conversation;
 import com.slack.api.model.Message;
+import com.slack.api.util.http.SlackHttpClient;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +35,7 @@ import java.util.*;
 
 import com.slack.api.model.ConversationType;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -38,14 +47,31 @@ public class SlackService {
 
     private static final Logger logger = LoggerFactory.getLogger(SlackService.class);
 
+    // Slack rate-limit tiers of the Web API methods used here
+    private static final String TIER_2 = "slack-tier2"; // conversations.list
+    private static final String TIER_3 = "slack-tier3"; // conversations.history
+    private static final String TIER_4 = "slack-tier4"; // auth.test
+
     private final IntegrationProperties integrationProperties;
+    private final RateLimitGovernor rateLimitGovernor;
+    private final IntegrationMetrics integrationMetrics;
     private final Slack slack;
     private final ObjectMapper objectMapper;
+    // Channels listed by conversations.list, the only names besides the default channel used as metric tags
+    private final Set<String> knownChannels = ConcurrentHashMap.newKeySet();
 
     @Autowired
-    public SlackService(IntegrationProperties integrationProperties) {
+    public SlackService(IntegrationProperties integrationProperties, RateLimitGovernor rateLimitGovernor,
+                        IntegrationMetrics integrationMetrics) {
         this.integrationProperties = integrationProperties;
-        this.slack = Slack.getInstance();
+        this.rateLimitGovernor = rateLimitGovernor;
+        this.integrationMetrics = integrationMetrics;
+        SlackConfig slackConfig = new SlackConfig();
+        slackConfig.setMethodsEndpointUrlPrefix(integrationProperties.getSlack().getApiUrl());
+        this.slack = Slack.getInstance(slackConfig, new SlackHttpClient(SlackHttpClient.buildOkHttpClient(slackConfig)
+                .newBuilder()
+                .addInterceptor(UpstreamRequests.slack())
+                .build()));
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
     }
@@ -83,11 +109,13 @@ public class SlackService {
             }
 
             // Fetch conversation history
-            ConversationsHistoryResponse response = slack.methods(botToken)
-                    .conversationsHistory(req -> req
-                            .channel(channelId)
-                            .limit(50) // Last 50 messages
-                    );
+            rateLimitGovernor.acquire(TIER_3);
+            ConversationsHistoryResponse response = call("conversations.history", channelName,
+                    () -> slack.methods(botToken)
+                            .conversationsHistory(req -> req
+                                    .channel(channelId)
+                                    .limit(50) // Last 50 messages
+                            ));
 
             if (response.isOk()) {
                 for (Message message : response.getMessages()) {
@@ -96,12 +124,19 @@ public class SlackService {
                         messages.add(slackMessage);
                     }
                 }
+                integrationMetrics.countRecords(IntegrationMetrics.SLACK, channelTag(channelName),
+                        IntegrationMetrics.FETCHED, response.getMessages().size());
+                integrationMetrics.countRecords(IntegrationMetrics.SLACK, channelTag(channelName), IntegrationMetrics.PARSED,
+                        messages.size());
                 logger.info("Successfully fetched {} messages from channel '{}'", messages.size(), channelName);
             } else {
                 logger.error("Failed to fetch messages from Slack: {}", response.getError());
             }
 
-        } catch (IOException | SlackApiException e) {
+        } catch (SlackApiException e) {
+            observeRateLimit(TIER_3, e);
+            logger.error("Error fetching messages from Slack", e);
+        } catch (IOException e) {
             logger.error("Error fetching messages from Slack", e);
         }
 
@@ -123,11 +158,13 @@ public class SlackService {
                 return getDummyChannels();
             }
 
-            ConversationsListResponse response = slack.methods(botToken)
-                    .conversationsList(req -> req
-                            .types(java.util.Arrays.asList(ConversationType.PUBLIC_CHANNEL))
-                            .limit(100)
-                    );
+            rateLimitGovernor.acquire(TIER_2);
+            ConversationsListResponse response = call("conversations.list", null,
+                    () -> slack.methods(botToken)
+                            .conversationsList(req -> req
+                                    .types(java.util.Arrays.asList(ConversationType.PUBLIC_CHANNEL))
+                                    .limit(100)
+                            ));
 
             if (response.isOk()) {
                 for (Conversation conversation : response.getChannels()) {
@@ -138,7 +175,10 @@ public class SlackService {
                 logger.error("Failed to fetch channels from Slack: {}", response.getError());
             }
 
-        } catch (IOException | SlackApiException e) {
+        } catch (SlackApiException e) {
+            observeRateLimit(TIER_2, e);
+            logger.error("Error fetching channels from Slack", e);
+        } catch (IOException e) {
             logger.error("Error fetching channels from Slack", e);
         }
 
@@ -181,11 +221,13 @@ public class SlackService {
     private String findChannelId(String channelName) {
         try {
             String botToken = integrationProperties.getSlack().getBotToken();
-            ConversationsListResponse response = slack.methods(botToken)
-                    .conversationsList(req -> req
-                            .types(java.util.Arrays.asList(ConversationType.PUBLIC_CHANNEL, ConversationType.PRIVATE_CHANNEL))
-                            .limit(1000)
-                    );
+            rateLimitGovernor.acquire(TIER_2);
+            ConversationsListResponse response = call("conversations.list", channelName,
+                    () -> slack.methods(botToken)
+                            .conversationsList(req -> req
+                                    .types(java.util.Arrays.asList(ConversationType.PUBLIC_CHANNEL, ConversationType.PRIVATE_CHANNEL))
+                                    .limit(1000)
+                            ));
 
             if (response.isOk()) {
                 for (Conversation conversation : response.getChannels()) {
@@ -194,13 +236,67 @@ public class SlackService {
                     }
                 }
             }
-        } catch (IOException | SlackApiException e) {
+        } catch (SlackApiException e) {
+            observeRateLimit(TIER_2, e);
+            logger.error("Error finding channel ID for '{}'", channelName, e);
+        } catch (IOException e) {
             logger.error("Error finding channel ID for '{}'", channelName, e);
         }
         
         return null;
     }
 
+    /**
+     * Calls one Web API method and records its latency and outcome.
+     */
+    private <T extends SlackApiTextResponse> T call(String method, String channelName, SlackCall<T> call)
+            throws IOException, SlackApiException {
+        Timer.Sample sample = integrationMetrics.start();
+        String outcome = IntegrationMetrics.ERROR;
+        try {
+            T response = call.call();
+            if (response instanceof ConversationsListResponse list && list.isOk()) {
+                list.getChannels().forEach(conversation -> knownChannels.add(conversation.getName()));
+            }
+            outcome = response.isOk() ? IntegrationMetrics.SUCCESS : IntegrationMetrics.ERROR;
+            return response;
+        } catch (SlackApiException e) {
+            if (e.getResponse() != null && e.getResponse().code() == 429) {
+                outcome = IntegrationMetrics.RATE_LIMITED;
+            }
+            throw e;
+        } finally {
+            integrationMetrics.recordCall(sample, IntegrationMetrics.SLACK, method, channelTag(channelName), outcome);
+        }
+    }
+
+    /**
+     * Gets the metric tag for a channel. Channel names come from clients, so any name
+     * that is neither the default channel nor listed by Slack is tagged "other" to keep
+     * the number of meters bounded.
+     */
+    private String channelTag(String channelName) {
+        if (channelName == null || channelName.equals(integrationProperties.getSlack().getDefaultChannel())
+                || knownChannels.contains(channelName)) {
+            return channelName;
+        }
+        return IntegrationMetrics.OTHER;
+    }
+
+    @FunctionalInterface
+    private interface SlackCall<T> {
+        T call() throws IOException, SlackApiException;
+    }
+
+    /**
+     * Reports an HTTP 429 from Slack, including its Retry-After header, to the governor.
+     */
+    private void observeRateLimit(String tier, SlackApiException e) {
+        if (e.getResponse() != null && e.getResponse().code() == 429) {
+            rateLimitGovernor.observeHeaders(tier, e.getResponse()::header);
+        }
+    }
+
     /**
      * Converts a Slack API Message to our SlackMessage model.
      * 
@@ -218,6 +314,7 @@ public class SlackService {
         slackMessage.setUsername(message.getUsername() != null ? message.getUsername() : "Unknown");
         slackMessage.setText(message.getText());
         slackMessage.setThreadTs(message.getThreadTs());
+        slackMessage.setBotId(message.getBotId());
         
         // Convert timestamp
         if (message.getTs() != null) {
@@ -287,7 +384,8 @@ public class SlackService {
                 return false;
             }
 
-            var response = slack.methods(botToken).authTest(req -> req);
+            rateLimitGovernor.acquire(TIER_4);
+            var response = call("auth.test", null, () -> slack.methods(botToken).authTest(req -> req));
             if (response.isOk()) {
                 logger.info("Slack connection test successful. Connected as: {}", response.getUser());
                 return true;
@@ -295,7 +393,11 @@ public class SlackService {
                 logger.error("Slack connection test failed: {}", response.getError());
                 return false;
             }
-        } catch (IOException | SlackApiException e) {
+        } catch (SlackApiException e) {
+            observeRateLimit(TIER_4, e);
+            logger.error("Slack connection test failed", e);
+            return false;
+        } catch (IOException e) {
             logger.error("Slack connection test failed", e);
             return false;
         }
@@ -306,39 +408,37 @@ public class SlackService {
      * @return TeamWellbeingStatus
      */
     public TeamWellbeingStatus analyzeTeamWellbeing() {
-        List<SlackMessage> messages = getRecentMessages();
+        return analyzeTeamWellbeing(getRecentMessages());
+    }
+
+    /**
+     * Infers team wellbeing status from the given messages, ignoring messages tagged as bot
+     * messages or near-duplicates.
+     * @return TeamWellbeingStatus
+     */
+    public TeamWellbeingStatus analyzeTeamWellbeing(List<SlackMessage> messages) {
+        WellbeingAnalysisEvent event = new WellbeingAnalysisEvent();
+        event.begin();
+
         int moodScore = 0;
         int stressScore = 0;
         Map<String, Integer> overloadCount = new HashMap<>();
         Map<String, String> memberFeelings = new HashMap<>();
 
-        List<String> positiveWords = Arrays.asList("happy", "great", "awesome", "good", "excited", "love");
-        List<String> negativeWords = Arrays.asList("sad", "bad", "tired", "upset", "angry", "hate");
-        List<String> stressWords = Arrays.asList("stress", "overwhelmed", "busy", "deadline", "pressure");
-        List<String> overloadWords = Arrays.asList("overloaded", "too much", "can't handle", "swamped");
-
         for (SlackMessage msg : messages) {
-            String text = msg.getText().toLowerCase();
-            String user = msg.getUsername();
-            for (String word : positiveWords) {
-                if (text.contains(word)) moodScore++;
-            }
-            for (String word : negativeWords) {
-                if (text.contains(word)) moodScore--;
+            if (msg.isSuppressed()) {
+                continue;
             }
-            for (String word : stressWords) {
-                if (text.contains(word)) stressScore++;
-            }
-            for (String word : overloadWords) {
-                if (text.contains(word)) {
-                    overloadCount.put(user, overloadCount.getOrDefault(user, 0) + 1);
-                }
+            String user = msg.getUsername();
+            WellbeingLexicon.Score score = WellbeingLexicon.score(msg);
+            moodScore += score.positive() - score.negative();
+            stressScore += score.stress();
+            if (score.overload() > 0) {
+                overloadCount.merge(user, score.overload(), Integer::sum);
             }
             // Simple feeling extraction
-            if (text.contains("feel")) {
-                int idx = text.indexOf("feel");
-                String feeling = text.substring(idx + 4).trim().split(" ")[0];
-                memberFeelings.put(user, feeling);
+            if (score.feeling() != null) {
+                memberFeelings.put(user, score.feeling());
             }
         }
 
@@ -349,6 +449,14 @@ public class SlackService {
                 .map(Map.Entry::getKey)
                 .collect(Collectors.toList());
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.messages = messages.size();
+            event.mood = overallMood;
+            event.stressLevel = overallStressLevel;
+            event.commit();
+        }
+
         return new TeamWellbeingStatus(overallMood, overallStressLevel, overloadedMembers, memberFeelings);
     }
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.abcstark.teamwellbeing.service;
+
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service for validating and decoding GitHub and Jira webhook deliveries
+ * into the same models produced by polling.
+ */
+@Service
+public class WebhookService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookService.class);
+    private static final String SIGNATURE_PREFIX = "sha256=";
+    private static final Set<String> GITHUB_ISSUE_EVENTS = Set.of("issues", "issue_comment");
+
+    private final IntegrationProperties integrationProperties;
+    private final JiraService jiraService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public WebhookService(IntegrationProperties integrationProperties, JiraService jiraService) {
+        this.integrationProperties = integrationProperties;
+        this.jiraService = jiraService;
+        this.objectMapper = new ObjectMapper();
+    }
+
+    /**
+     * Checks whether GitHub webhook deliveries are configured.
+     */
+    public boolean isGitHubWebhookEnabled() {
+        return hasText(integrationProperties.getGithub().getWebhookSecret());
+    }
+
+    /**
+     * Checks whether Jira webhook deliveries are configured.
+     */
+    public boolean isJiraWebhookEnabled() {
+        return hasText(integrationProperties.getJira().getWebhookSecret());
+    }
+
+    /**
+     * Verifies a GitHub delivery against the X-Hub-Signature-256 header.
+     */
+    public boolean verifyGitHubSignature(byte[] payload, String signatureHeader) {
+        return verifySignature(integrationProperties.getGithub().getWebhookSecret(), payload, signatureHeader);
+    }
+
+    /**
+     * Verifies a Jira delivery against the X-Hub-Signature header.
+     */
+    public boolean verifyJiraSignature(byte[] payload, String signatureHeader) {
+        return verifySignature(integrationProperties.getJira().getWebhookSecret(), payload, signatureHeader);
+    }
+
+    /**
+     * Decodes a GitHub "issues" or "issue_comment" delivery into a GitHubIssue upsert.
+     *
+     * @param eventType The value of the X-GitHub-Event header
+     * @param payload The raw request body
+     * @return The decoded issue, or empty if the event does not carry an issue
+     */
+    public Optional<GitHubIssue> decodeGitHubEvent(String eventType, byte[] payload) {
+        if (!GITHUB_ISSUE_EVENTS.contains(eventType)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonNode root = objectMapper.readTree(payload);
+            JsonNode issueNode = root.path("issue");
+            if (issueNode.isMissingNode() || "deleted".equals(root.path("action").asText())) {
+                return Optional.empty();
+            }
+            return Optional.of(parseGitHubIssue(issueNode, root.path("repository").path("name").asText(null)));
+        } catch (IOException e) {
+            logger.warn("Could not decode GitHub '{}' webhook payload", eventType, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Decodes a Jira issue or comment delivery into a JiraIssue upsert.
+     *
+     * @param payload The raw request body
+     * @return The decoded issue, or empty if the event does not carry an issue
+     */
+    public Optional<JiraIssue> decodeJiraEvent(byte[] payload) {
+        try {
+            JsonNode root = objectMapper.readTree(payload);
+            String event = root.path("webhookEvent").asText();
+            JsonNode issueNode = root.path("issue");
+            if (issueNode.isMissingNode() || "jira:issue_deleted".equals(event)) {
+                return Optional.empty();
+            }
+
+            String projectKey = issueNode.path("fields").path("project").path("key")
+                    .asText(integrationProperties.getJira().getProjectKey());
+            return Optional.ofNullable(jiraService.parseJiraIssue(issueNode, projectKey));
+        } catch (IOException e) {
+            logger.warn("Could not decode Jira webhook payload", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Converts the "issue" object of a GitHub webhook payload to our GitHubIssue model.
+     * Mirrors GitHubService#convertToGitHubIssue for the REST representation.
+     */
+    GitHubIssue parseGitHubIssue(JsonNode issueNode, String repositoryName) {
+        GitHubIssue issue = new GitHubIssue();
+
+        issue.setIssueId(issueNode.path("number").asLong());
+        issue.setNumber(issueNode.path("number").asInt());
+        issue.setTitle(issueNode.path("title").asText(null));
+        issue.setBody(issueNode.path("body").asText(null));
+        issue.setState(issueNode.path("state").asText("").toUpperCase());
+        issue.setRepository(repositoryName);
+        issue.setCommentsCount(issueNode.path("comments").asInt());
+        issue.setAuthor(issueNode.path("user").path("login").asText("Unknown"));
+
+        JsonNode assignees = issueNode.path("assignees");
+        if (assignees.isArray() && !assignees.isEmpty()) {
+            List<String> logins = new ArrayList<>();
+            for (JsonNode assignee : assignees) {
+                logins.add(assignee.path("login").asText("Unknown"));
+            }
+            issue.setAssignees(logins);
+        }
+
+        JsonNode labels = issueNode.path("labels");
+        if (labels.isArray() && !labels.isEmpty()) {
+            List<String> names = new ArrayList<>();
+            for (JsonNode label : labels) {
+                names.add(label.path("name").asText());
+            }
+            issue.setLabels(names);
+        }
+
+        issue.setCreatedAt(parseGitHubTimestamp(issueNode.path("created_at")));
+        issue.setUpdatedAt(parseGitHubTimestamp(issueNode.path("updated_at")));
+        issue.setClosedAt(parseGitHubTimestamp(issueNode.path("closed_at")));
+
+        return issue;
+    }
+
+    private LocalDateTime parseGitHubTimestamp(JsonNode node) {
+        if (node.isMissingNode() || node.isNull() || node.asText().isEmpty()) {
+            return null;
+        }
+        try {
+            return Instant.parse(node.asText()).atZone(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (Exception e) {
+            logger.warn("Invalid GitHub timestamp format: {}", node.asText());
+            return null;
+        }
+    }
+
+    /**
+     * Computes the HMAC-SHA256 of the payload and compares it in constant time
+     * with a "sha256=&lt;hex&gt;" signature header.
+     */
+    private boolean verifySignature(String secret, byte[] payload, String signatureHeader) {
+        if (!hasText(secret) || signatureHeader == null || !signatureHeader.startsWith(SIGNATURE_PREFIX)) {
+            return false;
+        }
+
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] expected = mac.doFinal(payload);
+            byte[] provided = HexFormat.of().parseHex(signatureHeader.substring(SIGNATURE_PREFIX.length()));
+            return MessageDigest.isEqual(expected, provided);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Malformed webhook signature header");
+            return false;
+        } catch (GeneralSecurityException e) {
+            logger.error("Unable to compute webhook signature", e);
+            return false;
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
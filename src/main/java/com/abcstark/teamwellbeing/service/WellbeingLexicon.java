@@ -0,0 +1,66 @@
+package com.abcstark.teamwellbeing.service;
+
+import com.abcstark.teamwellbeing.model.SlackMessage;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Word lists used to score Slack messages for mood, stress and overload.
+ * Shared by the on-demand analysis and the rollups built on ingest, so both count
+ * the same hits.
+ */
+public final class WellbeingLexicon {
+
+    static final List<String> POSITIVE_WORDS = Arrays.asList("happy", "great", "awesome", "good", "excited", "love");
+    static final List<String> NEGATIVE_WORDS = Arrays.asList("sad", "bad", "tired", "upset", "angry", "hate");
+    static final List<String> STRESS_WORDS = Arrays.asList("stress", "overwhelmed", "busy", "deadline", "pressure");
+    static final List<String> OVERLOAD_WORDS = Arrays.asList("overloaded", "too much", "can't handle", "swamped");
+
+    /**
+     * Hits of each word list in one message, plus the word following "feel" if any.
+     */
+    public record Score(int positive, int negative, int stress, int overload, String feeling) {
+    }
+
+    private static final Score EMPTY = new Score(0, 0, 0, 0, null);
+
+    private WellbeingLexicon() {
+    }
+
+    /**
+     * Scores a Slack message; bot messages and near-duplicates tagged at ingest score nothing.
+     */
+    public static Score score(SlackMessage message) {
+        return message.isSuppressed() ? EMPTY : score(message.getText());
+    }
+
+    /**
+     * Scores a message text; each listed word counts once if it occurs anywhere in the text.
+     */
+    public static Score score(String text) {
+        if (text == null) {
+            return EMPTY;
+        }
+        String lower = text.toLowerCase();
+
+        String feeling = null;
+        int idx = lower.indexOf("feel");
+        if (idx >= 0) {
+            feeling = lower.substring(idx + 4).trim().split(" ")[0];
+        }
+
+        return new Score(hits(lower, POSITIVE_WORDS), hits(lower, NEGATIVE_WORDS),
+                hits(lower, STRESS_WORDS), hits(lower, OVERLOAD_WORDS), feeling);
+    }
+
+    private static int hits(String text, List<String> words) {
+        int hits = 0;
+        for (String word : words) {
+            if (text.contains(word)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
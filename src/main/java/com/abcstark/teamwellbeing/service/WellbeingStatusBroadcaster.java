@@ -0,0 +1,84 @@
+package com.abcstark.teamwellbeing.service;
+
+import com.abcstark.teamwellbeing.cache.ReadThroughCache;
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.config.StatusStreamProperties;
+import com.abcstark.teamwellbeing.model.TeamWellbeingStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Shares one stream of team wellbeing status changes between all subscribers.
+ *
+ * While anyone is subscribed the status is recomputed every status-stream.check-interval,
+ * from recent messages read through the slack-messages cache region, and passed on only
+ * when the mood, stress level, overloaded members or member feelings changed. A new
+ * subscriber first receives the latest status; the checks stop with the last subscriber.
+ */
+@Component
+public class WellbeingStatusBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(WellbeingStatusBroadcaster.class);
+
+    private final Flux<TeamWellbeingStatus> changes;
+
+    @Autowired
+    public WellbeingStatusBroadcaster(WellbeingStatusService wellbeingStatusService, SlackService slackService,
+                                      ReadThroughCache readThroughCache, IntegrationProperties integrationProperties,
+                                      StatusStreamProperties statusStreamProperties) {
+        this(() -> {
+            String channel = integrationProperties.getSlack().getDefaultChannel();
+            return Mono.fromFuture(() -> readThroughCache.getAsync("slack-messages", channel,
+                            () -> slackService.getRecentMessages(channel)), true)
+                    .map(wellbeingStatusService::getTeamWellbeingStatus);
+        }, Duration.ofMillis(statusStreamProperties.getCheckInterval()));
+    }
+
+    WellbeingStatusBroadcaster(Supplier<Mono<TeamWellbeingStatus>> status, Duration checkInterval) {
+        this.changes = changes(Flux.interval(Duration.ZERO, checkInterval)
+                        .onBackpressureDrop()
+                        .concatMap(tick -> status.get().onErrorResume(e -> {
+                            logger.warn("Could not check the team wellbeing status: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1))
+                .replay(1)
+                .refCount();
+    }
+
+    /**
+     * Gets the shared stream of status changes, starting with the latest status.
+     */
+    public Flux<TeamWellbeingStatus> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Drops statuses that do not differ from the previous one in a way subscribers act on.
+     */
+    static Flux<TeamWellbeingStatus> changes(Flux<TeamWellbeingStatus> statuses) {
+        return statuses.distinctUntilChanged(Signature::of);
+    }
+
+    /**
+     * The parts of a status whose change is pushed; off-hours signals move slowly and are not.
+     */
+    private record Signature(String mood, String stressLevel, Set<String> overloadedMembers,
+                             Map<String, String> memberFeelings) {
+
+        static Signature of(TeamWellbeingStatus status) {
+            return new Signature(status.getOverallMood(), status.getOverallStressLevel(),
+                    status.getOverloadedMembers() != null ? new HashSet<>(status.getOverloadedMembers()) : Set.of(),
+                    status.getMemberFeelings() != null ? status.getMemberFeelings() : Map.of());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.abcstark.teamwellbeing.service;
+
+import com.abcstark.teamwellbeing.dedup.NearDuplicateDetector;
+import com.abcstark.teamwellbeing.identity.OffHoursActivity;
+import com.abcstark.teamwellbeing.identity.OffHoursActivityService;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.model.TeamWellbeingStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the team wellbeing status from the Slack mood analysis and the signals
+ * maintained on ingest, such as off-hours activity. Bot messages and near-duplicates
+ * are suppressed before the analysis, as they are before storage.
+ */
+@Service
+public class WellbeingStatusService {
+
+    static final int OFF_HOURS_WEEKS = 4;
+
+    private final SlackService slackService;
+    private final OffHoursActivityService offHoursActivityService;
+    private final NearDuplicateDetector nearDuplicateDetector;
+
+    @Autowired
+    public WellbeingStatusService(SlackService slackService, OffHoursActivityService offHoursActivityService,
+                                  NearDuplicateDetector nearDuplicateDetector) {
+        this.slackService = slackService;
+        this.offHoursActivityService = offHoursActivityService;
+        this.nearDuplicateDetector = nearDuplicateDetector;
+    }
+
+    /**
+     * Gets the current team wellbeing status.
+     */
+    public TeamWellbeingStatus getTeamWellbeingStatus() {
+        return getTeamWellbeingStatus(slackService.getRecentMessages());
+    }
+
+    /**
+     * Gets the team wellbeing status from recent messages of the default channel that were
+     * already fetched, e.g. from the cache; does not call any upstream.
+     */
+    public TeamWellbeingStatus getTeamWellbeingStatus(List<SlackMessage> recentMessages) {
+        TeamWellbeingStatus status = slackService.analyzeTeamWellbeing(nearDuplicateDetector.apply(recentMessages));
+        addOffHoursSignals(status, LocalDateTime.now());
+        return status;
+    }
+
+    void addOffHoursSignals(TeamWellbeingStatus status, LocalDateTime now) {
+        List<OffHoursActivity> activities = offHoursActivityService.getOffHoursActivity(OFF_HOURS_WEEKS, now);
+        int activeHours = activities.stream().mapToInt(OffHoursActivity::getActiveHours).sum();
+        int offHours = activities.stream().mapToInt(OffHoursActivity::getOffHours).sum();
+
+        status.setOffHoursRatio(activeHours > 0 ? (double) offHours / activeHours : 0.0);
+        status.setOffHoursMembers(activities.stream()
+                .filter(OffHoursActivity::isFlagged)
+                .map(OffHoursActivity::getMember)
+                .sorted()
+                .collect(Collectors.toList()));
+        status.setMemberOffHoursRatios(activities.stream()
+                .collect(Collectors.toMap(OffHoursActivity::getMember, OffHoursActivity::getOffHoursRatio,
+                        (a, b) -> a, TreeMap::new)));
+        status.setMemberOffHoursStreaks(activities.stream()
+                .filter(activity -> activity.getCurrentStreakDays() > 0)
+                .collect(Collectors.toMap(OffHoursActivity::getMember, OffHoursActivity::getCurrentStreakDays,
+                        (a, b) -> a, TreeMap::new)));
+    }
+}
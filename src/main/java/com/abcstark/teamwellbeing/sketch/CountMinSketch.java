@@ -0,0 +1,102 @@
+package com.abcstark.teamwellbeing.sketch;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Count-min sketch: frequency estimates that never undercount and overcount by at
+ * most about {@code 2 / width} of the total with high probability.
+ *
+ * Sketches of the same shape merge by adding their counters.
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private long total;
+
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Width and depth must be positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    /**
+     * Adds occurrences of an item.
+     *
+     * @return The new estimate for the item
+     */
+    public synchronized long add(String item, long count) {
+        long hash = Hashing.hash64(item);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + column(hash, row);
+            counters[index] += count;
+            estimate = Math.min(estimate, counters[index]);
+        }
+        total += count;
+        return estimate;
+    }
+
+    public synchronized long estimate(String item) {
+        long hash = Hashing.hash64(item);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row * width + column(hash, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Folds another sketch into this one.
+     */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge sketches of different shapes");
+        }
+        long[] theirs;
+        long theirTotal;
+        synchronized (other) {
+            theirs = other.counters.clone();
+            theirTotal = other.total;
+        }
+        synchronized (this) {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] += theirs[i];
+            }
+            total += theirTotal;
+        }
+    }
+
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    public synchronized byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(16 + counters.length * 8);
+        buffer.putInt(width).putInt(depth).putLong(total);
+        for (long counter : counters) {
+            buffer.putLong(counter);
+        }
+        return buffer.array();
+    }
+
+    public static CountMinSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CountMinSketch sketch = new CountMinSketch(buffer.getInt(), buffer.getInt());
+        sketch.total = buffer.getLong();
+        for (int i = 0; i < sketch.counters.length; i++) {
+            sketch.counters[i] = buffer.getLong();
+        }
+        return sketch;
+    }
+
+    private int column(long hash, int row) {
+        // Kirsch-Mitzenmacher: row hashes derived from the two halves of one 64-bit hash
+        int combined = (int) hash + row * (int) (hash >>> 32);
+        return Math.floorMod(combined, width);
+    }
+}
@@ -0,0 +1,39 @@
+package com.abcstark.teamwellbeing.sketch;
+
+import com.abcstark.teamwellbeing.config.SketchProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The sketches of one day: distinct members overall and per channel, terms used in
+ * stressed messages, and channels weighted by negative word hits.
+ */
+final class DaySketches {
+
+    final HyperLogLog members;
+    final Map<String, HyperLogLog> channelMembers = new ConcurrentHashMap<>();
+    final TopKSketch stressTerms;
+    final TopKSketch negativeChannels;
+    private final int precision;
+
+    DaySketches(SketchProperties properties) {
+        this.precision = properties.getHllPrecision();
+        this.members = new HyperLogLog(precision);
+        this.stressTerms = new TopKSketch(properties.getTopK(), properties.getCountMinWidth(),
+                properties.getCountMinDepth());
+        this.negativeChannels = new TopKSketch(properties.getTopK(), properties.getCountMinWidth(),
+                properties.getCountMinDepth());
+    }
+
+    HyperLogLog channel(String channel) {
+        return channelMembers.computeIfAbsent(channel, c -> new HyperLogLog(precision));
+    }
+
+    void mergeInto(DaySketches target) {
+        target.members.merge(members);
+        channelMembers.forEach((channel, sketch) -> target.channel(channel).merge(sketch));
+        target.stressTerms.merge(stressTerms);
+        target.negativeChannels.merge(negativeChannels);
+    }
+}
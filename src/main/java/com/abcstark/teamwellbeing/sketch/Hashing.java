@@ -0,0 +1,32 @@
+package com.abcstark.teamwellbeing.sketch;
+
+/**
+ * 64-bit string hashing for sketches and fingerprints. {@link String#hashCode} has
+ * too few bits and too little mixing for HyperLogLog registers or count-min rows.
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * FNV-1a over the characters, finished with the MurmurHash3 64-bit mixer.
+     */
+    public static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    public static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,82 @@
+package com.abcstark.teamwellbeing.sketch;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Approximate team-wide signals over a range of days, answered from sketches.
+ */
+public class SketchAnalytics {
+
+    /**
+     * Distinct active members of one day, overall and per channel.
+     */
+    public record Day(@JsonProperty("date") LocalDate date,
+                      @JsonProperty("distinct_members") long distinctMembers,
+                      @JsonProperty("channels") Map<String, Long> channels) {
+    }
+
+    @JsonProperty("from")
+    private final LocalDate from;
+
+    @JsonProperty("to")
+    private final LocalDate to;
+
+    @JsonProperty("distinct_members")
+    private final long distinctMembers;
+
+    @JsonProperty("channels")
+    private final Map<String, Long> channels;
+
+    @JsonProperty("days")
+    private final List<Day> days;
+
+    @JsonProperty("top_stress_terms")
+    private final List<TopKSketch.Entry> topStressTerms;
+
+    @JsonProperty("top_negative_channels")
+    private final List<TopKSketch.Entry> topNegativeChannels;
+
+    public SketchAnalytics(LocalDate from, LocalDate to, long distinctMembers, Map<String, Long> channels,
+                           List<Day> days, List<TopKSketch.Entry> topStressTerms,
+                           List<TopKSketch.Entry> topNegativeChannels) {
+        this.from = from;
+        this.to = to;
+        this.distinctMembers = distinctMembers;
+        this.channels = channels;
+        this.days = days;
+        this.topStressTerms = topStressTerms;
+        this.topNegativeChannels = topNegativeChannels;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public long getDistinctMembers() {
+        return distinctMembers;
+    }
+
+    public Map<String, Long> getChannels() {
+        return channels;
+    }
+
+    public List<Day> getDays() {
+        return days;
+    }
+
+    public List<TopKSketch.Entry> getTopStressTerms() {
+        return topStressTerms;
+    }
+
+    public List<TopKSketch.Entry> getTopNegativeChannels() {
+        return topNegativeChannels;
+    }
+}
@@ -0,0 +1,161 @@
+package com.abcstark.teamwellbeing.sketch;
+
+import com.abcstark.teamwellbeing.config.SketchProperties;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.persistence.IngestListener;
+import com.abcstark.teamwellbeing.search.SearchQuery;
+import com.abcstark.teamwellbeing.service.WellbeingLexicon;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * Maintains daily HyperLogLog, count-min and top-k sketches of Slack activity on
+ * ingest, so distinct member counts and heavy hitters over any range of days are
+ * answered by merging a few fixed-size sketches.
+ *
+ * Each day holds a distinct-member sketch for the team and for every channel, the
+ * most frequent terms of messages with stress or overload words, and the channels
+ * with the most negative word hits. Memory per day does not depend on message
+ * volume, and days older than {@code sketch.retention-days} are dropped. Sketches
+ * cannot take values back, so only newly stored messages are counted, not edits.
+ */
+@Service
+public class SketchService implements IngestListener {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "are", "but", "not", "you", "all", "any", "can", "had", "her", "was", "one",
+            "our", "out", "has", "have", "this", "that", "with", "from", "they", "will", "just", "been", "what",
+            "when", "about", "there", "their", "would", "could", "should", "into", "than", "then", "them", "too",
+            "much", "very", "its", "don");
+
+    private final SketchProperties sketchProperties;
+    private final ConcurrentSkipListMap<LocalDate, DaySketches> days = new ConcurrentSkipListMap<>();
+
+    @Autowired
+    public SketchService(SketchProperties sketchProperties) {
+        this.sketchProperties = sketchProperties;
+    }
+
+    @Override
+    public void onSlackMessage(SlackMessage previous, SlackMessage current) {
+        if (previous != null || current.getTimestamp() == null) {
+            return;
+        }
+        LocalDate date = current.getTimestamp().toLocalDate();
+        if (date.isBefore(LocalDate.now().minusDays(sketchProperties.getRetentionDays()))) {
+            return;
+        }
+        DaySketches day = days.get(date);
+        if (day == null) {
+            prune();
+            day = days.computeIfAbsent(date, d -> new DaySketches(sketchProperties));
+        }
+
+        String channel = current.getChannelName() != null ? current.getChannelName() : current.getChannelId();
+        String member = current.getUserId() != null ? current.getUserId() : current.getUsername();
+        if (member != null) {
+            day.members.add(member);
+            if (channel != null) {
+                day.channel(channel).add(member);
+            }
+        }
+
+        WellbeingLexicon.Score score = WellbeingLexicon.score(current);
+        if (score.negative() > 0 && channel != null) {
+            day.negativeChannels.add(channel, score.negative());
+        }
+        if (score.stress() > 0 || score.overload() > 0) {
+            for (String term : new HashSet<>(SearchQuery.tokenize(current.getText()))) {
+                if (term.length() > 2 && !STOP_WORDS.contains(term) && !Character.isDigit(term.charAt(0))) {
+                    day.stressTerms.add(term, 1);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onClear() {
+        days.clear();
+    }
+
+    /**
+     * Answers distinct member counts and heavy hitters for a range of days by merging daily sketches.
+     *
+     * @param top Number of stress terms and negative channels to return
+     */
+    public SketchAnalytics getAnalytics(LocalDate from, LocalDate to, int top) {
+        DaySketches merged = new DaySketches(sketchProperties);
+        List<SketchAnalytics.Day> daily = new ArrayList<>();
+
+        for (Map.Entry<LocalDate, DaySketches> entry : range(from, to).entrySet()) {
+            DaySketches day = entry.getValue();
+            Map<String, Long> channels = new TreeMap<>();
+            day.channelMembers.forEach((channel, sketch) -> channels.put(channel, sketch.estimate()));
+            daily.add(new SketchAnalytics.Day(entry.getKey(), day.members.estimate(), channels));
+            day.mergeInto(merged);
+        }
+
+        Map<String, Long> channels = new TreeMap<>();
+        merged.channelMembers.forEach((channel, sketch) -> channels.put(channel, sketch.estimate()));
+        return new SketchAnalytics(from, to, merged.members.estimate(), channels, daily,
+                merged.stressTerms.top(top), merged.negativeChannels.top(top));
+    }
+
+    /**
+     * Merges the distinct-member sketches of a range of days, e.g. to combine them with another node's.
+     *
+     * @param channel Channel name, or null for the whole team
+     */
+    public HyperLogLog getMemberSketch(LocalDate from, LocalDate to, String channel) {
+        HyperLogLog merged = new HyperLogLog(sketchProperties.getHllPrecision());
+        for (DaySketches day : range(from, to).values()) {
+            HyperLogLog sketch = channel == null ? day.members : day.channelMembers.get(channel);
+            if (sketch != null) {
+                merged.merge(sketch);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Merges the stress-term top-k sketches of a range of days, e.g. to combine them with another node's.
+     */
+    public TopKSketch getStressTermSketch(LocalDate from, LocalDate to) {
+        return mergeTopK(from, to, day -> day.stressTerms);
+    }
+
+    /**
+     * Merges the negative-channel top-k sketches of a range of days.
+     */
+    public TopKSketch getNegativeChannelSketch(LocalDate from, LocalDate to) {
+        return mergeTopK(from, to, day -> day.negativeChannels);
+    }
+
+    private TopKSketch mergeTopK(LocalDate from, LocalDate to, Function<DaySketches, TopKSketch> sketch) {
+        TopKSketch merged = new TopKSketch(sketchProperties.getTopK(), sketchProperties.getCountMinWidth(),
+                sketchProperties.getCountMinDepth());
+        for (DaySketches day : range(from, to).values()) {
+            merged.merge(sketch.apply(day));
+        }
+        return merged;
+    }
+
+    private ConcurrentNavigableMap<LocalDate, DaySketches> range(LocalDate from, LocalDate to) {
+        return from.isAfter(to) ? new ConcurrentSkipListMap<>() : days.subMap(from, true, to, true);
+    }
+
+    private void prune() {
+        days.headMap(LocalDate.now().minusDays(sketchProperties.getRetentionDays())).clear();
+    }
+}
@@ -0,0 +1,133 @@
+package com.abcstark.teamwellbeing.sketch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Heavy hitters tracked with a count-min sketch plus a bounded set of candidates.
+ *
+ * Every item is counted in the sketch; an item becomes a candidate when its
+ * estimate beats the smallest candidate, which it then replaces. Merging adds the
+ * sketches and re-ranks the union of both candidate sets against the merged counts,
+ * so sketches from other nodes can be merged through {@link #toBytes()} and
+ * {@link #fromBytes(byte[])}.
+ */
+public final class TopKSketch {
+
+    /**
+     * An item and its estimated count.
+     */
+    public record Entry(String item, long count) {
+    }
+
+    private final int capacity;
+    private final CountMinSketch counts;
+    private final Map<String, Long> candidates = new HashMap<>();
+
+    public TopKSketch(int capacity, int width, int depth) {
+        this(capacity, new CountMinSketch(width, depth));
+    }
+
+    private TopKSketch(int capacity, CountMinSketch counts) {
+        this.capacity = capacity;
+        this.counts = counts;
+    }
+
+    public synchronized void add(String item, long count) {
+        offer(item, counts.add(item, count));
+    }
+
+    /**
+     * Gets up to {@code n} items with the highest estimated counts, highest first.
+     */
+    public synchronized List<Entry> top(int n) {
+        List<Entry> entries = new ArrayList<>();
+        candidates.forEach((item, count) -> entries.add(new Entry(item, count)));
+        entries.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return entries.size() > n ? new ArrayList<>(entries.subList(0, n)) : entries;
+    }
+
+    /**
+     * Folds another sketch into this one.
+     */
+    public void merge(TopKSketch other) {
+        List<String> theirCandidates;
+        synchronized (other) {
+            theirCandidates = new ArrayList<>(other.candidates.keySet());
+        }
+        counts.merge(other.counts);
+        synchronized (this) {
+            List<String> items = new ArrayList<>(candidates.keySet());
+            items.addAll(theirCandidates);
+            candidates.clear();
+            for (String item : items) {
+                offer(item, counts.estimate(item));
+            }
+        }
+    }
+
+    public long getTotal() {
+        return counts.getTotal();
+    }
+
+    /**
+     * Serializes the capacity, the count-min sketch and the candidates with their counts.
+     */
+    public synchronized byte[] toBytes() {
+        byte[] sketch = counts.toBytes();
+        List<byte[]> items = new ArrayList<>(candidates.size());
+        int size = 12 + sketch.length;
+        for (String item : candidates.keySet()) {
+            byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+            items.add(bytes);
+            size += 12 + bytes.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(capacity).putInt(sketch.length).put(sketch).putInt(items.size());
+        int i = 0;
+        for (long count : candidates.values()) {
+            byte[] item = items.get(i++);
+            buffer.putInt(item.length).put(item).putLong(count);
+        }
+        return buffer.array();
+    }
+
+    public static TopKSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int capacity = buffer.getInt();
+        byte[] sketch = new byte[buffer.getInt()];
+        buffer.get(sketch);
+        TopKSketch topK = new TopKSketch(capacity, CountMinSketch.fromBytes(sketch));
+        int candidates = buffer.getInt();
+        for (int i = 0; i < candidates; i++) {
+            byte[] item = new byte[buffer.getInt()];
+            buffer.get(item);
+            topK.candidates.put(new String(item, StandardCharsets.UTF_8), buffer.getLong());
+        }
+        return topK;
+    }
+
+    private void offer(String item, long estimate) {
+        if (candidates.containsKey(item) || candidates.size() < capacity) {
+            candidates.put(item, estimate);
+            return;
+        }
+        String smallest = null;
+        long smallestCount = Long.MAX_VALUE;
+        for (Map.Entry<String, Long> candidate : candidates.entrySet()) {
+            if (candidate.getValue() < smallestCount) {
+                smallest = candidate.getKey();
+                smallestCount = candidate.getValue();
+            }
+        }
+        if (estimate > smallestCount) {
+            candidates.remove(smallest);
+            candidates.put(item, estimate);
+        }
+    }
+}
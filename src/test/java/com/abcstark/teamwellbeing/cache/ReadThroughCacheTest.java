@@ -0,0 +1,206 @@
+package com.abcstark.teamwellbeing.cache;
+
+import com.abcstark.teamwellbeing.config.CacheProperties;
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.metrics.IntegrationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for single-flight loading and stale-while-revalidate in ReadThroughCache.
+ */
+class ReadThroughCacheTest {
+
+    private CacheProperties cacheProperties;
+    private ExecutorService executor;
+    private IntegrationMetrics integrationMetrics;
+    private ReadThroughCache readThroughCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        cacheProperties.setDefaultTtl(60000);
+        executor = Executors.newFixedThreadPool(4);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        integrationMetrics = new IntegrationMetrics(meterRegistry, new IntegrationProperties());
+        readThroughCache = new ReadThroughCache(cacheProperties, executor, meterRegistry, integrationMetrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testGet_WhenConcurrentIdenticalRequests_CallsUpstreamOnce() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(50);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            results.add(callers.submit(() -> readThroughCache.get("github-stats", "default", () -> {
+                upstreamCalls.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "stats";
+            })));
+        }
+
+        // Give every caller time to join the in-flight load before it completes
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("stats", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, upstreamCalls.get());
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testGet_WhenExpiredAndStaleWhileRevalidate_ServesStaleAndRefreshesInBackground() throws Exception {
+        cacheProperties.setDefaultTtl(0);
+        AtomicInteger version = new AtomicInteger();
+        CountDownLatch refreshed = new CountDownLatch(2);
+
+        assertEquals(1, (int) readThroughCache.get("jira-stats", "default", () -> {
+            int loaded = version.incrementAndGet();
+            refreshed.countDown();
+            return loaded;
+        }));
+
+        // Expired immediately, so the old value is served while a refresh runs
+        assertEquals(1, (int) readThroughCache.get("jira-stats", "default", () -> {
+            int loaded = version.incrementAndGet();
+            refreshed.countDown();
+            return loaded;
+        }));
+
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, version.get());
+    }
+
+    @Test
+    void testGet_WhenStaleWhileRevalidateDisabled_LoadsSynchronously() {
+        cacheProperties.setDefaultTtl(0);
+        cacheProperties.setStaleWhileRevalidate(false);
+        AtomicInteger version = new AtomicInteger();
+
+        assertEquals(1, (int) readThroughCache.get("jira-stats", "default", version::incrementAndGet));
+        assertEquals(2, (int) readThroughCache.get("jira-stats", "default", version::incrementAndGet));
+    }
+
+    @Test
+    void testGetVersioned_WhenValueReloaded_ChangesVersionOnlyOnLoad() {
+        ReadThroughCache.Versioned<String> loaded = readThroughCache.getVersioned("github-stats", "default", () -> "stats");
+        ReadThroughCache.Versioned<String> hit = readThroughCache.getVersioned("github-stats", "default", () -> "other");
+        ReadThroughCache.Versioned<String> otherKey = readThroughCache.getVersioned("github-stats", "org", () -> "stats");
+
+        assertEquals("stats", hit.value());
+        assertEquals(loaded.version(), hit.version());
+        assertNotEquals(loaded.version(), otherKey.version());
+
+        readThroughCache.invalidate("github-stats");
+        ReadThroughCache.Versioned<String> reloaded = readThroughCache.getVersioned("github-stats", "default", () -> "stats");
+        assertEquals("stats", reloaded.value());
+        assertNotEquals(loaded.version(), reloaded.version());
+    }
+
+    @Test
+    void testGet_WhenLoaderFails_PropagatesExceptionAndRetriesNextTime() {
+        assertThrows(IllegalStateException.class, () -> readThroughCache.get("slack-channels", "all", () -> {
+            throw new IllegalStateException("upstream down");
+        }));
+
+        assertEquals("ok", readThroughCache.get("slack-channels", "all", () -> "ok"));
+    }
+
+    @Test
+    void testGetNonBlocking_WhenConcurrentRequests_StartsOneLoadAndCachesIt() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = readThroughCache.getNonBlocking("jira-issues", "default", () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = readThroughCache.getNonBlocking("jira-issues", "default", () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream;
+        });
+        assertFalse(first.isDone());
+
+        upstream.complete("issues");
+
+        assertEquals("issues", first.get(5, TimeUnit.SECONDS));
+        assertEquals("issues", second.get(5, TimeUnit.SECONDS));
+        assertEquals("issues", readThroughCache.getNonBlocking("jira-issues", "default",
+                () -> CompletableFuture.completedFuture("reloaded")).get(5, TimeUnit.SECONDS));
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void testGetNonBlocking_WhenLoadFails_PropagatesCauseAndRetriesNextTime() {
+        CompletableFuture<String> failed = readThroughCache.getNonBlocking("jira-stats", "default",
+                () -> CompletableFuture.failedFuture(new IllegalStateException("upstream down")));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals("ok", readThroughCache.getNonBlocking("jira-stats", "default",
+                () -> CompletableFuture.completedFuture("ok")).join());
+    }
+
+    @Test
+    void testGet_WhenLoaderRecordsFailedCall_ReturnsFallbackWithoutCachingIt() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        List<String> fallback = readThroughCache.get("github-issues", "default", () -> {
+            upstreamCalls.incrementAndGet();
+            integrationMetrics.recordCall(integrationMetrics.start(), IntegrationMetrics.GITHUB,
+                    "listIssues", null, IntegrationMetrics.ERROR);
+            return List.of();
+        });
+        List<String> loaded = readThroughCache.get("github-issues", "default", () -> {
+            upstreamCalls.incrementAndGet();
+            return List.of("#1");
+        });
+
+        assertEquals(List.of(), fallback);
+        assertEquals(List.of("#1"), loaded);
+        assertEquals(List.of("#1"), readThroughCache.get("github-issues", "default", () -> List.of("#2")));
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void testGet_WhenFullOfFreshEntries_EvictsLeastRecentlyLoaded() {
+        cacheProperties.setMaxEntries(10);
+
+        for (int i = 0; i < 100; i++) {
+            String channel = "channel-" + i;
+            assertEquals(channel, readThroughCache.get("slack-messages", channel, () -> channel));
+        }
+
+        assertTrue(readThroughCache.size() <= 10);
+        assertEquals("channel-99", readThroughCache.get("slack-messages", "channel-99", () -> "reloaded"));
+        assertEquals("reloaded", readThroughCache.get("slack-messages", "channel-0", () -> "reloaded"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.abcstark.teamwellbeing.controller;
+
+import com.abcstark.teamwellbeing.config.CacheProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for ETag matching and 304 responses in ConditionalResponses.
+ */
+class ConditionalResponsesTest {
+
+    private final ConditionalResponses conditionalResponses = new ConditionalResponses(null, new CacheProperties());
+
+    @Test
+    void testRespond_WhenIfNoneMatchMatches_AnswersNotModifiedWithoutBuildingBody() {
+        AtomicInteger builds = new AtomicInteger();
+        String eTag = conditionalResponses.eTag(7, 3);
+
+        ResponseEntity<String> response = conditionalResponses.respond("\"other\", W/" + eTag, eTag,
+                CacheControl.noCache(), () -> "body-" + builds.incrementAndGet());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(eTag, response.getHeaders().getETag());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+        assertNull(response.getBody());
+        assertEquals(0, builds.get());
+    }
+
+    @Test
+    void testRespond_WhenVersionsDiffer_AnswersWithBodyAndNewETag() {
+        String previous = conditionalResponses.eTag(7, 3);
+        String current = conditionalResponses.eTag(7, 4);
+
+        ResponseEntity<String> response = conditionalResponses.respond(previous, current, CacheControl.noCache(),
+                () -> "body");
+
+        assertNotEquals(previous, current);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(current, response.getHeaders().getETag());
+        assertEquals("body", response.getBody());
+    }
+
+    @Test
+    void testMatches_WhenHeaderMissingOrWildcard_FollowsIfNoneMatchRules() {
+        String eTag = conditionalResponses.eTag(1);
+
+        assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+        assertFalse(ConditionalResponses.matches(null, eTag));
+        assertFalse(ConditionalResponses.matches(" ", eTag));
+        assertTrue(ConditionalResponses.matches("*", eTag));
+    }
+}
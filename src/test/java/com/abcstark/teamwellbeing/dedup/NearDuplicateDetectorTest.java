@@ -0,0 +1,123 @@
+package com.abcstark.teamwellbeing.dedup;
+
+import com.abcstark.teamwellbeing.config.DedupProperties;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for SimHash near-duplicate and bot message suppression.
+ */
+class NearDuplicateDetectorTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2023, 11, 28, 9, 0);
+
+    private DedupProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DedupProperties();
+        properties.setBotUsers(List.of("jenkins"));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testApply_WhenRepeatedAlertsInTagMode_TagsLaterCopies() {
+        NearDuplicateDetector detector = new NearDuplicateDetector(properties, meterRegistry);
+        SlackMessage first = message("1", "U1", "Build #1234 failed: deadline job on main is red", 0);
+        SlackMessage second = message("2", "U2", "build 1235 FAILED - deadline job on main is red!", 5);
+        SlackMessage human = message("3", "U3", "Feeling stressed about the deadline this week", 10);
+
+        // Newest first, as Slack returns history
+        List<SlackMessage> result = detector.apply(List.of(human, second, first));
+
+        assertEquals(3, result.size());
+        assertNull(first.getSuppressed());
+        assertEquals("duplicate", second.getSuppressed());
+        assertEquals("1", second.getDuplicateOf());
+        assertNull(human.getSuppressed());
+        assertEquals(1.0, meterRegistry.counter("wellbeing.dedup.suppressed", "reason", "duplicate").count());
+    }
+
+    @Test
+    void testApply_WhenCollapseMode_DropsBotsAndDuplicates() {
+        properties.setMode(DedupProperties.Mode.COLLAPSE);
+        NearDuplicateDetector detector = new NearDuplicateDetector(properties, meterRegistry);
+        SlackMessage original = message("1", "U1", "Release is blocked on the flaky payment tests", 0);
+        SlackMessage copy = message("2", "U2", "Release is blocked on the flaky payment tests", 1);
+        SlackMessage fromBot = message("3", "U3", "Nightly report ready for the team", 2);
+        fromBot.setBotId("B01");
+        SlackMessage fromJenkins = message("4", "Jenkins", "Deploying version 42 to staging now", 3);
+
+        List<SlackMessage> result = detector.apply(List.of(original, copy, fromBot, fromJenkins));
+
+        assertEquals(List.of(original), result);
+        // Collected again, the original keeps its verdict instead of matching itself
+        assertEquals(List.of(original), detector.apply(List.of(original, copy)));
+    }
+
+    @Test
+    void testApply_WhenMessagesShortOrDifferent_KeepsThem() {
+        NearDuplicateDetector detector = new NearDuplicateDetector(properties, meterRegistry);
+        List<SlackMessage> messages = List.of(
+                message("1", "U1", "ok thanks", 0),
+                message("2", "U2", "ok thanks", 1),
+                message("3", "U1", "The retro is moved to Thursday afternoon", 2),
+                message("4", "U2", "Lunch order for the offsite goes out at noon", 3));
+
+        detector.apply(messages);
+
+        assertTrue(messages.stream().noneMatch(SlackMessage::isSuppressed));
+    }
+
+    @Test
+    void testApply_WhenModeOff_ReturnsMessagesUntouched() {
+        properties.setMode(DedupProperties.Mode.OFF);
+        NearDuplicateDetector detector = new NearDuplicateDetector(properties, meterRegistry);
+        SlackMessage fromJenkins = message("1", "jenkins", "Deploying version 42 to staging now", 0);
+
+        assertEquals(List.of(fromJenkins), detector.apply(List.of(fromJenkins)));
+        assertNull(fromJenkins.getSuppressed());
+    }
+
+    @Test
+    void testApply_WhenVerdictForgottenAndMessageCollectedAgain_KeepsItOriginal() {
+        properties.setWindowSize(2);
+        NearDuplicateDetector detector = new NearDuplicateDetector(properties, meterRegistry);
+        detector.apply(List.of(message("1", "U1", "Release is blocked on the flaky payment tests", 0)));
+        // Bot verdicts push the original's verdict out of the verdict cache, not out of the window
+        for (int i = 0; i < 4; i++) {
+            detector.apply(List.of(message("bot-" + i, "Jenkins", "Deploying version " + i + " to staging now", 1)));
+        }
+
+        SlackMessage again = message("1", "U1", "Release is blocked on the flaky payment tests", 0);
+        SlackMessage copy = message("2", "U2", "Release is blocked on the flaky payment tests", 2);
+        detector.apply(List.of(again, copy));
+
+        assertNull(again.getSuppressed());
+        assertEquals("duplicate", copy.getSuppressed());
+        assertEquals("1", copy.getDuplicateOf());
+    }
+
+    @Test
+    void testDistance_WhenOneWordChanges_StaysSmall() {
+        long a = SimHash.fingerprint(List.of("the", "api", "gateway", "returned", "errors", "for", "all", "requests",
+                "from", "the", "mobile", "app", "during", "the", "morning"));
+        long b = SimHash.fingerprint(List.of("the", "api", "gateway", "returned", "errors", "for", "all", "requests",
+                "from", "the", "web", "app", "during", "the", "morning"));
+        long c = SimHash.fingerprint(List.of("lunch", "order", "for", "the", "offsite", "goes", "out", "at", "noon"));
+
+        assertTrue(SimHash.distance(a, b) < SimHash.distance(a, c));
+    }
+
+    private static SlackMessage message(String id, String user, String text, int minutes) {
+        return new SlackMessage(id, "C1", "alerts", user, user.toLowerCase(), text, CREATED.plusMinutes(minutes));
+    }
+}
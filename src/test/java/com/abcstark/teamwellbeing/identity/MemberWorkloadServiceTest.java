@@ -0,0 +1,141 @@
+package com.abcstark.teamwellbeing.identity;
+
+import com.abcstark.teamwellbeing.config.IdentityProperties;
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for the identity index and incrementally maintained member workloads.
+ */
+class MemberWorkloadServiceTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2023, 11, 28, 9, 0);
+
+    private IdentityIndex identityIndex;
+    private MemberWorkloadService workloadService;
+
+    @BeforeEach
+    void setUp() {
+        IdentityProperties properties = new IdentityProperties();
+        properties.setMembers(Map.of("alice", List.of("alice.jones", "Alice Jones")));
+        identityIndex = new IdentityIndex(properties);
+        workloadService = new MemberWorkloadService(identityIndex, properties);
+    }
+
+    @Test
+    void testGetWorkload_WhenAliasesLinked_CombinesSources() {
+        workloadService.onSlackMessage(null, slackMessage("alice.jones", "Feeling overloaded this week"));
+        workloadService.onJiraIssue(null, jiraIssue("Alice Jones", 8.0, null));
+        identityIndex.link("alice", "ajones");
+        workloadService.onGitHubIssue(null, gitHubIssue("ajones"));
+
+        MemberWorkload workload = workloadService.getWorkload("ALICE.JONES").orElseThrow();
+
+        assertEquals("alice", workload.getMember());
+        assertEquals(1, workload.getMessages());
+        assertEquals(1, workload.getOverloadMentions());
+        assertEquals(1, workload.getOpenJiraIssues());
+        assertEquals(8.0, workload.getOpenStoryPoints());
+        assertEquals(1, workload.getOpenGitHubIssues());
+        assertTrue(workload.isOverloaded());
+    }
+
+    @Test
+    void testLink_WhenMemberGivenByAlias_KeepsExistingLinks() {
+        identityIndex.link("alice", "ajones");
+        identityIndex.link("ajones", "alice.j");
+
+        assertEquals("alice", identityIndex.resolve("ajones"));
+        assertEquals("alice", identityIndex.resolve("alice.j"));
+        assertEquals(Set.of("alice", "alice.jones", "alice jones", "ajones", "alice.j"),
+                identityIndex.getAliases("alice"));
+    }
+
+    @Test
+    void testGetWorkloads_WhenMemberLinkedToAnother_CountsMergedWorkloadOnce() {
+        workloadService.onSlackMessage(null, slackMessage("alice.jones", "Morning"));
+        workloadService.onGitHubIssue(null, gitHubIssue("bob"));
+        identityIndex.link("bob", "alice");
+
+        List<MemberWorkload> workloads = workloadService.getWorkloads();
+
+        assertEquals("bob", identityIndex.resolve("alice.jones"));
+        assertEquals(1, workloads.size());
+        assertEquals("bob", workloads.get(0).getMember());
+        assertEquals(1, workloads.get(0).getMessages());
+        assertEquals(1, workloads.get(0).getOpenGitHubIssues());
+        assertEquals(Set.of("bob", "alice", "alice.jones", "alice jones"), identityIndex.getAliases("bob"));
+    }
+
+    @Test
+    void testOnJiraIssue_WhenIssueResolved_RemovesOpenWork() {
+        JiraIssue open = jiraIssue("bob.smith", 5.0, null);
+        workloadService.onJiraIssue(null, open);
+        workloadService.onJiraIssue(open, jiraIssue("bob.smith", 5.0, CREATED.plusDays(1)));
+
+        MemberWorkload workload = workloadService.getWorkload("bob.smith").orElseThrow();
+
+        assertEquals(0, workload.getOpenJiraIssues());
+        assertEquals(0.0, workload.getOpenStoryPoints());
+        assertFalse(workload.isOverloaded());
+    }
+
+    @Test
+    void testOnJiraIssueEvicted_WhenIssueCollectedAgain_CountsOpenWorkOnce() {
+        JiraIssue open = jiraIssue("bob.smith", 5.0, null);
+        workloadService.onJiraIssue(null, open);
+        workloadService.onJiraIssueEvicted(open);
+        workloadService.onJiraIssue(null, jiraIssue("bob.smith", 5.0, null));
+        GitHubIssue gitHubIssue = gitHubIssue("bob.smith");
+        workloadService.onGitHubIssue(null, gitHubIssue);
+        workloadService.onGitHubIssueEvicted(gitHubIssue);
+
+        MemberWorkload workload = workloadService.getWorkload("bob.smith").orElseThrow();
+
+        assertEquals(1, workload.getOpenJiraIssues());
+        assertEquals(5.0, workload.getOpenStoryPoints());
+        assertEquals(0, workload.getOpenGitHubIssues());
+    }
+
+    @Test
+    void testSuggest_WhenNamesLookAlike_SuggestsLink() {
+        workloadService.onSlackMessage(null, slackMessage("carol.lee", "Morning"));
+        workloadService.onGitHubIssue(null, gitHubIssue("clee"));
+        workloadService.onGitHubIssue(null, gitHubIssue("zed"));
+
+        List<IdentitySuggestion> suggestions = identityIndex.suggest();
+
+        assertEquals(1, suggestions.size());
+        assertEquals("carol.lee", suggestions.get(0).alias());
+        assertEquals("clee", suggestions.get(0).candidate());
+        assertTrue(IdentityIndex.similarity("alice.jones", "Alice Jones") == 1.0);
+        assertTrue(IdentityIndex.similarity("alice.jones", "bob.smith") < 0.88);
+    }
+
+    private SlackMessage slackMessage(String username, String text) {
+        return new SlackMessage("1701162000.000100", "C001", "general", "U001", username, text, CREATED);
+    }
+
+    private JiraIssue jiraIssue(String assignee, Double storyPoints, LocalDateTime resolved) {
+        JiraIssue issue = new JiraIssue("1", "PROJ-1", "Summary", "In Progress", "bob", assignee, CREATED, "PROJ");
+        issue.setStoryPoints(storyPoints);
+        issue.setResolved(resolved);
+        return issue;
+    }
+
+    private GitHubIssue gitHubIssue(String assignee) {
+        GitHubIssue issue = new GitHubIssue(1L, 1, "Title", "OPEN", assignee, CREATED, "backend");
+        issue.setAssignees(List.of(assignee));
+        return issue;
+    }
+}
@@ -0,0 +1,92 @@
+package com.abcstark.teamwellbeing.identity;
+
+import com.abcstark.teamwellbeing.config.IdentityProperties;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for off-hours activity bitmaps and the signals derived from them.
+ */
+class OffHoursActivityServiceTest {
+
+    // A Thursday
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 30, 10, 0);
+
+    private IdentityProperties properties;
+    private OffHoursActivityService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdentityProperties();
+        properties.setMembers(Map.of("alice", List.of("alice.jones", "Alice Jones")));
+        service = new OffHoursActivityService(new IdentityIndex(properties), properties);
+    }
+
+    @Test
+    void testGetOffHoursActivity_WhenWorkingNightsAndWeekends_ReportsRatioAndStreak() {
+        service.onSlackMessage(null, slackMessage("alice.jones", LocalDateTime.of(2023, 11, 25, 11, 0)));
+        service.onSlackMessage(null, slackMessage("alice.jones", LocalDateTime.of(2023, 11, 27, 22, 15)));
+        service.onSlackMessage(null, slackMessage("alice.jones", LocalDateTime.of(2023, 11, 27, 22, 45)));
+        service.onJiraIssue(null, jiraIssue("Alice Jones", LocalDateTime.of(2023, 11, 27, 22, 30)));
+        service.onSlackMessage(null, slackMessage("alice.jones", LocalDateTime.of(2023, 11, 28, 23, 0)));
+        service.onSlackMessage(null, slackMessage("alice.jones", LocalDateTime.of(2023, 11, 29, 10, 0)));
+        service.onSlackMessage(null, slackMessage("alice.jones", LocalDateTime.of(2023, 11, 29, 6, 0)));
+
+        OffHoursActivity activity = service.getOffHoursActivity("alice", 4, NOW).orElseThrow();
+
+        assertEquals("alice", activity.getMember());
+        assertEquals(5, activity.getActiveHours());
+        assertEquals(3, activity.getWeeknightHours());
+        assertEquals(1, activity.getWeekendHours());
+        assertEquals(0.8, activity.getOffHoursRatio(), 1e-9);
+        assertEquals(3, activity.getCurrentStreakDays());
+        assertEquals(3, activity.getLongestStreakDays());
+        assertTrue(activity.isFlagged());
+    }
+
+    @Test
+    void testGetOffHoursActivity_WhenWorkingHoursOnly_IsNotFlagged() {
+        service.onSlackMessage(null, slackMessage("bob", LocalDateTime.of(2023, 11, 28, 9, 0)));
+        service.onSlackMessage(null, slackMessage("bob", LocalDateTime.of(2023, 11, 29, 18, 59)));
+
+        OffHoursActivity activity = service.getOffHoursActivity("bob", 4, NOW).orElseThrow();
+
+        assertEquals(2, activity.getActiveHours());
+        assertEquals(0, activity.getOffHours());
+        assertEquals(0, activity.getCurrentStreakDays());
+        assertFalse(activity.isFlagged());
+        assertTrue(service.getOffHoursActivity("carol", 4, NOW).isEmpty());
+    }
+
+    @Test
+    void testGetOffHoursActivity_WhenWeeksOutsideWindow_IgnoresThem() {
+        properties.setActivityWeeks(2);
+        service = new OffHoursActivityService(new IdentityIndex(properties), properties);
+
+        service.onSlackMessage(null, slackMessage("bob", NOW.minusWeeks(3).withHour(23)));
+        service.onSlackMessage(null, slackMessage("bob", NOW.minusWeeks(1).withHour(23)));
+        service.onSlackMessage(null, slackMessage("bob", NOW.minusWeeks(3).withHour(22)));
+
+        assertEquals(1, service.getOffHoursActivity("bob", 4, NOW).orElseThrow().getActiveHours());
+        assertEquals(0, service.getOffHoursActivity("bob", 1, NOW).orElseThrow().getActiveHours());
+    }
+
+    private static SlackMessage slackMessage(String username, LocalDateTime timestamp) {
+        return new SlackMessage(timestamp.toString(), "C1", "general", "U1", username, "update", timestamp);
+    }
+
+    private static JiraIssue jiraIssue(String assignee, LocalDateTime updated) {
+        JiraIssue issue = new JiraIssue("1", "OPS-1", "Fix build", "In Progress", "carol", assignee,
+                updated.minusDays(3), "OPS");
+        issue.setUpdated(updated);
+        return issue;
+    }
+}
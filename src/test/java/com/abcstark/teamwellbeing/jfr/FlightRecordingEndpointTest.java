@@ -0,0 +1,89 @@
+package com.abcstark.teamwellbeing.jfr;
+
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.service.SlackService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for FlightRecordingEndpoint and the custom JFR events.
+ */
+class FlightRecordingEndpointTest {
+
+    private final FlightRecordingEndpoint endpoint = new FlightRecordingEndpoint();
+
+    @AfterEach
+    void tearDown() {
+        endpoint.discard();
+    }
+
+    @Test
+    void testDownload_WhenEventsEmittedDuringRecording_ContainsThemButNoEnvironment() throws Exception {
+        WebEndpointResponse<Map<String, Object>> started = endpoint.start("default", "PT0S");
+        assertEquals(200, started.getStatus());
+        assertEquals("RUNNING", started.getBody().get("state"));
+        long id = (Long) started.getBody().get("id");
+
+        SlackMessage message = new SlackMessage();
+        message.setUsername("alice");
+        message.setText("Feeling great about the release");
+        message.setTimestamp(LocalDateTime.now());
+        new SlackService(new IntegrationProperties(), null, null).analyzeTeamWellbeing(List.of(message));
+
+        ClientRequest request = ClientRequest.create(org.springframework.http.HttpMethod.GET,
+                URI.create("https://jira.example.com/rest/api/3/myself")).build();
+        UpstreamRequests.jira()
+                .filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+                .block();
+
+        assertEquals(200, endpoint.stop().getStatus());
+        WebEndpointResponse<Resource> download = endpoint.download(id);
+        assertEquals(200, download.getStatus());
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(download.getBody().getFile().toPath());
+        Set<String> names = events.stream().map(event -> event.getEventType().getName()).collect(Collectors.toSet());
+        assertTrue(names.contains("com.abcstark.teamwellbeing.WellbeingAnalysis"));
+        assertFalse(names.contains("jdk.InitialEnvironmentVariable"));
+
+        RecordedEvent upstream = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.abcstark.teamwellbeing.UpstreamRequest"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("jira", upstream.getString("integration"));
+        assertEquals("GET /rest/api/3/myself", upstream.getString("method"));
+        assertEquals(200, upstream.getInt("status"));
+    }
+
+    @Test
+    void testStart_WhenAlreadyRunning_ReturnsBadRequest() {
+        assertEquals(200, endpoint.start("profile", "PT1M").getStatus());
+
+        assertEquals(400, endpoint.start("default", "PT0S").getStatus());
+    }
+
+    @Test
+    void testOperations_WhenNothingRecorded_ReturnErrors() {
+        assertEquals("NONE", endpoint.status().get("state"));
+        assertEquals(404, endpoint.stop().getStatus());
+        assertEquals(404, endpoint.download(1).getStatus());
+        assertEquals(400, endpoint.start("no-such-settings", "PT0S").getStatus());
+    }
+}
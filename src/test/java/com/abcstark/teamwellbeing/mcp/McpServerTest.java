@@ -0,0 +1,169 @@
+package com.abcstark.teamwellbeing.mcp;
+
+import com.abcstark.teamwellbeing.config.McpProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for sessions, batching and tool calls in McpServer.
+ */
+class McpServerTest {
+
+    private static final String INITIALIZE = """
+            {"jsonrpc": "2.0", "id": 1, "method": "initialize", "params": {"protocolVersion": "2025-03-26",
+             "capabilities": {}, "clientInfo": {"name": "orchestrator", "version": "1.0"}}}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CountDownLatch bothStarted = new CountDownLatch(2);
+    private ExecutorService executor;
+    private McpProperties mcpProperties;
+    private McpServer mcpServer;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        mcpProperties = new McpProperties();
+        mcpServer = new McpServer(mcpProperties, List.of(
+                new McpTool("get_slack_channels", "Channels", Map.of("type", "object"), arguments -> {
+                    awaitOtherCall();
+                    return List.of("general", "random");
+                }),
+                new McpTool("get_jira_stats", "Stats", Map.of("type", "object"), arguments -> {
+                    awaitOtherCall();
+                    return Map.of("statistics", "Total Issues: 2");
+                }),
+                new McpTool("get_github_issues_for_user", "Issues", Map.of("type", "object"), arguments -> {
+                    throw new IllegalArgumentException("Missing argument 'username'");
+                })), objectMapper, executor, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testHandle_WhenInitialized_ReusesSessionForLaterRequests() throws Exception {
+        McpServer.McpReply initialized = handle(null, INITIALIZE);
+
+        assertEquals(200, initialized.status());
+        assertNotNull(initialized.sessionId());
+        assertEquals("2025-03-26", initialized.body().at("/result/protocolVersion").asText());
+        assertTrue(initialized.body().at("/result/capabilities/tools").isObject());
+
+        String sessionId = initialized.sessionId();
+        McpServer.McpReply notification = handle(sessionId, "{\"jsonrpc\": \"2.0\", \"method\": \"notifications/initialized\"}");
+        assertEquals(202, notification.status());
+        assertNull(notification.body());
+        assertTrue(mcpServer.findSession(sessionId).orElseThrow().isInitialized());
+
+        McpServer.McpReply tools = handle(sessionId, "{\"jsonrpc\": \"2.0\", \"id\": \"list\", \"method\": \"tools/list\"}");
+        assertEquals("list", tools.body().get("id").asText());
+        assertEquals("get_slack_channels", tools.body().at("/result/tools/0/name").asText());
+        assertEquals(1, mcpServer.getSessionCount());
+    }
+
+    @Test
+    void testHandle_WhenSessionMissingOrUnknown_RejectsRequest() throws Exception {
+        McpServer.McpReply missing = handle(null, "{\"jsonrpc\": \"2.0\", \"id\": 1, \"method\": \"ping\"}");
+        McpServer.McpReply unknown = handle("gone", "{\"jsonrpc\": \"2.0\", \"id\": 1, \"method\": \"ping\"}");
+        String sessionId = handle(null, INITIALIZE).sessionId();
+        mcpServer.closeSession(sessionId);
+        McpServer.McpReply closed = handle(sessionId, "{\"jsonrpc\": \"2.0\", \"id\": 1, \"method\": \"ping\"}");
+        McpServer.McpReply malformed = handle(null, "{\"jsonrpc\": ");
+
+        assertEquals(400, missing.status());
+        assertEquals(404, unknown.status());
+        assertEquals(McpServer.SESSION_NOT_FOUND, unknown.body().at("/error/code").asInt());
+        assertEquals(404, closed.status());
+        assertEquals(McpServer.PARSE_ERROR, malformed.body().at("/error/code").asInt());
+    }
+
+    @Test
+    void testHandle_WhenBatchOfToolCalls_RunsThemConcurrentlyAndAnswersInOrder() throws Exception {
+        String sessionId = handle(null, INITIALIZE).sessionId();
+
+        McpServer.McpReply reply = handle(sessionId, """
+                [{"jsonrpc": "2.0", "id": 1, "method": "tools/call", "params": {"name": "get_slack_channels"}},
+                 {"jsonrpc": "2.0", "method": "notifications/initialized"},
+                 {"jsonrpc": "2.0", "id": 2, "method": "tools/call", "params": {"name": "get_jira_stats", "arguments": {}}},
+                 {"jsonrpc": "2.0", "id": 3, "method": "tools/call", "params": {"name": "get_github_issues_for_user"}},
+                 {"jsonrpc": "2.0", "id": 4, "method": "tools/call", "params": {"name": "delete_everything"}},
+                 {"jsonrpc": "2.0", "id": 5, "method": "resources/list"}]
+                """);
+
+        JsonNode body = reply.body();
+        assertEquals(200, reply.status());
+        assertEquals(5, body.size());
+        assertEquals(List.of("general", "random"),
+                objectMapper.readValue(body.at("/0/result/content/0/text").asText(), List.class));
+        assertFalse(body.at("/0/result/isError").asBoolean());
+        assertEquals(2, body.at("/1/id").asInt());
+        assertTrue(body.at("/1/result/content/0/text").asText().contains("Total Issues: 2"));
+        assertTrue(body.at("/2/result/isError").asBoolean());
+        assertEquals(McpServer.INVALID_PARAMS, body.at("/3/error/code").asInt());
+        assertEquals(McpServer.METHOD_NOT_FOUND, body.at("/4/error/code").asInt());
+    }
+
+    @Test
+    void testHandle_WhenBatchTooLarge_RejectsBatch() throws Exception {
+        mcpProperties.setMaxBatchSize(1);
+        String sessionId = handle(null, INITIALIZE).sessionId();
+
+        McpServer.McpReply reply = handle(sessionId, """
+                [{"jsonrpc": "2.0", "id": 1, "method": "ping"}, {"jsonrpc": "2.0", "id": 2, "method": "ping"}]
+                """);
+
+        assertEquals(400, reply.status());
+        assertEquals(McpServer.INVALID_REQUEST, reply.body().at("/error/code").asInt());
+    }
+
+    @Test
+    void testCheckOrigin_WhenOriginNotAllowed_RejectsRequest() {
+        mcpProperties.setAllowedOrigins(List.of("http://localhost:6274/"));
+
+        assertTrue(mcpServer.checkOrigin(null).isEmpty());
+        assertTrue(mcpServer.checkOrigin("http://LOCALHOST:6274").isEmpty());
+        McpServer.McpReply rejected = mcpServer.checkOrigin("http://evil.example").orElseThrow();
+        assertEquals(403, rejected.status());
+        assertEquals(McpServer.ORIGIN_NOT_ALLOWED, rejected.body().at("/error/code").asInt());
+
+        mcpProperties.setAllowedOrigins(List.of());
+        assertTrue(mcpServer.checkOrigin("http://localhost:6274").isPresent());
+        mcpProperties.setAllowedOrigins(List.of("*"));
+        assertTrue(mcpServer.checkOrigin("http://evil.example").isEmpty());
+    }
+
+    private McpServer.McpReply handle(String sessionId, String body) throws Exception {
+        return mcpServer.handle(sessionId, body).get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Blocks until the other tool call of the batch has started, which fails the batch test
+     * with a timeout if tool calls run one after another.
+     */
+    private void awaitOtherCall() {
+        bothStarted.countDown();
+        try {
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Tool calls did not run concurrently");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
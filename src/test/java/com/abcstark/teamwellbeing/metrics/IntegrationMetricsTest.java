@@ -0,0 +1,77 @@
+package com.abcstark.teamwellbeing.metrics;
+
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for IntegrationMetrics.
+ */
+class IntegrationMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IntegrationMetrics integrationMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        IntegrationProperties integrationProperties = new IntegrationProperties();
+        integrationProperties.getGithub().setOwner("acme");
+        integrationProperties.getGithub().setRepository("api");
+        integrationMetrics = new IntegrationMetrics(meterRegistry, integrationProperties);
+    }
+
+    @Test
+    void testRecordCall_WhenSlackCall_TagsChannelAndFillsOtherScopesWithNone() {
+        integrationMetrics.recordCall(integrationMetrics.start(), IntegrationMetrics.SLACK, "conversations.history",
+                "general", IntegrationMetrics.SUCCESS);
+        integrationMetrics.recordCall(integrationMetrics.start(), IntegrationMetrics.SLACK, "auth.test",
+                null, IntegrationMetrics.RATE_LIMITED);
+
+        Timer history = meterRegistry.get("wellbeing.upstream.requests")
+                .tags("integration", "slack", "method", "conversations.history", "channel", "general",
+                        "repository", "none", "project", "none", "outcome", "success")
+                .timer();
+        assertEquals(1, history.count());
+        assertEquals(3, history.takeSnapshot().percentileValues().length);
+
+        Timer authTest = meterRegistry.get("wellbeing.upstream.requests")
+                .tags("method", "auth.test", "channel", "none", "outcome", "rate_limited")
+                .timer();
+        assertEquals(1, authTest.count());
+    }
+
+    @Test
+    void testCountRecords_WhenCalledPerStage_AccumulatesAndSkipsZero() {
+        integrationMetrics.countRecords(IntegrationMetrics.JIRA, "PROJ", IntegrationMetrics.FETCHED, 50);
+        integrationMetrics.countRecords(IntegrationMetrics.JIRA, "PROJ", IntegrationMetrics.FETCHED, 25);
+        integrationMetrics.countRecords(IntegrationMetrics.JIRA, "PROJ", IntegrationMetrics.FAILED, 0);
+
+        assertEquals(75, meterRegistry.get("wellbeing.collection.records")
+                .tags("integration", "jira", "project", "PROJ", "stage", "fetched")
+                .counter().count());
+        assertNull(meterRegistry.find("wellbeing.collection.records").tag("stage", "failed").counter());
+    }
+
+    @Test
+    void testRecordCollection_WhenGitHub_TagsConfiguredRepository() {
+        integrationMetrics.recordCollection(integrationMetrics.start(), IntegrationMetrics.GITHUB,
+                IntegrationMetrics.ERROR);
+
+        Timer collection = meterRegistry.get("wellbeing.collection.duration")
+                .tags("integration", "github", "repository", "acme/api", "outcome", "error")
+                .timer();
+        assertEquals(1, collection.count());
+    }
+
+    @Test
+    void testOutcome_WhenStatusGiven_MapsRateLimitsSeparately() {
+        assertEquals(IntegrationMetrics.SUCCESS, IntegrationMetrics.outcome(200));
+        assertEquals(IntegrationMetrics.RATE_LIMITED, IntegrationMetrics.outcome(429));
+        assertEquals(IntegrationMetrics.ERROR, IntegrationMetrics.outcome(503));
+    }
+}
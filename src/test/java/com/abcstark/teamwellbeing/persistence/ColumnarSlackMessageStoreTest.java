@@ -0,0 +1,132 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for the off-heap columnar Slack message store.
+ */
+class ColumnarSlackMessageStoreTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2023, 11, 28, 9, 0);
+
+    private final CompactKeys compactKeys = new CompactKeys();
+    private ColumnarSlackMessageStore store;
+
+    @BeforeEach
+    void setUp() {
+        // Two rows per segment so the tests cross segment boundaries
+        store = new ColumnarSlackMessageStore(2);
+    }
+
+    @Test
+    void testFindAll_WhenMessagesStored_MaterializesAllFields() {
+        SlackMessage message = slackMessage(1, "Ünïcode text ✓", 3);
+        message.setThreadTs("1701168000.000001");
+        message.setBotId("B001");
+        message.setSuppressed("duplicate");
+        message.setDuplicateOf("1701168000.000000");
+        store.upsert(compactKeys.slackMessageKey(message), message, null);
+
+        SlackMessage stored = store.findAll().get(0);
+
+        assertEquals(message.getMessageId(), stored.getMessageId());
+        assertEquals("C001", stored.getChannelId());
+        assertEquals("general", stored.getChannelName());
+        assertEquals("U001", stored.getUserId());
+        assertEquals("alice.jones", stored.getUsername());
+        assertEquals("Ünïcode text ✓", stored.getText());
+        assertEquals("1701168000.000001", stored.getThreadTs());
+        assertEquals(3, stored.getReactionCount());
+        assertEquals("B001", stored.getBotId());
+        assertEquals("duplicate", stored.getSuppressed());
+        assertEquals("1701168000.000000", stored.getDuplicateOf());
+        assertEquals(message.getTimestamp(), stored.getTimestamp());
+        assertTrue(store.getOffHeapBytes() > 0);
+    }
+
+    @Test
+    void testUpsert_WhenTextOrReactionsChange_ReplacesRowInPlace() {
+        SlackMessage message = slackMessage(1, "Hello", 0);
+        CompactKeys.SlackMessageKey key = compactKeys.slackMessageKey(message);
+
+        assertTrue(store.upsert(key, message, null));
+        assertFalse(store.upsert(key, slackMessage(1, "Hello", 0), null));
+        List<String> previousText = new ArrayList<>();
+        assertTrue(store.upsert(key, slackMessage(1, "Hello (edited)", 2),
+                (previous, current) -> previousText.add(previous.getText())));
+
+        assertEquals(1, store.size());
+        assertEquals("Hello (edited)", store.findAll().get(0).getText());
+        assertEquals(2, store.findAll().get(0).getReactionCount());
+        assertEquals(List.of("Hello"), previousText);
+    }
+
+    @Test
+    void testUpsert_WhenTextEditedRepeatedly_ReclaimsOldBytes() {
+        SlackMessage message = slackMessage(1, "Hello", 0);
+        CompactKeys.SlackMessageKey key = compactKeys.slackMessageKey(message);
+        store.upsert(key, message, null);
+        long bytesBefore = store.getOffHeapBytes();
+
+        for (int i = 1; i <= 1000; i++) {
+            store.upsert(key, slackMessage(1, "Hello " + "!".repeat(i), 0), null);
+        }
+        store.upsert(key, slackMessage(1, "Hi", 0), null);
+
+        assertEquals(bytesBefore, store.getOffHeapBytes());
+        assertEquals("Hi", store.get(key).getText());
+        assertEquals(message.getMessageId(), store.get(key).getMessageId());
+    }
+
+    @Test
+    void testScans_WhenRowsSpanSegments_AggregateWithinRange() {
+        for (int i = 0; i < 5; i++) {
+            SlackMessage message = slackMessage(i, "Message " + i, i);
+            store.upsert(compactKeys.slackMessageKey(message), message, null);
+        }
+
+        LocalDateTime start = CREATED.plusHours(1);
+        LocalDateTime end = CREATED.plusHours(3);
+
+        assertEquals(3, store.countBetween(start, end));
+        assertEquals(6, store.sumReactionsBetween(start, end));
+        List<SlackMessage> found = store.findBetween(start, end);
+        assertEquals(3, found.size());
+        assertEquals(5, store.countBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    void testRemove_WhenSegmentEmptied_ReleasesSegment() {
+        List<CompactKeys.SlackMessageKey> keys = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            SlackMessage message = slackMessage(i, "Message " + i, 1);
+            keys.add(compactKeys.slackMessageKey(message));
+            store.upsert(keys.get(i), message, null);
+        }
+        long bytesBefore = store.getOffHeapBytes();
+
+        assertEquals("Message 0", store.remove(keys.get(0)).getText());
+        assertNull(store.remove(keys.get(0)));
+        store.remove(keys.get(1));
+
+        assertEquals(1, store.size());
+        assertEquals(1, store.findAll().size());
+        assertEquals(1, store.countBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertTrue(store.getOffHeapBytes() < bytesBefore);
+    }
+
+    private SlackMessage slackMessage(int index, String text, int reactions) {
+        SlackMessage message = new SlackMessage("170116800" + index + ".000100", "C001", "general", "U001",
+                "alice.jones", text, CREATED.plusHours(index));
+        message.setReactionCount(reactions);
+        return message;
+    }
+}
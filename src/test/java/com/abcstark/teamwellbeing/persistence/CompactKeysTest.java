@@ -0,0 +1,64 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for compact record keys in CompactKeys.
+ */
+class CompactKeysTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2023, 11, 28, 9, 0);
+
+    @Test
+    void testParseSlackTs_WhenValidTs_PacksMicroseconds() {
+        assertEquals(1701168000_001000L, CompactKeys.parseSlackTs("1701168000.001"));
+        assertEquals(1701168000_123456L, CompactKeys.parseSlackTs("1701168000.123456"));
+        assertEquals(1701168000_000000L, CompactKeys.parseSlackTs("1701168000"));
+    }
+
+    @Test
+    void testParseSlackTs_WhenNotATs_ReturnsMinusOne() {
+        assertEquals(-1, CompactKeys.parseSlackTs(null));
+        assertEquals(-1, CompactKeys.parseSlackTs("msg-42"));
+        assertEquals(-1, CompactKeys.parseSlackTs("1701168000.1234567"));
+    }
+
+    @Test
+    void testSlackMessageKey_WhenSameTsInOtherChannel_KeysDiffer() {
+        CompactKeys keys = new CompactKeys();
+
+        CompactKeys.SlackMessageKey general = keys.slackMessageKey(slackMessage("C001", "1701168000.001"));
+        CompactKeys.SlackMessageKey random = keys.slackMessageKey(slackMessage("C002", "1701168000.001"));
+
+        assertNotEquals(general, random);
+        assertEquals(general, keys.slackMessageKey(slackMessage("C001", "1701168000.001")));
+        assertNull(general.messageId());
+        assertNotNull(keys.slackMessageKey(slackMessage("C001", "msg-42")).messageId());
+    }
+
+    @Test
+    void testGitHubIssueKey_WhenSameNumberInOtherRepository_KeysDiffer() {
+        CompactKeys keys = new CompactKeys();
+
+        long backend = keys.gitHubIssueKey(gitHubIssue("backend", 7));
+        long frontend = keys.gitHubIssueKey(gitHubIssue("frontend", 7));
+
+        assertNotEquals(backend, frontend);
+        assertEquals(backend, keys.gitHubIssueKey(gitHubIssue("backend", 7)));
+        assertEquals(7, (int) frontend);
+    }
+
+    private SlackMessage slackMessage(String channelId, String ts) {
+        return new SlackMessage(ts, channelId, "general", "U001", "alice.jones", "Hello", CREATED);
+    }
+
+    private GitHubIssue gitHubIssue(String repository, int number) {
+        return new GitHubIssue((long) number, number, "Title", "OPEN", "alice", CREATED, repository);
+    }
+}
@@ -0,0 +1,130 @@
+package com.abcstark.teamwellbeing.persistence;
+
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for idempotent upserts in InMemoryPersistenceService.
+ */
+class InMemoryPersistenceServiceTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2023, 11, 28, 9, 0);
+
+    private InMemoryPersistenceService persistenceService;
+
+    @BeforeEach
+    void setUp() {
+        persistenceService = new InMemoryPersistenceService();
+    }
+
+    @Test
+    void testSaveGitHubIssues_WhenUpdatedAtUnchanged_SkipsIssue() {
+        GitHubIssue issue = gitHubIssue(7, CREATED.plusHours(1));
+
+        assertEquals(1, persistenceService.saveGitHubIssues(List.of(issue)));
+        assertEquals(0, persistenceService.saveGitHubIssues(List.of(gitHubIssue(7, CREATED.plusHours(1)))));
+        assertEquals(1, persistenceService.saveGitHubIssues(List.of(gitHubIssue(7, CREATED.plusHours(2)))));
+
+        assertEquals(1, persistenceService.getAllGitHubIssues().size());
+        assertEquals(CREATED.plusHours(2), persistenceService.getAllGitHubIssues().get(0).getUpdatedAt());
+    }
+
+    @Test
+    void testSaveJiraIssues_WhenUpdatedUnknown_AlwaysReplaces() {
+        JiraIssue issue = new JiraIssue("1", "PROJ-1", "Summary", "Open", "alice", "bob", CREATED, "PROJ");
+
+        assertEquals(1, persistenceService.saveJiraIssues(List.of(issue)));
+        assertEquals(1, persistenceService.saveJiraIssues(List.of(issue)));
+        assertEquals(1, persistenceService.getAllJiraIssues().size());
+    }
+
+    @Test
+    void testSaveSlackMessages_WhenReactionsChange_ReplacesMessage() {
+        SlackMessage message = slackMessage(0);
+
+        assertEquals(1, persistenceService.saveSlackMessages(List.of(message)));
+        assertEquals(0, persistenceService.saveSlackMessages(List.of(slackMessage(0))));
+        assertEquals(1, persistenceService.saveSlackMessages(List.of(slackMessage(2))));
+        assertEquals(2, persistenceService.getAllSlackMessages().get(0).getReactionCount());
+    }
+
+    @Test
+    void testSaveSlackMessages_WhenFieldsRepeat_SharesPooledInstances() {
+        SlackMessage first = slackMessage(0);
+        SlackMessage second = new SlackMessage("1701168300.002", new String("C001"), new String("general"),
+                new String("U001"), new String("alice.jones"), "Second message", CREATED);
+
+        persistenceService.saveSlackMessages(List.of(first, second));
+
+        assertSame(first.getChannelName(), second.getChannelName());
+        assertSame(first.getUsername(), second.getUsername());
+        assertTrue(persistenceService.getStorageStatistics().contains("4 distinct values"));
+    }
+
+    @Test
+    void testEvictGitHubIssues_WhenIssueUpdatedAfterCutoff_KeepsIssue() {
+        persistenceService.saveGitHubIssues(List.of(gitHubIssue(1, CREATED.plusHours(1)), gitHubIssue(2, CREATED.plusHours(1))));
+        persistenceService.saveGitHubIssues(List.of(gitHubIssue(2, CREATED.plusDays(3))));
+
+        List<GitHubIssue> evicted = persistenceService.evictGitHubIssues(CREATED.plusDays(1), 100);
+
+        assertEquals(1, evicted.size());
+        assertEquals(1, evicted.get(0).getNumber());
+        assertEquals(2, persistenceService.getAllGitHubIssues().get(0).getNumber());
+    }
+
+    @Test
+    void testEvictSlackMessages_WhenBatchLimited_EvictsOldestInBatches() {
+        for (int i = 0; i < 5; i++) {
+            SlackMessage message = new SlackMessage("170116800" + i + ".000100", "C001", "general", "U001",
+                    "alice.jones", "Message " + i, CREATED.plusDays(i));
+            persistenceService.saveSlackMessages(List.of(message));
+        }
+
+        assertEquals(2, persistenceService.evictSlackMessages(CREATED.plusDays(3), 2).size());
+        assertEquals(1, persistenceService.evictSlackMessages(CREATED.plusDays(3), 2).size());
+        assertEquals(2, persistenceService.getAllSlackMessages().size());
+    }
+
+    @Test
+    void testGetVersion_WhenStoreWrittenOrCleared_ChangesVersion() {
+        long initial = persistenceService.getVersion();
+
+        persistenceService.saveGitHubIssues(List.of());
+        assertEquals(initial, persistenceService.getVersion());
+
+        persistenceService.saveGitHubIssues(List.of(gitHubIssue(1, CREATED.plusHours(1))));
+        long written = persistenceService.getVersion();
+        assertNotEquals(initial, written);
+
+        assertEquals(0, persistenceService.saveGitHubIssues(List.of(gitHubIssue(1, CREATED.plusHours(1)))));
+        assertEquals(written, persistenceService.getVersion());
+
+        assertEquals(0, persistenceService.evictGitHubIssues(CREATED, 100).size());
+        assertEquals(written, persistenceService.getVersion());
+
+        persistenceService.clearAllData();
+        assertNotEquals(written, persistenceService.getVersion());
+    }
+
+    private GitHubIssue gitHubIssue(int number, LocalDateTime updatedAt) {
+        GitHubIssue issue = new GitHubIssue((long) number, number, "Title", "OPEN", "alice", CREATED, "backend");
+        issue.setUpdatedAt(updatedAt);
+        return issue;
+    }
+
+    private SlackMessage slackMessage(int reactions) {
+        SlackMessage message = new SlackMessage("1701168000.001", "C001", "general", "U001", "alice.jones",
+                "Good morning team!", CREATED);
+        message.setReactionCount(reactions);
+        return message;
+    }
+}
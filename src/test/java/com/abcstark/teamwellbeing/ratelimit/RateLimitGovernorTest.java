@@ -0,0 +1,81 @@
+package com.abcstark.teamwellbeing.ratelimit;
+
+import com.abcstark.teamwellbeing.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for token-bucket prioritization and header handling in RateLimitGovernor.
+ */
+class RateLimitGovernorTest {
+
+    private RateLimitGovernor rateLimitGovernor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxWait(0);
+        properties.setMaxSchedulerWait(0);
+        properties.setSchedulerReserve(0.5);
+        // 4 tokens, refilled so slowly that nothing comes back during the test
+        properties.setBuckets(Map.of("test", new RateLimitProperties.Bucket(4, 0.001)));
+
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitGovernor = new RateLimitGovernor(properties, meterRegistry);
+    }
+
+    @Test
+    void testAcquire_WhenOnlyReserveLeft_ShedsInteractiveButServesScheduler() {
+        rateLimitGovernor.acquire("test");
+        rateLimitGovernor.acquire("test");
+
+        // The remaining two tokens are reserved for scheduled collection
+        assertThrows(RateLimitExceededException.class, () -> rateLimitGovernor.acquire("test"));
+        CallPriority.SCHEDULER.run(() -> rateLimitGovernor.acquire("test", 2));
+
+        assertThrows(RateLimitExceededException.class,
+                () -> CallPriority.SCHEDULER.run(() -> rateLimitGovernor.acquire("test")));
+        assertEquals(2.0, meterRegistry.get("wellbeing.ratelimit.throttled").tag("outcome", "shed").counters()
+                .stream().mapToDouble(c -> c.count()).sum());
+    }
+
+    @Test
+    void testObserveHeaders_WhenRetryAfterReceived_BlocksBucket() {
+        rateLimitGovernor.observeHeaders("test", name -> "Retry-After".equals(name) ? "30" : null);
+
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> CallPriority.SCHEDULER.run(() -> rateLimitGovernor.acquire("test")));
+        assertTrue(e.getRetryAfterMillis() > 25_000);
+    }
+
+    @Test
+    void testObserveHeaders_WhenRemainingReported_AlignsTokens() {
+        rateLimitGovernor.observeHeaders("test", name -> "X-RateLimit-Remaining".equals(name) ? "1" : null);
+
+        assertEquals(1.0, rateLimitGovernor.getAvailableTokens("test"), 0.01);
+    }
+
+    @Test
+    void testAcquireAsync_WhenOnlyReserveLeft_ShedsInteractiveButServesScheduler() {
+        assertNull(rateLimitGovernor.acquireAsync("test", 2).block());
+
+        assertThrows(RateLimitExceededException.class, () -> rateLimitGovernor.acquireAsync("test", 1).block());
+        // The priority is taken when the Mono is subscribed, not when it is assembled
+        assertNull(CallPriority.SCHEDULER.call(() -> rateLimitGovernor.acquireAsync("test", 2).block()));
+        assertEquals(0.0, rateLimitGovernor.getAvailableTokens("test"), 0.01);
+    }
+
+    @Test
+    void testAcquire_WhenBucketUnknown_DoesNotLimit() {
+        for (int i = 0; i < 100; i++) {
+            rateLimitGovernor.acquire("unknown");
+        }
+        assertEquals(Double.POSITIVE_INFINITY, rateLimitGovernor.getAvailableTokens("unknown"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.abcstark.teamwellbeing.rollup;
+
+import com.abcstark.teamwellbeing.config.PersistenceProperties;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.persistence.InMemoryPersistenceService;
+import com.abcstark.teamwellbeing.persistence.StringDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for ingest-time rollups in RollupService.
+ */
+class RollupServiceTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2023, 11, 28, 9, 15);
+
+    private RollupService rollupService;
+    private InMemoryPersistenceService persistenceService;
+
+    @BeforeEach
+    void setUp() {
+        rollupService = new RollupService();
+        persistenceService = new InMemoryPersistenceService(new StringDictionary(), new PersistenceProperties(),
+                List.of(rollupService));
+    }
+
+    @Test
+    void testOnSlackMessage_WhenMessageReplaced_DoesNotDoubleCount() {
+        persistenceService.saveSlackMessages(List.of(slackMessage("I'm so stressed about the deadline", 0)));
+        persistenceService.saveSlackMessages(List.of(slackMessage("I'm so stressed about the deadline", 2)));
+
+        RollupBucket team = rollupService.getTotals(RollupGranularity.DAILY, RollupDimension.TEAM, null,
+                CREATED.minusDays(1), CREATED.plusDays(1));
+        List<RollupBucket> hourly = rollupService.getBuckets(RollupGranularity.HOURLY, RollupDimension.MEMBER,
+                "alice.jones", CREATED, CREATED);
+
+        assertEquals(1, team.getMessages());
+        assertEquals(2, team.getReactions());
+        assertEquals(2, team.getStressHits());
+        assertEquals(1, hourly.size());
+        assertEquals(CREATED.withMinute(0), hourly.get(0).getStart());
+        assertEquals(Set.of("general"), rollupService.getKeys(RollupDimension.CHANNEL));
+    }
+
+    @Test
+    void testOnJiraIssue_WhenResolved_CountsStoryPointsAtResolution() {
+        JiraIssue issue = new JiraIssue("1", "PROJ-1", "Summary", "Open", "alice", "bob", CREATED, "PROJ");
+        issue.setStoryPoints(5.0);
+        persistenceService.saveJiraIssues(List.of(issue));
+
+        JiraIssue resolved = new JiraIssue("1", "PROJ-1", "Summary", "Done", "alice", "bob", CREATED, "PROJ");
+        resolved.setStoryPoints(5.0);
+        resolved.setUpdated(CREATED.plusDays(2));
+        resolved.setResolved(CREATED.plusDays(2));
+        persistenceService.saveJiraIssues(List.of(resolved));
+
+        List<RollupBucket> days = rollupService.getBuckets(RollupGranularity.DAILY, RollupDimension.PROJECT, "PROJ",
+                CREATED.minusDays(1), CREATED.plusDays(3));
+
+        assertEquals(2, days.size());
+        assertEquals(1, days.get(0).getIssuesOpened());
+        assertEquals(1, days.get(1).getIssuesClosed());
+        assertEquals(5.0, days.get(1).getStoryPoints());
+    }
+
+    @Test
+    void testOnJiraIssue_WhenEvictedIssueCollectedAgain_DoesNotDoubleCount() {
+        JiraIssue issue = new JiraIssue("1", "PROJ-1", "Summary", "Done", "alice", "bob", CREATED, "PROJ");
+        issue.setStoryPoints(3.0);
+        issue.setUpdated(CREATED.plusDays(1));
+        issue.setResolved(CREATED.plusDays(1));
+        persistenceService.saveJiraIssues(List.of(issue));
+        persistenceService.evictJiraIssues(CREATED.plusDays(2), 10);
+
+        JiraIssue commented = new JiraIssue("1", "PROJ-1", "Summary", "Done", "alice", "bob", CREATED, "PROJ");
+        commented.setStoryPoints(3.0);
+        commented.setUpdated(CREATED.plusDays(5));
+        commented.setResolved(CREATED.plusDays(1));
+        persistenceService.saveJiraIssues(List.of(commented));
+
+        RollupBucket project = rollupService.getTotals(RollupGranularity.DAILY, RollupDimension.PROJECT, "PROJ",
+                CREATED.minusDays(1), CREATED.plusDays(6));
+
+        assertEquals(1, persistenceService.getAllJiraIssues().size());
+        assertEquals(1, project.getIssuesOpened());
+        assertEquals(1, project.getIssuesClosed());
+        assertEquals(3.0, project.getStoryPoints());
+    }
+
+    @Test
+    void testPruneHourly_WhenOlderThanCutoff_KeepsDailyBuckets() {
+        persistenceService.saveSlackMessages(List.of(slackMessage("Good morning", 0)));
+
+        rollupService.pruneHourly(CREATED.plusDays(1));
+
+        assertTrue(rollupService.getBuckets(RollupGranularity.HOURLY, RollupDimension.TEAM, null,
+                CREATED.minusDays(1), CREATED.plusDays(1)).isEmpty());
+        assertEquals(1, rollupService.getBuckets(RollupGranularity.DAILY, RollupDimension.TEAM, null,
+                CREATED.minusDays(1), CREATED.plusDays(1)).size());
+    }
+
+    private SlackMessage slackMessage(String text, int reactions) {
+        SlackMessage message = new SlackMessage("1701162900.000100", "C001", "general", "U001", "alice.jones",
+                text, CREATED);
+        message.setReactionCount(reactions);
+        return message;
+    }
+}
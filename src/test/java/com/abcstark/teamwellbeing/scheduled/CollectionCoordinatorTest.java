@@ -0,0 +1,103 @@
+package com.abcstark.teamwellbeing.scheduled;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for single-flight collection jobs in CollectionCoordinator.
+ */
+class CollectionCoordinatorTest {
+
+    @Test
+    void testSubmit_WhenSourceInFlight_JoinsRunningCollection() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CollectionCoordinator coordinator = new CollectionCoordinator(executor);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger slackRuns = new AtomicInteger();
+
+        try {
+            CollectionJob scheduled = coordinator.submit(EnumSet.of(CollectionSource.SLACK), "scheduled", source -> {
+                slackRuns.incrementAndGet();
+                await(release);
+                return 5;
+            });
+            CollectionJob manual = coordinator.submit(EnumSet.allOf(CollectionSource.class), "manual", source -> {
+                if (source == CollectionSource.SLACK) {
+                    slackRuns.incrementAndGet();
+                }
+                return 1;
+            });
+
+            assertTrue(coordinator.isInFlight(CollectionSource.SLACK));
+            assertTrue(manual.getResults().get(CollectionSource.SLACK).isJoined());
+            release.countDown();
+
+            manual.getCompletion().get(5, TimeUnit.SECONDS);
+            scheduled.getCompletion().get(5, TimeUnit.SECONDS);
+
+            assertEquals(1, slackRuns.get());
+            assertEquals(CollectionJob.Status.COMPLETED, manual.getStatus());
+            assertEquals(5, manual.getResults().get(CollectionSource.SLACK).getRecords());
+            assertEquals(1, manual.getResults().get(CollectionSource.JIRA).getRecords());
+            assertFalse(coordinator.isInFlight(CollectionSource.SLACK));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSubmit_WhenIdenticalJobRunning_ReturnsSameJob() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CollectionCoordinator coordinator = new CollectionCoordinator(executor);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            CollectionJob first = coordinator.submit(EnumSet.allOf(CollectionSource.class), "manual", source -> {
+                await(release);
+                return 0;
+            });
+            CollectionJob second = coordinator.submit(EnumSet.allOf(CollectionSource.class), "manual", source -> 0);
+
+            assertSame(first, second);
+            assertTrue(coordinator.getJob(first.getId()).isPresent());
+            release.countDown();
+            first.getCompletion().get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSubmit_WhenCollectorThrows_MarksJobFailed() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CollectionCoordinator coordinator = new CollectionCoordinator(executor);
+
+        try {
+            CollectionJob job = coordinator.submit(EnumSet.of(CollectionSource.GITHUB), "manual", source -> {
+                throw new IllegalStateException("GitHub unavailable");
+            });
+            job.getCompletion().get(5, TimeUnit.SECONDS);
+
+            assertEquals(CollectionJob.Status.FAILED, job.getStatus());
+            assertEquals("GitHub unavailable", job.getResults().get(CollectionSource.GITHUB).getError());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
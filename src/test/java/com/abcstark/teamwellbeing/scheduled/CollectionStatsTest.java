@@ -0,0 +1,63 @@
+package com.abcstark.teamwellbeing.scheduled;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for CollectionStats.
+ */
+class CollectionStatsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 12, 0);
+
+    @Test
+    void testSnapshot_WhenNoCycles_ReportsNoLagOrRates() {
+        CollectionStats stats = new CollectionStats(CollectionSource.SLACK, "general", 5);
+
+        SourceStatus status = stats.snapshot(NOW, false, null);
+
+        assertEquals("slack", status.getSource());
+        assertEquals(0, status.getCycles());
+        assertNull(status.getWatermark());
+        assertNull(status.getLagSeconds());
+        assertNull(status.getLastSuccessAt());
+        assertEquals(0, status.getRecordsPerSecond());
+        assertEquals(0, status.getErrorRate());
+    }
+
+    @Test
+    void testSnapshot_WhenCyclesRecorded_ComputesLagThroughputAndErrorRate() {
+        CollectionStats stats = new CollectionStats(CollectionSource.JIRA, "PROJ", 5);
+        stats.record(100, 1_000_000_000L, NOW.minusMinutes(10), false, NOW.minusMinutes(5));
+        stats.record(0, 1_000_000_000L, null, true, NOW.minusMinutes(1));
+
+        SourceStatus status = stats.snapshot(NOW, true, NOW.plusMinutes(4));
+
+        assertEquals(2, status.getCycles());
+        assertEquals(NOW.minusMinutes(5), status.getLastSuccessAt());
+        assertEquals(NOW.minusMinutes(10), status.getWatermark());
+        assertEquals(600, status.getLagSeconds());
+        assertEquals(50.0, status.getRecordsPerSecond(), 0.001);
+        assertEquals(0.5, status.getErrorRate(), 0.001);
+        assertEquals(NOW.plusMinutes(4), status.getNextRunAt());
+        assertTrue(status.isRunning());
+    }
+
+    @Test
+    void testRecord_WhenWindowFull_DropsOldestCyclesButKeepsWatermark() {
+        CollectionStats stats = new CollectionStats(CollectionSource.GITHUB, "acme/api", 2);
+        stats.record(10, 1_000_000_000L, NOW.minusHours(1), true, NOW);
+        stats.record(20, 1_000_000_000L, NOW.minusHours(2), false, NOW);
+        stats.record(40, 1_000_000_000L, null, false, NOW);
+
+        SourceStatus status = stats.snapshot(NOW, false, null);
+
+        assertEquals(2, status.getCycles());
+        assertEquals(30.0, status.getRecordsPerSecond(), 0.001);
+        assertEquals(0, status.getErrorRate());
+        assertEquals(NOW.minusHours(1), status.getWatermark());
+    }
+}
@@ -0,0 +1,165 @@
+package com.abcstark.teamwellbeing.search;
+
+import com.abcstark.teamwellbeing.config.PersistenceProperties;
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.persistence.InMemoryPersistenceService;
+import com.abcstark.teamwellbeing.persistence.StringDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for the incremental search index and query evaluation in SearchService.
+ */
+class SearchServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 28, 9, 0);
+
+    private SearchIndex searchIndex;
+    private InMemoryPersistenceService persistenceService;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new SearchIndex();
+        persistenceService = new InMemoryPersistenceService(new StringDictionary(), new PersistenceProperties(),
+                List.of(searchIndex));
+        searchService = new SearchService(searchIndex, persistenceService);
+
+        persistenceService.saveSlackMessages(List.of(
+                slackMessage("1701158400.000100", "Database outage in production, on call is paging", NOW.minusHours(3)),
+                slackMessage("1701162000.000200", "Post mortem for the outage is ready", NOW.minusHours(2)),
+                slackMessage("1701165600.000300", "Call me after the test outage drill", NOW.minusHours(1))));
+
+        GitHubIssue issue = new GitHubIssue(1L, 42, "Pager fires during outage", "open", "bob", NOW, "team/api");
+        issue.setBody("Alerting noise");
+        persistenceService.saveGitHubIssues(List.of(issue));
+
+        JiraIssue jiraIssue = new JiraIssue("10001", "OPS-7", "Incident review", "Open", "carol", "dave",
+                NOW.minusDays(5), "OPS");
+        persistenceService.saveJiraIssues(List.of(jiraIssue));
+    }
+
+    @Test
+    void testSearch_WhenTermsGiven_ReturnsAllMatchesNewestFirst() {
+        SearchResults results = searchService.search("outage", Set.of(), null, null, 10);
+
+        assertEquals(4, results.getTotal());
+        assertEquals(SearchSource.GITHUB, results.getResults().get(0).getSource());
+        assertEquals("team/api#42", results.getResults().get(0).getId());
+        assertEquals("1701165600.000300", results.getResults().get(1).getId());
+    }
+
+    @Test
+    void testSearch_WhenBooleanOperatorsGiven_AppliesThem() {
+        assertEquals(2, searchService.search("outage pager OR production", Set.of(), null, null, 10).getTotal());
+        assertEquals(3, searchService.search("outage -test", Set.of(), null, null, 10).getTotal());
+        assertEquals(1, searchService.search("outage NOT pager NOT test production", Set.of(), null, null, 10)
+                .getTotal());
+    }
+
+    @Test
+    void testSearch_WhenPhraseGiven_MatchesOnlyAdjacentWords() {
+        SearchResults results = searchService.search("\"on call\"", Set.of(), null, null, 10);
+
+        assertEquals(1, results.getTotal());
+        assertEquals("1701158400.000100", results.getResults().get(0).getId());
+    }
+
+    @Test
+    void testSearch_WhenSourceAndTimeFiltersGiven_RestrictsResults() {
+        SearchResults slack = searchService.search("outage", EnumSet.of(SearchSource.SLACK),
+                NOW.minusMinutes(150), NOW, 10);
+        assertEquals(2, slack.getTotal());
+
+        SearchResults jira = searchService.search("ops 7", EnumSet.of(SearchSource.JIRA), null, null, 10);
+        assertEquals(1, jira.getTotal());
+        assertInstanceOf(JiraIssue.class, jira.getResults().get(0).getRecord());
+    }
+
+    @Test
+    void testSearch_WhenRecordReplaced_IndexesOnlyNewVersion() {
+        GitHubIssue updated = new GitHubIssue(1L, 42, "Pager noise fixed", "closed", "bob", NOW, "team/api");
+        updated.setUpdatedAt(NOW.plusHours(1));
+        persistenceService.saveGitHubIssues(List.of(updated));
+
+        assertEquals(3, searchService.search("outage", Set.of(), null, null, 10).getTotal());
+        assertEquals(1, searchService.search("fixed", Set.of(), null, null, 10).getTotal());
+        assertEquals(5, searchIndex.size());
+    }
+
+    @Test
+    void testSearch_WhenRecordReplacedManyTimes_ReusesDocumentIds() {
+        for (int i = 1; i <= 5000; i++) {
+            GitHubIssue updated = new GitHubIssue(1L, 42, "Pager noise round " + i, "open", "bob", NOW, "team/api");
+            updated.setUpdatedAt(NOW.plusMinutes(i));
+            persistenceService.saveGitHubIssues(List.of(updated));
+        }
+
+        assertTrue(searchIndex.getAssignedIds() <= 2 * 1024 + 1);
+        assertEquals(3, searchService.search("outage", Set.of(), null, null, 10).getTotal());
+        assertEquals("team/api#42", searchService.search("pager noise", Set.of(), null, null, 10)
+                .getResults().get(0).getId());
+        assertEquals(1, searchService.search("5000", Set.of(), null, null, 10).getTotal());
+        assertEquals(5, searchIndex.size());
+    }
+
+    @Test
+    void testSearch_WhenRecordsEvicted_DropsThem() {
+        persistenceService.evictSlackMessages(NOW.minusHours(1), 100);
+
+        assertEquals(2, searchService.search("outage", Set.of(), null, null, 10).getTotal());
+        assertEquals(3, searchIndex.size());
+    }
+
+    @Test
+    void testSearch_WhenTimesOutsideEpochSeconds_SortsNewestFirst() {
+        persistenceService.saveSlackMessages(List.of(
+                slackMessage("2300000000.000100", "Rollover check", LocalDateTime.of(2042, 1, 1, 0, 0)),
+                slackMessage("2200000000.000100", "Rollover check", LocalDateTime.of(2039, 6, 1, 0, 0)),
+                slackMessage("-100000000.000100", "Rollover check", LocalDateTime.of(1966, 10, 31, 0, 0))));
+
+        assertEquals(List.of("2300000000.000100", "2200000000.000100", "-100000000.000100"),
+                searchService.search("rollover", Set.of(), null, null, 10).getResults().stream()
+                        .map(SearchResult::getId).toList());
+
+        persistenceService.saveSlackMessages(List.of(
+                slackMessage("-5000000000.000100", "Rollover check", LocalDateTime.of(1800, 1, 1, 0, 0))));
+
+        assertEquals(List.of("2300000000.000100", "2200000000.000100", "-100000000.000100", "-5000000000.000100"),
+                searchService.search("rollover", Set.of(), null, null, 10).getResults().stream()
+                        .map(SearchResult::getId).toList());
+    }
+
+    @Test
+    void testSearch_WhenLimitReached_ReportsTotal() {
+        SearchResults results = searchService.search("outage", Set.of(), null, null, 1);
+
+        assertEquals(4, results.getTotal());
+        assertEquals(1, results.getResults().size());
+    }
+
+    @Test
+    void testIntersect_WhenListsDifferInSize_FindsCommonDocuments() {
+        int[] large = new int[1000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 3;
+        }
+
+        assertArrayEquals(new int[]{0, 300, 2997}, Postings.intersect(new int[]{0, 1, 300, 301, 2997, 5000}, large));
+        assertArrayEquals(new int[]{1, 2, 3, 5}, Postings.union(new int[]{1, 3}, new int[]{2, 3, 5}));
+        assertArrayEquals(new int[]{1, 5}, Postings.subtract(new int[]{1, 3, 5}, new int[]{2, 3}));
+    }
+
+    private static SlackMessage slackMessage(String ts, String text, LocalDateTime timestamp) {
+        return new SlackMessage(ts, "C1", "incidents", "U1", "alice", text, timestamp);
+    }
+}
@@ -0,0 +1,104 @@
+package com.abcstark.teamwellbeing.service;
+
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.config.RateLimitProperties;
+import com.abcstark.teamwellbeing.metrics.IntegrationMetrics;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.ratelimit.RateLimitGovernor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for the non-blocking JiraService methods.
+ */
+class JiraServiceTest {
+
+    private static final String SEARCH_RESPONSE = """
+            {"total": 1, "issues": [{"id": "10001", "key": "PROJ-1", "fields": {
+              "summary": "Release checklist", "status": {"name": "In Progress"},
+              "created": "2024-01-15T09:00:00.000+00:00", "updated": "2024-01-15T10:30:00.000+00:00"}}]}
+            """;
+
+    private final ConcurrentHashMap<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private SimpleMeterRegistry meterRegistry;
+    private JiraService jiraService;
+    private HttpStatus searchStatus;
+
+    @BeforeEach
+    void setUp() {
+        IntegrationProperties integrationProperties = new IntegrationProperties();
+        integrationProperties.getJira().setUrl("https://jira.example.com");
+        integrationProperties.getJira().setUsername("agent@example.com");
+        integrationProperties.getJira().setToken("token");
+        integrationProperties.getJira().setProjectKey("PROJ");
+        searchStatus = HttpStatus.OK;
+
+        WebClient.Builder webClientBuilder = WebClient.builder().exchangeFunction(this::exchange);
+        meterRegistry = new SimpleMeterRegistry();
+        jiraService = new JiraService(integrationProperties, webClientBuilder,
+                new RateLimitGovernor(new RateLimitProperties(), meterRegistry),
+                new IntegrationMetrics(meterRegistry, integrationProperties));
+    }
+
+    @Test
+    void testGetRecentIssuesAsync_WhenUpstreamAnswers_ParsesIssuesAndRecordsCall() {
+        List<JiraIssue> issues = jiraService.getRecentIssuesAsync().block();
+
+        assertEquals(1, issues.size());
+        assertEquals("PROJ-1", issues.get(0).getKey());
+        assertEquals("In Progress", issues.get(0).getStatus());
+        assertEquals(1, meterRegistry.get("wellbeing.upstream.requests")
+                .tags("integration", "jira", "method", "search", "project", "PROJ", "outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void testGetRecentIssuesAsync_WhenUpstreamFails_PropagatesErrorAndRecordsOutcome() {
+        searchStatus = HttpStatus.TOO_MANY_REQUESTS;
+
+        assertThrows(RuntimeException.class, () -> jiraService.getRecentIssuesAsync().block());
+        assertEquals(1, meterRegistry.get("wellbeing.upstream.requests")
+                .tags("method", "search", "outcome", "rate_limited")
+                .timer().count());
+    }
+
+    @Test
+    void testGetProjectStatisticsAsync_WhenCalled_CombinesProjectAndCounts() {
+        String stats = jiraService.getProjectStatisticsAsync().block();
+
+        assertEquals("Project Name: Platform\nProject: PROJ\nTotal Issues: 2\nOpen Issues: 1\nCompleted Issues: 1",
+                stats);
+        assertEquals(1, requests.get("/rest/api/3/project/PROJ").get());
+        assertEquals(2, requests.get("/rest/api/3/search").get());
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request) {
+        String path = request.url().getPath();
+        requests.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+        if (path.equals("/rest/api/3/project/PROJ")) {
+            return Mono.just(json(HttpStatus.OK, "{\"key\": \"PROJ\", \"name\": \"Platform\"}"));
+        }
+        return Mono.just(json(searchStatus, SEARCH_RESPONSE));
+    }
+
+    private static ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
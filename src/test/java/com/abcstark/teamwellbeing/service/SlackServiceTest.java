@@ -1,7 +1,11 @@
 package com.abcstark.teamwellbeing.service;
 
 import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.config.RateLimitProperties;
+import com.abcstark.teamwellbeing.metrics.IntegrationMetrics;
 import com.abcstark.teamwellbeing.model.SlackMessage;
+import com.abcstark.teamwellbeing.ratelimit.RateLimitGovernor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +23,7 @@ class SlackServiceTest {
 
     private SlackService slackService;
     private IntegrationProperties integrationProperties;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
@@ -28,7 +33,10 @@ class SlackServiceTest {
         integrationProperties.getSlack().setBotToken("your-slack-bot-token");
         integrationProperties.getSlack().setDefaultChannel("general");
         
-        slackService = new SlackService(integrationProperties);
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitGovernor rateLimitGovernor = new RateLimitGovernor(new RateLimitProperties(), meterRegistry);
+        slackService = new SlackService(integrationProperties, rateLimitGovernor,
+                new IntegrationMetrics(meterRegistry, integrationProperties));
     }
 
     @Test
@@ -79,4 +87,26 @@ class SlackServiceTest {
 
         assertFalse(connectionResult);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetRecentMessages_WhenChannelsUnknown_TagsThemAsOther() {
+        // A configured token against an unreachable API makes every call fail fast
+        integrationProperties.getSlack().setBotToken("xoxb-test");
+        integrationProperties.getSlack().setApiUrl("http://127.0.0.1:1/api/");
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.getBuckets().get("slack-tier2").setCapacity(100);
+        slackService = new SlackService(integrationProperties, new RateLimitGovernor(rateLimitProperties, meterRegistry),
+                new IntegrationMetrics(meterRegistry, integrationProperties));
+
+        slackService.getRecentMessages();
+        slackService.getRecentMessages("random-1");
+        int meters = meterRegistry.getMeters().size();
+        for (int i = 2; i <= 20; i++) {
+            slackService.getRecentMessages("random-" + i);
+        }
+
+        assertEquals(meters, meterRegistry.getMeters().size());
+        assertNotNull(meterRegistry.find("wellbeing.upstream.requests").tag("channel", "general").timer());
+        assertEquals(20, meterRegistry.get("wellbeing.upstream.requests").tag("channel", "other").timer().count());
+    }
+}
@@ -0,0 +1,110 @@
+package com.abcstark.teamwellbeing.service;
+
+import com.abcstark.teamwellbeing.config.IntegrationProperties;
+import com.abcstark.teamwellbeing.config.RateLimitProperties;
+import com.abcstark.teamwellbeing.metrics.IntegrationMetrics;
+import com.abcstark.teamwellbeing.model.GitHubIssue;
+import com.abcstark.teamwellbeing.model.JiraIssue;
+import com.abcstark.teamwellbeing.ratelimit.RateLimitGovernor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for webhook signature validation and payload decoding.
+ */
+class WebhookServiceTest {
+
+    private static final String SECRET = "test-secret";
+
+    private WebhookService webhookService;
+
+    @BeforeEach
+    void setUp() {
+        IntegrationProperties integrationProperties = new IntegrationProperties();
+        integrationProperties.getGithub().setWebhookSecret(SECRET);
+        integrationProperties.getJira().setWebhookSecret(SECRET);
+        integrationProperties.getJira().setProjectKey("PROJ");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimitGovernor rateLimitGovernor = new RateLimitGovernor(new RateLimitProperties(), meterRegistry);
+        JiraService jiraService = new JiraService(integrationProperties, WebClient.builder(), rateLimitGovernor,
+                new IntegrationMetrics(meterRegistry, integrationProperties));
+        webhookService = new WebhookService(integrationProperties, jiraService);
+    }
+
+    @Test
+    void testVerifyGitHubSignature_WhenSignatureMatches_ReturnsTrue() throws Exception {
+        byte[] payload = "{\"action\":\"opened\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(webhookService.verifyGitHubSignature(payload, sign(payload)));
+    }
+
+    @Test
+    void testVerifyGitHubSignature_WhenPayloadTampered_ReturnsFalse() throws Exception {
+        byte[] payload = "{\"action\":\"opened\"}".getBytes(StandardCharsets.UTF_8);
+        String signature = sign(payload);
+        byte[] tampered = "{\"action\":\"closed\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertFalse(webhookService.verifyGitHubSignature(tampered, signature));
+        assertFalse(webhookService.verifyGitHubSignature(payload, null));
+        assertFalse(webhookService.verifyGitHubSignature(payload, "sha256=not-hex"));
+    }
+
+    @Test
+    void testDecodeGitHubEvent_WhenIssueEvent_ReturnsIssue() {
+        String json = "{\"action\":\"edited\",\"repository\":{\"name\":\"backend\"},"
+                + "\"issue\":{\"number\":42,\"title\":\"Flaky build\",\"state\":\"open\",\"comments\":3,"
+                + "\"user\":{\"login\":\"alice\"},\"assignees\":[{\"login\":\"bob\"}],"
+                + "\"labels\":[{\"name\":\"bug\"}],\"created_at\":\"2023-11-28T09:00:00Z\","
+                + "\"updated_at\":\"2023-11-28T10:00:00Z\",\"closed_at\":null}}";
+
+        Optional<GitHubIssue> issue = webhookService.decodeGitHubEvent("issues", json.getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(issue.isPresent());
+        assertEquals(42, issue.get().getNumber());
+        assertEquals("OPEN", issue.get().getState());
+        assertEquals("backend", issue.get().getRepository());
+        assertEquals("alice", issue.get().getAuthor());
+        assertEquals("bob", issue.get().getAssignees().get(0));
+        assertEquals("bug", issue.get().getLabels().get(0));
+        assertNotNull(issue.get().getUpdatedAt());
+        assertNull(issue.get().getClosedAt());
+    }
+
+    @Test
+    void testDecodeGitHubEvent_WhenUnrelatedEvent_ReturnsEmpty() {
+        byte[] payload = "{\"zen\":\"Keep it logically awesome.\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(webhookService.decodeGitHubEvent("ping", payload).isEmpty());
+    }
+
+    @Test
+    void testDecodeJiraEvent_WhenIssueUpdated_ReturnsIssueWithProjectKey() {
+        String json = "{\"webhookEvent\":\"jira:issue_updated\",\"issue\":{\"id\":\"10001\",\"key\":\"OPS-7\","
+                + "\"fields\":{\"summary\":\"Pager fatigue\",\"status\":{\"name\":\"In Progress\"},"
+                + "\"project\":{\"key\":\"OPS\"}}}}";
+
+        Optional<JiraIssue> issue = webhookService.decodeJiraEvent(json.getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(issue.isPresent());
+        assertEquals("OPS-7", issue.get().getKey());
+        assertEquals("OPS", issue.get().getProjectKey());
+        assertEquals("In Progress", issue.get().getStatus());
+    }
+
+    private String sign(byte[] payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return "sha256=" + HexFormat.of().formatHex(mac.doFinal(payload));
+    }
+}
@@ -0,0 +1,66 @@
+package com.abcstark.teamwellbeing.service;
+
+import com.abcstark.teamwellbeing.model.TeamWellbeingStatus;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for change detection and fan-out in WellbeingStatusBroadcaster.
+ */
+class WellbeingStatusBroadcasterTest {
+
+    @Test
+    void testChanges_WhenOnlyOffHoursOrOrderDiffer_EmitsOnlyRealChanges() {
+        TeamWellbeingStatus calm = status("positive", "low", List.of("alice", "bob"));
+        TeamWellbeingStatus calmReordered = status("positive", "low", List.of("bob", "alice"));
+        calmReordered.setOffHoursRatio(0.4);
+        TeamWellbeingStatus stressed = status("positive", "high", List.of("alice", "bob"));
+        TeamWellbeingStatus stressedAgain = status("positive", "high", List.of("alice", "bob"));
+
+        List<TeamWellbeingStatus> changes = WellbeingStatusBroadcaster
+                .changes(Flux.just(calm, calmReordered, stressed, stressedAgain))
+                .collectList()
+                .block();
+
+        assertEquals(List.of(calm, stressed), changes);
+    }
+
+    @Test
+    void testGetChanges_WhenSeveralSubscribers_ComputesOnceAndStopsWithTheLast() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        TeamWellbeingStatus current = status("neutral", "medium", List.of());
+        WellbeingStatusBroadcaster broadcaster = new WellbeingStatusBroadcaster(() -> Mono.fromSupplier(() -> {
+            computations.incrementAndGet();
+            return current;
+        }), Duration.ofHours(1));
+
+        List<TeamWellbeingStatus> received = new CopyOnWriteArrayList<>();
+        Disposable first = broadcaster.getChanges().subscribe(received::add);
+        for (int i = 0; i < 100 && received.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(current), received);
+
+        // A later subscriber gets the latest status without a recomputation
+        assertSame(current, broadcaster.getChanges().blockFirst(Duration.ofSeconds(5)));
+        assertEquals(1, computations.get());
+
+        first.dispose();
+        assertSame(current, broadcaster.getChanges().blockFirst(Duration.ofSeconds(5)));
+        assertEquals(2, computations.get());
+    }
+
+    private static TeamWellbeingStatus status(String mood, String stressLevel, List<String> overloadedMembers) {
+        return new TeamWellbeingStatus(mood, stressLevel, overloadedMembers, Map.of("alice", "positive"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.abcstark.teamwellbeing.sketch;
+
+import com.abcstark.teamwellbeing.config.SketchProperties;
+import com.abcstark.teamwellbeing.model.SlackMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for the HyperLogLog, count-min and top-k sketches and their maintenance in SketchService.
+ */
+class SketchServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private SketchService sketchService;
+
+    @BeforeEach
+    void setUp() {
+        sketchService = new SketchService(new SketchProperties());
+    }
+
+    @Test
+    void testHyperLogLog_WhenMerged_EstimatesUnionWithinError() {
+        HyperLogLog first = new HyperLogLog(12);
+        HyperLogLog second = new HyperLogLog(12);
+        for (int i = 0; i < 20000; i++) {
+            first.add("user-" + i);
+            second.add("user-" + (i + 10000));
+        }
+
+        first.merge(HyperLogLog.fromBytes(second.toBytes()));
+
+        assertEquals(30000, first.estimate(), 30000 * 0.05);
+        HyperLogLog small = new HyperLogLog(12);
+        small.add("a");
+        small.add("b");
+        small.add("a");
+        assertEquals(2, small.estimate());
+    }
+
+    @Test
+    void testTopKSketch_WhenSkewedStream_FindsHeavyHitters() {
+        TopKSketch sketch = new TopKSketch(5, 256, 4);
+        for (int i = 0; i < 2000; i++) {
+            sketch.add("noise-" + i, 1);
+            if (i % 10 == 0) {
+                sketch.add("deadline", 1);
+            }
+            if (i % 20 == 0) {
+                sketch.add("pager", 1);
+            }
+        }
+
+        assertEquals("deadline", sketch.top(2).get(0).item());
+        assertEquals("pager", sketch.top(2).get(1).item());
+        assertTrue(sketch.top(2).get(0).count() >= 200);
+
+        CountMinSketch counts = new CountMinSketch(64, 4);
+        counts.add("x", 3);
+        counts.add("y", 5);
+        CountMinSketch copy = CountMinSketch.fromBytes(counts.toBytes());
+        copy.merge(counts);
+        assertTrue(copy.estimate("x") >= 6);
+        assertEquals(16, copy.getTotal());
+    }
+
+    @Test
+    void testTopKSketch_WhenSerialized_MergesWithCandidatesIntact() {
+        TopKSketch first = new TopKSketch(3, 256, 4);
+        TopKSketch second = new TopKSketch(3, 256, 4);
+        first.add("deadline", 5);
+        first.add("pager", 2);
+        second.add("pager", 4);
+        second.add("überstunden", 1);
+
+        TopKSketch copy = TopKSketch.fromBytes(second.toBytes());
+        first.merge(copy);
+
+        assertEquals(copy.top(3), second.top(3));
+        assertEquals("pager", first.top(1).get(0).item());
+        assertEquals(6, first.top(1).get(0).count());
+        assertEquals("überstunden", first.top(3).get(2).item());
+        assertEquals(12, first.getTotal());
+    }
+
+    @Test
+    void testGetAnalytics_WhenMessagesIngested_CountsMembersAndSignals() {
+        LocalDateTime yesterday = TODAY.minusDays(1).atTime(10, 0);
+        LocalDateTime today = TODAY.atTime(10, 0);
+        sketchService.onSlackMessage(null, message("1", "U1", "incidents", "Deadline pressure on the release", yesterday));
+        sketchService.onSlackMessage(null, message("2", "U2", "incidents", "Release deadline again, so tired", today));
+        sketchService.onSlackMessage(null, message("3", "U1", "general", "Bad day, upset about the outage", today));
+        sketchService.onSlackMessage(null, message("4", "U3", "general", "Lunch?", today));
+
+        SketchAnalytics analytics = sketchService.getAnalytics(TODAY.minusDays(1), TODAY, 3);
+
+        assertEquals(3, analytics.getDistinctMembers());
+        assertEquals(2, analytics.getChannels().get("incidents"));
+        assertEquals(2, analytics.getDays().size());
+        assertEquals(1, analytics.getDays().get(0).distinctMembers());
+        assertEquals(3, analytics.getDays().get(1).distinctMembers());
+        assertEquals(2, analytics.getTopStressTerms().stream()
+                .filter(entry -> entry.item().equals("deadline")).findFirst().orElseThrow().count());
+        assertEquals("general", analytics.getTopNegativeChannels().get(0).item());
+        assertEquals(2, analytics.getTopNegativeChannels().get(0).count());
+    }
+
+    @Test
+    void testOnSlackMessage_WhenMessageEdited_DoesNotCountTwice() {
+        SlackMessage original = message("1", "U1", "incidents", "deadline", TODAY.atTime(9, 0));
+        sketchService.onSlackMessage(null, original);
+        sketchService.onSlackMessage(original, message("1", "U1", "incidents", "deadline moved", TODAY.atTime(9, 0)));
+
+        SketchAnalytics analytics = sketchService.getAnalytics(TODAY, TODAY, 5);
+
+        assertEquals(1, analytics.getTopStressTerms().get(0).count());
+        assertEquals(1, sketchService.getMemberSketch(TODAY, TODAY, "incidents").estimate());
+    }
+
+    private static SlackMessage message(String id, String userId, String channel, String text, LocalDateTime time) {
+        return new SlackMessage(id, "C-" + channel, channel, userId, userId.toLowerCase(), text, time);
+    }
+}